@@ -0,0 +1,152 @@
+package com.xuan.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存读写客户端
+ * <p>
+ * 统一封装 "VO ⇄ 字节 ⇄ Redis" 的过程：
+ * 1. 写入时按缓存名称选择配置的编解码器（见 {@link CacheCodecProperties}）
+ * 2. 读取时按字节特征选择解码器，切换编解码器后旧缓存依然可读，无需手动清理
+ * 3. 解码失败视为缓存未命中，由调用方回源数据库并覆盖写入
+ *
+ * @author 玄〤
+ * @since 2026-03-05
+ */
+@Slf4j
+@Component
+public class CacheClient {
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final CacheCodecProperties properties;
+    private final Map<CacheCodecType, CacheCodec> codecs = new EnumMap<>(CacheCodecType.class);
+
+    public CacheClient(RedisTemplate<String, byte[]> binaryRedisTemplate, CacheCodecProperties properties) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.properties = properties;
+        register(new JsonCacheCodec());
+        register(new JsonbCacheCodec());
+    }
+
+    /**
+     * 读取缓存
+     *
+     * @param cacheName 缓存名称（决定编解码器）
+     * @param key       Redis Key
+     * @param type      目标类型
+     * @return 缓存对象，未命中或解码失败时返回 null
+     */
+    public <T> T get(String cacheName, String key, Type type) {
+        byte[] bytes = binaryRedisTemplate.opsForValue().get(key);
+        return decode(cacheName, key, bytes, type);
+    }
+
+    /**
+     * 写入缓存
+     *
+     * @param cacheName 缓存名称（决定编解码器）
+     * @param key       Redis Key
+     * @param value     缓存对象
+     * @param timeout   过期时间
+     * @param unit      时间单位
+     */
+    public void set(String cacheName, String key, Object value, long timeout, TimeUnit unit) {
+        binaryRedisTemplate.opsForValue().set(key, encode(cacheName, value), timeout, unit);
+    }
+
+    /**
+     * 批量读取缓存（一次 MGET）
+     *
+     * @param cacheName 缓存名称（决定编解码器）
+     * @param keys      Redis Key 列表
+     * @param type      目标类型
+     * @return 与 keys 一一对应的结果列表，未命中或解码失败的位置为 null
+     */
+    public <T> List<T> multiGet(String cacheName, List<String> keys, Type type) {
+        List<T> result = new ArrayList<>(keys.size());
+        if (keys.isEmpty()) {
+            return result;
+        }
+        List<byte[]> values = binaryRedisTemplate.opsForValue().multiGet(keys);
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] bytes = values == null ? null : values.get(i);
+            result.add(decode(cacheName, keys.get(i), bytes, type));
+        }
+        return result;
+    }
+
+    /**
+     * 批量写入缓存（一次管道提交，每个 Key 独立设置过期时间）
+     *
+     * @param cacheName 缓存名称（决定编解码器）
+     * @param values    Key -> 缓存对象
+     * @param timeout   过期时间
+     * @param unit      时间单位
+     */
+    public void multiSet(String cacheName, Map<String, ?> values, long timeout, TimeUnit unit) {
+        if (values.isEmpty()) {
+            return;
+        }
+        Expiration expiration = Expiration.from(timeout, unit);
+        binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            values.forEach((key, value) -> connection.stringCommands().set(
+                    key.getBytes(StandardCharsets.UTF_8), encode(cacheName, value),
+                    expiration, RedisStringCommands.SetOption.upsert()));
+            return null;
+        });
+    }
+
+    /**
+     * 按缓存名称编码
+     */
+    public byte[] encode(String cacheName, Object value) {
+        return codecFor(cacheName).encode(value);
+    }
+
+    /**
+     * 按字节特征解码，失败时返回 null
+     */
+    public <T> T decode(String cacheName, String key, byte[] bytes, Type type) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        for (CacheCodec codec : codecs.values()) {
+            if (codec.accepts(bytes)) {
+                try {
+                    return codec.decode(bytes, type);
+                } catch (Exception e) {
+                    log.warn("缓存解码失败，按未命中处理: cache={}, key={}, codec={}, error={}",
+                            cacheName, key, codec.type(), e.getMessage());
+                    return null;
+                }
+            }
+        }
+        log.warn("无法识别的缓存格式，按未命中处理: cache={}, key={}", cacheName, key);
+        return null;
+    }
+
+    /**
+     * 获取指定缓存当前配置的编解码器
+     */
+    public CacheCodec codecFor(String cacheName) {
+        CacheCodecType type = properties.getCodecs().getOrDefault(cacheName, properties.getDefaultCodec());
+        return codecs.get(type);
+    }
+
+    private void register(CacheCodec codec) {
+        codecs.put(codec.type(), codec);
+    }
+}
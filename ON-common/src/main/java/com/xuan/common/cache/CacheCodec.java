@@ -0,0 +1,47 @@
+package com.xuan.common.cache;
+
+import java.lang.reflect.Type;
+
+/**
+ * 缓存值编解码器
+ * <p>
+ * 屏蔽缓存值在 Redis 中的存储格式，业务层只面向 VO 读写，
+ * 由 {@link CacheClient} 按缓存名称选择具体的编解码实现。
+ *
+ * @author 玄〤
+ * @since 2026-03-05
+ */
+public interface CacheCodec {
+
+    /**
+     * 编解码器类型
+     */
+    CacheCodecType type();
+
+    /**
+     * 将缓存对象编码为字节数组
+     *
+     * @param value 缓存对象
+     * @return 编码后的字节
+     */
+    byte[] encode(Object value);
+
+    /**
+     * 将字节数组解码为指定类型的对象
+     *
+     * @param bytes 缓存字节
+     * @param type  目标类型（支持泛型，如 TypeReference#getType()）
+     * @return 解码后的对象
+     */
+    <T> T decode(byte[] bytes, Type type);
+
+    /**
+     * 根据字节特征判断是否由当前编解码器写入
+     * <p>
+     * 用于切换编解码器后平滑兼容旧缓存：读取时按字节特征选择解码器，而不是按当前配置。
+     *
+     * @param bytes 缓存字节
+     * @return 是否可以解码
+     */
+    boolean accepts(byte[] bytes);
+}
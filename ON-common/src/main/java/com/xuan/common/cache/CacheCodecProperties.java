@@ -0,0 +1,39 @@
+package com.xuan.common.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 缓存编解码配置
+ * <p>
+ * 配置示例（application.yaml）：
+ *
+ * <pre>
+ * blog:
+ *   cache:
+ *     default-codec: json
+ *     codecs:
+ *       article-detail: jsonb
+ *       article-page: jsonb
+ * </pre>
+ *
+ * 缓存名称见 RedisConstant 中的 CACHE_NAME_* 常量，未单独配置的缓存使用 default-codec。
+ *
+ * @author 玄〤
+ * @since 2026-03-05
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "blog.cache")
+public class CacheCodecProperties {
+
+    /** 默认编解码器 */
+    private CacheCodecType defaultCodec = CacheCodecType.JSON;
+
+    /** 按缓存名称单独指定的编解码器 */
+    private Map<String, CacheCodecType> codecs = new HashMap<>();
+}
@@ -0,0 +1,16 @@
+package com.xuan.common.cache;
+
+/**
+ * 缓存编解码器类型
+ *
+ * @author 玄〤
+ * @since 2026-03-05
+ */
+public enum CacheCodecType {
+
+    /** FastJSON2 文本格式，可读性好，便于 redis-cli 排查 */
+    JSON,
+
+    /** FastJSON2 JSONB 二进制格式，体积更小、编解码更快 */
+    JSONB
+}
@@ -0,0 +1,38 @@
+package com.xuan.common.cache;
+
+import com.alibaba.fastjson2.JSON;
+
+import java.lang.reflect.Type;
+
+/**
+ * FastJSON2 文本编解码器
+ * <p>
+ * 与原先 StringRedisTemplate + JSON.toJSONString 写入的缓存格式完全一致（UTF-8 JSON 文本），
+ * 因此切换到 {@link CacheClient} 后旧缓存仍可直接读取。
+ *
+ * @author 玄〤
+ * @since 2026-03-05
+ */
+public class JsonCacheCodec implements CacheCodec {
+
+    @Override
+    public CacheCodecType type() {
+        return CacheCodecType.JSON;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        return JSON.toJSONBytes(value);
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, Type type) {
+        return JSON.parseObject(bytes, type);
+    }
+
+    @Override
+    public boolean accepts(byte[] bytes) {
+        // 缓存的都是对象或数组，JSON 文本必然以 { 或 [ 开头
+        return bytes.length > 0 && (bytes[0] == '{' || bytes[0] == '[');
+    }
+}
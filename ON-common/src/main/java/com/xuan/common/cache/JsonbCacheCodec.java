@@ -0,0 +1,39 @@
+package com.xuan.common.cache;
+
+import com.alibaba.fastjson2.JSONB;
+
+import java.lang.reflect.Type;
+
+/**
+ * FastJSON2 JSONB 二进制编解码器
+ * <p>
+ * JSONB 是 FastJSON2 自带的二进制格式：数值使用变长编码，字段名以符号表形式写入，
+ * 无需引入 Kryo/Fury 等额外依赖即可获得更小的体积和更低的编解码开销。
+ * <p>
+ * JSONB 的首字节是类型标记（对象/数组均为负数字节），与 JSON 文本的 { [ 不会冲突。
+ *
+ * @author 玄〤
+ * @since 2026-03-05
+ */
+public class JsonbCacheCodec implements CacheCodec {
+
+    @Override
+    public CacheCodecType type() {
+        return CacheCodecType.JSONB;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        return JSONB.toBytes(value);
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, Type type) {
+        return JSONB.parseObject(bytes, type);
+    }
+
+    @Override
+    public boolean accepts(byte[] bytes) {
+        return bytes.length > 0 && bytes[0] < 0;
+    }
+}
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
 import com.xuan.common.utils.DateTimeFormatUtils;
+import com.xuan.common.utils.SparseFieldsUtils;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,6 +19,7 @@ import org.springframework.context.annotation.Configuration;
  * 1. 统一 Java 8 时间类型（LocalDateTime/LocalDate/LocalTime）的序列化和反序列化格式
  * 2. 使 HTTP 响应中的时间格式与 application.yaml 中的 date-format 保持一致
  * 3. 解决 spring.jackson.date-format 只对 java.util.Date 生效、不影响 LocalDateTime 的问题
+ * 4. 注册默认的稀疏字段过滤器（输出全部字段），使标注了 @JsonFilter 的 VO 在未指定 fields 时正常序列化
  * <p>
  * 格式约定：
  * - LocalDateTime → yyyy-MM-dd HH:mm:ss
@@ -51,6 +53,9 @@ public class JacksonConfig {
                     new LocalDateTimeDeserializer(DateTimeFormatUtils.DATETIME_FORMATTER),
                     new LocalDateDeserializer(DateTimeFormatUtils.DATE_FORMATTER),
                     new LocalTimeDeserializer(DateTimeFormatUtils.TIME_FORMATTER));
+
+            // 稀疏字段过滤器（默认输出全部字段，按请求的 fields 参数替换，见 SparseFieldsUtils）
+            builder.filters(SparseFieldsUtils.SERIALIZE_ALL);
         };
     }
 }
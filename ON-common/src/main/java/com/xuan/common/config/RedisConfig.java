@@ -12,11 +12,14 @@ import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
 import com.xuan.common.utils.DateTimeFormatUtils;
+import com.xuan.common.utils.SparseFieldsUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.LocalDate;
@@ -32,6 +35,8 @@ import java.time.LocalTime;
  * 2. 优化序列化方式，使用Jackson2JsonRedisSerializer替代默认的JDK序列化
  * 3. 增强序列化功能，支持复杂对象和Java 8时间类型
  * 4. 时间格式统一为 yyyy-MM-dd HH:mm:ss，与 HTTP API 保持一致
+ * 5. 提供 byte[] 值的 binaryRedisTemplate，供 CacheClient 按缓存配置的编解码器读写业务缓存
+ * 6. 提供 Redis 发布/订阅的消息监听容器，供需要跨实例广播的组件注册监听器
  */
 @Configuration
 public class RedisConfig {
@@ -62,6 +67,8 @@ public class RedisConfig {
         objectMapper.registerModule(javaTimeModule);
         // 禁用默认的时间戳格式
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        // 标注了 @JsonFilter 的 VO 始终完整序列化
+        objectMapper.setFilterProvider(SparseFieldsUtils.SERIALIZE_ALL);
 
         // 2. 将配置完成的 ObjectMapper 传入序列化器
         Jackson2JsonRedisSerializer<Object> jackson2JsonRedisSerializer = new Jackson2JsonRedisSerializer<>(
@@ -82,4 +89,33 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    /**
+     * 二进制值 RedisTemplate
+     * <p>
+     * Key 使用字符串序列化，Value 原样读写字节数组，编解码由 CacheClient 负责，
+     * 这样同一个模板既能存 JSON 文本，也能存 JSONB 等二进制格式。
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(RedisSerializer.string());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    /**
+     * Redis 发布/订阅消息监听容器
+     * 所有频道共用一条订阅连接，各组件在启动时通过 addMessageListener 注册自己的频道
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
 }
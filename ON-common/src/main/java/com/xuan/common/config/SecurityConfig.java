@@ -56,6 +56,10 @@ public class SecurityConfig {
                                 .requestMatchers(org.springframework.http.HttpMethod.POST, "/api/blog/comment",
                                                 "/api/blog/friend-link")
                                 .authenticated()
+                                // 站点地图与订阅源 - 无需认证
+                                .requestMatchers(org.springframework.http.HttpMethod.GET, "/sitemap.xml", "/sitemap-*.xml",
+                                                "/feed.xml", "/atom.xml")
+                                .permitAll()
                                 // 静态资源 - 无需认证
                                 .requestMatchers("/uploads/**", "/static/**", "/favicon.ico").permitAll()
                                 // Knife4j/OpenAPI 文档资源 - 无需认证
@@ -49,18 +49,89 @@ public final class RedisConstant {
 
     /**
      * 前台文章列表缓存 Key 前缀，完整 Key:
-     * blog:article:page:{current}:{size}:{categoryId}:{tagId}
+     * blog:article:page:{version}:{current}:{size}:{categoryId}:{tagId}
+     * 只缓存文章ID和总数，列表项内容从文章卡片缓存组装
      */
     public static final String ARTICLE_PAGE_KEY_PREFIX = "blog:article:page:";
+    /** 前台文章列表缓存版本号 Key，INCR 后旧版本的分页缓存全部失效 */
+    public static final String ARTICLE_PAGE_VERSION_KEY = "blog:article:page-version";
     /** 前台文章列表缓存过期时间（分钟） */
     public static final long ARTICLE_PAGE_TTL_MINUTES = 10;
 
+    /**
+     * 文章卡片缓存 Key 前缀，完整 Key: article:card:{articleId}
+     * 卡片即列表项（标题、摘要、封面、分类、标签等），浏览量在读取时叠加实时增量
+     */
+    public static final String ARTICLE_CARD_KEY_PREFIX = "article:card:";
+    /** 文章卡片缓存过期时间（分钟） */
+    public static final long ARTICLE_CARD_TTL_MINUTES = 30;
+
+    /**
+     * 文章 slug 索引 Hash Key，field 为 slug，value 为文章ID
+     * 随文章增删改同步维护，不设置过期时间
+     */
+    public static final String ARTICLE_SLUG_INDEX_KEY = "article:slug:index";
+
+    /**
+     * 不存在的 slug 短期标记 Key 前缀，完整 Key: article:slug:miss:{slug}
+     * 随机或失效的 slug 在过期前不再回源数据库；该 slug 被文章使用时同步删除
+     */
+    public static final String ARTICLE_SLUG_MISS_KEY_PREFIX = "article:slug:miss:";
+    /** 不存在的 slug 标记过期时间（秒） */
+    public static final long ARTICLE_SLUG_MISS_TTL_SECONDS = 60;
+
     /** 文章点赞数缓存 Key 前缀，完整 Key: article:like:count:{articleId} */
     public static final String ARTICLE_LIKE_COUNT_KEY_PREFIX = "article:like:count:";
 
     /** 用户是否点赞缓存 Key 前缀，完整 Key: article:like:user:{articleId}:{ip} */
     public static final String ARTICLE_USER_LIKE_KEY_PREFIX = "article:like:user:";
 
+    /**
+     * 文章草稿 Hash Key 前缀，完整 Key: article:draft:{articleId}
+     * field: title / summary / content / savedTime（毫秒时间戳）
+     */
+    public static final String ARTICLE_DRAFT_KEY_PREFIX = "article:draft:";
+    /** 文章草稿过期时间（天），落库后仍保留，供编辑器快速读取 */
+    public static final long ARTICLE_DRAFT_TTL_DAYS = 7;
+    /** 待落库草稿 ZSet Key，member 为文章ID，score 为第一次未落库修改的毫秒时间戳 */
+    public static final String ARTICLE_DRAFT_DIRTY_KEY = "article:draft:dirty";
+    /** 草稿落库任务分布式锁 Key */
+    public static final String ARTICLE_DRAFT_FLUSH_LOCK_KEY = "lock:article:draft:flush";
+    /** 草稿落库任务分布式锁过期时间（秒） */
+    public static final long ARTICLE_DRAFT_FLUSH_LOCK_TTL_SECONDS = 60;
+
+    /** 定时发布队列 ZSet Key，member 为文章ID，score 为计划发布时间的毫秒时间戳 */
+    public static final String ARTICLE_PUBLISH_SCHEDULE_KEY = "article:publish:schedule";
+    /** 定时发布任务分布式锁 Key */
+    public static final String ARTICLE_PUBLISH_LOCK_KEY = "lock:article:publish";
+    /** 定时发布任务分布式锁过期时间（秒） */
+    public static final long ARTICLE_PUBLISH_LOCK_TTL_SECONDS = 30;
+
+    /**
+     * 文章导入任务进度 Hash Key 前缀，完整 Key: article:import:{taskId}
+     */
+    public static final String ARTICLE_IMPORT_TASK_KEY_PREFIX = "article:import:";
+    /** 文章导入任务进度保留时间（小时） */
+    public static final long ARTICLE_IMPORT_TASK_TTL_HOURS = 24;
+
+    /** 计数对账任务分布式锁 Key，保证多实例下同一时间只有一个实例在对账 */
+    public static final String COUNTER_RECONCILE_LOCK_KEY = "lock:counter:reconcile";
+    /** 计数对账任务锁过期时间（分钟），实例异常退出时自动释放 */
+    public static final long COUNTER_RECONCILE_LOCK_TTL_MINUTES = 30;
+
+    // ==================== 静态快照 ====================
+
+    /** 待重新生成的文章ID Set，文章变更事件写入，快照生成成功后移除已处理的成员 */
+    public static final String STATIC_SNAPSHOT_DIRTY_ARTICLES_KEY = "snapshot:dirty:articles";
+    /** 列表页（分页、归档、分类/标签列表）需要重新生成的标记 */
+    public static final String STATIC_SNAPSHOT_DIRTY_LISTS_KEY = "snapshot:dirty:lists";
+    /** 全部文章详情需要重新生成的标记（分类/标签改名会影响所有详情页） */
+    public static final String STATIC_SNAPSHOT_DIRTY_ALL_KEY = "snapshot:dirty:all";
+    /** 静态快照生成任务分布式锁 Key */
+    public static final String STATIC_SNAPSHOT_LOCK_KEY = "lock:static:snapshot";
+    /** 静态快照生成任务锁过期时间（分钟） */
+    public static final long STATIC_SNAPSHOT_LOCK_TTL_MINUTES = 30;
+
     // ==================== 分类 & 标签缓存 ====================
 
     /** 前台分类列表缓存 Key */
@@ -70,6 +141,76 @@ public final class RedisConstant {
     /** 分类/标签列表缓存过期时间（小时） */
     public static final long CATEGORY_TAG_TTL_HOURS = 2;
 
+    // ==================== 首页聚合缓存 ====================
+
+    /**
+     * 首页聚合数据缓存 Key
+     * 由设置、分类、标签、文章列表、友链组合而成，任一部分的缓存被清除时一并删除
+     */
+    public static final String BLOG_HOME_KEY = "blog:home";
+    /** 首页聚合数据缓存过期时间（分钟），兜底浏览量/热门文章等不触发清除的数据 */
+    public static final long BLOG_HOME_TTL_MINUTES = 5;
+
+    // ==================== 评论相关 ====================
+
+    /**
+     * 文章已审核评论数 Hash Key，field 为文章ID（留言板为 0），value 为评论数
+     * 以 article.comment_count 为准：读取未命中时回填，评论变更提交后对已存在的 field 做 HINCRBY
+     */
+    public static final String COMMENT_COUNT_KEY = "comment:count";
+
+    /**
+     * 文章评论树分页缓存 Key 前缀，完整 Key: comment:tree:{articleId}:{generation}:{current}:{size}
+     * 缓存渲染好的分页评论树，文章的评论代数变化后旧代数的 Key 不再被读取，由 TTL 自然过期
+     */
+    public static final String COMMENT_TREE_KEY_PREFIX = "comment:tree:";
+    /** 文章评论代数 Key 前缀，完整 Key: comment:tree-gen:{articleId}，该文章的评论新增/审核/删除后 INCR */
+    public static final String COMMENT_TREE_GENERATION_KEY_PREFIX = "comment:tree-gen:";
+    /** 文章评论树分页缓存过期时间（分钟） */
+    public static final long COMMENT_TREE_TTL_MINUTES = 10;
+
+    /**
+     * 排队中评论的写入结果 Key 前缀，完整 Key: comment:pending:{pendingId}
+     * 值为 QUEUED（排队中）、FAILED（写入失败）或落库后的评论ID
+     */
+    public static final String COMMENT_PENDING_KEY_PREFIX = "comment:pending:";
+    /** 排队中评论写入结果保留时间（分钟） */
+    public static final long COMMENT_PENDING_TTL_MINUTES = 30;
+
+    /**
+     * 敏感词库版本号，词库增删或手动重新加载时 INCR，各实例定时比较后重新编译自动机
+     */
+    public static final String COMMENT_MODERATION_VERSION_KEY = "comment:moderation:version";
+
+    /**
+     * 新评论推送频道（发布/订阅），消息为新审核通过评论的 JSON 数组，各实例收到后推送给本机的 SSE 订阅者
+     */
+    public static final String COMMENT_STREAM_CHANNEL = "comment:stream";
+
+    /**
+     * 回复通知收件人限流 Key 前缀，完整 Key: comment:notify:rate:{email}
+     * 给某个收件人发出摘要邮件后写入，过期前该收件人的新回复继续累积，到期后合并为下一封
+     */
+    public static final String COMMENT_NOTIFY_RATE_KEY_PREFIX = "comment:notify:rate:";
+    /** 回复通知发送任务分布式锁 Key */
+    public static final String COMMENT_NOTIFY_LOCK_KEY = "lock:comment:notify";
+    /** 回复通知发送任务锁过期时间（秒） */
+    public static final long COMMENT_NOTIFY_LOCK_TTL_SECONDS = 300;
+
+    /**
+     * 评论点赞IP集合 Key 前缀，完整 Key: comment:like:users:{commentId}
+     * 第一次点赞时从 comment_like 加载，并带一个占位成员 # 标记已加载，评论删除时清除
+     */
+    public static final String COMMENT_LIKE_USERS_KEY_PREFIX = "comment:like:users:";
+    /** 评论点赞数 Hash Key，field 为评论ID，value 为点赞数，与点赞IP集合在同一脚本内修改 */
+    public static final String COMMENT_LIKE_COUNT_KEY = "comment:like:count";
+    /** 待落库的点赞操作 List，元素为 {commentId}|{1 点赞 / 0 取消}|{ip}，落库任务按顺序批量消费 */
+    public static final String COMMENT_LIKE_OPS_KEY = "comment:like:ops";
+    /** 评论点赞落库任务分布式锁 Key */
+    public static final String COMMENT_LIKE_FLUSH_LOCK_KEY = "lock:comment:like:flush";
+    /** 评论点赞落库任务锁过期时间（秒） */
+    public static final long COMMENT_LIKE_FLUSH_LOCK_TTL_SECONDS = 60;
+
     // ==================== 权限缓存 ====================
 
     /** 用户权限缓存 Key 前缀，完整 Key: user:perm:{userId} */
@@ -88,6 +229,25 @@ public final class RedisConstant {
     /** 验证码过期时间（分钟） */
     public static final long CAPTCHA_TTL_MINUTES = 5;
 
+    // ==================== 缓存名称（用于选择编解码器） ====================
+
+    /** 文章详情缓存名称 */
+    public static final String CACHE_NAME_ARTICLE_DETAIL = "article-detail";
+    /** 文章卡片缓存名称 */
+    public static final String CACHE_NAME_ARTICLE_CARD = "article-card";
+    /** 前台文章列表缓存名称 */
+    public static final String CACHE_NAME_ARTICLE_PAGE = "article-page";
+    /** 前台分类列表缓存名称 */
+    public static final String CACHE_NAME_CATEGORY_LIST = "category-list";
+    /** 前台标签列表缓存名称 */
+    public static final String CACHE_NAME_TAG_LIST = "tag-list";
+    /** 文章评论树分页缓存名称 */
+    public static final String CACHE_NAME_COMMENT_TREE = "comment-tree";
+    /** 系统设置缓存名称 */
+    public static final String CACHE_NAME_SYS_SETTING = "sys-setting";
+    /** 首页聚合数据缓存名称 */
+    public static final String CACHE_NAME_BLOG_HOME = "blog-home";
+
     //====================== 频率限制相关 ==================
 
     /** Redis Key 前缀 */
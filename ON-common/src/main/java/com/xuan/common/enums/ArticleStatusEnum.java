@@ -15,7 +15,8 @@ public enum ArticleStatusEnum {
 
     DRAFT(0, "草稿"),
     PUBLISHED(1, "发布"),
-    WITHDRAWN(2, "下架");
+    WITHDRAWN(2, "下架"),
+    SCHEDULED(3, "定时发布");
 
     private final Integer code;
     private final String desc;
@@ -34,6 +34,8 @@ public enum ErrorCode {
     TOO_MANY_REQUESTS(1005, "请求过于频繁，请稍后再试"),
     /** 数据已存在 */
     DATA_ALREADY_EXISTS(1006, "数据已存在，请勿重复操作"),
+    /** 静态快照正在生成 */
+    STATIC_SNAPSHOT_RUNNING(1007, "静态快照正在生成，请稍后再试"),
 
     // ==================== 认证授权错误码 2xxx ====================
 
@@ -96,6 +98,12 @@ public enum ErrorCode {
     CATEGORY_DELETE_EMPTY(5009, "请选择要删除的分类"),
     /** 没有选择要删除的标签 */
     TAG_DELETE_EMPTY(5010, "请选择要删除的标签"),
+    /** 文章历史版本不存在 */
+    ARTICLE_REVISION_NOT_FOUND(5011, "文章历史版本不存在"),
+    /** 定时发布时间无效 */
+    ARTICLE_PUBLISH_TIME_INVALID(5012, "定时发布时间必须晚于当前时间"),
+    /** 导入任务不存在 */
+    ARTICLE_IMPORT_TASK_NOT_FOUND(5013, "导入任务不存在或已过期"),
 
     // ==================== 评论相关错误码 6xxx ====================
 
@@ -109,6 +117,14 @@ public enum ErrorCode {
     COMMENT_DELETE_EMPTY(6004, "请选择要删除的评论"),
     /** 没有选择要审核的评论 */
     COMMENT_AUDIT_EMPTY(6005, "请选择要审核的评论"),
+    /** 回复的评论不存在或不属于当前文章 */
+    COMMENT_PARENT_INVALID(6006, "回复的评论不存在或不属于当前文章"),
+    /** 评论写入队列已满 */
+    COMMENT_QUEUE_FULL(6007, "评论提交人数过多，请稍后再试"),
+    /** 回复层级过深 */
+    COMMENT_DEPTH_EXCEEDED(6008, "回复层级过深，请回复上层评论"),
+    /** 评论实时推送连接数已满 */
+    COMMENT_STREAM_FULL(6009, "实时评论连接数已满，请稍后刷新页面"),
 
     // ==================== 文件相关错误码 7xxx ====================
 
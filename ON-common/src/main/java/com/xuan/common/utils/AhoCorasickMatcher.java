@@ -0,0 +1,243 @@
+package com.xuan.common.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aho-Corasick 多模式匹配自动机
+ * <p>
+ * 把一组关键词编译成带失败指针的字典树，扫描文本时每个字符只做一次状态转移，
+ * 匹配耗时与文本长度 + 命中次数成正比，与关键词数量无关（逐个关键词正则匹配则随关键词数线性增长）
+ * <p>
+ * 实现要点：
+ * 1. 构建完成后每个节点的子节点压缩为有序 char[] + int[]，转移时二分查找，万级关键词下内存占用可控
+ * 2. 每个节点额外记录输出链接（沿失败指针最近的一个词尾节点），命中时沿输出链接即可列出所有以当前位置结尾的关键词
+ * 3. 忽略大小写（按 {@link Character#toLowerCase(char)} 逐字符比较）
+ * <p>
+ * 实例不可变，构建后可在多线程间共享
+ *
+ * @author 玄〤
+ * @since 2026-03-22
+ */
+public final class AhoCorasickMatcher {
+
+    private static final AhoCorasickMatcher EMPTY = build(List.of());
+
+    /** 节点的子节点字符（有序） */
+    private final char[][] childChars;
+    /** 节点的子节点编号，与 childChars 一一对应 */
+    private final int[][] childNodes;
+    /** 失败指针 */
+    private final int[] fail;
+    /** 以该节点结尾的关键词下标，-1 表示不是词尾 */
+    private final int[] wordAt;
+    /** 输出链接：沿失败指针最近的词尾节点，-1 表示没有 */
+    private final int[] outputLink;
+    /** 关键词（小写，去重后） */
+    private final String[] words;
+
+    private AhoCorasickMatcher(char[][] childChars, int[][] childNodes, int[] fail, int[] wordAt,
+                               int[] outputLink, String[] words) {
+        this.childChars = childChars;
+        this.childNodes = childNodes;
+        this.fail = fail;
+        this.wordAt = wordAt;
+        this.outputLink = outputLink;
+        this.words = words;
+    }
+
+    /**
+     * 命中结果
+     *
+     * @param start 起始下标（含）
+     * @param end   结束下标（不含）
+     * @param word  命中的关键词（小写）
+     */
+    public record Match(int start, int end, String word) {
+    }
+
+    /**
+     * 空自动机，不匹配任何内容
+     */
+    public static AhoCorasickMatcher empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 编译关键词
+     *
+     * @param keywords 关键词集合，忽略 null、空白与重复（不区分大小写）
+     * @return 自动机
+     */
+    public static AhoCorasickMatcher build(Collection<String> keywords) {
+        // 1.构建字典树（构建期使用 HashMap 存子节点）
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<Integer> wordIndex = new ArrayList<>();
+        children.add(new HashMap<>());
+        wordIndex.add(-1);
+        Map<String, Integer> distinct = new LinkedHashMap<>();
+        for (String keyword : keywords) {
+            if (keyword == null || keyword.isBlank()) {
+                continue;
+            }
+            String word = lowerCase(keyword.strip());
+            if (distinct.containsKey(word)) {
+                continue;
+            }
+            distinct.put(word, distinct.size());
+            int node = 0;
+            for (int i = 0; i < word.length(); i++) {
+                char c = word.charAt(i);
+                Integer next = children.get(node).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.add(new HashMap<>());
+                    wordIndex.add(-1);
+                    children.get(node).put(c, next);
+                }
+                node = next;
+            }
+            wordIndex.set(node, distinct.get(word));
+        }
+
+        // 2.压缩子节点为有序数组
+        int size = children.size();
+        char[][] childChars = new char[size][];
+        int[][] childNodes = new int[size][];
+        for (int node = 0; node < size; node++) {
+            Map<Character, Integer> map = children.get(node);
+            char[] chars = new char[map.size()];
+            int k = 0;
+            for (Character c : map.keySet()) {
+                chars[k++] = c;
+            }
+            Arrays.sort(chars);
+            int[] nodes = new int[chars.length];
+            for (int i = 0; i < chars.length; i++) {
+                nodes[i] = map.get(chars[i]);
+            }
+            childChars[node] = chars;
+            childNodes[node] = nodes;
+        }
+
+        // 3.按层遍历计算失败指针与输出链接
+        int[] wordAt = wordIndex.stream().mapToInt(Integer::intValue).toArray();
+        int[] fail = new int[size];
+        int[] outputLink = new int[size];
+        outputLink[0] = -1;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : childNodes[0]) {
+            fail[child] = 0;
+            outputLink[child] = -1;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < childChars[node].length; i++) {
+                char c = childChars[node][i];
+                int child = childNodes[node][i];
+                int f = fail[node];
+                int target;
+                while ((target = step(childChars, childNodes, f, c)) < 0 && f != 0) {
+                    f = fail[f];
+                }
+                fail[child] = target < 0 ? 0 : target;
+                outputLink[child] = wordAt[fail[child]] >= 0 ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+        return new AhoCorasickMatcher(childChars, childNodes, fail, wordAt, outputLink,
+                distinct.keySet().toArray(new String[0]));
+    }
+
+    /**
+     * 关键词数量
+     */
+    public int size() {
+        return words.length;
+    }
+
+    /**
+     * 是否不含任何关键词
+     */
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    /**
+     * 查找所有命中（包括相互重叠的关键词）
+     *
+     * @param text 文本
+     * @return 命中列表，按结束位置升序
+     */
+    public List<Match> findAll(CharSequence text) {
+        List<Match> matches = new ArrayList<>();
+        if (text == null || isEmpty()) {
+            return matches;
+        }
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            node = next(node, Character.toLowerCase(text.charAt(i)));
+            for (int out = wordAt[node] >= 0 ? node : outputLink[node]; out >= 0; out = outputLink[out]) {
+                String word = words[wordAt[out]];
+                matches.add(new Match(i + 1 - word.length(), i + 1, word));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 是否命中任一关键词，命中即返回
+     *
+     * @param text 文本
+     * @return 是否命中
+     */
+    public boolean containsAny(CharSequence text) {
+        if (text == null || isEmpty()) {
+            return false;
+        }
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            node = next(node, Character.toLowerCase(text.charAt(i)));
+            if (wordAt[node] >= 0 || outputLink[node] >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 状态转移：当前节点没有对应子节点时沿失败指针回退
+     */
+    private int next(int node, char c) {
+        while (true) {
+            int target = step(childChars, childNodes, node, c);
+            if (target >= 0) {
+                return target;
+            }
+            if (node == 0) {
+                return 0;
+            }
+            node = fail[node];
+        }
+    }
+
+    private static int step(char[][] childChars, int[][] childNodes, int node, char c) {
+        int i = Arrays.binarySearch(childChars[node], c);
+        return i >= 0 ? childNodes[node][i] : -1;
+    }
+
+    private static String lowerCase(String s) {
+        char[] chars = s.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,200 @@
+package com.xuan.common.utils;
+
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.representer.Representer;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Markdown Front Matter 解析工具类
+ * <p>
+ * 支持 Hexo / Hugo / Jekyll 等静态博客导出的格式：文件以 {@code ---} 开头，到下一个 {@code ---} 为止是 YAML 元数据，
+ * 其余为正文。没有 Front Matter 的文件整体作为正文
+ * <p>
+ * YAML 使用 SafeConstructor 解析，只构造基本类型、列表和 Map；时间不交给 YAML 解析（YAML 把不带时区的时间视为 UTC），
+ * 统一按字符串读取，不带时区的时间视为服务器本地时间
+ *
+ * @author 玄〤
+ * @since 2026-03-13
+ */
+public final class FrontMatterUtils {
+
+    private FrontMatterUtils() {
+    }
+
+    private static final String DELIMITER = "---";
+
+    /**
+     * 解析结果
+     *
+     * @param attributes 元数据（不存在时为空 Map）
+     * @param body       正文
+     */
+    public record Document(Map<String, Object> attributes, String body) {
+
+        /**
+         * 读取字符串属性，依次尝试多个候选名称（不同博客系统的命名不同）
+         */
+        public String getString(String... names) {
+            for (String name : names) {
+                Object value = attributes.get(name);
+                if (value instanceof List<?> list) {
+                    value = list.isEmpty() ? null : list.get(0);
+                }
+                if (value != null && !value.toString().isBlank()) {
+                    return value.toString().trim();
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 读取列表属性：支持 YAML 列表和逗号分隔的字符串，去重并保持顺序
+         */
+        public List<String> getList(String... names) {
+            for (String name : names) {
+                Object value = attributes.get(name);
+                if (value == null) {
+                    continue;
+                }
+                List<?> raw = value instanceof List<?> list ? list : Arrays.asList(value.toString().split(","));
+                Set<String> result = new LinkedHashSet<>();
+                for (Object item : raw) {
+                    if (item != null && !item.toString().isBlank()) {
+                        result.add(item.toString().trim());
+                    }
+                }
+                return new ArrayList<>(result);
+            }
+            return Collections.emptyList();
+        }
+
+        /**
+         * 读取时间属性：支持 yyyy-MM-dd、yyyy-MM-dd HH:mm:ss 和 ISO 格式（可带时区偏移），无法解析时返回 null
+         */
+        public LocalDateTime getDateTime(String... names) {
+            for (String name : names) {
+                Object value = attributes.get(name);
+                if (value != null) {
+                    LocalDateTime parsed = parseDateTime(value.toString().trim());
+                    if (parsed != null) {
+                        return parsed;
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 读取布尔属性，不存在时返回 null
+         */
+        public Boolean getBoolean(String name) {
+            Object value = attributes.get(name);
+            if (value instanceof Boolean bool) {
+                return bool;
+            }
+            return value == null ? null : Boolean.valueOf(value.toString().trim());
+        }
+    }
+
+    /**
+     * 解析 Markdown 文本
+     *
+     * @param text 文件内容
+     * @return 元数据与正文
+     * @throws IllegalArgumentException Front Matter 不是合法的 YAML 映射
+     */
+    public static Document parse(String text) {
+        if (text == null) {
+            return new Document(Collections.emptyMap(), "");
+        }
+        // 去掉 UTF-8 BOM
+        if (text.startsWith("\uFEFF")) {
+            text = text.substring(1);
+        }
+        if (!text.startsWith(DELIMITER)) {
+            return new Document(Collections.emptyMap(), text);
+        }
+        int headerStart = text.indexOf('\n');
+        if (headerStart < 0 || !text.substring(0, headerStart).trim().equals(DELIMITER)) {
+            return new Document(Collections.emptyMap(), text);
+        }
+        // 查找结束分隔行
+        int lineStart = headerStart + 1;
+        while (lineStart <= text.length()) {
+            int lineEnd = text.indexOf('\n', lineStart);
+            String line = lineEnd < 0 ? text.substring(lineStart) : text.substring(lineStart, lineEnd);
+            if (line.trim().equals(DELIMITER)) {
+                String header = text.substring(headerStart + 1, lineStart);
+                String body = lineEnd < 0 ? "" : text.substring(lineEnd + 1);
+                return new Document(parseYaml(header), body.stripLeading());
+            }
+            if (lineEnd < 0) {
+                break;
+            }
+            lineStart = lineEnd + 1;
+        }
+        // 没有结束分隔行，不视为 Front Matter
+        return new Document(Collections.emptyMap(), text);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> parseYaml(String header) {
+        LoaderOptions loaderOptions = new LoaderOptions();
+        DumperOptions dumperOptions = new DumperOptions();
+        Yaml yaml = new Yaml(new SafeConstructor(loaderOptions), new Representer(dumperOptions), dumperOptions,
+                loaderOptions, new PlainTimestampResolver());
+        Object loaded = yaml.load(header);
+        if (loaded == null) {
+            return Collections.emptyMap();
+        }
+        if (!(loaded instanceof Map<?, ?>)) {
+            throw new IllegalArgumentException("Front Matter 必须是键值对");
+        }
+        return (Map<String, Object>) loaded;
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        try {
+            if (value.length() == 10) {
+                return LocalDate.parse(value).atStartOfDay();
+            }
+            String iso = value.replace(' ', 'T');
+            if (iso.endsWith("Z") || iso.matches(".*[+-]\\d{2}:\\d{2}$")) {
+                return OffsetDateTime.parse(iso).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            }
+            return LocalDateTime.parse(iso);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 不识别时间戳的 YAML 类型解析器，时间按字符串读取
+     */
+    private static final class PlainTimestampResolver extends Resolver {
+        @Override
+        public void addImplicitResolver(Tag tag, Pattern regexp, String first, int limit) {
+            if (!Tag.TIMESTAMP.equals(tag)) {
+                super.addImplicitResolver(tag, regexp, first, limit);
+            }
+        }
+    }
+}
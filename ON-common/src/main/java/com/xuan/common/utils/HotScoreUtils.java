@@ -0,0 +1,48 @@
+package com.xuan.common.utils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 评论热度分计算工具
+ * <p>
+ * 采用「对数赞数 + 发表时间偏移」的衰减公式：
+ * <pre>
+ * hot = log10(max(likes, 1)) + (发表时间 - 2026-01-01) / 45000 秒
+ * </pre>
+ * 时间项只取决于发表时间，随时间推移所有评论的相对位置不变，新评论天然排在同等赞数的旧评论之前，
+ * 因此热度分只需在赞数变化时重新计算，不需要定时全量刷新，可以直接落库并建索引排序；
+ * 赞数每增加 10 倍，相当于晚发表 12.5 小时
+ * <p>
+ * 评论只有点赞没有点踩，Wilson 置信区间下界（需要好评/总票数）在这里退化为按赞数排序，因此不采用
+ *
+ * @author 玄〤
+ * @since 2026-03-25
+ */
+public final class HotScoreUtils {
+
+    /** 时间项的起点：2026-01-01 00:00:00（UTC+8） */
+    private static final long EPOCH_SECONDS = 1767196800L;
+
+    /** 时间项的单位（秒）：晚发表 45000 秒与多 10 倍赞数等价 */
+    private static final double DECAY_SECONDS = 45000D;
+
+    private HotScoreUtils() {
+    }
+
+    /**
+     * 计算热度分
+     *
+     * @param likes      点赞数
+     * @param createTime 发表时间（按系统时区解释）
+     * @return 热度分，createTime 为空时只计算赞数项
+     */
+    public static double hot(long likes, LocalDateTime createTime) {
+        double likeTerm = Math.log10(Math.max(likes, 1));
+        if (createTime == null) {
+            return likeTerm;
+        }
+        long seconds = createTime.atZone(ZoneId.systemDefault()).toEpochSecond() - EPOCH_SECONDS;
+        return likeTerm + seconds / DECAY_SECONDS;
+    }
+}
@@ -0,0 +1,72 @@
+package com.xuan.common.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 键集分页（keyset pagination）游标工具类
+ * <p>
+ * 按 (create_time, id) 升序分页时，游标记录上一页最后一条记录的位置，下一页查询条件为
+ * {@code create_time > t OR (create_time = t AND id > id)}，可直接沿联合索引定位，翻页深度不影响查询耗时
+ * <p>
+ * 游标格式：{@code "{创建时间毫秒}:{id}"} 的 URL 安全 Base64（无填充），对前端是不透明字符串
+ *
+ * @author 玄〤
+ * @since 2026-03-19
+ */
+public final class KeysetCursorUtils {
+
+    private KeysetCursorUtils() {
+    }
+
+    /**
+     * 游标位置
+     *
+     * @param createTime 上一页最后一条记录的创建时间
+     * @param id         上一页最后一条记录的ID
+     */
+    public record Cursor(LocalDateTime createTime, Long id) {
+    }
+
+    /**
+     * 生成游标
+     *
+     * @param createTime 记录创建时间
+     * @param id         记录ID
+     * @return 游标字符串，任一参数为 null 时返回 null
+     */
+    public static String encode(LocalDateTime createTime, Long id) {
+        if (createTime == null || id == null) {
+            return null;
+        }
+        String raw = createTime.toInstant(ZoneOffset.UTC).toEpochMilli() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解析游标
+     *
+     * @param cursor 游标字符串
+     * @return 游标位置，为空或格式不正确时返回 null
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            if (sep <= 0) {
+                return null;
+            }
+            long millis = Long.parseLong(raw.substring(0, sep));
+            long id = Long.parseLong(raw.substring(sep + 1));
+            return new Cursor(LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000),
+                    Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC), id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.xuan.common.utils;
+
+import java.util.Arrays;
+
+/**
+ * 耗时采样器
+ * <p>
+ * 使用固定容量的环形缓冲区保存最近 N 次耗时（纳秒），按需排序计算分位数。
+ * 写入是一次数组赋值，开销可忽略；分位数只在查询监控接口时计算。
+ *
+ * @author 玄〤
+ * @since 2026-03-02
+ */
+public class LatencyRecorder {
+
+    private final long[] samples;
+    private long total;
+
+    /**
+     * @param capacity 保留的最近样本数
+     */
+    public LatencyRecorder(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    /**
+     * 记录一次耗时
+     *
+     * @param nanos 耗时（纳秒）
+     */
+    public synchronized void record(long nanos) {
+        samples[(int) (total % samples.length)] = nanos;
+        total++;
+    }
+
+    /**
+     * 生成当前窗口内的统计快照
+     *
+     * @return 统计快照（窗口为空时各分位数为 0）
+     */
+    public Snapshot snapshot() {
+        long[] window;
+        long count;
+        synchronized (this) {
+            count = total;
+            window = Arrays.copyOf(samples, (int) Math.min(total, samples.length));
+        }
+        if (window.length == 0) {
+            return new Snapshot(count, 0, 0, 0);
+        }
+        Arrays.sort(window);
+        return new Snapshot(count,
+                toMillis(percentile(window, 0.50)),
+                toMillis(percentile(window, 0.99)),
+                toMillis(window[window.length - 1]));
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    /**
+     * 统计快照
+     *
+     * @param count 累计样本数
+     * @param p50Ms P50 耗时（毫秒）
+     * @param p99Ms P99 耗时（毫秒）
+     * @param maxMs 窗口内最大耗时（毫秒）
+     */
+    public record Snapshot(long count, double p50Ms, double p99Ms, double maxMs) {
+    }
+}
@@ -0,0 +1,126 @@
+package com.xuan.common.utils;
+
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 稀疏字段集（fields=id,title）工具类
+ * <p>
+ * 列表接口可通过 {@code fields} 参数只返回需要的字段：
+ * 1. JSON 层：VO 标注 {@code @JsonFilter(SparseFieldsUtils.FILTER_ID)}，响应时套用按字段集缓存的 FilterProvider，
+ *    同一字段集只构建一次，Jackson 自身的 BeanSerializer 也是按类型缓存的，不会每次请求做反射
+ * 2. SQL 层：Service 通过 {@link #selectColumns} 把字段集换算为查询列，只查需要的列
+ * <p>
+ * 约定：{@code id} 始终返回；未传或为空表示返回全部字段；未知字段名被忽略
+ *
+ * @author 玄〤
+ * @since 2026-03-05
+ */
+public final class SparseFieldsUtils {
+
+    private SparseFieldsUtils() {
+    }
+
+    /** VO 上 @JsonFilter 使用的过滤器 ID */
+    public static final String FILTER_ID = "sparseFields";
+
+    /** 始终返回的字段 */
+    private static final String ID_FIELD = "id";
+
+    /** 缓存的字段集组合上限，超过后不再缓存（防止任意参数撑爆内存） */
+    private static final int MAX_CACHED_FIELD_SETS = 256;
+
+    /** 默认过滤器：输出全部字段 */
+    public static final FilterProvider SERIALIZE_ALL = new SimpleFilterProvider()
+            .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+            .setFailOnUnknownId(false);
+
+    private static final Map<String, FilterProvider> PROVIDER_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * 解析字段集参数
+     *
+     * @param fields 逗号分隔的字段名
+     * @return 有序字段集（包含 id），未指定时返回 null 表示全部字段
+     */
+    public static Set<String> parse(String fields) {
+        if (!StringUtils.hasText(fields)) {
+            return null;
+        }
+        Set<String> result = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasLength)
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (result.isEmpty()) {
+            return null;
+        }
+        result.add(ID_FIELD);
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * 获取字段集对应的 FilterProvider（按字段集缓存）
+     *
+     * @param fieldSet {@link #parse} 的结果，null 表示全部字段
+     * @return FilterProvider
+     */
+    public static FilterProvider filterProvider(Set<String> fieldSet) {
+        if (fieldSet == null) {
+            return SERIALIZE_ALL;
+        }
+        String cacheKey = String.join(",", fieldSet);
+        FilterProvider provider = PROVIDER_CACHE.get(cacheKey);
+        if (provider != null) {
+            return provider;
+        }
+        provider = new SimpleFilterProvider()
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fieldSet))
+                .setFailOnUnknownId(false);
+        if (PROVIDER_CACHE.size() < MAX_CACHED_FIELD_SETS) {
+            PROVIDER_CACHE.putIfAbsent(cacheKey, provider);
+        }
+        return provider;
+    }
+
+    /**
+     * 根据字段集换算查询列
+     *
+     * @param fieldSet {@link #parse} 的结果，null 表示全部字段
+     * @param columns  VO 字段名 -> 该字段依赖的实体列
+     * @return 去重后的查询列，fieldSet 为 null 时返回 null（调用方不设置 select，查询全部列）
+     */
+    public static <T> List<SFunction<T, ?>> selectColumns(Set<String> fieldSet, Map<String, List<SFunction<T, ?>>> columns) {
+        if (fieldSet == null) {
+            return null;
+        }
+        Set<SFunction<T, ?>> selected = new LinkedHashSet<>();
+        for (String field : fieldSet) {
+            List<SFunction<T, ?>> fieldColumns = columns.get(field);
+            if (fieldColumns != null) {
+                selected.addAll(fieldColumns);
+            }
+        }
+        return new ArrayList<>(selected);
+    }
+
+    /**
+     * 字段集是否包含指定字段（null 表示全部字段）
+     */
+    public static boolean includes(Set<String> fieldSet, String field) {
+        return fieldSet == null || fieldSet.contains(field);
+    }
+}
@@ -0,0 +1,111 @@
+package com.xuan.common.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 基于结构化并发（JDK 21 预览特性 StructuredTaskScope）的并行扇出工具
+ * <p>
+ * 用法：
+ * <pre>
+ * try (StructuredFanOut fanOut = new StructuredFanOut("article-detail", Duration.ofMillis(300))) {
+ *     Supplier&lt;A&gt; a = fanOut.fork("a", () -> loadA(), fallbackA);
+ *     Supplier&lt;B&gt; b = fanOut.fork("b", () -> loadB(), fallbackB);
+ *     fanOut.join();
+ *     use(a.get(), b.get(), fanOut.isDegraded());
+ * }
+ * </pre>
+ * 规则：
+ * 1. 每个子任务跑在独立的虚拟线程上，并各自拥有超时时间
+ * 2. 子任务超时：取消（中断）该子任务，返回兜底值，并标记本次结果为“降级”
+ *    虚拟线程上阻塞的 Socket 读写可被中断，因此超时的 JDBC / Redis 调用会及时退出
+ * 3. 子任务抛异常：立即取消其余子任务，由 {@link #join()} 抛出原始异常
+ * <p>
+ * 注意：运行时需要 {@code --enable-preview}
+ *
+ * @author 玄〤
+ * @since 2026-03-02
+ */
+@Slf4j
+public class StructuredFanOut implements AutoCloseable {
+
+    private final String name;
+    private final Duration subtaskTimeout;
+    private final ThreadFactory threadFactory;
+    private final StructuredTaskScope.ShutdownOnFailure scope;
+    private final AtomicBoolean degraded = new AtomicBoolean(false);
+
+    /**
+     * @param name           扇出名称（用于线程命名和日志）
+     * @param subtaskTimeout 单个子任务超时时间
+     */
+    public StructuredFanOut(String name, Duration subtaskTimeout) {
+        this.name = name;
+        this.subtaskTimeout = subtaskTimeout;
+        this.threadFactory = Thread.ofVirtual().name(name + "-", 0).factory();
+        this.scope = new StructuredTaskScope.ShutdownOnFailure(name, threadFactory);
+    }
+
+    /**
+     * 提交一个子任务
+     *
+     * @param taskName 子任务名称（用于日志）
+     * @param task     子任务
+     * @param fallback 子任务超时时的兜底值
+     * @return 结果获取器，仅可在 {@link #join()} 成功返回后调用
+     */
+    public <T> Supplier<T> fork(String taskName, Callable<? extends T> task, T fallback) {
+        StructuredTaskScope.Subtask<T> subtask = scope.fork(() -> callWithTimeout(taskName, task, fallback));
+        return subtask::get;
+    }
+
+    /**
+     * 等待全部子任务完成
+     * 子任务各自受超时约束，因此这里无需再设置整体截止时间
+     *
+     * @throws InterruptedException 当前线程被中断
+     */
+    public void join() throws InterruptedException {
+        scope.join();
+        scope.throwIfFailed(e -> e instanceof RuntimeException re ? re : new IllegalStateException(e));
+    }
+
+    /**
+     * 是否有子任务因超时而使用了兜底值
+     */
+    public boolean isDegraded() {
+        return degraded.get();
+    }
+
+    @Override
+    public void close() {
+        scope.close();
+    }
+
+    /**
+     * 在嵌套作用域中执行子任务：超时后关闭作用域即可中断该子任务的线程
+     */
+    private <T> T callWithTimeout(String taskName, Callable<? extends T> task, T fallback) throws Exception {
+        try (var inner = new StructuredTaskScope.ShutdownOnFailure(name + ":" + taskName, threadFactory)) {
+            StructuredTaskScope.Subtask<? extends T> subtask = inner.fork(task);
+            inner.joinUntil(Instant.now().plus(subtaskTimeout));
+            inner.throwIfFailed();
+            return subtask.get();
+        } catch (TimeoutException e) {
+            degraded.set(true);
+            log.warn("并行子任务超时，使用兜底值: {}:{}, timeout={}ms", name, taskName, subtaskTimeout.toMillis());
+            return fallback;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+}
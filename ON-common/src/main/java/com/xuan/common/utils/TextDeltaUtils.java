@@ -0,0 +1,288 @@
+package com.xuan.common.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 文本增量（行级 diff）与压缩工具类
+ * <p>
+ * 增量格式：基于旧文本的行序列，依次由“复制旧文本第 start 行起的 count 行”和“插入新文本”两种操作组成，
+ * 序列化后整体 GZIP 压缩，适合 Markdown 这类按行编辑的长文本
+ * <p>
+ * 算法：先去掉首尾相同的行，中间部分按行做 LCS；中间部分过大时（超过 {@link #MAX_LCS_CELLS}）退化为整体替换，
+ * 保证计算时间和内存有上限
+ *
+ * @author 玄〤
+ * @since 2026-03-11
+ */
+public final class TextDeltaUtils {
+
+    private TextDeltaUtils() {
+    }
+
+    /** LCS 动态规划表的最大单元数，超过后中间部分整体替换 */
+    private static final int MAX_LCS_CELLS = 1_000_000;
+
+    private static final byte OP_COPY = 1;
+    private static final byte OP_INSERT = 2;
+    private static final byte OP_END = 0;
+
+    /**
+     * 计算从 base 到 target 的压缩增量
+     *
+     * @param base   旧文本
+     * @param target 新文本
+     * @return GZIP 压缩后的增量
+     */
+    public static byte[] diff(String base, String target) {
+        String[] a = splitLines(base);
+        String[] b = splitLines(target);
+
+        // 1.去掉首尾相同的行
+        int prefix = 0;
+        int maxPrefix = Math.min(a.length, b.length);
+        while (prefix < maxPrefix && a[prefix].equals(b[prefix])) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < maxPrefix - prefix && a[a.length - 1 - suffix].equals(b[b.length - 1 - suffix])) {
+            suffix++;
+        }
+
+        // 2.中间部分计算操作序列
+        DeltaWriter writer = new DeltaWriter();
+        writer.copy(0, prefix);
+        int aEnd = a.length - suffix;
+        int bEnd = b.length - suffix;
+        long cells = (long) (aEnd - prefix + 1) * (bEnd - prefix + 1);
+        if (cells <= MAX_LCS_CELLS) {
+            diffMiddle(a, prefix, aEnd, b, prefix, bEnd, writer);
+        } else {
+            writer.insert(b, prefix, bEnd);
+        }
+        writer.copy(aEnd, suffix);
+        return writer.finish();
+    }
+
+    /**
+     * 把增量应用到旧文本上
+     *
+     * @param base  旧文本
+     * @param delta {@link #diff} 生成的增量
+     * @return 新文本
+     */
+    public static String patch(String base, byte[] delta) {
+        String[] a = splitLines(base);
+        StringBuilder result = new StringBuilder(base == null ? 16 : base.length() + 16);
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(delta)))) {
+            while (true) {
+                byte op = in.readByte();
+                if (op == OP_END) {
+                    return result.toString();
+                }
+                if (op == OP_COPY) {
+                    int start = in.readInt();
+                    int count = in.readInt();
+                    for (int i = start; i < start + count; i++) {
+                        result.append(a[i]);
+                    }
+                } else if (op == OP_INSERT) {
+                    byte[] bytes = new byte[in.readInt()];
+                    in.readFully(bytes);
+                    result.append(new String(bytes, StandardCharsets.UTF_8));
+                } else {
+                    throw new IllegalArgumentException("无法识别的增量操作: " + op);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("增量数据损坏", e);
+        }
+    }
+
+    /**
+     * GZIP 压缩文本
+     */
+    public static byte[] compress(String text) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            if (text != null) {
+                out.write(text.getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 解压 {@link #compress} 生成的数据
+     */
+    public static String decompress(byte[] data) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("压缩数据损坏", e);
+        }
+    }
+
+    /**
+     * 按行拆分，每行保留自身的换行符，拼接后与原文完全一致
+     */
+    private static String[] splitLines(String text) {
+        if (text == null || text.isEmpty()) {
+            return new String[0];
+        }
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                lines.add(text.substring(start, i + 1));
+                start = i + 1;
+            }
+        }
+        if (start < text.length()) {
+            lines.add(text.substring(start));
+        }
+        return lines.toArray(new String[0]);
+    }
+
+    /**
+     * 对 a[aFrom, aTo) 与 b[bFrom, bTo) 做行级 LCS，输出复制/插入操作
+     */
+    private static void diffMiddle(String[] a, int aFrom, int aTo, String[] b, int bFrom, int bTo, DeltaWriter writer) {
+        int n = aTo - aFrom;
+        int m = bTo - bFrom;
+        if (n == 0 || m == 0) {
+            writer.insert(b, bFrom, bTo);
+            return;
+        }
+        // 行内容映射为整数，避免 DP 中反复比较字符串
+        Map<String, Integer> ids = new HashMap<>();
+        int[] x = new int[n];
+        int[] y = new int[m];
+        for (int i = 0; i < n; i++) {
+            x[i] = ids.computeIfAbsent(a[aFrom + i], k -> ids.size());
+        }
+        for (int j = 0; j < m; j++) {
+            y[j] = ids.computeIfAbsent(b[bFrom + j], k -> ids.size());
+        }
+        // lcs[i][j]：x[i..] 与 y[j..] 的最长公共子序列长度
+        int[][] lcs = new int[n + 1][m + 1];
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = m - 1; j >= 0; j--) {
+                lcs[i][j] = x[i] == y[j] ? lcs[i + 1][j + 1] + 1 : Math.max(lcs[i + 1][j], lcs[i][j + 1]);
+            }
+        }
+        int i = 0;
+        int j = 0;
+        while (i < n && j < m) {
+            if (x[i] == y[j]) {
+                writer.copy(aFrom + i, 1);
+                i++;
+                j++;
+            } else if (lcs[i + 1][j] >= lcs[i][j + 1]) {
+                i++;
+            } else {
+                writer.insert(b, bFrom + j, bFrom + j + 1);
+                j++;
+            }
+        }
+        writer.insert(b, bFrom + j, bTo);
+    }
+
+    /**
+     * 增量序列化：相邻的复制/插入操作自动合并
+     */
+    private static final class DeltaWriter {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out;
+        private int copyStart = -1;
+        private int copyCount;
+        private final StringBuilder pendingInsert = new StringBuilder();
+
+        private DeltaWriter() {
+            try {
+                out = new DataOutputStream(new GZIPOutputStream(bytes));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void copy(int start, int count) {
+            if (count <= 0) {
+                return;
+            }
+            flushInsert();
+            if (copyStart >= 0 && copyStart + copyCount == start) {
+                copyCount += count;
+                return;
+            }
+            flushCopy();
+            copyStart = start;
+            copyCount = count;
+        }
+
+        private void insert(String[] lines, int from, int to) {
+            if (from >= to) {
+                return;
+            }
+            flushCopy();
+            for (int i = from; i < to; i++) {
+                pendingInsert.append(lines[i]);
+            }
+        }
+
+        private byte[] finish() {
+            try {
+                flushCopy();
+                flushInsert();
+                out.writeByte(OP_END);
+                out.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return bytes.toByteArray();
+        }
+
+        private void flushCopy() {
+            if (copyStart < 0) {
+                return;
+            }
+            try {
+                out.writeByte(OP_COPY);
+                out.writeInt(copyStart);
+                out.writeInt(copyCount);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            copyStart = -1;
+            copyCount = 0;
+        }
+
+        private void flushInsert() {
+            if (pendingInsert.isEmpty()) {
+                return;
+            }
+            byte[] data = pendingInsert.toString().getBytes(StandardCharsets.UTF_8);
+            try {
+                out.writeByte(OP_INSERT);
+                out.writeInt(data.length);
+                out.write(data);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            pendingInsert.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.xuan.common.cache;
+
+import com.alibaba.fastjson2.TypeReference;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 缓存编解码器测试类
+ * 验证 JSON / JSONB 往返一致，以及按字节特征识别格式
+ */
+public class CacheCodecTest {
+
+    private static final Type PAGE_TYPE = new TypeReference<Page<Card>>() {
+    }.getType();
+
+    private final JsonCacheCodec json = new JsonCacheCodec();
+    private final JsonbCacheCodec jsonb = new JsonbCacheCodec();
+
+    @Test
+    public void testPageRoundTrip() {
+        Page<Card> page = samplePage();
+        for (CacheCodec codec : List.of(json, jsonb)) {
+            Page<Card> decoded = codec.decode(codec.encode(page), PAGE_TYPE);
+            assertEquals(page.getTotal(), decoded.getTotal(), codec.type().name());
+            assertEquals(page.getCurrent(), decoded.getCurrent(), codec.type().name());
+            assertEquals(page.getSize(), decoded.getSize(), codec.type().name());
+            assertEquals(page.getRecords(), decoded.getRecords(), codec.type().name());
+        }
+    }
+
+    @Test
+    public void testFormatDetection() {
+        byte[] jsonBytes = json.encode(samplePage());
+        byte[] jsonbBytes = jsonb.encode(samplePage());
+
+        assertTrue(json.accepts(jsonBytes));
+        assertFalse(jsonb.accepts(jsonBytes));
+        assertTrue(jsonb.accepts(jsonbBytes));
+        assertFalse(json.accepts(jsonbBytes));
+
+        // 与旧版 StringRedisTemplate 写入的 JSON 文本兼容
+        byte[] legacy = "[{\"id\":1,\"title\":\"旧缓存\"}]".getBytes(StandardCharsets.UTF_8);
+        List<Card> cards = json.decode(legacy, new TypeReference<List<Card>>() {
+        }.getType());
+        assertEquals("旧缓存", cards.get(0).getTitle());
+    }
+
+    @Test
+    public void testJsonbIsSmaller() {
+        Page<Card> page = samplePage();
+        assertTrue(jsonb.encode(page).length < json.encode(page).length);
+    }
+
+    private static Page<Card> samplePage() {
+        Page<Card> page = new Page<>(2, 10, 57);
+        List<Card> records = new java.util.ArrayList<>();
+        for (long i = 1; i <= 10; i++) {
+            Card card = new Card();
+            card.setId(i);
+            card.setTitle("Spring Boot 3 实战 " + i);
+            card.setViewCount(1000 + i);
+            card.setPublishTime(LocalDateTime.of(2026, 3, 1, 10, 0).plusDays(i));
+            card.setTags(List.of("Java", "Redis"));
+            records.add(card);
+        }
+        page.setRecords(records);
+        return page;
+    }
+
+    @Data
+    public static class Card {
+        private Long id;
+        private String title;
+        private Long viewCount;
+        private LocalDateTime publishTime;
+        private List<String> tags;
+    }
+}
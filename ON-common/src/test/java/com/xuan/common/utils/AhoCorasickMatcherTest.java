@@ -0,0 +1,78 @@
+package com.xuan.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AhoCorasickMatcher测试类
+ * 测试多模式匹配、重叠命中、大小写与空输入
+ */
+public class AhoCorasickMatcherTest {
+
+    @Test
+    public void testClassicExample() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.build(List.of("he", "she", "his", "hers"));
+        List<String> found = matcher.findAll("ushers").stream()
+                .map(m -> m.word() + "@" + m.start())
+                .toList();
+        // "she" 与 "he" 在同一位置结束，"hers" 随后结束
+        assertEquals(List.of("she@1", "he@2", "hers@2"), found);
+    }
+
+    @Test
+    public void testChineseAndCaseInsensitive() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.build(Arrays.asList("代开发票", "VPN", null, " ", "vpn"));
+        assertEquals(2, matcher.size());
+        assertTrue(matcher.containsAny("出售Vpn账号"));
+        assertTrue(matcher.containsAny("专业代开发票，联系我"));
+        assertFalse(matcher.containsAny("写得很好，学习了"));
+
+        List<AhoCorasickMatcher.Match> matches = matcher.findAll("代开发票代开发票");
+        assertEquals(2, matches.size());
+        assertEquals(4, matches.get(1).start());
+        assertEquals(8, matches.get(1).end());
+    }
+
+    @Test
+    public void testEmpty() {
+        assertTrue(AhoCorasickMatcher.empty().isEmpty());
+        assertFalse(AhoCorasickMatcher.empty().containsAny("anything"));
+        assertTrue(AhoCorasickMatcher.build(List.of("abc")).findAll(null).isEmpty());
+    }
+
+    @Test
+    public void testAgainstNaiveSearch() {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            words.add(randomString(random, 1 + random.nextInt(4)));
+        }
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.build(words);
+        List<String> distinct = words.stream().distinct().toList();
+        for (int round = 0; round < 50; round++) {
+            String text = randomString(random, 200);
+            long expected = 0;
+            for (String word : distinct) {
+                for (int from = text.indexOf(word); from >= 0; from = text.indexOf(word, from + 1)) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, matcher.findAll(text).size());
+            assertEquals(expected > 0, matcher.containsAny(text));
+        }
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + random.nextInt(4)));
+        }
+        return sb.toString();
+    }
+}
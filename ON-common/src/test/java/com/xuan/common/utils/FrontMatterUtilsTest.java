@@ -0,0 +1,54 @@
+package com.xuan.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Front Matter 解析工具测试类
+ */
+public class FrontMatterUtilsTest {
+
+    @Test
+    public void testParse() {
+        FrontMatterUtils.Document document = FrontMatterUtils.parse("""
+                ---
+                title: Spring Boot 3实战
+                slug: spring-boot-3
+                tags: [Java, Spring, Java]
+                categories:
+                  - 后端
+                date: 2024-05-01 10:30:00
+                draft: true
+                ---
+
+                # 正文
+                """);
+        assertEquals("Spring Boot 3实战", document.getString("title"));
+        assertEquals("spring-boot-3", document.getString("slug"));
+        assertEquals(List.of("Java", "Spring"), document.getList("tags"));
+        assertEquals("后端", document.getString("category", "categories"));
+        assertEquals(LocalDateTime.of(2024, 5, 1, 10, 30), document.getDateTime("date"));
+        assertTrue(document.getBoolean("draft"));
+        assertEquals("# 正文\n", document.body());
+    }
+
+    @Test
+    public void testStringValues() {
+        FrontMatterUtils.Document document = FrontMatterUtils.parse("---\ntags: a, b\ndate: '2024-05-01'\n---\n正文");
+        assertEquals(List.of("a", "b"), document.getList("tags"));
+        assertEquals(LocalDateTime.of(2024, 5, 1, 0, 0), document.getDateTime("date"));
+        assertNull(document.getString("title"));
+        assertEquals("正文", document.body());
+    }
+
+    @Test
+    public void testWithoutFrontMatter() {
+        assertEquals("# 标题\n---\n", FrontMatterUtils.parse("# 标题\n---\n").body());
+        assertEquals("---\ntitle: x\n", FrontMatterUtils.parse("---\ntitle: x\n").body());
+        assertTrue(FrontMatterUtils.parse("---\ntitle: x\n").attributes().isEmpty());
+    }
+}
@@ -0,0 +1,41 @@
+package com.xuan.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HotScoreUtils测试类
+ * 测试赞数与发表时间对热度分的影响
+ */
+public class HotScoreUtilsTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2026, 3, 25, 10, 0);
+
+    @Test
+    public void testMoreLikesRankHigher() {
+        assertTrue(HotScoreUtils.hot(10, TIME) > HotScoreUtils.hot(9, TIME));
+        // 0 赞与 1 赞等价，按发表时间排序
+        assertEquals(HotScoreUtils.hot(0, TIME), HotScoreUtils.hot(1, TIME), 1e-9);
+    }
+
+    @Test
+    public void testNewerRankHigher() {
+        assertTrue(HotScoreUtils.hot(0, TIME.plusSeconds(1)) > HotScoreUtils.hot(0, TIME));
+    }
+
+    @Test
+    public void testTenTimesLikesEqualsHalfDay() {
+        // 赞数多 10 倍，相当于晚发表 45000 秒
+        double older = HotScoreUtils.hot(100, TIME);
+        double newer = HotScoreUtils.hot(10, TIME.plusSeconds(45000));
+        assertEquals(older, newer, 1e-9);
+    }
+
+    @Test
+    public void testNullTime() {
+        assertEquals(2D, HotScoreUtils.hot(100, null), 1e-9);
+    }
+}
@@ -0,0 +1,43 @@
+package com.xuan.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KeysetCursorUtils测试类
+ * 测试游标的生成与解析
+ */
+public class KeysetCursorUtilsTest {
+
+    @Test
+    public void testRoundTrip() {
+        LocalDateTime time = LocalDateTime.of(2026, 3, 19, 10, 30, 15, 123_000_000);
+        String cursor = KeysetCursorUtils.encode(time, 1024L);
+        assertNotNull(cursor);
+        // URL 安全，可直接作为查询参数
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+
+        KeysetCursorUtils.Cursor decoded = KeysetCursorUtils.decode(cursor);
+        assertNotNull(decoded);
+        assertEquals(time, decoded.createTime());
+        assertEquals(1024L, decoded.id());
+    }
+
+    @Test
+    public void testEncodeNull() {
+        assertNull(KeysetCursorUtils.encode(null, 1L));
+        assertNull(KeysetCursorUtils.encode(LocalDateTime.now(), null));
+    }
+
+    @Test
+    public void testDecodeInvalid() {
+        assertNull(KeysetCursorUtils.decode(null));
+        assertNull(KeysetCursorUtils.decode(""));
+        assertNull(KeysetCursorUtils.decode("!!!"));
+        assertNull(KeysetCursorUtils.decode("bm90LWEtY3Vyc29y")); // "not-a-cursor"
+        assertNull(KeysetCursorUtils.decode("MTIzOmFiYw")); // "123:abc"
+    }
+}
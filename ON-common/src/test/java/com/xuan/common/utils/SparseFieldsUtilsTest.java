@@ -0,0 +1,55 @@
+package com.xuan.common.utils;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 稀疏字段集工具测试类
+ */
+public class SparseFieldsUtilsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().setFilterProvider(SparseFieldsUtils.SERIALIZE_ALL);
+
+    @Test
+    public void testParse() {
+        assertNull(SparseFieldsUtils.parse(null));
+        assertNull(SparseFieldsUtils.parse(" , "));
+        assertEquals(Set.of("id", "title"), SparseFieldsUtils.parse(" title,,title "));
+    }
+
+    @Test
+    public void testDefaultSerializesAllFields() throws Exception {
+        String json = objectMapper.writeValueAsString(new Card(1L, "标题", "摘要"));
+        assertEquals("{\"id\":1,\"title\":\"标题\",\"summary\":\"摘要\"}", json);
+    }
+
+    @Test
+    public void testFilterOnlyAffectsAnnotatedClass() throws Exception {
+        Set<String> fieldSet = SparseFieldsUtils.parse("title");
+        Map<String, Object> body = Map.of("total", 1, "records", List.of(new Card(1L, "标题", "摘要")));
+        String json = objectMapper.writer(SparseFieldsUtils.filterProvider(fieldSet)).writeValueAsString(body);
+        assertTrue(json.contains("\"total\":1"));
+        assertTrue(json.contains("{\"id\":1,\"title\":\"标题\"}"));
+        assertFalse(json.contains("summary"));
+        // 同一字段集复用同一个 FilterProvider
+        assertSame(SparseFieldsUtils.filterProvider(fieldSet), SparseFieldsUtils.filterProvider(SparseFieldsUtils.parse("title,id")));
+    }
+
+    @Data
+    @AllArgsConstructor
+    @JsonFilter(SparseFieldsUtils.FILTER_ID)
+    static class Card {
+        private Long id;
+        private String title;
+        private String summary;
+    }
+}
@@ -0,0 +1,48 @@
+package com.xuan.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 文本增量工具测试类
+ */
+public class TextDeltaUtilsTest {
+
+    @Test
+    public void testRoundTrip() {
+        String base = "# 标题\n\n第一段\n第二段\n第三段\n\n结尾";
+        String[] targets = {
+                base,
+                "",
+                "# 标题\n\n第一段\n第二段（修改）\n第三段\n\n结尾",
+                "前言\n# 标题\n\n第一段\n第三段\n\n结尾\n",
+                "完全不同的内容",
+        };
+        for (String target : targets) {
+            assertEquals(target, TextDeltaUtils.patch(base, TextDeltaUtils.diff(base, target)));
+        }
+        assertEquals(base, TextDeltaUtils.patch("", TextDeltaUtils.diff("", base)));
+        assertEquals(base, TextDeltaUtils.patch(null, TextDeltaUtils.diff(null, base)));
+    }
+
+    @Test
+    public void testSmallEditProducesSmallDelta() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            builder.append("第 ").append(i).append(" 行：").append(Integer.toHexString(i * 7919)).append('\n');
+        }
+        String base = builder.toString();
+        String target = base.replace("第 1000 行", "第 1000 行（修改）");
+        byte[] delta = TextDeltaUtils.diff(base, target);
+        assertEquals(target, TextDeltaUtils.patch(base, delta));
+        assertTrue(delta.length < TextDeltaUtils.compress(target).length / 10);
+    }
+
+    @Test
+    public void testCompress() {
+        String text = "Markdown 正文\n".repeat(100);
+        assertEquals(text, TextDeltaUtils.decompress(TextDeltaUtils.compress(text)));
+        assertEquals("", TextDeltaUtils.decompress(TextDeltaUtils.compress(null)));
+    }
+}
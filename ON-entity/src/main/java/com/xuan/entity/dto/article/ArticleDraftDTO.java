@@ -0,0 +1,43 @@
+package com.xuan.entity.dto.article;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 文章草稿自动保存请求参数类
+ * 对应接口：5.16 自动保存文章草稿
+ * 用于接收编辑器定时提交的草稿快照
+ * @author 玄〤
+ * @since 2026-03-10
+ */
+@Data
+@Schema(description = "文章草稿自动保存请求参数类")
+public class ArticleDraftDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 草稿标题
+     */
+    @Size(max = 200, message = "文章标题长度不能超过200字符")
+    @Schema(description = "草稿标题", example = "Spring Boot 3实战")
+    private String title;
+
+    /**
+     * 草稿摘要
+     */
+    @Size(max = 500, message = "文章摘要长度不能超过500字符")
+    @Schema(description = "草稿摘要", example = "基于JDK21的实战总结")
+    private String summary;
+
+    /**
+     * 草稿内容
+     */
+    @Schema(description = "草稿内容(markdown)")
+    private String content;
+}
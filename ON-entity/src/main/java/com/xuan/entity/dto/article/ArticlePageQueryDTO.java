@@ -33,4 +33,10 @@ public class ArticlePageQueryDTO extends BasePageQueryDTO {
      */
     @Schema(description = "按标签筛选", example = "5")
     private Long tagId;
+
+    /**
+     * 稀疏字段集：只返回指定字段，逗号分隔（id 始终返回），为空返回全部字段
+     */
+    @Schema(description = "只返回指定字段，逗号分隔（id 始终返回），为空返回全部字段", example = "id,title")
+    private String fields;
 }
\ No newline at end of file
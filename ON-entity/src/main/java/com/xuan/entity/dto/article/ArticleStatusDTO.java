@@ -7,6 +7,7 @@ import lombok.Data;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.time.LocalDateTime;
 
 /**
  * 文章状态更新请求参数类
@@ -23,9 +24,15 @@ public class ArticleStatusDTO implements Serializable {
     private static final long serialVersionUID = 1L;
 
     /**
-     * 状态：0-草稿，1-发布，2-下架
+     * 状态：0-草稿，1-发布，2-下架，3-定时发布
      */
     @NotNull(message = "状态不能为空")
-    @Schema(description = "状态：0-草稿，1-发布，2-下架", example = "1", requiredMode = RequiredMode.REQUIRED)
+    @Schema(description = "状态：0-草稿，1-发布，2-下架，3-定时发布", example = "1", requiredMode = RequiredMode.REQUIRED)
     private Integer status;
+
+    /**
+     * 计划发布时间：定时发布时指定，不传则沿用文章当前的计划发布时间
+     */
+    @Schema(description = "计划发布时间", example = "2026-03-20T08:00:00")
+    private LocalDateTime publishTime;
 }
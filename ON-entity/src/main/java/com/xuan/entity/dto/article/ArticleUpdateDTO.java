@@ -9,6 +9,7 @@ import lombok.Data;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -73,11 +74,17 @@ public class ArticleUpdateDTO implements Serializable {
     private Integer isTop;
 
     /**
-     * 状态：0-草稿，1-发布，2-下架，必填
+     * 状态：0-草稿，1-发布，2-下架，3-定时发布，必填
      */
     @NotNull(message = "状态不能为空")
-    @Schema(description = "状态：0-草稿，1-发布，2-下架", example = "1", requiredMode = RequiredMode.REQUIRED)
+    @Schema(description = "状态：0-草稿，1-发布，2-下架，3-定时发布", example = "1", requiredMode = RequiredMode.REQUIRED)
     private Integer status;
+
+    /**
+     * 计划发布时间：状态为定时发布时必填；状态为发布且时间晚于当前时间时，按定时发布处理
+     */
+    @Schema(description = "计划发布时间", example = "2026-03-20T08:00:00")
+    private LocalDateTime publishTime;
     
     /**
      * URL别名(SEO)
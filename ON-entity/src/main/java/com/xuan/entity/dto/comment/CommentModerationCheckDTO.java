@@ -0,0 +1,29 @@
+package com.xuan.entity.dto.comment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 评论自动审核试运行请求参数类
+ * 对应接口：7.9.5 试运行自动审核
+ * @author 玄〤
+ * @since 2026-03-22
+ */
+@Data
+@Schema(description = "评论自动审核试运行请求参数类")
+public class CommentModerationCheckDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @NotBlank(message = "评论内容不能为空")
+    @Size(max = 1000, message = "评论内容不能超过1000个字符")
+    @Schema(description = "待检测的评论内容", example = "专业代开发票，详情见 http://spam.example.com", requiredMode = RequiredMode.REQUIRED)
+    private String content;
+}
@@ -41,4 +41,10 @@ public class CommentPageQueryDTO extends BasePageQueryDTO {
     @Size(max = 50, message = "昵称搜索长度不能超过50个字符")
     @Schema(description = "按昵称搜索", example = "用户")
     private String nickname;
+
+    /**
+     * 稀疏字段集：只返回指定字段，逗号分隔（id 始终返回），为空返回全部字段
+     */
+    @Schema(description = "只返回指定字段，逗号分隔（id 始终返回），为空返回全部字段", example = "id,nickname,content")
+    private String fields;
 }
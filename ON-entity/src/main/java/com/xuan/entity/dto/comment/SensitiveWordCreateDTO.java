@@ -0,0 +1,39 @@
+package com.xuan.entity.dto.comment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 批量添加敏感词请求参数类
+ * 对应接口：7.9.2 批量添加敏感词
+ * @author 玄〤
+ * @since 2026-03-22
+ */
+@Data
+@Schema(description = "批量添加敏感词请求参数类")
+public class SensitiveWordCreateDTO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @NotEmpty(message = "敏感词不能为空")
+    @Size(max = 1000, message = "一次最多添加1000个敏感词")
+    @Schema(description = "敏感词列表（已存在的词会更新处理级别）", example = "[\"代开发票\", \"刷单\"]", requiredMode = RequiredMode.REQUIRED)
+    private List<String> words;
+
+    @NotNull(message = "处理级别不能为空")
+    @Min(value = 0, message = "处理级别只能是0或1")
+    @Max(value = 1, message = "处理级别只能是0或1")
+    @Schema(description = "处理级别：0-送人工审核，1-直接拒绝", example = "1", requiredMode = RequiredMode.REQUIRED)
+    private Integer level;
+}
@@ -0,0 +1,37 @@
+package com.xuan.entity.dto.comment;
+
+import com.xuan.common.domain.BasePageQueryDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.io.Serial;
+
+/**
+ * 敏感词分页查询请求参数类
+ * 对应接口：7.9.1 分页获取敏感词
+ * @author 玄〤
+ * @since 2026-03-22
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Schema(description = "敏感词分页查询请求参数类")
+public class SensitiveWordPageQueryDTO extends BasePageQueryDTO {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 敏感词搜索
+     */
+    @Size(max = 100, message = "敏感词搜索长度不能超过100个字符")
+    @Schema(description = "敏感词搜索", example = "发票")
+    private String word;
+
+    /**
+     * 按处理级别筛选：0-送人工审核，1-直接拒绝
+     */
+    @Schema(description = "按处理级别筛选：0-送人工审核，1-直接拒绝", example = "1")
+    private Integer level;
+}
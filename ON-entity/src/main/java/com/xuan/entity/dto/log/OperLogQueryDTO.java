@@ -56,4 +56,10 @@ public class OperLogQueryDTO implements Serializable {
      */
     @Schema(description = "结束时间", example = "2023-10-02 00:00:00")
     private String endTime;
+
+    /**
+     * 稀疏字段集：只返回指定字段，逗号分隔（id 始终返回），为空返回全部字段
+     */
+    @Schema(description = "只返回指定字段，逗号分隔（id 始终返回），为空返回全部字段", example = "id,title")
+    private String fields;
 }
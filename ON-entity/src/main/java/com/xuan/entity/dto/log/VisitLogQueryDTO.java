@@ -55,4 +55,10 @@ public class VisitLogQueryDTO implements Serializable {
      */
     @Schema(description = "IP地址", example = "127.0.0.1")
     private String ipAddress;
+
+    /**
+     * 稀疏字段集：只返回指定字段，逗号分隔（id 始终返回），为空返回全部字段
+     */
+    @Schema(description = "只返回指定字段，逗号分隔（id 始终返回），为空返回全部字段", example = "id,title")
+    private String fields;
 }
@@ -86,6 +86,12 @@ public class Article extends BaseEntity {
     @Schema(description = "点赞数", example = "50")
     private Long likeCount;
 
+    /**
+     * 已审核评论数
+     */
+    @Schema(description = "已审核评论数", example = "12")
+    private Long commentCount;
+
     /**
      * 是否置顶：1-是；0-否
      */
@@ -0,0 +1,63 @@
+package com.xuan.entity.po.blog;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 文章草稿表实体类
+ * 对应数据库表：article_draft
+ * 用于持久化编辑器自动保存的草稿，每篇文章最多一份，不影响已发布的文章内容
+ * @author 玄〤
+ * @since 2026-03-10
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@TableName("article_draft")
+@Schema(description = "文章草稿表实体类")
+public class ArticleDraft implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 文章id
+     */
+    @TableId(type = IdType.INPUT)
+    @Schema(description = "文章id", example = "100")
+    private Long articleId;
+
+    /**
+     * 草稿标题
+     */
+    @Schema(description = "草稿标题")
+    private String title;
+
+    /**
+     * 草稿摘要
+     */
+    @Schema(description = "草稿摘要")
+    private String summary;
+
+    /**
+     * 草稿内容
+     */
+    @Schema(description = "草稿内容(markdown)")
+    private String content;
+
+    /**
+     * 编辑器最后一次自动保存时间
+     */
+    @Schema(description = "编辑器最后一次自动保存时间", example = "2026-03-10T10:00:00")
+    private LocalDateTime savedTime;
+}
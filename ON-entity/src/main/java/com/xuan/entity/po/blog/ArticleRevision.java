@@ -0,0 +1,65 @@
+package com.xuan.entity.po.blog;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文章历史版本实体
+ * 对应数据库表：article_revision
+ * 正文以“定期全量快照 + 相对上一版本的压缩增量”的方式存储
+ *
+ * @author 玄〤
+ * @since 2026-03-11
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@TableName("article_revision")
+@Schema(description = "文章历史版本实体类")
+public class ArticleRevision {
+
+    @TableId(type = IdType.AUTO)
+    @Schema(description = "主键ID")
+    private Long id;
+
+    /** 文章ID */
+    @Schema(description = "文章ID")
+    private Long articleId;
+
+    /** 版本号 */
+    @Schema(description = "版本号（从1开始，按文章递增）")
+    private Integer revisionNo;
+
+    /** 该版本标题 */
+    @Schema(description = "该版本标题")
+    private String title;
+
+    /** 该版本摘要 */
+    @Schema(description = "该版本摘要")
+    private String summary;
+
+    /** 正文存储方式 */
+    @Schema(description = "正文存储方式：1-全量快照，0-相对上一版本的增量")
+    private Integer snapshot;
+
+    /** GZIP 压缩后的正文快照或增量 */
+    @Schema(description = "GZIP压缩后的正文快照或增量")
+    private byte[] contentData;
+
+    /** 该版本正文长度 */
+    @Schema(description = "该版本正文长度（字符数）")
+    private Integer contentLength;
+
+    /** 版本创建时间 */
+    @Schema(description = "版本创建时间")
+    private LocalDateTime createTime;
+}
@@ -72,6 +72,18 @@ public class Comment extends BaseEntity {
     @Schema(description = "被回复人id", example = "2")
     private Long replyUserId;
 
+    /**
+     * 物化路径：祖先评论id链（顶级评论为 /），子树查询按前缀匹配
+     */
+    @Schema(description = "物化路径：祖先评论id链（顶级评论为 /）", example = "/501/502/")
+    private String path;
+
+    /**
+     * 层级深度（顶级评论为0）
+     */
+    @Schema(description = "层级深度（顶级评论为0）", example = "2")
+    private Integer depth;
+
     /**
      * IP地址
      */
@@ -89,4 +101,16 @@ public class Comment extends BaseEntity {
      */
     @Schema(description = "状态：0-待审核；1-审核通过；2-审核未通过", example = "1")
     private Integer status;
+
+    /**
+     * 点赞数
+     */
+    @Schema(description = "点赞数", example = "12")
+    private Integer likeCount;
+
+    /**
+     * 热度分（赞数变化时重新计算，见 HotScoreUtils）
+     */
+    @Schema(description = "热度分", example = "3.52")
+    private Double hotScore;
 }
\ No newline at end of file
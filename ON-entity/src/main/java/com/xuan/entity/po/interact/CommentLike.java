@@ -0,0 +1,44 @@
+package com.xuan.entity.po.interact;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 评论点赞实体，用于记录访客对评论的点赞
+ * 对应数据库表：comment_like
+ *
+ * @author 玄〤
+ * @since 2026-03-25
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@TableName("comment_like")
+@Schema(description = "评论点赞实体类")
+public class CommentLike {
+
+    @TableId(type = IdType.AUTO)
+    @Schema(description = "评论点赞ID")
+    private Long id;
+
+    /** 评论ID */
+    @Schema(description = "评论ID")
+    private Long commentId;
+
+    /** 点赞人IP */
+    @Schema(description = "点赞人IP")
+    private String ipAddress;
+
+    /** 点赞时间 */
+    @Schema(description = "点赞时间")
+    private LocalDateTime createTime;
+}
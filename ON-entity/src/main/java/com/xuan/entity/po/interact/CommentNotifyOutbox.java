@@ -0,0 +1,60 @@
+package com.xuan.entity.po.interact;
+
+import com.baomidou.mybatisplus.annotation.TableName;
+import com.xuan.common.domain.BaseEntity;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.io.Serial;
+import java.time.LocalDateTime;
+
+/**
+ * 评论回复通知发件箱实体类
+ * 对应数据库表：comment_notify_outbox
+ *
+ * @author 玄〤
+ * @since 2026-03-24
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@TableName("comment_notify_outbox")
+@Schema(description = "评论回复通知发件箱实体类")
+public class CommentNotifyOutbox extends BaseEntity {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** 状态：待发送 */
+    public static final int STATUS_PENDING = 0;
+    /** 状态：已发送 */
+    public static final int STATUS_SENT = 1;
+    /** 状态：已取消（回复未通过审核或已删除） */
+    public static final int STATUS_CANCELLED = 2;
+    /** 状态：超过最大重试次数后发送失败 */
+    public static final int STATUS_FAILED = 3;
+
+    @Schema(description = "收件人邮箱（被回复评论的邮箱）", example = "user@example.com")
+    private String recipient;
+
+    @Schema(description = "回复评论ID", example = "1024")
+    private Long commentId;
+
+    @Schema(description = "文章ID（留言板为 0）", example = "100")
+    private Long articleId;
+
+    @Schema(description = "状态：0-待发送；1-已发送；2-已取消；3-发送失败", example = "0")
+    private Integer status;
+
+    @Schema(description = "已尝试发送次数", example = "0")
+    private Integer attempts;
+
+    @Schema(description = "最早发送时间")
+    private LocalDateTime nextAttemptTime;
+
+    @Schema(description = "最近一次发送失败原因")
+    private String lastError;
+
+    @Schema(description = "发送时间")
+    private LocalDateTime sentTime;
+}
@@ -0,0 +1,36 @@
+package com.xuan.entity.po.interact;
+
+import com.baomidou.mybatisplus.annotation.TableName;
+import com.xuan.common.domain.BaseEntity;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.io.Serial;
+
+/**
+ * 评论敏感词实体类
+ *
+ * @author 玄〤
+ * @since 2026-03-22
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@TableName("sensitive_word")
+@Schema(description = "评论敏感词实体类")
+public class SensitiveWord extends BaseEntity {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** 处理级别：送人工审核 */
+    public static final int LEVEL_REVIEW = 0;
+    /** 处理级别：直接拒绝 */
+    public static final int LEVEL_REJECT = 1;
+
+    @Schema(description = "敏感词（匹配时不区分大小写）", example = "代开发票")
+    private String word;
+
+    @Schema(description = "处理级别：0-送人工审核；1-直接拒绝", example = "1")
+    private Integer level;
+}
@@ -11,7 +11,7 @@ import java.util.List;
 
 /**
  * 文章详情响应数据类
- * 对应接口：5.10前台文章详情 (Portal)
+ * 对应接口：5.10前台文章详情 (Portal)、5.15根据slug获取文章详情 (Portal)
  * 用于返回文章详细信息
  * 
  * @author 玄〤
@@ -35,6 +35,12 @@ public class ArticleDetailVO implements Serializable {
     @Schema(description = "文章标题", example = "Spring Boot 3实战")
     private String title;
 
+    /**
+     * URL别名
+     */
+    @Schema(description = "URL别名", example = "spring-boot-3-in-action")
+    private String slug;
+
     /**
      * 文章内容
      */
@@ -0,0 +1,46 @@
+package com.xuan.entity.vo.article;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 文章草稿响应数据类
+ * 对应接口：5.17 获取文章草稿
+ * @author 玄〤
+ * @since 2026-03-10
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "文章草稿响应数据类")
+public class ArticleDraftVO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Schema(description = "文章ID", example = "100")
+    private Long articleId;
+
+    @Schema(description = "草稿标题")
+    private String title;
+
+    @Schema(description = "草稿摘要")
+    private String summary;
+
+    @Schema(description = "草稿内容(markdown)")
+    private String content;
+
+    @Schema(description = "编辑器最后一次自动保存时间", example = "2026-03-10T10:00:00")
+    private LocalDateTime savedTime;
+
+    @Schema(description = "是否已持久化到数据库", example = "true")
+    private Boolean persisted;
+}
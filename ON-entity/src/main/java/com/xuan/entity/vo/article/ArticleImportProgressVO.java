@@ -0,0 +1,66 @@
+package com.xuan.entity.vo.article;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 文章导入任务进度响应数据类
+ * 对应接口：5.22 导入文章、5.23 查询文章导入进度
+ *
+ * @author 玄〤
+ * @since 2026-03-13
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "文章导入任务进度响应数据类")
+public class ArticleImportProgressVO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Schema(description = "导入任务ID", example = "5f0c2a7e3b9d4c1e8a6f")
+    private String taskId;
+
+    @Schema(description = "任务状态：RUNNING-进行中，SUCCESS-完成，FAILED-失败", example = "RUNNING")
+    private String status;
+
+    @Schema(description = "上传的文件名", example = "hexo-posts.zip")
+    private String fileName;
+
+    @Schema(description = "已处理的 Markdown 文件数", example = "4200")
+    private Long processed;
+
+    @Schema(description = "导入成功的文章数", example = "4150")
+    private Long imported;
+
+    @Schema(description = "跳过的文章数（slug 已存在、文件过大等）", example = "45")
+    private Long skipped;
+
+    @Schema(description = "导入失败的文章数", example = "5")
+    private Long failed;
+
+    @Schema(description = "新建的分类数", example = "3")
+    private Long createdCategories;
+
+    @Schema(description = "新建的标签数", example = "27")
+    private Long createdTags;
+
+    @Schema(description = "错误与跳过明细（最多保留100条）")
+    private List<String> errors;
+
+    @Schema(description = "开始时间", example = "2026-03-13T10:00:00")
+    private LocalDateTime startTime;
+
+    @Schema(description = "结束时间", example = "2026-03-13T10:00:06")
+    private LocalDateTime finishTime;
+}
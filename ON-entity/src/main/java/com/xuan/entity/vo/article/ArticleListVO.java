@@ -1,6 +1,8 @@
 package com.xuan.entity.vo.article;
 
 import com.xuan.entity.vo.tag.TagVO;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.xuan.common.utils.SparseFieldsUtils;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 
@@ -18,6 +20,7 @@ import java.util.List;
  * @since 2026-02-16
  */
 @Data
+@JsonFilter(SparseFieldsUtils.FILTER_ID)
 @Schema(description = "文章列表响应数据类")
 public class ArticleListVO implements Serializable {
 
@@ -76,4 +79,10 @@ public class ArticleListVO implements Serializable {
      */
     @Schema(description = "点赞数", example = "50")
     private Long likeCount;
+
+    /**
+     * 评论数（已审核）
+     */
+    @Schema(description = "评论数（已审核）", example = "12")
+    private Long commentCount;
 }
\ No newline at end of file
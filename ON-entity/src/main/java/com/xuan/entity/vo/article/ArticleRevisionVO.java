@@ -0,0 +1,54 @@
+package com.xuan.entity.vo.article;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 文章历史版本响应数据类
+ * 对应接口：5.19 文章历史版本列表、5.20 获取文章历史版本
+ * 列表接口不返回正文（content 为 null）
+ *
+ * @author 玄〤
+ * @since 2026-03-11
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "文章历史版本响应数据类")
+public class ArticleRevisionVO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Schema(description = "文章ID", example = "100")
+    private Long articleId;
+
+    @Schema(description = "版本号", example = "3")
+    private Integer revisionNo;
+
+    @Schema(description = "该版本标题")
+    private String title;
+
+    @Schema(description = "该版本摘要")
+    private String summary;
+
+    @Schema(description = "该版本正文(markdown)，仅版本详情返回")
+    private String content;
+
+    @Schema(description = "该版本正文长度（字符数）", example = "5230")
+    private Integer contentLength;
+
+    @Schema(description = "是否为全量快照", example = "false")
+    private Boolean snapshot;
+
+    @Schema(description = "版本创建时间", example = "2026-03-11T10:00:00")
+    private LocalDateTime createTime;
+}
@@ -1,5 +1,7 @@
 package com.xuan.entity.vo.comment;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.xuan.common.utils.SparseFieldsUtils;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 
@@ -15,6 +17,7 @@ import java.time.LocalDateTime;
  * @since 2026-02-17
  */
 @Data
+@JsonFilter(SparseFieldsUtils.FILTER_ID)
 @Schema(description = "评论后台管理响应数据类")
 public class CommentAdminVO implements Serializable {
 
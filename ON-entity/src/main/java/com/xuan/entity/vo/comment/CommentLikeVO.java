@@ -0,0 +1,34 @@
+package com.xuan.entity.vo.comment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 评论点赞结果
+ * 对应接口：7.12 评论点赞 / 取消点赞 (Portal)
+ *
+ * @author 玄〤
+ * @since 2026-03-25
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "评论点赞结果")
+public class CommentLikeVO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Schema(description = "操作后是否处于已点赞状态", example = "true")
+    private Boolean liked;
+
+    @Schema(description = "最新点赞数", example = "13")
+    private Long likeCount;
+}
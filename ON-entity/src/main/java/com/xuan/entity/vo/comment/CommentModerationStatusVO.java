@@ -0,0 +1,44 @@
+package com.xuan.entity.vo.comment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 评论自动审核词库状态
+ * 对应接口：7.9.4 重新加载敏感词
+ *
+ * @author 玄〤
+ * @since 2026-03-22
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "评论自动审核词库状态")
+public class CommentModerationStatusVO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Schema(description = "是否开启自动审核", example = "true")
+    private Boolean enabled;
+
+    @Schema(description = "当前加载的词库版本", example = "12")
+    private Long version;
+
+    @Schema(description = "直接拒绝的敏感词数（含词库文件）", example = "9800")
+    private Integer rejectWords;
+
+    @Schema(description = "送人工审核的敏感词数", example = "200")
+    private Integer reviewWords;
+
+    @Schema(description = "本实例最近一次加载时间")
+    private LocalDateTime loadedTime;
+}
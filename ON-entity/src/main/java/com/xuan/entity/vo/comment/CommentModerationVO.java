@@ -0,0 +1,42 @@
+package com.xuan.entity.vo.comment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 评论自动审核结果
+ * 对应接口：7.9.5 试运行自动审核
+ *
+ * @author 玄〤
+ * @since 2026-03-22
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "评论自动审核结果")
+public class CommentModerationVO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** 审核结论：PASS-通过；REVIEW-送人工审核；REJECT-拒绝 */
+    public static final String ACTION_PASS = "PASS";
+    public static final String ACTION_REVIEW = "REVIEW";
+    public static final String ACTION_REJECT = "REJECT";
+
+    /** 审核结论 */
+    @Schema(description = "审核结论：PASS-通过；REVIEW-送人工审核；REJECT-拒绝", example = "REJECT")
+    private String action;
+
+    /** 命中的规则说明 */
+    @Schema(description = "命中的规则说明", example = "[\"敏感词: 代开发票\", \"链接数 1\"]")
+    private List<String> reasons;
+}
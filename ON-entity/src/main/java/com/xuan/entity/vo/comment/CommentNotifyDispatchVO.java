@@ -0,0 +1,49 @@
+package com.xuan.entity.vo.comment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 评论回复通知发送结果
+ * 对应接口：7.11 立即发送评论回复通知
+ *
+ * @author 玄〤
+ * @since 2026-03-24
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "评论回复通知发送结果")
+public class CommentNotifyDispatchVO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Schema(description = "是否执行了本轮发送（其他实例正在发送时为 false）", example = "true")
+    private Boolean executed;
+
+    @Schema(description = "本轮发出的邮件数", example = "3")
+    private Integer mails;
+
+    @Schema(description = "本轮邮件中包含的回复数", example = "7")
+    private Integer replies;
+
+    @Schema(description = "本轮因收件人限流或回复待审核而推迟的通知数", example = "2")
+    private Integer deferred;
+
+    @Schema(description = "本轮取消的通知数（回复未通过审核或已删除）", example = "1")
+    private Integer cancelled;
+
+    @Schema(description = "本轮发送失败的通知数（稍后按退避重试，超过最大次数后不再发送）", example = "0")
+    private Integer failed;
+
+    @Schema(description = "当前待发送的通知数", example = "5")
+    private Long pending;
+}
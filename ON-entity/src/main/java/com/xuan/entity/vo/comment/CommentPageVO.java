@@ -27,7 +27,7 @@ public class CommentPageVO implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
 
-    /** 顶级评论总数（用于前端计算总页数） */
+    /** 顶级评论总数（用于前端计算总页数），按游标加载时不统计，为 null */
     @Schema(description = "顶级评论总数", example = "128")
     private Long total;
 
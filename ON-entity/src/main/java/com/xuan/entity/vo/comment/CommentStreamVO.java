@@ -0,0 +1,47 @@
+package com.xuan.entity.vo.comment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 实时推送的新评论
+ * 对应接口：7.10 订阅文章新评论 (Portal)，SSE 事件 {@code comment} 的 data
+ *
+ * @author 玄〤
+ * @since 2026-03-23
+ */
+@Data
+@Schema(description = "实时推送的新评论")
+public class CommentStreamVO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Schema(description = "评论ID", example = "1024")
+    private Long id;
+
+    @Schema(description = "文章ID（留言板为 0）", example = "100")
+    private Long articleId;
+
+    @Schema(description = "父评论ID，顶级评论为 null", example = "501")
+    private Long parentId;
+
+    @Schema(description = "根评论ID，顶级评论为 null", example = "501")
+    private Long rootParentId;
+
+    @Schema(description = "昵称", example = "用户A")
+    private String nickname;
+
+    @Schema(description = "评论内容", example = "写的真好！")
+    private String content;
+
+    @Schema(description = "创建时间", example = "2026-03-23 10:00:00")
+    private LocalDateTime createTime;
+
+    @Schema(description = "分页游标，与 7.1/7.3 返回的 cursor 格式一致", example = "MTc3MzkxNjAwMDAwMDoxMDI0")
+    private String cursor;
+}
@@ -0,0 +1,51 @@
+package com.xuan.entity.vo.comment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 发表评论响应数据类
+ * <p>
+ * 评论通过校验后进入写入队列，由后台线程批量落库；前端可凭 pendingId 查询落库结果。
+ * 对应接口：7.4 发表评论 / 留言、7.6 查询评论写入结果 (Portal)
+ *
+ * @author 玄〤
+ * @since 2026-03-16
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "发表评论响应数据类")
+public class CommentSubmitVO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** 写入状态：QUEUED-排队中；SAVED-已落库；FAILED-写入失败 */
+    public static final String STATE_QUEUED = "QUEUED";
+    public static final String STATE_SAVED = "SAVED";
+    public static final String STATE_FAILED = "FAILED";
+
+    /** 排队凭证 */
+    @Schema(description = "排队凭证", example = "3f6c1e0a9b8d4c2e8f7a6b5c4d3e2f1a")
+    private String pendingId;
+
+    /** 写入状态 */
+    @Schema(description = "写入状态：QUEUED-排队中；SAVED-已落库；FAILED-写入失败", example = "QUEUED")
+    private String state;
+
+    /** 落库后的评论ID，落库前为 null */
+    @Schema(description = "落库后的评论ID，落库前为 null", example = "1024")
+    private Long commentId;
+
+    /** 评论审核状态：0-待审核；1-审核通过，仅发表评论时返回 */
+    @Schema(description = "评论审核状态：0-待审核；1-审核通过", example = "0")
+    private Integer status;
+}
@@ -62,4 +62,16 @@ public class CommentTreeVO implements Serializable {
      */
     @Schema(description = "子评论总数", example = "5")
     private Integer childCount;
+
+    /**
+     * 点赞数
+     */
+    @Schema(description = "点赞数", example = "12")
+    private Long likeCount;
+
+    /**
+     * 分页游标，加载下一页时传入当前页最后一条评论的游标
+     */
+    @Schema(description = "分页游标，加载下一页时传入当前页最后一条评论的游标", example = "MTc3MzkxNjAwMDAwMDoxMDI0")
+    private String cursor;
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.xuan.entity.vo.home;
+
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.xuan.entity.po.interact.FriendLink;
+import com.xuan.entity.vo.article.ArticleListVO;
+import com.xuan.entity.vo.category.CategoryVO;
+import com.xuan.entity.vo.system.SiteInfoVO;
+import com.xuan.entity.vo.tag.TagVO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 首页聚合数据响应类
+ * 对应接口：5.13 首页聚合数据 (Portal)
+ * 一次返回首屏所需的站点设置、分类、标签、首页文章、热门文章和友链，替代前端的 6 次请求
+ *
+ * @author 玄〤
+ * @since 2026-03-03
+ */
+@Data
+@Schema(description = "首页聚合数据")
+public class HomeVO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Schema(description = "站点公开信息（不含后台设置）")
+    private SiteInfoVO settings;
+
+    @Schema(description = "分类列表")
+    private List<CategoryVO> categories;
+
+    @Schema(description = "标签列表")
+    private List<TagVO> tags;
+
+    @Schema(description = "首页文章（第 1 页）")
+    private Page<ArticleListVO> articles;
+
+    @Schema(description = "热门文章（按浏览量降序）")
+    private List<ArticleListVO> hotArticles;
+
+    @Schema(description = "友情链接")
+    private List<FriendLink> friendLinks;
+}
@@ -1,5 +1,7 @@
 package com.xuan.entity.vo.log;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.xuan.common.utils.SparseFieldsUtils;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 
@@ -16,6 +18,7 @@ import java.time.LocalDateTime;
  * @since 2026-03-02
  */
 @Data
+@JsonFilter(SparseFieldsUtils.FILTER_ID)
 @Schema(description = "操作日志返回VO类")
 public class OperLogVO implements Serializable {
 
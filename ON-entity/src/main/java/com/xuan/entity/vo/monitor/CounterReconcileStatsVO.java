@@ -0,0 +1,63 @@
+package com.xuan.entity.vo.monitor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 计数对账统计 VO
+ * 对应接口：14.6 获取计数对账统计 (Admin)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "计数对账统计")
+public class CounterReconcileStatsVO {
+
+    @Schema(description = "最近一次对账开始时间")
+    private LocalDateTime lastStartTime;
+
+    @Schema(description = "最近一次对账耗时（毫秒）")
+    private Long lastDurationMs;
+
+    @Schema(description = "最近一次扫描的文章数")
+    private Long lastScanned;
+
+    @Schema(description = "最近一次修复的数据库点赞数偏差（篇）")
+    private Long lastLikeDbRepaired;
+
+    @Schema(description = "最近一次修复的 Redis 点赞数偏差（篇）")
+    private Long lastLikeCacheRepaired;
+
+    @Schema(description = "最近一次修复的数据库评论数偏差（篇）")
+    private Long lastCommentDbRepaired;
+
+    @Schema(description = "最近一次修复的 Redis 评论数偏差（篇）")
+    private Long lastCommentCacheRepaired;
+
+    @Schema(description = "最近一次落库的浏览量增量")
+    private Long lastViewsFlushed;
+
+    @Schema(description = "累计对账次数")
+    private Long totalRuns;
+
+    @Schema(description = "累计修复的数据库点赞数偏差（篇）")
+    private Long totalLikeDbRepaired;
+
+    @Schema(description = "累计修复的 Redis 点赞数偏差（篇）")
+    private Long totalLikeCacheRepaired;
+
+    @Schema(description = "累计修复的数据库评论数偏差（篇）")
+    private Long totalCommentDbRepaired;
+
+    @Schema(description = "累计修复的 Redis 评论数偏差（篇）")
+    private Long totalCommentCacheRepaired;
+
+    @Schema(description = "累计落库的浏览量增量")
+    private Long totalViewsFlushed;
+}
@@ -0,0 +1,34 @@
+package com.xuan.entity.vo.monitor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 接口耗时统计 VO
+ * 对应接口：14.4 获取文章详情冷加载耗时统计 (Admin)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "接口耗时统计")
+public class LatencyStatsVO {
+
+    @Schema(description = "统计项名称", example = "sequential")
+    private String name;
+
+    @Schema(description = "累计样本数")
+    private Long count;
+
+    @Schema(description = "P50 耗时（毫秒）")
+    private Double p50Ms;
+
+    @Schema(description = "P99 耗时（毫秒）")
+    private Double p99Ms;
+
+    @Schema(description = "窗口内最大耗时（毫秒）")
+    private Double maxMs;
+}
@@ -0,0 +1,51 @@
+package com.xuan.entity.vo.monitor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 静态快照生成结果 VO
+ * 对应接口：14.7 获取静态快照状态、14.8 生成静态快照 (Admin)
+ *
+ * @author 玄〤
+ * @since 2026-03-14
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "静态快照生成结果")
+public class StaticSnapshotVO {
+
+    @Schema(description = "快照版本（版本目录名）", example = "20260314030000123")
+    private String version;
+
+    @Schema(description = "生成方式：FULL-全量，INCREMENTAL-增量", example = "INCREMENTAL")
+    private String mode;
+
+    @Schema(description = "开始生成时间，下一次增量生成以此为界比较文章 update_time")
+    private LocalDateTime startTime;
+
+    @Schema(description = "生成耗时（毫秒）", example = "860")
+    private Long durationMs;
+
+    @Schema(description = "快照中的文章数", example = "1024")
+    private Long articleTotal;
+
+    @Schema(description = "本次渲染的文章详情数", example = "12")
+    private Long articlesRendered;
+
+    @Schema(description = "本次移除的文章数（已删除、下架或改为草稿）", example = "1")
+    private Long articlesRemoved;
+
+    @Schema(description = "本次渲染的列表类页面数（分页、归档、分类/标签列表）", example = "138")
+    private Long pagesRendered;
+
+    @Schema(description = "渲染失败的文章数，下一次增量生成时重试", example = "0")
+    private Long failed;
+}
@@ -0,0 +1,44 @@
+package com.xuan.entity.vo.system;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 站点公开信息响应类
+ * 对应接口：5.13 首页聚合数据 (Portal)
+ * 系统设置中前台展示所需的字段，不包含管理员邮箱、评论审核开关等仅后台可见的设置
+ *
+ * @author 玄〤
+ * @since 2026-03-26
+ */
+@Data
+@Schema(description = "站点公开信息")
+public class SiteInfoVO implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Schema(description = "站点名称", example = "OpusNocturne")
+    private String siteName;
+
+    @Schema(description = "站点描述", example = "个人技术博客")
+    private String siteDescription;
+
+    @Schema(description = "站点关键词", example = "Java,Spring Boot,前端")
+    private String siteKeywords;
+
+    @Schema(description = "页脚文本", example = "© 2026 OpusNocturne")
+    private String footerText;
+
+    @Schema(description = "文章列表每页条数", example = "10")
+    private Integer articlePageSize;
+
+    @Schema(description = "评论列表每页条数", example = "20")
+    private Integer commentPageSize;
+
+    @Schema(description = "关于我")
+    private String aboutMe;
+}
@@ -0,0 +1,32 @@
+package com.xuan.service.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 稀疏字段集注解
+ * <p>
+ * 标注在列表接口上后，请求可携带 {@code fields=id,title} 只返回指定字段。
+ * 只对标注了 {@code @JsonFilter(SparseFieldsUtils.FILTER_ID)} 的 VO 生效，分页外壳等其他对象照常输出。
+ * <p>
+ * 使用示例：
+ *
+ * <pre>
+ * &#64;SparseFields
+ * &#64;GetMapping("/page")
+ * public Result&lt;Page&lt;ArticleListVO&gt;&gt; page(ArticlePageQueryDTO dto)
+ * </pre>
+ *
+ * @author 玄〤
+ * @since 2026-03-05
+ * @see com.xuan.service.aop.SparseFieldsResponseAdvice
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SparseFields {
+
+    /**
+     * 字段集请求参数名
+     */
+    String param() default "fields";
+}
@@ -39,10 +39,10 @@ public class LogAspect {
     private final SysOperLogMapper operLogMapper;
 
     /**
-     * 切入点：所有 Controller 包下的方法
+     * 切入点：所有 Controller 包下的方法（站点地图与订阅源除外，爬虫高频访问且只返回预生成内容，不做 IP 解析和日志）
      */
 
-    @Pointcut("execution(* com.xuan.service.controller..*.*(..))")
+    @Pointcut("execution(* com.xuan.service.controller..*.*(..)) && !within(com.xuan.service.controller.blog.SeoController)")
     public void controllerPointcut() {
     }
 
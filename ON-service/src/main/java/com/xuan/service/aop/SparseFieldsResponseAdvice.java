@@ -0,0 +1,47 @@
+package com.xuan.service.aop;
+
+import com.xuan.common.utils.SparseFieldsUtils;
+import com.xuan.service.annotation.SparseFields;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Set;
+
+/**
+ * 稀疏字段集响应处理
+ * 对标注了 @SparseFields 的接口，按请求中的字段集替换 Jackson 过滤器
+ *
+ * @author 玄〤
+ * @since 2026-03-05
+ */
+@RestControllerAdvice
+public class SparseFieldsResponseAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return super.supports(returnType, converterType) && returnType.hasMethodAnnotation(SparseFields.class);
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        SparseFields sparseFields = returnType.getMethodAnnotation(SparseFields.class);
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        Set<String> fieldSet = SparseFieldsUtils.parse(httpRequest.getParameter(sparseFields.param()));
+        if (fieldSet != null) {
+            bodyContainer.setFilters(SparseFieldsUtils.filterProvider(fieldSet));
+        }
+    }
+}
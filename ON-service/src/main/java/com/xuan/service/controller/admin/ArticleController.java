@@ -4,14 +4,22 @@ import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.xuan.common.domain.Result;
 import com.xuan.entity.dto.article.ArticleAdminPageQueryDTO;
 import com.xuan.entity.dto.article.ArticleCreateDTO;
+import com.xuan.entity.dto.article.ArticleDraftDTO;
 import com.xuan.entity.dto.article.ArticleStatusDTO;
 import com.xuan.entity.dto.article.ArticleTopDTO;
 import com.xuan.entity.dto.article.ArticleUpdateDTO;
 import com.xuan.entity.vo.article.ArticleAdminDetailVO;
 import com.xuan.entity.vo.article.ArticleAdminListVO;
 import com.xuan.entity.vo.article.ArticleCreatVO;
+import com.xuan.entity.vo.article.ArticleDraftVO;
+import com.xuan.entity.vo.article.ArticleImportProgressVO;
+import com.xuan.entity.vo.article.ArticleRevisionVO;
+import com.xuan.service.service.IArticleDraftService;
+import com.xuan.service.service.IArticleImportService;
+import com.xuan.service.service.IArticleRevisionService;
 import com.xuan.service.service.IArticleService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.validation.annotation.Validated;
@@ -22,8 +30,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Tag(name="后台文章管理相关接口")
@@ -33,6 +44,9 @@ import java.util.List;
 public class ArticleController {
 
     private final IArticleService articleService;
+    private final IArticleDraftService articleDraftService;
+    private final IArticleRevisionService articleRevisionService;
+    private final IArticleImportService articleImportService;
 
     @Operation(summary = "创建文章")
     @PostMapping
@@ -86,4 +100,62 @@ public class ArticleController {
         articleService.updateArticleStatus(id,articleStatusDTO);
         return Result.success();
     }
+
+    @Operation(summary = "自动保存文章草稿")
+    @PutMapping("/{id}/draft")
+    public Result<LocalDateTime> autosaveDraft(@PathVariable Long id, @Validated @RequestBody ArticleDraftDTO articleDraftDTO){
+        return Result.success(articleDraftService.autosaveDraft(id,articleDraftDTO));
+    }
+
+    @Operation(summary = "获取文章草稿")
+    @GetMapping("/{id}/draft")
+    public Result<ArticleDraftVO> getDraft(@PathVariable Long id){
+        return Result.success(articleDraftService.getDraft(id));
+    }
+
+    @Operation(summary = "立即保存文章草稿")
+    @PostMapping("/{id}/draft/save")
+    public Result<Void> saveDraft(@PathVariable Long id){
+        articleDraftService.saveDraft(id);
+        return Result.success();
+    }
+
+    @Operation(summary = "丢弃文章草稿")
+    @DeleteMapping("/{id}/draft")
+    public Result<Void> discardDraft(@PathVariable Long id){
+        articleDraftService.discardDraft(id);
+        return Result.success();
+    }
+
+    @Operation(summary = "文章历史版本列表")
+    @GetMapping("/{id}/revisions")
+    public Result<List<ArticleRevisionVO>> listRevisions(@PathVariable Long id){
+        return Result.success(articleRevisionService.listRevisions(id));
+    }
+
+    @Operation(summary = "获取文章历史版本")
+    @GetMapping("/{id}/revisions/{revisionNo}")
+    public Result<ArticleRevisionVO> getRevision(@PathVariable Long id, @PathVariable Integer revisionNo){
+        return Result.success(articleRevisionService.getRevision(id,revisionNo));
+    }
+
+    @Operation(summary = "回滚文章到历史版本")
+    @PostMapping("/{id}/revisions/{revisionNo}/rollback")
+    public Result<Void> rollbackToRevision(@PathVariable Long id, @PathVariable Integer revisionNo){
+        articleRevisionService.rollbackToRevision(id,revisionNo);
+        return Result.success();
+    }
+
+    @Operation(summary = "导入 Markdown 文章压缩包")
+    @PostMapping(value = "/import", consumes = "multipart/form-data")
+    public Result<ArticleImportProgressVO> importArticles(
+            @Parameter(description = "Markdown 文章 zip 压缩包", required = true) @RequestParam("file") MultipartFile file){
+        return Result.success(articleImportService.importArticles(file));
+    }
+
+    @Operation(summary = "查询文章导入进度")
+    @GetMapping("/import/{taskId}")
+    public Result<ArticleImportProgressVO> getImportProgress(@PathVariable String taskId){
+        return Result.success(articleImportService.getImportProgress(taskId));
+    }
 }
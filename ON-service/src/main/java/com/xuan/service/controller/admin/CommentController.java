@@ -4,9 +4,18 @@ import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.xuan.common.domain.Result;
 import com.xuan.entity.dto.comment.CommentAuditDTO;
 import com.xuan.entity.dto.comment.CommentBatchAuditDTO;
+import com.xuan.entity.dto.comment.CommentModerationCheckDTO;
 import com.xuan.entity.dto.comment.CommentPageQueryDTO;
+import com.xuan.entity.dto.comment.SensitiveWordCreateDTO;
+import com.xuan.entity.dto.comment.SensitiveWordPageQueryDTO;
+import com.xuan.entity.po.interact.SensitiveWord;
 import com.xuan.entity.vo.comment.CommentAdminVO;
+import com.xuan.entity.vo.comment.CommentModerationStatusVO;
+import com.xuan.entity.vo.comment.CommentModerationVO;
+import com.xuan.entity.vo.comment.CommentNotifyDispatchVO;
+import com.xuan.service.annotation.SparseFields;
 import com.xuan.service.service.ICommentService;
+import com.xuan.service.service.ISensitiveWordService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -25,8 +34,10 @@ import java.util.List;
 public class CommentController {
 
     private final ICommentService commentService;
+    private final ISensitiveWordService sensitiveWordService;
 
     @Operation(summary = "分页获取评论列表")
+    @SparseFields
     @GetMapping("/page")
     public Result<Page<CommentAdminVO>> pageComments(@Validated CommentPageQueryDTO dto) {
         return Result.success(commentService.pageComments(dto));
@@ -59,4 +70,47 @@ public class CommentController {
         commentService.batchDeleteComments(ids);
         return Result.success();
     }
+
+    @Operation(summary = "分页获取敏感词")
+    @GetMapping("/sensitive-word/page")
+    public Result<Page<SensitiveWord>> pageSensitiveWords(@Validated SensitiveWordPageQueryDTO dto) {
+        return Result.success(sensitiveWordService.pageWords(dto));
+    }
+
+    @Operation(summary = "批量添加敏感词")
+    @PostMapping("/sensitive-word")
+    public Result<Integer> addSensitiveWords(@Validated @RequestBody SensitiveWordCreateDTO dto) {
+        return Result.success(sensitiveWordService.addWords(dto));
+    }
+
+    @Operation(summary = "批量删除敏感词")
+    @DeleteMapping("/sensitive-word/batch-delete")
+    public Result<Void> batchDeleteSensitiveWords(@RequestBody List<Long> ids) {
+        sensitiveWordService.batchDeleteWords(ids);
+        return Result.success();
+    }
+
+    @Operation(summary = "重新加载敏感词库")
+    @PostMapping("/moderation/reload")
+    public Result<CommentModerationStatusVO> reloadSensitiveWords() {
+        return Result.success(sensitiveWordService.reloadWords());
+    }
+
+    @Operation(summary = "获取自动审核词库状态")
+    @GetMapping("/moderation/status")
+    public Result<CommentModerationStatusVO> getModerationStatus() {
+        return Result.success(sensitiveWordService.getModerationStatus());
+    }
+
+    @Operation(summary = "试运行自动审核")
+    @PostMapping("/moderation/check")
+    public Result<CommentModerationVO> checkModeration(@Validated @RequestBody CommentModerationCheckDTO dto) {
+        return Result.success(sensitiveWordService.checkContent(dto.getContent()));
+    }
+
+    @Operation(summary = "立即发送评论回复通知")
+    @PostMapping("/notify/dispatch")
+    public Result<CommentNotifyDispatchVO> dispatchReplyNotifications() {
+        return Result.success(commentService.dispatchReplyNotifications());
+    }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package com.xuan.service.controller.admin;
 
-import cn.hutool.core.bean.BeanUtil;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.xuan.common.domain.Result;
 import com.xuan.entity.dto.friendLink.FriendLinkApplyAndUpdateDTO;
@@ -43,16 +42,14 @@ public class FriendLinkController {
     @Operation(summary = "修改友链")
     @PutMapping("/{id}")
     public Result<Void> updateFriendLink(@PathVariable Long id, @Validated @RequestBody FriendLinkApplyAndUpdateDTO dto) {
-        FriendLink friendLink = BeanUtil.copyProperties(dto, FriendLink.class);
-        friendLink.setId(id);
-        friendLinkService.updateById(friendLink);
+        friendLinkService.updateFriendLink(id, dto);
         return Result.success();
     }
 
     @Operation(summary = "删除友链")
     @DeleteMapping("/{id}")
     public Result<Void> deleteFriendLink(@PathVariable Long id) {
-        friendLinkService.removeById(id);
+        friendLinkService.deleteFriendLink(id);
         return Result.success();
     }
 }
@@ -4,6 +4,7 @@ import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.xuan.common.domain.Result;
 import com.xuan.entity.dto.log.OperLogQueryDTO;
 import com.xuan.entity.vo.log.OperLogVO;
+import com.xuan.service.annotation.SparseFields;
 import com.xuan.service.service.IOperLogService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -27,6 +28,7 @@ public class LogController {
     private final IOperLogService operLogService;
 
     @Operation(summary = "查看操作日志")
+    @SparseFields
     @GetMapping("/operation")
     public Result<Page<OperLogVO>> pageOperLogs(OperLogQueryDTO queryDTO) {
         return Result.success(operLogService.pageOperLogs(queryDTO));
@@ -1,15 +1,26 @@
 package com.xuan.service.controller.admin;
 
 import com.xuan.common.domain.Result;
+import com.xuan.entity.vo.monitor.CounterReconcileStatsVO;
+import com.xuan.entity.vo.monitor.LatencyStatsVO;
 import com.xuan.entity.vo.monitor.ServerMonitorVO;
+import com.xuan.entity.vo.monitor.StaticSnapshotVO;
+import com.xuan.service.service.IArticleService;
+import com.xuan.service.service.ICounterReconcileService;
 import com.xuan.service.service.IMonitorService;
+import com.xuan.service.service.IStaticSnapshotService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * 系统监控控制器
  */
@@ -20,10 +31,38 @@ import org.springframework.web.bind.annotation.RestController;
 public class MonitorController {
 
     private final IMonitorService monitorService;
+    private final IArticleService articleService;
+    private final ICounterReconcileService counterReconcileService;
+    private final IStaticSnapshotService staticSnapshotService;
 
     @Operation(summary = "获取服务器监控信息")
     @GetMapping("/server")
     public Result<ServerMonitorVO> getServerInfo() {
         return Result.success(monitorService.getServerInfo());
     }
+
+    @Operation(summary = "获取文章详情冷加载耗时统计")
+    @GetMapping("/article-detail-latency")
+    public Result<List<LatencyStatsVO>> getArticleDetailLatency() {
+        return Result.success(articleService.getDetailLatencyStats());
+    }
+
+    @Operation(summary = "获取计数对账统计")
+    @GetMapping("/counter-reconcile")
+    public Result<CounterReconcileStatsVO> getCounterReconcileStats() {
+        return Result.success(counterReconcileService.getStats());
+    }
+
+    @Operation(summary = "获取静态快照状态")
+    @GetMapping("/static-snapshot")
+    public Result<StaticSnapshotVO> getStaticSnapshotStatus() {
+        return Result.success(staticSnapshotService.getStatus());
+    }
+
+    @Operation(summary = "生成静态快照")
+    @PostMapping("/static-snapshot")
+    public Result<StaticSnapshotVO> generateStaticSnapshot(
+            @Parameter(description = "是否全量生成，默认增量") @RequestParam(value = "full", defaultValue = "false") boolean full) {
+        return Result.success(staticSnapshotService.generate(full));
+    }
 }
@@ -4,6 +4,7 @@ import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.xuan.common.domain.Result;
 import com.xuan.entity.dto.log.VisitLogQueryDTO;
 import com.xuan.entity.vo.log.VisitLogVO;
+import com.xuan.service.annotation.SparseFields;
 import com.xuan.service.service.IVisitLogService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -27,6 +28,7 @@ public class VisitLogController {
     private final IVisitLogService visitLogService;
 
     @Operation(summary = "分页查询访问日志")
+    @SparseFields
     @GetMapping
     public Result<Page<VisitLogVO>> pageVisitLogs(VisitLogQueryDTO queryDTO) {
         // 确保分页参数不为null，提供默认值
@@ -3,6 +3,7 @@ package com.xuan.service.controller.blog;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.xuan.common.domain.Result;
 import com.xuan.common.utils.IpUtils;
+import com.xuan.service.annotation.SparseFields;
 import com.xuan.entity.dto.article.ArticlePageQueryDTO;
 import com.xuan.entity.vo.article.ArchiveVO;
 import com.xuan.entity.vo.article.ArticleDetailVO;
@@ -16,6 +17,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -32,17 +34,31 @@ public class ArticleController {
     private final IArticleService articleService;
 
     @Operation(summary = "前台文章列表")
+    @SparseFields
     @GetMapping("/page")
     public Result<Page<ArticleListVO>> pageBlogArticles(@Validated ArticlePageQueryDTO articlePageQueryDTO){
         return Result.success(articleService.pageBlogArticles(articlePageQueryDTO));
     }
 
+    @Operation(summary = "批量获取文章卡片")
+    @SparseFields
+    @GetMapping("/batch")
+    public Result<List<ArticleListVO>> listArticleCards(@RequestParam List<Long> ids){
+        return Result.success(articleService.listArticleCards(ids));
+    }
+
     @Operation(summary = "前台文章详情")
     @GetMapping("/{id}")
     public Result<ArticleDetailVO> getBlogArticleDetail(@PathVariable Long id){
         return Result.success(articleService.getBlogArticleDetail(id));
     }
 
+    @Operation(summary = "根据slug获取文章详情")
+    @GetMapping("/slug/{slug}")
+    public Result<ArticleDetailVO> getBlogArticleDetailBySlug(@PathVariable String slug){
+        return Result.success(articleService.getBlogArticleDetailBySlug(slug));
+    }
+
     @Operation(summary = "文章归档")
     @GetMapping("/archive")
     public Result<List<ArchiveVO>> getBlogArticleArchive(){
@@ -2,8 +2,11 @@ package com.xuan.service.controller.blog;
 
 import com.xuan.service.annotation.RateLimit;
 import com.xuan.common.domain.Result;
+import com.xuan.common.utils.IpUtils;
 import com.xuan.entity.dto.comment.CommentCreateDTO;
+import com.xuan.entity.vo.comment.CommentLikeVO;
 import com.xuan.entity.vo.comment.CommentPageVO;
+import com.xuan.entity.vo.comment.CommentSubmitVO;
 import com.xuan.entity.vo.comment.CommentTreeVO;
 import com.xuan.service.service.ICommentService;
 import com.xuan.service.service.ICaptchaService;
@@ -13,8 +16,12 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Map;
 
@@ -38,14 +45,32 @@ public class CommentController {
      * @param articleId 文章ID（0 表示留言板）
      * @param current   当前页码，默认 1
      * @param size      每页顶级评论数，默认 10
+     * @param cursor    上一页最后一条顶级评论的游标，传入后按游标继续加载
+     * @param sort      排序方式：new-按时间（默认），hot-按热度（只支持页码分页）
      */
     @Operation(summary = "分页获取文章评论树")
     @GetMapping("/tree/{articleId}")
     public Result<CommentPageVO> getCommentTree(
             @PathVariable Long articleId,
             @Parameter(description = "当前页码，从1开始") @RequestParam(defaultValue = "1") int current,
-            @Parameter(description = "每页顶级评论数") @RequestParam(defaultValue = "10") int size) {
-        return Result.success(commentService.getCommentTree(articleId, current, size));
+            @Parameter(description = "每页顶级评论数") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "上一页最后一条顶级评论的游标") @RequestParam(required = false) String cursor,
+            @Parameter(description = "排序方式：new-按时间，hot-按热度") @RequestParam(defaultValue = "new") String sort) {
+        return Result.success(commentService.getCommentTree(articleId, current, size, cursor, sort));
+    }
+
+    /**
+     * 评论点赞/取消点赞
+     * <p>
+     * 与文章点赞一致按IP识别访客，同一IP再次调用即取消点赞
+     *
+     * @param id 评论ID
+     */
+    @Operation(summary = "评论点赞/取消点赞")
+    @RateLimit(maxCount = 30, message = "操作太频繁，请稍后再试")
+    @GetMapping("/{id}/like")
+    public Result<CommentLikeVO> likeComment(@PathVariable Long id, HttpServletRequest request) {
+        return Result.success(commentService.likeComment(id, IpUtils.getIpAddr(request)));
     }
 
     @Operation(summary = "分页获取子评论")
@@ -54,8 +79,29 @@ public class CommentController {
             @PathVariable Long rootParentId,
             @Parameter(description = "文章ID") @RequestParam Long articleId,
             @Parameter(description = "当前页码，从1开始") @RequestParam(defaultValue = "1") int current,
-            @Parameter(description = "每页条数，默认3条") @RequestParam(defaultValue = "3") int size) {
-        return Result.success(commentService.getChildComments(rootParentId, articleId, current, size));
+            @Parameter(description = "每页条数，默认3条") @RequestParam(defaultValue = "3") int size,
+            @Parameter(description = "上一页最后一条子评论的游标") @RequestParam(required = false) String cursor) {
+        return Result.success(commentService.getChildComments(rootParentId, articleId, current, size, cursor));
+    }
+
+    /**
+     * 获取评论子树
+     *
+     * @param id       子树根评论ID
+     * @param maxDepth 相对子树根的最大层数，不传则不限
+     */
+    @Operation(summary = "获取评论子树")
+    @GetMapping("/subtree/{id}")
+    public Result<CommentTreeVO> getCommentSubtree(
+            @PathVariable Long id,
+            @Parameter(description = "相对子树根的最大层数，不传则不限") @RequestParam(required = false) Integer maxDepth) {
+        return Result.success(commentService.getCommentSubtree(id, maxDepth));
+    }
+
+    @Operation(summary = "获取评论的祖先链")
+    @GetMapping("/ancestors/{id}")
+    public Result<List<CommentTreeVO>> getCommentAncestors(@PathVariable Long id) {
+        return Result.success(commentService.getCommentAncestors(id));
     }
 
     @Operation(summary = "获取文章评论统计")
@@ -64,13 +110,40 @@ public class CommentController {
         return Result.success(commentService.getArticleCommentStats(articleId));
     }
 
+    /**
+     * 发表评论
+     * <p>
+     * 校验通过后评论进入写入队列，返回 202 和排队凭证，落库结果通过 {@link #getPendingComment} 查询。
+     */
     @Operation(summary = "发表评论")
     @RateLimit(maxCount = 3, message = "评论太频繁，请稍后再试")
     @PostMapping
-    public Result<Void> createComment(@Validated @RequestBody CommentCreateDTO dto, HttpServletRequest request) {
+    public ResponseEntity<Result<CommentSubmitVO>> createComment(@Validated @RequestBody CommentCreateDTO dto, HttpServletRequest request) {
         String ip = request.getRemoteAddr();
         String userAgent = request.getHeader("User-Agent");// 获取用户代理信息
-        commentService.createComment(dto, ip, userAgent);
-        return Result.success();
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(Result.success(commentService.createComment(dto, ip, userAgent)));
+    }
+
+    @Operation(summary = "查询评论写入结果")
+    @GetMapping("/pending/{pendingId}")
+    public Result<CommentSubmitVO> getPendingComment(@PathVariable String pendingId) {
+        return Result.success(commentService.getPendingComment(pendingId));
+    }
+
+    /**
+     * 订阅文章新评论（SSE）
+     * <p>
+     * 连接建立后，新审核通过的评论以 {@code comment} 事件推送，事件ID为评论ID；
+     * 浏览器 EventSource 断线重连时自动带上 Last-Event-ID 请求头，服务端据此补发错过的评论。
+     *
+     * @param articleId   文章ID（0 表示留言板）
+     * @param lastEventId 最后收到的评论ID
+     */
+    @Operation(summary = "订阅文章新评论（SSE）")
+    @GetMapping(value = "/stream/{articleId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(@PathVariable Long articleId,
+                                     @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return commentService.subscribeComments(articleId, lastEventId);
     }
 }
@@ -0,0 +1,29 @@
+package com.xuan.service.controller.blog;
+
+import com.xuan.common.domain.Result;
+import com.xuan.entity.vo.home.HomeVO;
+import com.xuan.service.service.IHomeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 前台首页控制器
+ */
+@Tag(name = "前台首页")
+@RestController
+@RequestMapping("/api/blog/home")
+@RequiredArgsConstructor
+public class HomeController {
+
+    private final IHomeService homeService;
+
+    @Operation(summary = "首页聚合数据")
+    @GetMapping
+    public Result<HomeVO> getHome() {
+        return Result.success(homeService.getHome());
+    }
+}
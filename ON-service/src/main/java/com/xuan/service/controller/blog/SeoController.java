@@ -0,0 +1,78 @@
+package com.xuan.service.controller.blog;
+
+import com.xuan.service.service.ISeoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 站点地图与订阅源控制器
+ * 返回预先生成的 XML：客户端支持 gzip 时直接返回压缩结果；响应带 ETag/Last-Modified，
+ * 条件请求（If-None-Match / If-Modified-Since）未变化时由 Spring 返回 304
+ */
+@Tag(name = "站点地图与订阅源")
+@RestController
+@RequiredArgsConstructor
+public class SeoController {
+
+    private static final MediaType XML = MediaType.parseMediaType("application/xml;charset=UTF-8");
+    private static final MediaType RSS = MediaType.parseMediaType("application/rss+xml;charset=UTF-8");
+    private static final MediaType ATOM = MediaType.parseMediaType("application/atom+xml;charset=UTF-8");
+
+    private final ISeoService seoService;
+
+    @Operation(summary = "站点地图索引")
+    @GetMapping("/sitemap.xml")
+    public ResponseEntity<byte[]> getSitemapIndex(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return serve(seoService.getSitemapIndex(), XML, acceptEncoding);
+    }
+
+    @Operation(summary = "站点地图分片")
+    @GetMapping("/sitemap-{shard}.xml")
+    public ResponseEntity<byte[]> getSitemapShard(@PathVariable int shard,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return serve(seoService.getSitemapShard(shard), XML, acceptEncoding);
+    }
+
+    @Operation(summary = "RSS 订阅源")
+    @GetMapping("/feed.xml")
+    public ResponseEntity<byte[]> getRssFeed(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return serve(seoService.getRssFeed(), RSS, acceptEncoding);
+    }
+
+    @Operation(summary = "Atom 订阅源")
+    @GetMapping("/atom.xml")
+    public ResponseEntity<byte[]> getAtomFeed(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return serve(seoService.getAtomFeed(), ATOM, acceptEncoding);
+    }
+
+    private ResponseEntity<byte[]> serve(ISeoService.Document document, MediaType mediaType, String acceptEncoding) {
+        if (document == null) {
+            return ResponseEntity.notFound().build();
+        }
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(mediaType)
+                .cacheControl(CacheControl.maxAge(10, TimeUnit.MINUTES).cachePublic())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .lastModified(document.lastModified())
+                .eTag(gzip ? document.gzipEtag() : document.etag());
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(document.gzipBody());
+        }
+        return builder.body(document.body());
+    }
+}
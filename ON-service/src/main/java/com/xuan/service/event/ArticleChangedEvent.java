@@ -0,0 +1,57 @@
+package com.xuan.service.event;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 文章变更事件
+ * 在事务内发布，事务提交后由 {@link CacheInvalidationListener} 异步处理缓存失效与索引同步
+ *
+ * @author 玄〤
+ * @since 2026-03-08
+ */
+@Getter
+@Builder
+@ToString
+public class ArticleChangedEvent {
+
+    /**
+     * 变更的文章ID（清除详情缓存和卡片缓存）
+     */
+    @Builder.Default
+    private final List<Long> articleIds = List.of();
+
+    /**
+     * 需要重新同步 slug 索引的 slug（修改 slug 时新旧 slug 都要带上）
+     */
+    @Builder.Default
+    private final List<String> slugs = List.of();
+
+    /**
+     * 卡片展示内容是否变化（首页直接缓存了卡片内容）
+     */
+    private final boolean cardChanged;
+
+    /**
+     * 前台列表的成员或排序是否变化
+     */
+    private final boolean listChanged;
+
+    /**
+     * 分类/标签下的文章数量是否变化
+     */
+    private final boolean taxonomyChanged;
+
+    /**
+     * 文章是否被删除（同时清除浏览量增量）
+     */
+    private final boolean deleted;
+
+    /**
+     * 已保存的文章内容是否变化（编辑器中的自动保存草稿随之作废）
+     */
+    private final boolean draftObsolete;
+}
@@ -0,0 +1,32 @@
+package com.xuan.service.event;
+
+import com.xuan.entity.po.blog.Article;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 文章版本事件
+ * 文章新增或标题/摘要/正文变化时在事务内发布，事务提交后异步记录历史版本
+ *
+ * @author 玄〤
+ * @since 2026-03-11
+ */
+@Getter
+@AllArgsConstructor
+public class ArticleRevisionEvent {
+
+    /**
+     * 文章ID
+     */
+    private final Long articleId;
+
+    /**
+     * 修改前的标题/摘要/正文（新增文章时为 null），文章还没有历史版本时作为第一个版本记录
+     */
+    private final Article previous;
+
+    /**
+     * 修改后的标题/摘要/正文
+     */
+    private final Article current;
+}
@@ -0,0 +1,30 @@
+package com.xuan.service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文章定时发布计划变更事件
+ * 在事务内发布，事务提交后登记到定时发布队列或从队列中取消
+ *
+ * @author 玄〤
+ * @since 2026-03-12
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ArticleScheduleEvent {
+
+    /**
+     * 文章ID
+     */
+    private final Long articleId;
+
+    /**
+     * 计划发布时间，为 null 表示取消定时发布
+     */
+    private final LocalDateTime publishTime;
+}
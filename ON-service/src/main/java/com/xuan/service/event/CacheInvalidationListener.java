@@ -0,0 +1,112 @@
+package com.xuan.service.event;
+
+import com.xuan.service.service.impl.ArticleSlugIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.xuan.common.constant.RedisConstant.ARTICLE_CARD_KEY_PREFIX;
+import static com.xuan.common.constant.RedisConstant.ARTICLE_DETAIL_KEY_PREFIX;
+import static com.xuan.common.constant.RedisConstant.ARTICLE_PAGE_VERSION_KEY;
+import static com.xuan.common.constant.RedisConstant.ARTICLE_VIEW_KEY_PREFIX;
+import static com.xuan.common.constant.RedisConstant.BLOG_HOME_KEY;
+import static com.xuan.common.constant.RedisConstant.CATEGORY_LIST_KEY;
+import static com.xuan.common.constant.RedisConstant.COMMENT_TREE_GENERATION_KEY_PREFIX;
+import static com.xuan.common.constant.RedisConstant.TAG_LIST_KEY;
+
+/**
+ * 缓存失效监听器
+ * <p>
+ * 所有缓存删除都在事务提交之后（AFTER_COMMIT）执行：
+ * 若在事务内删除，并发读请求可能在提交前用旧数据重新回填缓存，导致旧数据被缓存一整个 TTL
+ * 监听方法标注 {@code @Async}，在异步线程池中执行，不占用请求线程
+ * 非事务方法中发布的事件（fallbackExecution）会立即执行
+ *
+ * @author 玄〤
+ * @since 2026-03-08
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationListener {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ArticleSlugIndex articleSlugIndex;
+
+    /**
+     * 文章变更：清除详情/卡片缓存，按需失效列表、首页、分类/标签缓存，并同步 slug 索引
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        try {
+            // 1.单篇文章的缓存
+            List<String> keys = new ArrayList<>();
+            for (Long articleId : event.getArticleIds()) {
+                keys.add(ARTICLE_DETAIL_KEY_PREFIX + articleId);
+                keys.add(ARTICLE_CARD_KEY_PREFIX + articleId);
+                if (event.isDeleted()) {
+                    keys.add(ARTICLE_VIEW_KEY_PREFIX + articleId);
+                }
+            }
+            // 2.聚合缓存
+            if (event.isTaxonomyChanged()) {
+                keys.add(CATEGORY_LIST_KEY);
+                keys.add(TAG_LIST_KEY);
+            }
+            if (event.isCardChanged() || event.isListChanged() || event.isTaxonomyChanged()) {
+                keys.add(BLOG_HOME_KEY);
+            }
+            if (!keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+            // 3.列表缓存通过版本号失效，旧版本 Key 由 TTL 自然过期
+            if (event.isListChanged()) {
+                redisTemplate.opsForValue().increment(ARTICLE_PAGE_VERSION_KEY);
+            }
+            // 4.slug 索引以提交后的数据库为准重新同步
+            event.getSlugs().forEach(articleSlugIndex::reload);
+        } catch (Exception e) {
+            log.warn("文章缓存失效处理失败: {}, {}", event, e.getMessage());
+        }
+    }
+
+    /**
+     * 分类/标签变更：清除对应列表缓存和首页缓存
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaxonomyChanged(TaxonomyChangedEvent event) {
+        String listKey = event.getType() == TaxonomyChangedEvent.Type.CATEGORY ? CATEGORY_LIST_KEY : TAG_LIST_KEY;
+        try {
+            redisTemplate.delete(List.of(listKey, BLOG_HOME_KEY));
+        } catch (Exception e) {
+            log.warn("分类/标签缓存失效处理失败: {}, {}", event, e.getMessage());
+        }
+    }
+
+    /**
+     * 评论变更：INCR 涉及文章的评论代数使评论树缓存失效（评论数由 CommentCounter 在事务提交后同步）
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.getArticleIds().isEmpty()) {
+            return;
+        }
+        try {
+            // 评论树缓存通过代数失效，旧代数的分页缓存由 TTL 自然过期
+            event.getArticleIds().forEach(articleId ->
+                    redisTemplate.opsForValue().increment(COMMENT_TREE_GENERATION_KEY_PREFIX + articleId));
+        } catch (Exception e) {
+            log.warn("评论缓存失效处理失败: {}, {}", event, e.getMessage());
+        }
+    }
+}
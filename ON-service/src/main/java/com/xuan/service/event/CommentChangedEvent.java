@@ -0,0 +1,44 @@
+package com.xuan.service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 评论变更事件
+ * 在事务内发布，事务提交后由监听器异步处理评论相关的缓存与计数
+ *
+ * @author 玄〤
+ * @since 2026-03-08
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CommentChangedEvent {
+
+    /**
+     * 变更类型
+     */
+    private final Action action;
+
+    /**
+     * 变更的评论ID
+     */
+    private final List<Long> commentIds;
+
+    /**
+     * 涉及的文章ID（已去重，不含留言板评论）
+     */
+    private final List<Long> articleIds;
+
+    public enum Action {
+        /** 新增 */
+        CREATED,
+        /** 审核状态变化 */
+        AUDITED,
+        /** 删除 */
+        DELETED
+    }
+}
@@ -0,0 +1,25 @@
+package com.xuan.service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Map;
+
+/**
+ * 文章评论数变更事件
+ * 在更新 article.comment_count 的事务内发布，事务提交后把同样的增量累加到 Redis 计数上
+ *
+ * @author 玄〤
+ * @since 2026-03-21
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CommentCountChangedEvent {
+
+    /**
+     * 文章ID（留言板为 0）-> 已审核评论数增量
+     */
+    private final Map<Long, Long> deltas;
+}
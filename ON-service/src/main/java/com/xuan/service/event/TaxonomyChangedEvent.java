@@ -0,0 +1,30 @@
+package com.xuan.service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 分类/标签变更事件
+ * 在事务内发布，事务提交后由 {@link CacheInvalidationListener} 异步清除对应列表缓存
+ *
+ * @author 玄〤
+ * @since 2026-03-08
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class TaxonomyChangedEvent {
+
+    /**
+     * 变更的类型
+     */
+    private final Type type;
+
+    public enum Type {
+        /** 分类 */
+        CATEGORY,
+        /** 标签 */
+        TAG
+    }
+}
@@ -0,0 +1,18 @@
+package com.xuan.service.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.xuan.entity.po.blog.ArticleDraft;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 文章草稿 Mapper
+ */
+@Mapper
+public interface ArticleDraftMapper extends BaseMapper<ArticleDraft> {
+
+    /**
+     * 新增或覆盖文章草稿
+     */
+    void upsert(@Param("draft") ArticleDraft draft);
+}
@@ -3,10 +3,19 @@ package com.xuan.service.mapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.xuan.entity.po.blog.ArticleLike;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * 文章点赞 Mapper
  */
 @Mapper
 public interface ArticleLikeMapper extends BaseMapper<ArticleLike> {
+
+    /**
+     * 按文章统计点赞记录数（没有点赞记录的文章不会出现在结果中）
+     */
+    List<Map<String, Object>> countByArticleIds(@Param("articleIds") List<Long> articleIds);
 }
@@ -3,7 +3,23 @@ package com.xuan.service.mapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.xuan.entity.po.blog.Article;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
 
 @Mapper
 public interface ArticleMapper extends BaseMapper<Article> {
+
+    /**
+     * 批量插入文章（单条多值 INSERT），回填自增ID
+     */
+    void batchInsertArticles(@Param("list") List<Article> articles);
+
+    /**
+     * 查询 slug 已占用的最大数字后缀：只有 slug 本身被占用时返回 0，slug 与 slug-N 都未被占用时返回 null
+     *
+     * @param slug          原始slug
+     * @param suffixPattern 带后缀 slug 的 LIKE 前缀（已转义的 slug + "-%"）
+     */
+    Long selectMaxSlugSuffix(@Param("slug") String slug, @Param("suffixPattern") String suffixPattern);
 }
@@ -0,0 +1,12 @@
+package com.xuan.service.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.xuan.entity.po.blog.ArticleRevision;
+import org.apache.ibatis.annotations.Mapper;
+
+/**
+ * 文章历史版本 Mapper
+ */
+@Mapper
+public interface ArticleRevisionMapper extends BaseMapper<ArticleRevision> {
+}
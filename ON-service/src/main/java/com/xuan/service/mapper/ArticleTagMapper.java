@@ -23,6 +23,11 @@ public interface ArticleTagMapper extends BaseMapper<ArticleTag> {
      */
     void deleteByArticleId(@Param("articleId") Long articleId);
 
+    /**
+     * 删除文章的指定标签关联
+     */
+    void deleteByArticleIdAndTagIds(@Param("articleId") Long articleId, @Param("tagIds") List<Long> tagIds);
+
     /**
      * 根据文章ID查询标签ID列表
      */
@@ -0,0 +1,25 @@
+package com.xuan.service.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.xuan.entity.po.interact.CommentLike;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 评论点赞记录 Mapper
+ */
+@Mapper
+public interface CommentLikeMapper extends BaseMapper<CommentLike> {
+
+    /**
+     * 批量写入点赞记录，已存在的 (comment_id, ip_address) 忽略
+     */
+    int batchInsertIgnore(@Param("list") List<CommentLike> likes);
+
+    /**
+     * 按 (comment_id, ip_address) 批量删除点赞记录
+     */
+    int batchDeleteByCommentAndIp(@Param("list") List<CommentLike> likes);
+}
@@ -3,10 +3,62 @@ package com.xuan.service.mapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.xuan.entity.po.interact.Comment;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * 评论 Mapper
  */
 @Mapper
 public interface CommentMapper extends BaseMapper<Comment> {
-}
\ No newline at end of file
+
+    /**
+     * 批量插入评论（单条多值 INSERT），回填自增ID
+     */
+    void batchInsertComments(@Param("list") List<Comment> comments);
+
+    /**
+     * 按根评论统计指定状态的回复数
+     *
+     * @return 每行包含 rootParentId、replyCount；没有回复的根评论不出现在结果中
+     */
+    List<Map<String, Object>> countRepliesByRootIds(@Param("articleId") Long articleId,
+                                                    @Param("status") Integer status,
+                                                    @Param("rootIds") List<Long> rootIds);
+
+    /**
+     * 按文章统计指定状态的评论数
+     *
+     * @return 每行包含 articleId、commentCount；没有评论的文章不出现在结果中
+     */
+    List<Map<String, Object>> countByArticleIds(@Param("status") Integer status,
+                                                @Param("articleIds") List<Long> articleIds);
+
+    /**
+     * 查询物化路径以 pathPrefix 开头的指定状态评论（即某条评论的全部后代），父节点排在子节点之前
+     *
+     * @param pathPrefix 子树根评论的路径 + 其ID + "/"
+     * @param maxDepth   最大层级深度（绝对深度），为 null 时不限
+     * @param limit      最多返回的条数
+     */
+    List<Comment> selectSubtree(@Param("pathPrefix") String pathPrefix,
+                                @Param("status") Integer status,
+                                @Param("maxDepth") Integer maxDepth,
+                                @Param("limit") int limit);
+
+    /**
+     * 按 comment_like 记录数重新统计评论的点赞数
+     *
+     * @param ids 评论ID
+     */
+    int refreshLikeCounts(@Param("ids") List<Long> ids);
+
+    /**
+     * 批量更新热度分
+     *
+     * @param comments 评论（只使用 id 与 hotScore）
+     */
+    int batchUpdateHotScores(@Param("list") List<Comment> comments);
+}
@@ -0,0 +1,26 @@
+package com.xuan.service.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.xuan.entity.po.interact.CommentNotifyOutbox;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 评论回复通知发件箱 Mapper
+ */
+@Mapper
+public interface CommentNotifyOutboxMapper extends BaseMapper<CommentNotifyOutbox> {
+
+    /**
+     * 为一批新写入的回复生成通知：收件人为被回复评论的邮箱，
+     * 被回复评论没有邮箱或与回复者邮箱相同（回复自己）时不生成
+     *
+     * @param commentIds  新写入的回复评论ID
+     * @param notBefore   最早发送时间
+     * @return 生成的通知数
+     */
+    int insertForReplies(@Param("commentIds") List<Long> commentIds, @Param("notBefore") LocalDateTime notBefore);
+}
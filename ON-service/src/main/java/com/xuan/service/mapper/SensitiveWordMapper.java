@@ -0,0 +1,12 @@
+package com.xuan.service.mapper;
+
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.xuan.entity.po.interact.SensitiveWord;
+import org.apache.ibatis.annotations.Mapper;
+
+/**
+ * 评论敏感词 Mapper
+ */
+@Mapper
+public interface SensitiveWordMapper extends BaseMapper<SensitiveWord> {
+}
@@ -0,0 +1,46 @@
+package com.xuan.service.service;
+
+import com.xuan.entity.dto.article.ArticleDraftDTO;
+import com.xuan.entity.vo.article.ArticleDraftVO;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文章草稿服务接口
+ *
+ * @author 玄〤
+ * @since 2026-03-10
+ */
+public interface IArticleDraftService {
+
+    /**
+     * 自动保存文章草稿（只写 Redis，由定时任务延迟落库）
+     *
+     * @param articleId       文章id
+     * @param articleDraftDTO 草稿内容
+     * @return 本次保存时间
+     */
+    LocalDateTime autosaveDraft(Long articleId, ArticleDraftDTO articleDraftDTO);
+
+    /**
+     * 获取文章草稿
+     *
+     * @param articleId 文章id
+     * @return 草稿，不存在时返回 null
+     */
+    ArticleDraftVO getDraft(Long articleId);
+
+    /**
+     * 立即把 Redis 中的草稿落库
+     *
+     * @param articleId 文章id
+     */
+    void saveDraft(Long articleId);
+
+    /**
+     * 丢弃文章草稿（Redis 与数据库）
+     *
+     * @param articleId 文章id
+     */
+    void discardDraft(Long articleId);
+}
@@ -0,0 +1,29 @@
+package com.xuan.service.service;
+
+import com.xuan.entity.vo.article.ArticleImportProgressVO;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 文章导入服务接口
+ *
+ * @author 玄〤
+ * @since 2026-03-13
+ */
+public interface IArticleImportService {
+
+    /**
+     * 导入 Markdown 文章压缩包：请求线程内校验文件并登记任务，随后在异步线程中逐条流式解析、分批写库
+     *
+     * @param file zip 压缩包
+     * @return 任务初始进度（含任务ID）
+     */
+    ArticleImportProgressVO importArticles(MultipartFile file);
+
+    /**
+     * 查询导入进度
+     *
+     * @param taskId 任务ID
+     * @return 任务进度
+     */
+    ArticleImportProgressVO getImportProgress(String taskId);
+}
@@ -0,0 +1,39 @@
+package com.xuan.service.service;
+
+import com.xuan.entity.vo.article.ArticleRevisionVO;
+
+import java.util.List;
+
+/**
+ * 文章历史版本服务接口
+ *
+ * @author 玄〤
+ * @since 2026-03-11
+ */
+public interface IArticleRevisionService {
+
+    /**
+     * 文章历史版本列表（不含正文，按版本号倒序）
+     *
+     * @param articleId 文章id
+     * @return 版本列表
+     */
+    List<ArticleRevisionVO> listRevisions(Long articleId);
+
+    /**
+     * 获取指定版本（含还原后的正文）
+     *
+     * @param articleId  文章id
+     * @param revisionNo 版本号
+     * @return 版本详情
+     */
+    ArticleRevisionVO getRevision(Long articleId, Integer revisionNo);
+
+    /**
+     * 回滚文章到指定版本（标题/摘要/正文），回滚本身会记录为一个新版本
+     *
+     * @param articleId  文章id
+     * @param revisionNo 版本号
+     */
+    void rollbackToRevision(Long articleId, Integer revisionNo);
+}
@@ -15,6 +15,7 @@ import com.xuan.entity.vo.article.ArticleAdminListVO;
 import com.xuan.entity.vo.article.ArticleCreatVO;
 import com.xuan.entity.vo.article.ArticleDetailVO;
 import com.xuan.entity.vo.article.ArticleListVO;
+import com.xuan.entity.vo.monitor.LatencyStatsVO;
 
 import java.util.List;
 
@@ -98,6 +99,22 @@ public interface IArticleService extends IService<Article> {
      */
     ArticleDetailVO getBlogArticleDetail(Long id);
 
+    /**
+     * 根据slug获取前台文章详情
+     *
+     * @param slug 文章slug
+     * @return 文章详情
+     */
+    ArticleDetailVO getBlogArticleDetailBySlug(String slug);
+
+    /**
+     * 加载前台文章详情，不记录浏览量（静态快照等非访问场景使用）
+     *
+     * @param id 文章id
+     * @return 文章详情，文章不存在或未发布时返回 null
+     */
+    ArticleDetailVO loadBlogArticleDetail(Long id);
+
     /**
      * 文章归档
      * 
@@ -112,4 +129,36 @@ public interface IArticleService extends IService<Article> {
      * @return 点赞数量
      */
     Long likeArticle(Long id, String ip);
+
+    /**
+     * 热门文章（已发布，按浏览量降序）
+     *
+     * @param limit 条数
+     * @return 热门文章卡片列表
+     */
+    List<ArticleListVO> listHotArticles(int limit);
+
+    /**
+     * 批量获取文章卡片（优先读卡片缓存，未命中部分批量回源）
+     * 所有需要按ID获取文章列表项的场景都应通过此方法，避免逐个查询
+     *
+     * @param ids 文章ID列表
+     * @return 文章卡片列表，按请求顺序返回，忽略不存在或未发布的文章
+     */
+    List<ArticleListVO> listArticleCards(List<Long> ids);
+
+    /**
+     * 预热文章的详情缓存与卡片缓存（定时发布到点时调用）
+     *
+     * @param id 文章id
+     */
+    void warmUpBlogArticle(Long id);
+
+    /**
+     * 获取前台文章详情冷加载（缓存未命中）耗时统计
+     * 分别统计顺序加载与并行加载两种模式
+     *
+     * @return 耗时统计列表
+     */
+    List<LatencyStatsVO> getDetailLatencyStats();
 }
@@ -7,9 +7,14 @@ import com.xuan.entity.dto.comment.CommentCreateDTO;
 import com.xuan.entity.dto.comment.CommentPageQueryDTO;
 import com.xuan.entity.po.interact.Comment;
 import com.xuan.entity.vo.comment.CommentAdminVO;
+import com.xuan.entity.vo.comment.CommentLikeVO;
+import com.xuan.entity.vo.comment.CommentNotifyDispatchVO;
 import com.xuan.entity.vo.comment.CommentPageVO;
+import com.xuan.entity.vo.comment.CommentSubmitVO;
 import com.xuan.entity.vo.comment.CommentTreeVO;
 
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
 import java.util.List;
 import java.util.Map;
 
@@ -28,9 +33,11 @@ public interface ICommentService extends IService<Comment> {
      * @param articleId 文章ID
      * @param current   当前页码（从 1 开始）
      * @param size      每页顶级评论数量
+     * @param cursor    上一页最后一条顶级评论的游标，为空时按页码分页
+     * @param sort      排序方式：new-按时间（默认），hot-按热度
      * @return 分页评论树
      */
-    CommentPageVO getCommentTree(Long articleId, int current, int size);
+    CommentPageVO getCommentTree(Long articleId, int current, int size, String cursor, String sort);
 
     /**
      * 获取文章评论统计
@@ -47,12 +54,42 @@ public interface ICommentService extends IService<Comment> {
      * @param articleId 文章ID
      * @param current 当前页码
      * @param size 每页条数（第一次3条，后续10条）
+     * @param cursor 上一页最后一条子评论的游标，为空时按页码分页
      * @return 子评论列表
      */
-    List<CommentTreeVO> getChildComments(Long rootParentId, Long articleId, int current, int size);
+    List<CommentTreeVO> getChildComments(Long rootParentId, Long articleId, int current, int size, String cursor);
+
+    /**
+     * 获取评论子树（基于物化路径一次范围扫描）
+     *
+     * @param id       子树根评论ID
+     * @param maxDepth 相对子树根的最大层数，为 null 时不限
+     * @return 嵌套的子树
+     */
+    CommentTreeVO getCommentSubtree(Long id, Integer maxDepth);
+
+    /**
+     * 获取评论的祖先链
+     *
+     * @param id 评论ID
+     * @return 从顶级评论到直接父评论的祖先列表
+     */
+    List<CommentTreeVO> getCommentAncestors(Long id);
+
+    /** 前台：发表评论（校验通过后进入写入队列，返回排队凭证） */
+    CommentSubmitVO createComment(CommentCreateDTO dto, String ipAddress, String userAgent);
+
+    /** 前台：查询排队中评论的写入结果 */
+    CommentSubmitVO getPendingComment(String pendingId);
+
+    /** 前台：订阅文章新审核通过的评论（SSE），lastEventId 为断线重连时浏览器带上的最后一个评论ID */
+    SseEmitter subscribeComments(Long articleId, String lastEventId);
+
+    /** 前台：评论点赞/取消点赞 */
+    CommentLikeVO likeComment(Long id, String ip);
 
-    /** 前台：发表评论 */
-    void createComment(CommentCreateDTO dto, String ipAddress, String userAgent);
+    /** 后台：立即发送到期的评论回复通知 */
+    CommentNotifyDispatchVO dispatchReplyNotifications();
 
     /** 后台：分页查询评论 */
     Page<CommentAdminVO> pageComments(CommentPageQueryDTO dto);
@@ -0,0 +1,24 @@
+package com.xuan.service.service;
+
+import com.xuan.entity.vo.monitor.CounterReconcileStatsVO;
+
+/**
+ * 计数对账服务接口
+ *
+ * @author 玄〤
+ * @since 2026-03-09
+ */
+public interface ICounterReconcileService {
+
+    /**
+     * 执行一轮计数对账
+     */
+    void reconcile();
+
+    /**
+     * 获取计数对账统计
+     *
+     * @return 对账统计
+     */
+    CounterReconcileStatsVO getStats();
+}
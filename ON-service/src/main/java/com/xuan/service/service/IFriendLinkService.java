@@ -37,6 +37,19 @@ public interface IFriendLinkService extends IService<FriendLink> {
      */
     void applyFriendLink(FriendLinkApplyAndUpdateDTO dto);
 
+    /**
+     * 更新友情链接
+     * @param id 友情链接ID
+     * @param dto 更新参数
+     */
+    void updateFriendLink(Long id, FriendLinkApplyAndUpdateDTO dto);
+
+    /**
+     * 删除友情链接
+     * @param id 友情链接ID
+     */
+    void deleteFriendLink(Long id);
+
     /**
      * 获取公开友情链接列表
      * @return 公开友情链接列表
@@ -0,0 +1,19 @@
+package com.xuan.service.service;
+
+import com.xuan.entity.vo.home.HomeVO;
+
+/**
+ * 前台首页聚合服务接口
+ *
+ * @author 玄〤
+ * @since 2026-03-03
+ */
+public interface IHomeService {
+
+    /**
+     * 获取首页聚合数据
+     *
+     * @return 首页聚合数据
+     */
+    HomeVO getHome();
+}
@@ -0,0 +1,38 @@
+package com.xuan.service.service;
+
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.baomidou.mybatisplus.extension.service.IService;
+import com.xuan.entity.dto.comment.SensitiveWordCreateDTO;
+import com.xuan.entity.dto.comment.SensitiveWordPageQueryDTO;
+import com.xuan.entity.po.interact.SensitiveWord;
+import com.xuan.entity.vo.comment.CommentModerationStatusVO;
+import com.xuan.entity.vo.comment.CommentModerationVO;
+
+import java.util.List;
+
+/**
+ * 评论敏感词服务接口
+ *
+ * @author 玄〤
+ * @since 2026-03-22
+ */
+public interface ISensitiveWordService extends IService<SensitiveWord> {
+
+    /** 后台：分页查询敏感词 */
+    Page<SensitiveWord> pageWords(SensitiveWordPageQueryDTO query);
+
+    /** 后台：批量添加敏感词（已存在的词更新处理级别），返回新增数量 */
+    int addWords(SensitiveWordCreateDTO dto);
+
+    /** 后台：批量删除敏感词 */
+    void batchDeleteWords(List<Long> ids);
+
+    /** 后台：重新加载词库（包括词库文件） */
+    CommentModerationStatusVO reloadWords();
+
+    /** 后台：获取词库状态 */
+    CommentModerationStatusVO getModerationStatus();
+
+    /** 后台：用当前规则试运行自动审核 */
+    CommentModerationVO checkContent(String content);
+}
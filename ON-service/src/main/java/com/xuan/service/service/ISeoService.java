@@ -0,0 +1,74 @@
+package com.xuan.service.service;
+
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 站点地图与订阅源服务接口
+ *
+ * @author 玄〤
+ * @since 2026-03-15
+ */
+public interface ISeoService {
+
+    /**
+     * 获取站点地图索引（sitemap.xml）
+     *
+     * @return 预生成的文档
+     */
+    Document getSitemapIndex();
+
+    /**
+     * 获取站点地图分片（sitemap-{shard}.xml）
+     *
+     * @param shard 分片编号
+     * @return 预生成的文档，分片不存在时返回 null
+     */
+    Document getSitemapShard(int shard);
+
+    /**
+     * 获取 RSS 2.0 订阅源（feed.xml）
+     *
+     * @return 预生成的文档
+     */
+    Document getRssFeed();
+
+    /**
+     * 获取 Atom 订阅源（atom.xml）
+     *
+     * @return 预生成的文档
+     */
+    Document getAtomFeed();
+
+    /**
+     * 预生成的 XML 文档：原文与 gzip 压缩结果各自带有 ETag，请求时直接返回，不再序列化或压缩
+     *
+     * @param body         UTF-8 编码的原文
+     * @param gzipBody     gzip 压缩后的内容
+     * @param etag         原文的 ETag
+     * @param gzipEtag     压缩内容的 ETag
+     * @param lastModified 最后修改时间（毫秒时间戳）
+     */
+    record Document(byte[] body, byte[] gzipBody, String etag, String gzipEtag, long lastModified) {
+
+        /**
+         * 由 XML 文本构建文档
+         */
+        public static Document of(String xml, long lastModified) {
+            byte[] body = xml.getBytes(StandardCharsets.UTF_8);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(256, body.length / 4));
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            String hash = DigestUtils.md5DigestAsHex(body);
+            return new Document(body, out.toByteArray(), "\"" + hash + "\"", "\"" + hash + "-gzip\"", lastModified);
+        }
+    }
+}
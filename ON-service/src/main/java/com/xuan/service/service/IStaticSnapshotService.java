@@ -0,0 +1,27 @@
+package com.xuan.service.service;
+
+import com.xuan.entity.vo.monitor.StaticSnapshotVO;
+
+/**
+ * 静态快照服务接口
+ *
+ * @author 玄〤
+ * @since 2026-03-14
+ */
+public interface IStaticSnapshotService {
+
+    /**
+     * 生成一个静态快照版本
+     *
+     * @param full 是否全量生成，false 时只重新生成上一版本之后有变化的页面
+     * @return 生成结果，没有任何变化时返回当前版本的结果
+     */
+    StaticSnapshotVO generate(boolean full);
+
+    /**
+     * 获取当前快照版本的生成结果
+     *
+     * @return 生成结果，尚未生成过时返回 null
+     */
+    StaticSnapshotVO getStatus();
+}
@@ -0,0 +1,292 @@
+package com.xuan.service.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.xuan.entity.dto.article.ArticleDraftDTO;
+import com.xuan.entity.po.blog.Article;
+import com.xuan.entity.po.blog.ArticleDraft;
+import com.xuan.entity.vo.article.ArticleDraftVO;
+import com.xuan.service.event.ArticleChangedEvent;
+import com.xuan.service.mapper.ArticleDraftMapper;
+import com.xuan.service.mapper.ArticleMapper;
+import com.xuan.service.service.IArticleDraftService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.xuan.common.constant.RedisConstant.ARTICLE_DRAFT_DIRTY_KEY;
+import static com.xuan.common.constant.RedisConstant.ARTICLE_DRAFT_FLUSH_LOCK_KEY;
+import static com.xuan.common.constant.RedisConstant.ARTICLE_DRAFT_FLUSH_LOCK_TTL_SECONDS;
+import static com.xuan.common.constant.RedisConstant.ARTICLE_DRAFT_KEY_PREFIX;
+import static com.xuan.common.constant.RedisConstant.ARTICLE_DRAFT_TTL_DAYS;
+
+/**
+ * 文章草稿服务实现
+ * <p>
+ * 编辑器每隔几秒提交一次草稿，若每次都写 article 表，会频繁产生大字段更新、binlog 和缓存失效。这里改为两级写入：
+ * 1. 自动保存：草稿写入 Redis Hash {@code article:draft:{id}}，并把文章ID以“第一次未落库修改时间”加入待落库 ZSet，
+ *    三条命令通过 pipeline 一次往返完成，不访问数据库
+ * 2. 延迟落库：定时任务取出修改时间早于 {@code flush-delay-ms} 的草稿，写入 article_draft 表（upsert），
+ *    同一篇文章在延迟窗口内的多次自动保存只落库一次
+ * <p>
+ * 草稿独立存放，不修改 article 表，因此不会使前台缓存失效；文章正式保存或删除后，草稿随之作废
+ *
+ * @author 玄〤
+ * @since 2026-03-10
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleDraftServiceImpl implements IArticleDraftService {
+
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_SUMMARY = "summary";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_SAVED_TIME = "savedTime";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ArticleDraftMapper articleDraftMapper;
+    private final ArticleMapper articleMapper;
+
+    /**
+     * 草稿修改后延迟多久落库（毫秒）
+     */
+    @Value("${blog.article.draft.flush-delay-ms:30000}")
+    private long flushDelayMs;
+
+    /**
+     * 每轮最多落库的草稿数
+     */
+    @Value("${blog.article.draft.flush-batch-size:100}")
+    private int flushBatchSize;
+
+    /**
+     * 自动保存文章草稿
+     *
+     * @param articleId       文章id
+     * @param articleDraftDTO 草稿内容
+     * @return 本次保存时间
+     */
+    @Override
+    public LocalDateTime autosaveDraft(Long articleId, ArticleDraftDTO articleDraftDTO) {
+        long now = System.currentTimeMillis();
+        String draftKey = ARTICLE_DRAFT_KEY_PREFIX + articleId;
+        Map<String, String> fields = Map.of(
+                FIELD_TITLE, nullToEmpty(articleDraftDTO.getTitle()),
+                FIELD_SUMMARY, nullToEmpty(articleDraftDTO.getSummary()),
+                FIELD_CONTENT, nullToEmpty(articleDraftDTO.getContent()),
+                FIELD_SAVED_TIME, String.valueOf(now));
+
+        // 写草稿、续期、标记待落库在一次往返内完成；ZADD NX 保留第一次未落库修改的时间，持续编辑也会按时落库
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hMSet(draftKey, fields);
+            stringConnection.expire(draftKey, TimeUnit.DAYS.toSeconds(ARTICLE_DRAFT_TTL_DAYS));
+            stringConnection.zAdd(ARTICLE_DRAFT_DIRTY_KEY, now, String.valueOf(articleId), ZAddArgs.ifNotExists());
+            return null;
+        });
+        return toLocalDateTime(now);
+    }
+
+    /**
+     * 获取文章草稿：优先读取 Redis，不存在时读取已落库的草稿
+     *
+     * @param articleId 文章id
+     * @return 草稿，不存在时返回 null
+     */
+    @Override
+    public ArticleDraftVO getDraft(Long articleId) {
+        ArticleDraft draft = readCachedDraft(articleId);
+        if (draft != null) {
+            Double dirtyScore = redisTemplate.opsForZSet().score(ARTICLE_DRAFT_DIRTY_KEY, String.valueOf(articleId));
+            return toDraftVO(draft, dirtyScore == null);
+        }
+        draft = articleDraftMapper.selectById(articleId);
+        return draft == null ? null : toDraftVO(draft, true);
+    }
+
+    /**
+     * 立即把 Redis 中的草稿落库
+     *
+     * @param articleId 文章id
+     */
+    @Override
+    public void saveDraft(Long articleId) {
+        flushDraft(articleId);
+    }
+
+    /**
+     * 丢弃文章草稿
+     *
+     * @param articleId 文章id
+     */
+    @Override
+    public void discardDraft(Long articleId) {
+        String member = String.valueOf(articleId);
+        redisTemplate.opsForZSet().remove(ARTICLE_DRAFT_DIRTY_KEY, member);
+        redisTemplate.delete(ARTICLE_DRAFT_KEY_PREFIX + articleId);
+        articleDraftMapper.deleteById(articleId);
+    }
+
+    /**
+     * 定时落库：批量写入修改时间早于延迟窗口的草稿
+     */
+    @Scheduled(initialDelayString = "${blog.article.draft.flush-interval-ms:10000}",
+            fixedDelayString = "${blog.article.draft.flush-interval-ms:10000}")
+    public void flushDueDrafts() {
+        // 1.获取分布式锁，其他实例正在落库时跳过本轮
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(ARTICLE_DRAFT_FLUSH_LOCK_KEY, token,
+                ARTICLE_DRAFT_FLUSH_LOCK_TTL_SECONDS, TimeUnit.SECONDS);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        try {
+            // 2.取出到期的草稿
+            long deadline = System.currentTimeMillis() - flushDelayMs;
+            Set<String> due = redisTemplate.opsForZSet()
+                    .rangeByScore(ARTICLE_DRAFT_DIRTY_KEY, 0, deadline, 0, flushBatchSize);
+            if (due == null || due.isEmpty()) {
+                return;
+            }
+
+            // 3.过滤已删除的文章，其草稿直接丢弃
+            List<Long> articleIds = due.stream().map(Long::valueOf).toList();
+            Set<Long> existingIds = articleMapper.selectList(new LambdaQueryWrapper<Article>()
+                            .select(Article::getId)
+                            .in(Article::getId, articleIds))
+                    .stream()
+                    .map(Article::getId)
+                    .collect(Collectors.toSet());
+            int flushed = 0;
+            for (Long articleId : articleIds) {
+                if (!existingIds.contains(articleId)) {
+                    discardDraft(articleId);
+                    continue;
+                }
+                try {
+                    if (flushDraft(articleId)) {
+                        flushed++;
+                    }
+                } catch (Exception e) {
+                    // 保留待落库标记，下一轮重试
+                    log.warn("草稿落库失败: articleId={}, {}", articleId, e.getMessage());
+                }
+            }
+            log.debug("草稿落库完成: {} 篇", flushed);
+        } catch (Exception e) {
+            log.error("草稿落库任务失败: {}", e.getMessage(), e);
+        } finally {
+            if (token.equals(redisTemplate.opsForValue().get(ARTICLE_DRAFT_FLUSH_LOCK_KEY))) {
+                redisTemplate.delete(ARTICLE_DRAFT_FLUSH_LOCK_KEY);
+            }
+        }
+    }
+
+    /**
+     * 文章正式保存或删除后，作废编辑器中的草稿
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (!event.isDraftObsolete() && !event.isDeleted()) {
+            return;
+        }
+        for (Long articleId : event.getArticleIds()) {
+            try {
+                discardDraft(articleId);
+            } catch (Exception e) {
+                log.warn("清除文章草稿失败: articleId={}, {}", articleId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 把 Redis 中的草稿写入数据库
+     *
+     * @return 是否有草稿被落库
+     */
+    private boolean flushDraft(Long articleId) {
+        String member = String.valueOf(articleId);
+        ArticleDraft draft = readCachedDraft(articleId);
+        if (draft == null) {
+            redisTemplate.opsForZSet().remove(ARTICLE_DRAFT_DIRTY_KEY, member);
+            return false;
+        }
+        articleDraftMapper.upsert(draft);
+
+        // 先移除待落库标记，再确认期间没有新的自动保存；有则重新标记，留给下一轮
+        redisTemplate.opsForZSet().remove(ARTICLE_DRAFT_DIRTY_KEY, member);
+        Object savedTime = redisTemplate.opsForHash().get(ARTICLE_DRAFT_KEY_PREFIX + articleId, FIELD_SAVED_TIME);
+        if (savedTime != null && !savedTime.equals(String.valueOf(toEpochMilli(draft.getSavedTime())))) {
+            redisTemplate.opsForZSet().addIfAbsent(ARTICLE_DRAFT_DIRTY_KEY, member, Long.parseLong(savedTime.toString()));
+        }
+        return true;
+    }
+
+    /**
+     * 读取 Redis 中的草稿
+     *
+     * @return 草稿，不存在时返回 null
+     */
+    private ArticleDraft readCachedDraft(Long articleId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(ARTICLE_DRAFT_KEY_PREFIX + articleId);
+        Object savedTime = entries.get(FIELD_SAVED_TIME);
+        if (savedTime == null) {
+            return null;
+        }
+        return ArticleDraft.builder()
+                .articleId(articleId)
+                .title(emptyToNull(entries.get(FIELD_TITLE)))
+                .summary(emptyToNull(entries.get(FIELD_SUMMARY)))
+                .content(emptyToNull(entries.get(FIELD_CONTENT)))
+                .savedTime(toLocalDateTime(Long.parseLong(savedTime.toString())))
+                .build();
+    }
+
+    private ArticleDraftVO toDraftVO(ArticleDraft draft, boolean persisted) {
+        return ArticleDraftVO.builder()
+                .articleId(draft.getArticleId())
+                .title(draft.getTitle())
+                .summary(draft.getSummary())
+                .content(draft.getContent())
+                .savedTime(draft.getSavedTime())
+                .persisted(persisted)
+                .build();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String emptyToNull(Object value) {
+        return value == null || value.toString().isEmpty() ? null : value.toString();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
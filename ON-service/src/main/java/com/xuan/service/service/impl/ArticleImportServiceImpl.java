@@ -0,0 +1,102 @@
+package com.xuan.service.service.impl;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.util.IdUtil;
+import com.xuan.common.exceptions.BusinessException;
+import com.xuan.common.utils.SecurityUtils;
+import com.xuan.entity.vo.article.ArticleImportProgressVO;
+import com.xuan.service.service.IArticleImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Locale;
+
+import static com.xuan.common.enums.ErrorCode.ARTICLE_IMPORT_TASK_NOT_FOUND;
+import static com.xuan.common.enums.ErrorCode.FILE_TYPE_ERROR;
+import static com.xuan.common.enums.ErrorCode.FILE_UPLOAD_FAILED;
+
+/**
+ * 文章导入服务实现
+ * <p>
+ * 请求线程只负责校验文件、把压缩包原样落到临时文件并登记任务，解析与写库交给 {@link ArticleImportWorker} 异步执行，
+ * 前端通过任务ID轮询进度
+ *
+ * @author 玄〤
+ * @since 2026-03-13
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleImportServiceImpl implements IArticleImportService {
+
+    private final ArticleImportWorker importWorker;
+
+    /**
+     * 导入 Markdown 文章压缩包
+     *
+     * @param file zip 压缩包
+     * @return 任务初始进度
+     */
+    @Override
+    public ArticleImportProgressVO importArticles(MultipartFile file) {
+        // 1.校验文件
+        String fileName = file == null ? null : file.getOriginalFilename();
+        if (file == null || file.isEmpty() || fileName == null
+                || !fileName.toLowerCase(Locale.ROOT).endsWith(".zip")) {
+            throw new BusinessException(FILE_TYPE_ERROR);
+        }
+
+        // 2.压缩包原样保存到临时文件（不解压），供异步线程流式读取
+        Path zipFile;
+        try {
+            zipFile = Files.createTempFile("article-import-", ".zip");
+            file.transferTo(zipFile);
+        } catch (IOException e) {
+            log.error("保存导入文件失败: {}", e.getMessage(), e);
+            throw new BusinessException(FILE_UPLOAD_FAILED);
+        }
+
+        // 3.登记任务并异步执行
+        ArticleImportProgressVO progress = ArticleImportProgressVO.builder()
+                .taskId(IdUtil.fastSimpleUUID())
+                .status(ArticleImportWorker.STATUS_RUNNING)
+                .fileName(fileName)
+                .processed(0L)
+                .imported(0L)
+                .skipped(0L)
+                .failed(0L)
+                .createdCategories(0L)
+                .createdTags(0L)
+                .errors(new ArrayList<>())
+                .startTime(LocalDateTime.now())
+                .build();
+        importWorker.saveProgress(progress);
+        // 返回副本：进度对象随后由异步线程修改
+        ArticleImportProgressVO snapshot = BeanUtil.copyProperties(progress, ArticleImportProgressVO.class);
+        snapshot.setErrors(new ArrayList<>());
+        importWorker.run(progress, zipFile, SecurityUtils.getUserId());
+        return snapshot;
+    }
+
+    /**
+     * 查询导入进度
+     *
+     * @param taskId 任务ID
+     * @return 任务进度
+     */
+    @Override
+    public ArticleImportProgressVO getImportProgress(String taskId) {
+        ArticleImportProgressVO progress = importWorker.loadProgress(taskId);
+        if (progress == null) {
+            throw new BusinessException(ARTICLE_IMPORT_TASK_NOT_FOUND);
+        }
+        return progress;
+    }
+}
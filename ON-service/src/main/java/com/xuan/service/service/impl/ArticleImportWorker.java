@@ -0,0 +1,495 @@
+package com.xuan.service.service.impl;
+
+import com.alibaba.fastjson2.JSON;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.xuan.common.utils.FrontMatterUtils;
+import com.xuan.entity.po.blog.Article;
+import com.xuan.entity.po.blog.ArticleTag;
+import com.xuan.entity.po.blog.Category;
+import com.xuan.entity.po.blog.Tag;
+import com.xuan.entity.vo.article.ArticleImportProgressVO;
+import com.xuan.service.event.ArticleChangedEvent;
+import com.xuan.service.event.ArticleScheduleEvent;
+import com.xuan.service.mapper.ArticleMapper;
+import com.xuan.service.mapper.ArticleTagMapper;
+import com.xuan.service.mapper.CategoryMapper;
+import com.xuan.service.mapper.TagMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static com.xuan.common.constant.RedisConstant.ARTICLE_IMPORT_TASK_KEY_PREFIX;
+import static com.xuan.common.constant.RedisConstant.ARTICLE_IMPORT_TASK_TTL_HOURS;
+import static com.xuan.common.enums.ArticleStatusEnum.DRAFT;
+import static com.xuan.common.enums.ArticleStatusEnum.PUBLISHED;
+import static com.xuan.common.enums.ArticleStatusEnum.SCHEDULED;
+
+/**
+ * 文章导入执行器
+ * <p>
+ * 在异步线程中处理上传的 zip 压缩包：
+ * 1. 通过 ZipInputStream 逐个条目流式读取 Markdown，不解压到磁盘，内存中最多保留一批文章
+ * 2. 解析 Front Matter（title / slug / tags / categories / date / updated / draft 等），分类与标签按名称查本地缓存，
+ *    缓存在任务开始时一次性加载，缺失的才插入数据库
+ * 3. 每 {@code blog.article.import.batch-size} 篇为一批：一条多值 INSERT 写入 article 并回填ID，一条多值 INSERT 写入
+ *    article_tag，每批一个事务；失败只影响当前批次
+ * 4. 每批结束后把进度写入 Redis Hash {@code article:import:{taskId}}；全部完成后统一清除前台列表与分类/标签缓存
+ * <p>
+ * slug 与已有文章或同一压缩包内的其他文章重复时跳过该文章，重复导入同一压缩包不会产生重复文章
+ *
+ * @author 玄〤
+ * @since 2026-03-13
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleImportWorker {
+
+    static final String STATUS_RUNNING = "RUNNING";
+    static final String STATUS_SUCCESS = "SUCCESS";
+    static final String STATUS_FAILED = "FAILED";
+
+    /** 进度中保留的错误明细条数上限 */
+    private static final int MAX_ERRORS = 100;
+
+    private static final int MAX_TITLE_LENGTH = 200;
+    private static final int MAX_SUMMARY_LENGTH = 500;
+    private static final int MAX_SLUG_LENGTH = 100;
+    private static final int MAX_FIELD_LENGTH = 255;
+    private static final int MAX_NAME_LENGTH = 50;
+
+    private final ArticleMapper articleMapper;
+    private final ArticleTagMapper articleTagMapper;
+    private final CategoryMapper categoryMapper;
+    private final TagMapper tagMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 每批插入的文章数
+     */
+    @Value("${blog.article.import.batch-size:200}")
+    private int batchSize;
+
+    /**
+     * 单篇 Markdown 文件的最大字节数
+     */
+    @Value("${blog.article.import.max-entry-bytes:5242880}")
+    private int maxEntryBytes;
+
+    /**
+     * 未指定分类时使用的分类
+     */
+    @Value("${blog.article.import.default-category:未分类}")
+    private String defaultCategory;
+
+    /**
+     * 执行导入，完成后删除临时文件
+     *
+     * @param progress 任务初始进度
+     * @param zipFile  上传的压缩包（临时文件）
+     * @param authorId 导入人ID（作为文章作者）
+     */
+    @Async
+    public void run(ArticleImportProgressVO progress, Path zipFile, Long authorId) {
+        ImportContext context = new ImportContext(progress, authorId);
+        try (ZipInputStream zip = new ZipInputStream(new BufferedInputStream(Files.newInputStream(zipFile)),
+                StandardCharsets.UTF_8)) {
+            // 1.一次性加载分类与标签
+            categoryMapper.selectList(new LambdaQueryWrapper<Category>().select(Category::getId, Category::getName))
+                    .forEach(category -> context.categoryIds.put(nameKey(category.getName()), category.getId()));
+            tagMapper.selectList(new LambdaQueryWrapper<Tag>().select(Tag::getId, Tag::getName))
+                    .forEach(tag -> context.tagIds.put(nameKey(tag.getName()), tag.getId()));
+
+            // 2.逐个条目流式解析，攒满一批写库
+            List<ParsedArticle> batch = new ArrayList<>(batchSize);
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (!isMarkdown(entry)) {
+                    continue;
+                }
+                progress.setProcessed(progress.getProcessed() + 1);
+                byte[] bytes = zip.readNBytes(maxEntryBytes + 1);
+                if (bytes.length > maxEntryBytes) {
+                    context.skip(entry.getName(), "文件超过大小限制");
+                    continue;
+                }
+                try {
+                    batch.add(parse(entry.getName(), new String(bytes, StandardCharsets.UTF_8), context));
+                } catch (Exception e) {
+                    context.fail(entry.getName(), "解析失败: " + e.getMessage());
+                }
+                if (batch.size() >= batchSize) {
+                    insertBatch(batch, context);
+                    batch.clear();
+                }
+            }
+            insertBatch(batch, context);
+            progress.setStatus(STATUS_SUCCESS);
+        } catch (Exception e) {
+            log.error("文章导入失败: taskId={}, {}", progress.getTaskId(), e.getMessage(), e);
+            progress.setStatus(STATUS_FAILED);
+            context.addError("导入中止: " + e.getMessage());
+        } finally {
+            progress.setFinishTime(LocalDateTime.now());
+            saveProgress(progress);
+            try {
+                Files.deleteIfExists(zipFile);
+            } catch (Exception e) {
+                log.warn("删除导入临时文件失败: {}", zipFile);
+            }
+        }
+
+        // 3.统一清除前台列表、首页与分类/标签缓存（不带文章ID：新文章没有旧的详情/卡片缓存）
+        if (progress.getImported() > 0) {
+            eventPublisher.publishEvent(ArticleChangedEvent.builder()
+                    .cardChanged(true)
+                    .listChanged(true)
+                    .taxonomyChanged(true)
+                    .build());
+        }
+        log.info("文章导入结束: taskId={}, status={}, 处理 {}, 导入 {}, 跳过 {}, 失败 {}", progress.getTaskId(),
+                progress.getStatus(), progress.getProcessed(), progress.getImported(), progress.getSkipped(),
+                progress.getFailed());
+    }
+
+    /**
+     * 保存任务进度
+     */
+    void saveProgress(ArticleImportProgressVO progress) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", progress.getStatus());
+        fields.put("fileName", progress.getFileName() == null ? "" : progress.getFileName());
+        fields.put("processed", String.valueOf(progress.getProcessed()));
+        fields.put("imported", String.valueOf(progress.getImported()));
+        fields.put("skipped", String.valueOf(progress.getSkipped()));
+        fields.put("failed", String.valueOf(progress.getFailed()));
+        fields.put("createdCategories", String.valueOf(progress.getCreatedCategories()));
+        fields.put("createdTags", String.valueOf(progress.getCreatedTags()));
+        fields.put("errors", JSON.toJSONString(progress.getErrors()));
+        fields.put("startTime", progress.getStartTime().toString());
+        fields.put("finishTime", progress.getFinishTime() == null ? "" : progress.getFinishTime().toString());
+        String key = ARTICLE_IMPORT_TASK_KEY_PREFIX + progress.getTaskId();
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, ARTICLE_IMPORT_TASK_TTL_HOURS, TimeUnit.HOURS);
+    }
+
+    /**
+     * 读取任务进度
+     *
+     * @return 任务进度，不存在时返回 null
+     */
+    ArticleImportProgressVO loadProgress(String taskId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(ARTICLE_IMPORT_TASK_KEY_PREFIX + taskId);
+        if (fields.isEmpty()) {
+            return null;
+        }
+        Function<String, Long> number = name -> Long.valueOf(fields.getOrDefault(name, "0").toString());
+        String finishTime = fields.getOrDefault("finishTime", "").toString();
+        return ArticleImportProgressVO.builder()
+                .taskId(taskId)
+                .status(fields.get("status").toString())
+                .fileName(fields.getOrDefault("fileName", "").toString())
+                .processed(number.apply("processed"))
+                .imported(number.apply("imported"))
+                .skipped(number.apply("skipped"))
+                .failed(number.apply("failed"))
+                .createdCategories(number.apply("createdCategories"))
+                .createdTags(number.apply("createdTags"))
+                .errors(JSON.parseArray(fields.getOrDefault("errors", "[]").toString(), String.class))
+                .startTime(LocalDateTime.parse(fields.get("startTime").toString()))
+                .finishTime(finishTime.isEmpty() ? null : LocalDateTime.parse(finishTime))
+                .build();
+    }
+
+    /**
+     * 写入一批文章：先过滤重复 slug、解析分类/标签ID，再在一个事务内批量插入文章与标签关联
+     */
+    private void insertBatch(List<ParsedArticle> batch, ImportContext context) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        ArticleImportProgressVO progress = context.progress;
+
+        // 1.过滤与已有文章或本次导入中其他文章重复的 slug（一次 IN 查询）
+        List<String> slugs = batch.stream().map(item -> item.article().getSlug()).filter(slug -> slug != null).toList();
+        Set<String> existingSlugs = new HashSet<>();
+        if (!slugs.isEmpty()) {
+            articleMapper.selectList(new LambdaQueryWrapper<Article>()
+                            .select(Article::getSlug)
+                            .in(Article::getSlug, slugs))
+                    .forEach(article -> existingSlugs.add(article.getSlug()));
+        }
+        List<ParsedArticle> accepted = new ArrayList<>(batch.size());
+        for (ParsedArticle item : batch) {
+            String slug = item.article().getSlug();
+            if (slug != null && (existingSlugs.contains(slug) || !context.importedSlugs.add(slug))) {
+                context.skip(item.entryName(), "slug 已存在: " + slug);
+                continue;
+            }
+            accepted.add(item);
+        }
+
+        // 2.解析分类与标签ID（缓存未命中时才插入）
+        // 在批次事务之外完成：批次回滚时不会留下指向已回滚标签的缓存ID，新建数量也不会多计
+        List<Article> articles = new ArrayList<>(accepted.size());
+        List<List<Long>> tagIds = new ArrayList<>(accepted.size());
+        try {
+            for (ParsedArticle item : accepted) {
+                item.article().setCategoryId(resolveCategoryId(item.categoryName(), context));
+                List<Long> ids = new ArrayList<>(item.tagNames().size());
+                for (String tagName : item.tagNames()) {
+                    ids.add(resolveTagId(tagName, context));
+                }
+                articles.add(item.article());
+                tagIds.add(ids);
+            }
+        } catch (Exception e) {
+            accepted.forEach(item -> context.fail(item.entryName(), "分类/标签创建失败: " + e.getMessage()));
+            saveProgress(progress);
+            return;
+        }
+
+        // 3.一个事务内批量插入文章与标签关联
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (articles.isEmpty()) {
+                    return;
+                }
+                articleMapper.batchInsertArticles(articles);
+                LocalDateTime now = LocalDateTime.now();
+                List<ArticleTag> articleTags = new ArrayList<>();
+                for (int i = 0; i < accepted.size(); i++) {
+                    ParsedArticle item = accepted.get(i);
+                    for (Long tagId : tagIds.get(i)) {
+                        articleTags.add(ArticleTag.builder()
+                                .articleId(item.article().getId())
+                                .tagId(tagId)
+                                .createTime(now)
+                                .build());
+                    }
+                    if (SCHEDULED.getCode().equals(item.article().getStatus())) {
+                        eventPublisher.publishEvent(new ArticleScheduleEvent(item.article().getId(),
+                                item.article().getPublishTime()));
+                    }
+                }
+                if (!articleTags.isEmpty()) {
+                    articleTagMapper.batchInsertArticleTags(articleTags);
+                }
+            });
+            progress.setImported(progress.getImported() + articles.size());
+        } catch (Exception e) {
+            log.warn("文章导入批次写入失败: taskId={}, {}", progress.getTaskId(), e.getMessage());
+            accepted.forEach(item -> context.fail(item.entryName(), "写入失败: " + e.getMessage()));
+        }
+        saveProgress(progress);
+    }
+
+    /**
+     * 解析一篇 Markdown
+     */
+    private ParsedArticle parse(String entryName, String text, ImportContext context) {
+        FrontMatterUtils.Document document = FrontMatterUtils.parse(text);
+        String baseName = baseName(entryName);
+        LocalDateTime now = LocalDateTime.now();
+
+        String title = truncate(defaultIfNull(document.getString("title"), baseName), MAX_TITLE_LENGTH);
+        String slug = normalizeSlug(document.getString("slug", "url_name", "permalink"));
+        if (slug == null) {
+            slug = normalizeSlug(baseName);
+        }
+        LocalDateTime date = defaultIfNull(document.getDateTime("date", "publishDate", "published"), now);
+        LocalDateTime updated = defaultIfNull(document.getDateTime("updated", "lastmod", "lastModified"), date);
+        boolean draft = Boolean.TRUE.equals(document.getBoolean("draft"));
+        Integer status = draft ? DRAFT.getCode() : date.isAfter(now) ? SCHEDULED.getCode() : PUBLISHED.getCode();
+        String cover = document.getString("cover", "coverImg", "cover_img", "image", "thumbnail");
+
+        Article article = new Article();
+        article.setAuthorId(context.authorId);
+        article.setTitle(title);
+        article.setSlug(slug);
+        article.setSummary(truncate(document.getString("summary", "description", "excerpt"), MAX_SUMMARY_LENGTH));
+        article.setContent(document.body());
+        article.setCoverImg(cover != null && cover.length() <= MAX_FIELD_LENGTH ? cover : null);
+        article.setKeywords(truncate(String.join(",", document.getList("keywords")), MAX_FIELD_LENGTH));
+        article.setViewCount(0L);
+        article.setLikeCount(0L);
+        article.setIsTop(Boolean.TRUE.equals(document.getBoolean("top")) ? 1 : 0);
+        article.setStatus(status);
+        article.setPublishTime(draft ? null : date);
+        article.setCreateTime(date);
+        article.setUpdateTime(updated);
+
+        String category = truncate(defaultIfNull(document.getString("category", "categories"), defaultCategory),
+                MAX_NAME_LENGTH);
+        List<String> tags = document.getList("tags").stream()
+                .map(tag -> truncate(tag, MAX_NAME_LENGTH))
+                .distinct()
+                .toList();
+        return new ParsedArticle(entryName, article, category, tags);
+    }
+
+    /**
+     * 按名称查找分类ID，不存在时创建
+     */
+    private Long resolveCategoryId(String name, ImportContext context) {
+        Long id = context.categoryIds.get(nameKey(name));
+        if (id != null) {
+            return id;
+        }
+        Category category = new Category();
+        category.setName(name);
+        category.setSort(0);
+        category.setStatus(1);
+        try {
+            categoryMapper.insert(category);
+            id = category.getId();
+            context.progress.setCreatedCategories(context.progress.getCreatedCategories() + 1);
+        } catch (DuplicateKeyException e) {
+            // 并发创建，或与已有名称仅大小写不同
+            id = categoryMapper.selectOne(new LambdaQueryWrapper<Category>()
+                    .select(Category::getId)
+                    .eq(Category::getName, name)).getId();
+        }
+        context.categoryIds.put(nameKey(name), id);
+        return id;
+    }
+
+    /**
+     * 按名称查找标签ID，不存在时创建
+     */
+    private Long resolveTagId(String name, ImportContext context) {
+        Long id = context.tagIds.get(nameKey(name));
+        if (id != null) {
+            return id;
+        }
+        Tag tag = new Tag();
+        tag.setName(name);
+        try {
+            tagMapper.insert(tag);
+            id = tag.getId();
+            context.progress.setCreatedTags(context.progress.getCreatedTags() + 1);
+        } catch (DuplicateKeyException e) {
+            id = tagMapper.selectOne(new LambdaQueryWrapper<Tag>()
+                    .select(Tag::getId)
+                    .eq(Tag::getName, name)).getId();
+        }
+        context.tagIds.put(nameKey(name), id);
+        return id;
+    }
+
+    private static boolean isMarkdown(ZipEntry entry) {
+        String name = entry.getName().toLowerCase(Locale.ROOT);
+        return !entry.isDirectory()
+                && !name.startsWith("__macosx/")
+                && (name.endsWith(".md") || name.endsWith(".markdown"));
+    }
+
+    /**
+     * 条目的文件名（去掉目录和扩展名）
+     */
+    private static String baseName(String entryName) {
+        String name = entryName.substring(entryName.lastIndexOf('/') + 1);
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    /**
+     * 规范化 slug：取路径的最后一段，转小写，只保留字母、数字和横线；结果为空时返回 null
+     */
+    private static String normalizeSlug(String value) {
+        if (value == null) {
+            return null;
+        }
+        String slug = value.trim().replaceAll("/+$", "");
+        slug = slug.substring(slug.lastIndexOf('/') + 1)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", "-")
+                .replaceAll("[^a-z0-9-]", "")
+                .replaceAll("^-+|-+$", "");
+        if (slug.length() > MAX_SLUG_LENGTH) {
+            slug = slug.substring(0, MAX_SLUG_LENGTH);
+        }
+        return slug.isEmpty() ? null : slug;
+    }
+
+    /**
+     * 分类/标签名称的缓存 Key（数据库唯一索引不区分大小写）
+     */
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        return value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private static <T> T defaultIfNull(T value, T defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * 解析后的文章
+     */
+    private record ParsedArticle(String entryName, Article article, String categoryName, List<String> tagNames) {
+    }
+
+    /**
+     * 单次导入的上下文：进度、分类/标签缓存、已导入的 slug
+     */
+    private static final class ImportContext {
+        private final ArticleImportProgressVO progress;
+        private final Long authorId;
+        private final Map<String, Long> categoryIds = new HashMap<>();
+        private final Map<String, Long> tagIds = new HashMap<>();
+        private final Set<String> importedSlugs = new HashSet<>();
+
+        private ImportContext(ArticleImportProgressVO progress, Long authorId) {
+            this.progress = progress;
+            this.authorId = authorId;
+        }
+
+        private void skip(String entryName, String reason) {
+            progress.setSkipped(progress.getSkipped() + 1);
+            addError(entryName + ": " + reason);
+        }
+
+        private void fail(String entryName, String reason) {
+            progress.setFailed(progress.getFailed() + 1);
+            addError(entryName + ": " + reason);
+        }
+
+        private void addError(String error) {
+            if (progress.getErrors().size() < MAX_ERRORS) {
+                progress.getErrors().add(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.xuan.service.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.xuan.entity.po.blog.Article;
+import com.xuan.service.event.ArticleChangedEvent;
+import com.xuan.service.event.ArticleScheduleEvent;
+import com.xuan.service.mapper.ArticleMapper;
+import com.xuan.service.service.IArticleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.xuan.common.constant.RedisConstant.ARTICLE_PUBLISH_LOCK_KEY;
+import static com.xuan.common.constant.RedisConstant.ARTICLE_PUBLISH_LOCK_TTL_SECONDS;
+import static com.xuan.common.constant.RedisConstant.ARTICLE_PUBLISH_SCHEDULE_KEY;
+import static com.xuan.common.enums.ArticleStatusEnum.PUBLISHED;
+import static com.xuan.common.enums.ArticleStatusEnum.SCHEDULED;
+
+/**
+ * 文章定时发布调度器
+ * <p>
+ * 定时发布的文章以“计划发布时间”为分数登记在 Redis ZSet {@code article:publish:schedule} 中，
+ * 调度器每隔 {@code blog.article.schedule.poll-interval-ms} 取出到期的文章（多实例下由 Redis 锁保证只有一个实例执行），
+ * 对每篇文章：
+ * 1. CAS 更新状态（WHERE status = 3 AND publish_time <= now），期间被取消或改期的文章不会被误发布
+ * 2. 先预热详情缓存与卡片缓存，再使列表/首页/分类/标签缓存失效，发布瞬间的流量不会打到冷缓存上
+ * <p>
+ * ZSet 只是加速结构，以数据库为准：启动时及每隔 {@code sync-interval-ms} 按 (status, publish_time) 索引重新登记
+ *
+ * @author 玄〤
+ * @since 2026-03-12
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticlePublishScheduler {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ArticleMapper articleMapper;
+    private final IArticleService articleService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 每轮最多发布的文章数
+     */
+    @Value("${blog.article.schedule.batch-size:50}")
+    private int batchSize;
+
+    /**
+     * 定时发布计划变更：事务提交后登记或取消
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleSchedule(ArticleScheduleEvent event) {
+        try {
+            String member = String.valueOf(event.getArticleId());
+            if (event.getPublishTime() == null) {
+                redisTemplate.opsForZSet().remove(ARTICLE_PUBLISH_SCHEDULE_KEY, member);
+            } else {
+                redisTemplate.opsForZSet().add(ARTICLE_PUBLISH_SCHEDULE_KEY, member, toEpochMilli(event.getPublishTime()));
+            }
+        } catch (Exception e) {
+            // 登记失败不影响保存，定期同步会按数据库补登
+            log.warn("登记文章定时发布失败: {}, {}", event, e.getMessage());
+        }
+    }
+
+    /**
+     * 按数据库重新登记全部定时发布的文章
+     */
+    @Scheduled(fixedDelayString = "${blog.article.schedule.sync-interval-ms:300000}")
+    public void syncFromDatabase() {
+        try {
+            List<Article> articles = articleMapper.selectList(new LambdaQueryWrapper<Article>()
+                    .select(Article::getId, Article::getPublishTime)
+                    .eq(Article::getStatus, SCHEDULED.getCode())
+                    .isNotNull(Article::getPublishTime));
+            if (articles.isEmpty()) {
+                return;
+            }
+            Set<ZSetOperations.TypedTuple<String>> tuples = articles.stream()
+                    .map(article -> (ZSetOperations.TypedTuple<String>) new DefaultTypedTuple<>(
+                            String.valueOf(article.getId()), (double) toEpochMilli(article.getPublishTime())))
+                    .collect(Collectors.toSet());
+            redisTemplate.opsForZSet().add(ARTICLE_PUBLISH_SCHEDULE_KEY, tuples);
+            log.debug("定时发布队列同步完成，共 {} 篇", tuples.size());
+        } catch (Exception e) {
+            log.warn("定时发布队列同步失败: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 发布到期的文章
+     */
+    @Scheduled(fixedDelayString = "${blog.article.schedule.poll-interval-ms:1000}")
+    public void publishDueArticles() {
+        Set<String> due = redisTemplate.opsForZSet().rangeByScore(ARTICLE_PUBLISH_SCHEDULE_KEY,
+                0, System.currentTimeMillis(), 0, batchSize);
+        if (due == null || due.isEmpty()) {
+            return;
+        }
+
+        // 1.获取分布式锁，其他实例正在发布时跳过本轮
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(ARTICLE_PUBLISH_LOCK_KEY, token,
+                ARTICLE_PUBLISH_LOCK_TTL_SECONDS, TimeUnit.SECONDS);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        // 2.逐篇发布
+        try {
+            for (String member : due) {
+                try {
+                    publish(Long.valueOf(member));
+                } catch (Exception e) {
+                    // 保留在队列中，下一轮重试
+                    log.warn("文章定时发布失败: articleId={}, {}", member, e.getMessage());
+                }
+            }
+        } finally {
+            if (token.equals(redisTemplate.opsForValue().get(ARTICLE_PUBLISH_LOCK_KEY))) {
+                redisTemplate.delete(ARTICLE_PUBLISH_LOCK_KEY);
+            }
+        }
+    }
+
+    /**
+     * 发布一篇到期的文章
+     */
+    private void publish(Long articleId) {
+        String member = String.valueOf(articleId);
+
+        // 1.CAS 更新状态
+        int updated = articleMapper.update(null, new LambdaUpdateWrapper<Article>()
+                .set(Article::getStatus, PUBLISHED.getCode())
+                .eq(Article::getId, articleId)
+                .eq(Article::getStatus, SCHEDULED.getCode())
+                .le(Article::getPublishTime, LocalDateTime.now()));
+        redisTemplate.opsForZSet().remove(ARTICLE_PUBLISH_SCHEDULE_KEY, member);
+        if (updated == 0) {
+            // 已取消、已删除或已改期：改期的文章按数据库中的新时间重新登记
+            Article article = articleMapper.selectOne(new LambdaQueryWrapper<Article>()
+                    .select(Article::getId, Article::getStatus, Article::getPublishTime)
+                    .eq(Article::getId, articleId));
+            if (article != null && SCHEDULED.getCode().equals(article.getStatus()) && article.getPublishTime() != null) {
+                redisTemplate.opsForZSet().add(ARTICLE_PUBLISH_SCHEDULE_KEY, member, toEpochMilli(article.getPublishTime()));
+            }
+            return;
+        }
+
+        // 2.先预热详情/卡片缓存，再使列表、首页和分类/标签缓存失效
+        //   事件中不带文章ID，否则刚预热的详情/卡片缓存会被清除
+        try {
+            articleService.warmUpBlogArticle(articleId);
+        } catch (Exception e) {
+            log.warn("定时发布文章缓存预热失败: articleId={}, {}", articleId, e.getMessage());
+        }
+        eventPublisher.publishEvent(ArticleChangedEvent.builder()
+                .cardChanged(true)
+                .listChanged(true)
+                .taxonomyChanged(true)
+                .build());
+        log.info("文章定时发布完成: articleId={}", articleId);
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,285 @@
+package com.xuan.service.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.xuan.common.exceptions.BusinessException;
+import com.xuan.common.utils.TextDeltaUtils;
+import com.xuan.entity.dto.article.ArticleUpdateDTO;
+import com.xuan.entity.po.blog.Article;
+import com.xuan.entity.po.blog.ArticleRevision;
+import com.xuan.entity.vo.article.ArticleRevisionVO;
+import com.xuan.service.event.ArticleChangedEvent;
+import com.xuan.service.event.ArticleRevisionEvent;
+import com.xuan.service.mapper.ArticleRevisionMapper;
+import com.xuan.service.mapper.ArticleTagMapper;
+import com.xuan.service.service.IArticleRevisionService;
+import com.xuan.service.service.IArticleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.xuan.common.enums.ErrorCode.ARTICLE_NOT_FOUND;
+import static com.xuan.common.enums.ErrorCode.ARTICLE_REVISION_NOT_FOUND;
+
+/**
+ * 文章历史版本服务实现
+ * <p>
+ * 存储方式：版本 1、1+N、1+2N ... 保存正文的全量快照，其余版本只保存相对上一版本的行级增量，均经 GZIP 压缩；
+ * 增量不小于全量时也改存快照。还原任意版本只需读取最近的一个快照及其后不超过 N-1 条增量，耗时有上限
+ * <p>
+ * 记录方式：文章保存的事务提交后，由 {@link ArticleRevisionEvent} 在异步线程中记录，不增加保存接口的耗时；
+ * 版本号冲突（并发保存）时重新读取最新版本后重试
+ *
+ * @author 玄〤
+ * @since 2026-03-11
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleRevisionServiceImpl implements IArticleRevisionService {
+
+    /** 快照标记 */
+    private static final int SNAPSHOT = 1;
+    private static final int DELTA = 0;
+
+    /** 版本号冲突时的最大重试次数 */
+    private static final int MAX_RECORD_ATTEMPTS = 3;
+
+    private final ArticleRevisionMapper articleRevisionMapper;
+    private final ArticleTagMapper articleTagMapper;
+    private final IArticleService articleService;
+
+    /**
+     * 全量快照间隔（版本数）
+     */
+    @Value("${blog.article.revision.snapshot-interval:10}")
+    private int snapshotInterval;
+
+    /**
+     * 文章历史版本列表
+     *
+     * @param articleId 文章id
+     * @return 版本列表
+     */
+    @Override
+    public List<ArticleRevisionVO> listRevisions(Long articleId) {
+        return articleRevisionMapper.selectList(new LambdaQueryWrapper<ArticleRevision>()
+                        .select(ArticleRevision::getArticleId, ArticleRevision::getRevisionNo, ArticleRevision::getTitle,
+                                ArticleRevision::getSummary, ArticleRevision::getSnapshot,
+                                ArticleRevision::getContentLength, ArticleRevision::getCreateTime)
+                        .eq(ArticleRevision::getArticleId, articleId)
+                        .orderByDesc(ArticleRevision::getRevisionNo))
+                .stream()
+                .map(revision -> toRevisionVO(revision, null))
+                .toList();
+    }
+
+    /**
+     * 获取指定版本
+     *
+     * @param articleId  文章id
+     * @param revisionNo 版本号
+     * @return 版本详情
+     */
+    @Override
+    public ArticleRevisionVO getRevision(Long articleId, Integer revisionNo) {
+        ArticleRevision revision = articleRevisionMapper.selectOne(new LambdaQueryWrapper<ArticleRevision>()
+                .select(ArticleRevision::getArticleId, ArticleRevision::getRevisionNo, ArticleRevision::getTitle,
+                        ArticleRevision::getSummary, ArticleRevision::getSnapshot,
+                        ArticleRevision::getContentLength, ArticleRevision::getCreateTime)
+                .eq(ArticleRevision::getArticleId, articleId)
+                .eq(ArticleRevision::getRevisionNo, revisionNo));
+        if (revision == null) {
+            throw new BusinessException(ARTICLE_REVISION_NOT_FOUND);
+        }
+        return toRevisionVO(revision, loadContent(articleId, revisionNo));
+    }
+
+    /**
+     * 回滚文章到指定版本
+     *
+     * @param articleId  文章id
+     * @param revisionNo 版本号
+     */
+    @Override
+    public void rollbackToRevision(Long articleId, Integer revisionNo) {
+        // 1.查询文章与目标版本
+        Article article = articleService.getById(articleId);
+        if (article == null) {
+            throw new BusinessException(ARTICLE_NOT_FOUND);
+        }
+        ArticleRevisionVO revision = getRevision(articleId, revisionNo);
+
+        // 2.只回滚标题/摘要/正文，其余属性保持当前值；保存流程会清除缓存并记录新版本
+        ArticleUpdateDTO articleUpdateDTO = new ArticleUpdateDTO();
+        articleUpdateDTO.setTitle(revision.getTitle());
+        articleUpdateDTO.setSummary(revision.getSummary());
+        articleUpdateDTO.setContent(revision.getContent());
+        articleUpdateDTO.setCategoryId(article.getCategoryId());
+        articleUpdateDTO.setTagIds(articleTagMapper.selectTagIdsByArticleId(articleId));
+        articleUpdateDTO.setCoverImg(article.getCoverImg());
+        articleUpdateDTO.setIsTop(article.getIsTop());
+        articleUpdateDTO.setStatus(article.getStatus());
+        articleUpdateDTO.setSlug(article.getSlug());
+        articleUpdateDTO.setKeywords(article.getKeywords());
+        articleService.updateArticle(articleId, articleUpdateDTO);
+    }
+
+    /**
+     * 文章保存后记录历史版本
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleRevision(ArticleRevisionEvent event) {
+        for (int attempt = 1; attempt <= MAX_RECORD_ATTEMPTS; attempt++) {
+            try {
+                recordRevision(event);
+                return;
+            } catch (DuplicateKeyException e) {
+                log.debug("文章版本号冲突，重试: articleId={}, attempt={}", event.getArticleId(), attempt);
+            } catch (Exception e) {
+                log.warn("记录文章历史版本失败: articleId={}, {}", event.getArticleId(), e.getMessage());
+                return;
+            }
+        }
+        log.warn("记录文章历史版本失败，版本号持续冲突: articleId={}", event.getArticleId());
+    }
+
+    /**
+     * 文章删除后清除其历史版本
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (!event.isDeleted() || event.getArticleIds().isEmpty()) {
+            return;
+        }
+        try {
+            articleRevisionMapper.delete(new LambdaQueryWrapper<ArticleRevision>()
+                    .in(ArticleRevision::getArticleId, event.getArticleIds()));
+        } catch (Exception e) {
+            log.warn("清除文章历史版本失败: {}, {}", event.getArticleIds(), e.getMessage());
+        }
+    }
+
+    /**
+     * 记录一个新版本（与最新版本相同时跳过）
+     */
+    private void recordRevision(ArticleRevisionEvent event) {
+        Long articleId = event.getArticleId();
+        Article current = event.getCurrent();
+
+        // 1.还没有历史版本：先把修改前的内容记为第一个版本
+        ArticleRevision latest = articleRevisionMapper.selectOne(new LambdaQueryWrapper<ArticleRevision>()
+                .select(ArticleRevision::getRevisionNo, ArticleRevision::getTitle, ArticleRevision::getSummary)
+                .eq(ArticleRevision::getArticleId, articleId)
+                .orderByDesc(ArticleRevision::getRevisionNo)
+                .last("LIMIT 1"));
+        String latestContent;
+        if (latest == null) {
+            Article previous = event.getPrevious();
+            if (previous == null || sameRevision(previous.getTitle(), previous.getSummary(), previous.getContent(), current)) {
+                insertRevision(articleId, 1, current, null);
+                return;
+            }
+            insertRevision(articleId, 1, previous, null);
+            latest = ArticleRevision.builder()
+                    .revisionNo(1)
+                    .title(previous.getTitle())
+                    .summary(previous.getSummary())
+                    .build();
+            latestContent = previous.getContent();
+        } else {
+            latestContent = loadContent(articleId, latest.getRevisionNo());
+        }
+
+        // 2.与最新版本相同则跳过
+        if (sameRevision(latest.getTitle(), latest.getSummary(), latestContent, current)) {
+            return;
+        }
+        insertRevision(articleId, latest.getRevisionNo() + 1, current, latestContent);
+    }
+
+    /**
+     * 插入版本：按间隔或增量过大时保存全量快照，否则保存相对上一版本的增量
+     *
+     * @param previousContent 上一版本正文，为 null 时保存快照
+     */
+    private void insertRevision(Long articleId, int revisionNo, Article content, String previousContent) {
+        byte[] full = TextDeltaUtils.compress(content.getContent());
+        byte[] data = full;
+        int snapshot = SNAPSHOT;
+        if (previousContent != null && (revisionNo - 1) % snapshotInterval != 0) {
+            byte[] delta = TextDeltaUtils.diff(previousContent, content.getContent());
+            if (delta.length < full.length) {
+                data = delta;
+                snapshot = DELTA;
+            }
+        }
+        articleRevisionMapper.insert(ArticleRevision.builder()
+                .articleId(articleId)
+                .revisionNo(revisionNo)
+                .title(content.getTitle())
+                .summary(content.getSummary())
+                .snapshot(snapshot)
+                .contentData(data)
+                .contentLength(content.getContent() == null ? 0 : content.getContent().length())
+                .build());
+    }
+
+    /**
+     * 还原指定版本的正文：读取不晚于该版本的最近快照，依次应用其后的增量
+     */
+    private String loadContent(Long articleId, int revisionNo) {
+        ArticleRevision base = articleRevisionMapper.selectOne(new LambdaQueryWrapper<ArticleRevision>()
+                .select(ArticleRevision::getRevisionNo, ArticleRevision::getContentData)
+                .eq(ArticleRevision::getArticleId, articleId)
+                .eq(ArticleRevision::getSnapshot, SNAPSHOT)
+                .le(ArticleRevision::getRevisionNo, revisionNo)
+                .orderByDesc(ArticleRevision::getRevisionNo)
+                .last("LIMIT 1"));
+        if (base == null) {
+            throw new BusinessException(ARTICLE_REVISION_NOT_FOUND);
+        }
+        String content = TextDeltaUtils.decompress(base.getContentData());
+        if (base.getRevisionNo() == revisionNo) {
+            return content;
+        }
+        List<ArticleRevision> deltas = articleRevisionMapper.selectList(new LambdaQueryWrapper<ArticleRevision>()
+                .select(ArticleRevision::getRevisionNo, ArticleRevision::getContentData)
+                .eq(ArticleRevision::getArticleId, articleId)
+                .gt(ArticleRevision::getRevisionNo, base.getRevisionNo())
+                .le(ArticleRevision::getRevisionNo, revisionNo)
+                .orderByAsc(ArticleRevision::getRevisionNo));
+        for (ArticleRevision delta : deltas) {
+            content = TextDeltaUtils.patch(content, delta.getContentData());
+        }
+        return content;
+    }
+
+    private static boolean sameRevision(String title, String summary, String content, Article current) {
+        return Objects.equals(title, current.getTitle())
+                && Objects.equals(summary, current.getSummary())
+                && Objects.equals(Objects.toString(content, ""), Objects.toString(current.getContent(), ""));
+    }
+
+    private ArticleRevisionVO toRevisionVO(ArticleRevision revision, String content) {
+        return ArticleRevisionVO.builder()
+                .articleId(revision.getArticleId())
+                .revisionNo(revision.getRevisionNo())
+                .title(revision.getTitle())
+                .summary(revision.getSummary())
+                .content(content)
+                .contentLength(revision.getContentLength())
+                .snapshot(revision.getSnapshot() != null && revision.getSnapshot() == SNAPSHOT)
+                .createTime(revision.getCreateTime())
+                .build();
+    }
+}
@@ -3,16 +3,18 @@ package com.xuan.service.service.impl;
 import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.util.StrUtil;
 
-import com.alibaba.fastjson2.JSON;
 import com.alibaba.fastjson2.TypeReference;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.xuan.common.cache.CacheClient;
 import com.xuan.common.constant.DateTimeFormatConstant;
 import com.xuan.common.constant.RedisConstant;
 import com.xuan.common.exceptions.BusinessException;
 import com.xuan.common.utils.DateTimeFormatUtils;
+import com.xuan.common.utils.LatencyRecorder;
+import com.xuan.common.utils.StructuredFanOut;
 import com.xuan.entity.dto.article.ArticleAdminPageQueryDTO;
 import com.xuan.entity.dto.article.ArticleCreateDTO;
 import com.xuan.entity.dto.article.ArticlePageQueryDTO;
@@ -31,6 +33,7 @@ import com.xuan.entity.vo.article.ArticleAdminListVO;
 import com.xuan.entity.vo.article.ArticleCreatVO;
 import com.xuan.entity.vo.article.ArticleDetailVO;
 import com.xuan.entity.vo.article.ArticleListVO;
+import com.xuan.entity.vo.monitor.LatencyStatsVO;
 import com.xuan.entity.vo.tag.TagVO;
 import com.xuan.service.mapper.ArticleLikeMapper;
 import com.xuan.service.mapper.ArticleMapper;
@@ -38,36 +41,56 @@ import com.xuan.service.mapper.ArticleTagMapper;
 import com.xuan.service.mapper.CategoryMapper;
 import com.xuan.service.mapper.SysUserMapper;
 import com.xuan.service.mapper.TagMapper;
+import com.xuan.service.event.ArticleChangedEvent;
+import com.xuan.service.event.ArticleRevisionEvent;
+import com.xuan.service.event.ArticleScheduleEvent;
 import com.xuan.service.service.IArticleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.xuan.common.constant.DateTimeFormatConstant.DAY_FORMAT_PATTERN;
+import static com.xuan.common.constant.RedisConstant.ARTICLE_CARD_KEY_PREFIX;
+import static com.xuan.common.constant.RedisConstant.ARTICLE_CARD_TTL_MINUTES;
 import static com.xuan.common.constant.RedisConstant.ARTICLE_DETAIL_KEY_PREFIX;
 import static com.xuan.common.constant.RedisConstant.ARTICLE_DETAIL_TTL_MINUTES;
 import static com.xuan.common.constant.RedisConstant.ARTICLE_LIKE_COUNT_KEY_PREFIX;
 import static com.xuan.common.constant.RedisConstant.ARTICLE_PAGE_KEY_PREFIX;
 import static com.xuan.common.constant.RedisConstant.ARTICLE_PAGE_TTL_MINUTES;
+import static com.xuan.common.constant.RedisConstant.ARTICLE_PAGE_VERSION_KEY;
 import static com.xuan.common.constant.RedisConstant.ARTICLE_USER_LIKE_KEY_PREFIX;
 import static com.xuan.common.constant.RedisConstant.ARTICLE_VIEW_KEY_PREFIX;
-import static com.xuan.common.constant.RedisConstant.CATEGORY_LIST_KEY;
-import static com.xuan.common.constant.RedisConstant.TAG_LIST_KEY;
+import static com.xuan.common.constant.RedisConstant.CACHE_NAME_ARTICLE_CARD;
+import static com.xuan.common.constant.RedisConstant.CACHE_NAME_ARTICLE_DETAIL;
+import static com.xuan.common.constant.RedisConstant.CACHE_NAME_ARTICLE_PAGE;
 import static com.xuan.common.enums.ArticleStatusEnum.PUBLISHED;
+import static com.xuan.common.enums.ArticleStatusEnum.SCHEDULED;
 import static com.xuan.common.enums.ErrorCode.ARTICLE_CREATE_FAILED;
 import static com.xuan.common.enums.ErrorCode.ARTICLE_DELETE_EMPTY;
 import static com.xuan.common.enums.ErrorCode.ARTICLE_NOT_FOUND;
+import static com.xuan.common.enums.ErrorCode.ARTICLE_PUBLISH_TIME_INVALID;
+import static com.xuan.common.enums.ErrorCode.PARAM_ERROR;
 
 @Service
 @Slf4j
@@ -75,11 +98,38 @@ import static com.xuan.common.enums.ErrorCode.ARTICLE_NOT_FOUND;
 public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> implements IArticleService {
 
     private final StringRedisTemplate redisTemplate;
+    private final CacheClient cacheClient;
     private final ArticleLikeMapper articleLikeMapper;
     private final ArticleTagMapper articleTagMapper;
     private final CategoryMapper categoryMapper;
     private final TagMapper tagMapper;
     private final SysUserMapper sysUserMapper;
+    private final ArticleSlugIndex articleSlugIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CommentCounter commentCounter;
+
+    /**
+     * 单次批量获取文章卡片的最大数量
+     */
+    private static final int ARTICLE_CARD_BATCH_MAX = 100;
+
+    /**
+     * 文章详情冷加载耗时采样（保留最近 1024 次）
+     */
+    private final LatencyRecorder sequentialDetailLatency = new LatencyRecorder(1024);
+    private final LatencyRecorder concurrentDetailLatency = new LatencyRecorder(1024);
+
+    /**
+     * 文章详情缓存未命中时，是否在虚拟线程上并行加载关联数据
+     */
+    @Value("${blog.article.detail.concurrent:false}")
+    private boolean detailConcurrent;
+
+    /**
+     * 并行加载时单个子任务的超时时间（毫秒）
+     */
+    @Value("${blog.article.detail.subtask-timeout-ms:300}")
+    private long detailSubtaskTimeoutMs;
 
     /**
      * 创建文章
@@ -102,10 +152,10 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
             article.setSlug(ensureUniqueSlug(article.getSlug()));
         }
 
-        if (article.getStatus().equals(PUBLISHED)) {
-            // 如果文章状态为发布，则设置发布时间为当前时间
-            article.setPublishTime(LocalDateTime.now());
-        }
+        // 处理状态与发布时间：发布时间晚于当前时间的文章按定时发布处理
+        LocalDateTime requestedPublishTime = articleCreateDTO.getPublishTime();
+        article.setStatus(resolveStatus(articleCreateDTO.getStatus(), requestedPublishTime));
+        article.setPublishTime(resolvePublishTime(article.getStatus(), requestedPublishTime, null));
 
         // 设置浏览次数为0
         article.setViewCount(0L);
@@ -121,12 +171,19 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
 
         // 2.处理标签关联
         saveArticleTags(article.getId(), articleCreateDTO.getTagIds());
-        // 3.清除分类/标签缓存（文章数量发生变化）
-        clearCategoryTagCache();
-        // 4.清除文章列表缓存
-        clearArticlePageCache();
+        // 3.发布文章变更事件：提交后同步 slug 索引，清除分类/标签缓存（文章数量发生变化）和文章列表缓存
+        eventPublisher.publishEvent(ArticleChangedEvent.builder()
+                .articleIds(List.of(article.getId()))
+                .slugs(slugsOf(article.getSlug()))
+                .listChanged(true)
+                .taxonomyChanged(true)
+                .build());
+        eventPublisher.publishEvent(new ArticleRevisionEvent(article.getId(), null, article));
+        if (SCHEDULED.getCode().equals(article.getStatus())) {
+            eventPublisher.publishEvent(new ArticleScheduleEvent(article.getId(), article.getPublishTime()));
+        }
 
-        // 5.返回文章创建VO
+        // 4.返回文章创建VO
         return BeanUtil.copyProperties(article, ArticleCreatVO.class);
     }
 
@@ -229,6 +286,11 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
 
     /**
      * 更新文章
+     * 只更新有变化的列和标签关联，并只清除受影响的缓存：
+     * 1. 有任何变化：清除该文章的详情缓存和卡片缓存
+     * 2. 标题、摘要、封面、分类、标签有变化：清除首页缓存（首页直接缓存了卡片内容）
+     * 3. 分类、标签、状态、置顶有变化：使文章列表分页缓存失效（列表成员或排序变化）
+     * 4. 分类、标签、状态有变化：清除分类/标签列表缓存（文章数量变化）
      *
      * @param id               文章id
      * @param articleUpdateDTO 更新参数
@@ -242,37 +304,85 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
             throw new BusinessException(ARTICLE_NOT_FOUND);
         }
 
-        // 保存原始slug，用于判断是否需要检查唯一性
+        // 2.对比请求参数与数据库中的文章，只收集有变化的列（null 表示不修改）
+        Article changes = new Article();
+        boolean cardChanged = setIfChanged(articleUpdateDTO.getTitle(), article.getTitle(), changes::setTitle)
+                | setIfChanged(articleUpdateDTO.getSummary(), article.getSummary(), changes::setSummary)
+                | setIfChanged(articleUpdateDTO.getCoverImg(), article.getCoverImg(), changes::setCoverImg);
+        boolean categoryChanged = setIfChanged(articleUpdateDTO.getCategoryId(), article.getCategoryId(),
+                changes::setCategoryId);
+        LocalDateTime requestedPublishTime = requestedPublishTime(articleUpdateDTO.getStatus(),
+                articleUpdateDTO.getPublishTime(), article.getPublishTime());
+        Integer status = resolveStatus(articleUpdateDTO.getStatus(), requestedPublishTime);
+        boolean statusChanged = setIfChanged(status, article.getStatus(), changes::setStatus);
+        boolean publishTimeChanged = setIfChanged(resolvePublishTime(status, requestedPublishTime,
+                article.getPublishTime()), article.getPublishTime(), changes::setPublishTime);
+        boolean topChanged = setIfChanged(articleUpdateDTO.getIsTop(), article.getIsTop(), changes::setIsTop);
+        boolean detailChanged = setIfChanged(articleUpdateDTO.getContent(), article.getContent(), changes::setContent)
+                | setIfChanged(articleUpdateDTO.getKeywords(), article.getKeywords(), changes::setKeywords);
+
+        // 处理slug：如果slug有变化，则需要确保唯一性；清空slug时根据标题重新生成
         String originalSlug = article.getSlug();
-
-        // 2.更新文章基本信息
-        BeanUtil.copyProperties(articleUpdateDTO, article, "id");
-
-        // 处理slug：如果slug有变化，则需要确保唯一性
-        if (!StrUtil.equals(article.getSlug(), originalSlug)) {
-            if (StrUtil.isBlank(article.getSlug())) {
-                // 如果用户清空了slug，则根据标题重新生成
-                String generatedSlug = generateSlugFromTitle(article.getTitle());
-                article.setSlug(ensureUniqueSlug(generatedSlug));
-            } else {
-                // 如果用户修改了slug，确保其唯一性
-                article.setSlug(ensureUniqueSlug(article.getSlug()));
+        String slug = articleUpdateDTO.getSlug();
+        if (!StrUtil.equals(slug, originalSlug)) {
+            if (StrUtil.isBlank(slug)) {
+                String title = StrUtil.blankToDefault(articleUpdateDTO.getTitle(), article.getTitle());
+                slug = generateSlugFromTitle(title);
+            }
+            if (!StrUtil.equals(slug, originalSlug)) {
+                slug = ensureUniqueSlug(slug);
+                changes.setSlug(slug);
+                detailChanged = true;
             }
         }
 
-        if (article.getStatus().equals(PUBLISHED) && article.getPublishTime() == null) {
-            article.setPublishTime(LocalDateTime.now());
+        // 3.对比标签集合，只增删有变化的关联
+        Set<Long> oldTagIds = new LinkedHashSet<>(articleTagMapper.selectTagIdsByArticleId(id));
+        Set<Long> newTagIds = articleUpdateDTO.getTagIds() == null
+                ? Collections.emptySet()
+                : new LinkedHashSet<>(articleUpdateDTO.getTagIds());
+        List<Long> removedTagIds = oldTagIds.stream().filter(tagId -> !newTagIds.contains(tagId)).toList();
+        List<Long> addedTagIds = newTagIds.stream().filter(tagId -> !oldTagIds.contains(tagId)).toList();
+        boolean tagsChanged = !removedTagIds.isEmpty() || !addedTagIds.isEmpty();
+
+        boolean columnsChanged = cardChanged || categoryChanged || statusChanged || publishTimeChanged
+                || topChanged || detailChanged;
+        if (!columnsChanged && !tagsChanged) {
+            log.debug("文章内容无变化，跳过更新: articleId={}", id);
+            return;
         }
-        updateById(article);
-
-        // 3.更新标签关联：先删除旧的，再插入新的
-        articleTagMapper.deleteByArticleId(id);
-        saveArticleTags(id, articleUpdateDTO.getTagIds());
-        // 4.清除文章详情缓存、分类/标签列表缓存和文章列表缓存
-        clearArticleDetailCache(id);
-        clearCategoryTagCache();
-        clearArticlePageCache();
 
+        // 4.写库：只更新变化的列（值为 null 的字段不会出现在 SET 中）
+        if (columnsChanged) {
+            changes.setId(id);
+            updateById(changes);
+        }
+        if (!removedTagIds.isEmpty()) {
+            articleTagMapper.deleteByArticleIdAndTagIds(id, removedTagIds);
+        }
+        saveArticleTags(id, addedTagIds);
+
+        // 5.发布文章变更事件，提交后按变化范围清除缓存
+        boolean taxonomyChanged = categoryChanged || tagsChanged || statusChanged;
+        eventPublisher.publishEvent(ArticleChangedEvent.builder()
+                .articleIds(List.of(id))
+                .slugs(changes.getSlug() == null ? List.of() : slugsOf(originalSlug, changes.getSlug()))
+                .cardChanged(cardChanged || categoryChanged || tagsChanged)
+                .listChanged(taxonomyChanged || topChanged)
+                .taxonomyChanged(taxonomyChanged)
+                .draftObsolete(cardChanged || detailChanged)
+                .build());
+        // 6.标题/摘要/正文有变化时，提交后异步记录历史版本
+        if (changes.getTitle() != null || changes.getSummary() != null || changes.getContent() != null) {
+            Article current = new Article();
+            current.setTitle(changes.getTitle() != null ? changes.getTitle() : article.getTitle());
+            current.setSummary(changes.getSummary() != null ? changes.getSummary() : article.getSummary());
+            current.setContent(changes.getContent() != null ? changes.getContent() : article.getContent());
+            eventPublisher.publishEvent(new ArticleRevisionEvent(id, article, current));
+        }
+        // 7.定时发布计划变化时，提交后登记或取消
+        publishScheduleChange(id, article.getStatus(), article.getPublishTime(), status,
+                publishTimeChanged ? changes.getPublishTime() : article.getPublishTime());
     }
 
     /**
@@ -292,13 +402,14 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
         removeById(id);
         // 3.删除标签关联
         articleTagMapper.deleteByArticleId(id);
-        // 4.清除文章详情缓存、分类/标签列表缓存和文章列表缓存
-        clearArticleDetailCache(id);
-        clearCategoryTagCache();
-        clearArticlePageCache();
-
-        // 5.删除文章实时浏览量缓存
-        redisTemplate.delete(ARTICLE_VIEW_KEY_PREFIX + id);
+        // 4.发布文章变更事件：提交后清除文章详情缓存、实时浏览量、分类/标签列表缓存和文章列表缓存
+        eventPublisher.publishEvent(ArticleChangedEvent.builder()
+                .articleIds(List.of(id))
+                .slugs(slugsOf(article.getSlug()))
+                .listChanged(true)
+                .taxonomyChanged(true)
+                .deleted(true)
+                .build());
     }
 
     /**
@@ -336,17 +447,17 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
         // 4.批量删除文章及其关联的标签
         removeBatchByIds(ids);
         for (Long id : ids) {
-
             articleTagMapper.deleteByArticleId(id);
-
-            // 清除文章详情缓存
-            clearArticleDetailCache(id);
-            redisTemplate.delete(ARTICLE_VIEW_KEY_PREFIX + id);
         }
 
-        // 5.清除分类/标签列表缓存和文章列表缓存
-        clearCategoryTagCache();
-        clearArticlePageCache();
+        // 5.发布文章变更事件：提交后清除文章详情缓存、实时浏览量、分类/标签列表缓存和文章列表缓存
+        eventPublisher.publishEvent(ArticleChangedEvent.builder()
+                .articleIds(existingIds)
+                .slugs(slugsOf(articles.stream().map(Article::getSlug).toArray(String[]::new)))
+                .listChanged(true)
+                .taxonomyChanged(true)
+                .deleted(true)
+                .build());
     }
 
     /**
@@ -367,8 +478,10 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
         // 2.更新文章置顶状态
         article.setIsTop(articleTopDTO.getIsTop());
         updateById(article);
-        // 3.清除文章列表缓存（置顶状态影响排序）
-        clearArticlePageCache();
+        // 3.发布文章变更事件：提交后使文章列表缓存失效（置顶状态影响排序）
+        eventPublisher.publishEvent(ArticleChangedEvent.builder()
+                .listChanged(true)
+                .build());
     }
 
     /**
@@ -384,16 +497,21 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
         if (article == null) {
             throw new BusinessException(ARTICLE_NOT_FOUND);
         }
-        // 2.更新文章状态
-        article.setStatus(articleStatusDTO.getStatus());
-        // 如果文章状态为发布，则设置发布时间
-        if (article.getStatus().equals(PUBLISHED) && article.getPublishTime() == null) {
-            article.setPublishTime(LocalDateTime.now());
-        }
+        // 2.更新文章状态：发布时间晚于当前时间时按定时发布处理，首次发布或提前发布时设置发布时间为当前时间
+        Integer originalStatus = article.getStatus();
+        LocalDateTime originalPublishTime = article.getPublishTime();
+        LocalDateTime requestedPublishTime = requestedPublishTime(articleStatusDTO.getStatus(),
+                articleStatusDTO.getPublishTime(), article.getPublishTime());
+        article.setStatus(resolveStatus(articleStatusDTO.getStatus(), requestedPublishTime));
+        article.setPublishTime(resolvePublishTime(article.getStatus(), requestedPublishTime, article.getPublishTime()));
         updateById(article);
-        // 3.清除文章详情缓存和文章列表缓存
-        clearArticleDetailCache(id);
-        clearArticlePageCache();
+        publishScheduleChange(id, originalStatus, originalPublishTime, article.getStatus(), article.getPublishTime());
+        // 3.发布文章变更事件：清除文章详情缓存、文章列表缓存和分类/标签列表缓存（已发布文章数量变化）
+        eventPublisher.publishEvent(ArticleChangedEvent.builder()
+                .articleIds(List.of(id))
+                .listChanged(true)
+                .taxonomyChanged(true)
+                .build());
     }
 
     /**
@@ -409,20 +527,21 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
         int current = articlePageQueryDTO.getCurrent() != null ? articlePageQueryDTO.getCurrent() : 1;
         int size = articlePageQueryDTO.getSize() != null ? articlePageQueryDTO.getSize() : 10;
 
-        // 1.构建缓存Key，尝试从 Redis 读取
+        // 1.构建缓存Key，尝试从 Redis 读取（分页缓存只存文章ID，卡片内容实时从卡片缓存组装）
         String cacheKey = buildArticlePageCacheKey(current, size,
                 articlePageQueryDTO.getCategoryId(), articlePageQueryDTO.getTagId());
-        String cached = redisTemplate.opsForValue().get(cacheKey);
+        Page<Long> cached = cacheClient.get(CACHE_NAME_ARTICLE_PAGE, cacheKey,
+                new TypeReference<Page<Long>>() {
+                }.getType());
         if (cached != null) {
             log.debug("文章列表缓存命中: {}", cacheKey);
-            return JSON.parseObject(cached, new TypeReference<Page<ArticleListVO>>() {
-            });
+            return toArticleCardPage(cached);
         }
 
         // 2.缓存未命中，查询数据库
         LambdaQueryWrapper<Article> wrapper = new LambdaQueryWrapper<>();
-        // 2.1 查询已发布的文章
-        wrapper.eq(Article::getStatus, PUBLISHED);
+        // 2.1 查询已发布的文章（只查ID，卡片内容由批量接口统一组装）
+        wrapper.select(Article::getId).eq(Article::getStatus, PUBLISHED.getCode());
 
         // 2.2 按分类筛选
         if (articlePageQueryDTO.getCategoryId() != null) {
@@ -446,49 +565,32 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
         // 2.4 先按置顶排序，再按发布时间排序
         wrapper.orderByDesc(Article::getIsTop).orderByDesc(Article::getPublishTime);
 
-        // 3.分页查询
+        // 3.分页查询ID
         Page<Article> page = page(new Page<>(current, size), wrapper);
-        Page<ArticleListVO> voPage = new Page<>(page.getCurrent(), page.getSize(), page.getTotal());
-        // 3.1 将分页对象中的实体类转换为VO类，并且添加实时浏览量，填充分类名称，点赞数，标签名称
-        voPage.setRecords(page.getRecords()
-                .stream()
-                .map(article -> {
-                    ArticleListVO articleListVO = BeanUtil.copyProperties(article, ArticleListVO.class);
-                    // 从Redis中获取文章的浏览量
-                    articleListVO.setViewCount(getViewCountFromRedis(article.getId(), article.getViewCount()));
-                    // 填充点赞数
-                    articleListVO.setLikeCount(article.getLikeCount());
-                    // 填充分类名称
-                    if (article.getCategoryId() != null) {
-                        Category category = categoryMapper.selectById(article.getCategoryId());
-                        if (category != null) {
-                            articleListVO.setCategoryName(category.getName());
-                        }
-                    }
-                    // 填充标签名称
-                    List<Long> tagIds = articleTagMapper.selectTagIdsByArticleId(article.getId());
-                    if (!tagIds.isEmpty()) {
-                        List<Tag> tags = tagMapper.selectBatchIds(tagIds);
-                        articleListVO.setTags(tags.stream()
-                                .map(this::toTagVO)
-                                .toList());
-                    } else {
-                        articleListVO.setTags(Collections.emptyList());
-                    }
-                    return articleListVO;
-                }).toList());
+        Page<Long> idPage = new Page<>(page.getCurrent(), page.getSize(), page.getTotal());
+        idPage.setRecords(page.getRecords().stream()
+                .map(Article::getId)
+                .toList());
 
         // 4.回填Redis缓存
         try {
-            redisTemplate.opsForValue().set(cacheKey,
-                    JSON.toJSONString(voPage),
+            cacheClient.set(CACHE_NAME_ARTICLE_PAGE, cacheKey, idPage,
                     ARTICLE_PAGE_TTL_MINUTES, TimeUnit.MINUTES);
             log.debug("文章列表缓存已回填: {}", cacheKey);
         } catch (Exception e) {
             log.warn("文章列表缓存回填失败: {}", e.getMessage());
         }
 
-        // 5.返回分页列表
+        // 5.批量获取文章卡片（卡片缓存 MGET + 未命中一次 IN 查询）
+        return toArticleCardPage(idPage);
+    }
+
+    /**
+     * 将文章ID分页转换为文章卡片分页
+     */
+    private Page<ArticleListVO> toArticleCardPage(Page<Long> idPage) {
+        Page<ArticleListVO> voPage = new Page<>(idPage.getCurrent(), idPage.getSize(), idPage.getTotal());
+        voPage.setRecords(listArticleCards(idPage.getRecords()));
         return voPage;
     }
 
@@ -505,68 +607,107 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
         // 1.使用Redis INCR 增加浏览量（无论缓存是否命中都要记录）
         redisTemplate.opsForValue().increment(ARTICLE_VIEW_KEY_PREFIX + id);
 
+        ArticleDetailVO articleDetailVO = loadBlogArticleDetail(id);
+        if (articleDetailVO == null) {
+            throw new BusinessException(ARTICLE_NOT_FOUND);
+        }
+        return articleDetailVO;
+    }
+
+    /**
+     * 根据slug获取前台文章详情
+     * slug 先经 {@link ArticleSlugIndex} 解析为文章ID，之后与按ID查询共用详情缓存
+     *
+     * @param slug 文章slug
+     * @return 前台文章详情
+     */
+    @Override
+    public ArticleDetailVO getBlogArticleDetailBySlug(String slug) {
+        // 1.解析 slug 并加载详情
+        Long id = articleSlugIndex.resolve(slug);
+        if (id == null) {
+            throw new BusinessException(ARTICLE_NOT_FOUND);
+        }
+        ArticleDetailVO articleDetailVO = loadBlogArticleDetail(id);
+
+        // 2.索引可能已过期（其他实例修改了slug或删除了文章），从数据库重新解析一次
+        if (!matchesSlug(articleDetailVO, slug)) {
+            id = articleSlugIndex.reload(slug);
+            articleDetailVO = id == null ? null : loadBlogArticleDetail(id);
+            if (!matchesSlug(articleDetailVO, slug)) {
+                throw new BusinessException(ARTICLE_NOT_FOUND);
+            }
+        }
+
+        // 3.确认文章后再增加浏览量，返回值同步加上本次浏览
+        redisTemplate.opsForValue().increment(ARTICLE_VIEW_KEY_PREFIX + id);
+        articleDetailVO.setViewCount(articleDetailVO.getViewCount() + 1);
+        return articleDetailVO;
+    }
+
+    /**
+     * 文章详情是否对应该slug（旧版本缓存中没有slug字段，视为匹配）
+     */
+    private boolean matchesSlug(ArticleDetailVO articleDetailVO, String slug) {
+        return articleDetailVO != null
+                && (articleDetailVO.getSlug() == null || articleDetailVO.getSlug().equals(slug));
+    }
+
+    /**
+     * 加载前台文章详情（带 Redis 缓存），不记录浏览量
+     *
+     * @param id 文章id
+     * @return 前台文章详情，文章不存在或未发布时返回 null
+     */
+    @Override
+    public ArticleDetailVO loadBlogArticleDetail(Long id) {
         // 2.尝试从 Redis 缓存中读取文章详情
         String cacheKey = ARTICLE_DETAIL_KEY_PREFIX + id;
-        String cached = redisTemplate.opsForValue().get(cacheKey);
-        if (cached != null) {
+        ArticleDetailVO cachedVO = cacheClient.get(CACHE_NAME_ARTICLE_DETAIL, cacheKey, ArticleDetailVO.class);
+        if (cachedVO != null) {
             log.debug("文章详情缓存命中: articleId={}", id);
-            ArticleDetailVO cachedVO = JSON.parseObject(cached, ArticleDetailVO.class);
-            // 缓存命中后，刷新实时数据（浏览量、点赞数）
+            // 缓存命中后，刷新实时数据（缓存中的浏览量是数据库基数，叠加 Redis 增量；点赞数）
             cachedVO.setViewCount(getViewCountFromRedis(id, cachedVO.getViewCount()));
             cachedVO.setLikeCount(getLikeCountFromRedis(id));
             return cachedVO;
         }
 
         // 3.缓存未命中，查询数据库
+        long start = System.nanoTime();
         Article article = getById(id);
-        if (article == null) {
-            throw new BusinessException(ARTICLE_NOT_FOUND);
+        if (article == null || !PUBLISHED.getCode().equals(article.getStatus())) {
+            // 草稿、下架和尚未到发布时间的文章前台不可见
+            return null;
         }
 
-        // 4.填充文章详情VO类
+        // 4.填充文章详情VO类（标签、分类、作者、上/下篇、点赞数互不依赖，可并行加载）
         ArticleDetailVO articleDetailVO = BeanUtil.copyProperties(article, ArticleDetailVO.class);
-        // 4.1 设置实时浏览量
-        articleDetailVO.setViewCount(getViewCountFromRedis(id, article.getViewCount()));
-        // 4.2 填充点赞数
-        articleDetailVO.setLikeCount(getLikeCountFromRedis(id));
-        // 4.3 填充标签
-        List<Long> tagIds = articleTagMapper.selectTagIdsByArticleId(id);
-        if (!tagIds.isEmpty()) {
-            List<Tag> tags = tagMapper.selectBatchIds(tagIds);
-            articleDetailVO.setTags(tags.stream()
-                    .map(this::toTagVO)
-                    .toList());
+        boolean degraded = false;
+        if (detailConcurrent) {
+            degraded = fillDetailConcurrently(articleDetailVO, article);
+            concurrentDetailLatency.record(System.nanoTime() - start);
         } else {
-            articleDetailVO.setTags(Collections.emptyList());
-        }
-        // 4.4 填充分类名称
-        if (article.getCategoryId() != null) {
-            Category category = categoryMapper.selectById(article.getCategoryId());
-            if (category != null) {
-                articleDetailVO.setCategoryName(category.getName());
-            }
+            fillDetailSequentially(articleDetailVO, article);
+            sequentialDetailLatency.record(System.nanoTime() - start);
         }
-        // 4.5 填充作者名称
-        if(article.getAuthorId() != null){
-            SysUser user = sysUserMapper.selectById(article.getAuthorId());
-            if(user != null){
-                articleDetailVO.setAuthorNickname(user.getNickname());
-            }
-        }
-        // 4.6 填充上一篇/下一篇（同为已发布状态）
-        setPrevNextArticle(articleDetailVO, id);
 
-        // 5.回填Redis缓存
-        try {
-            redisTemplate.opsForValue().set(cacheKey,
-                    JSON.toJSONString(articleDetailVO),
-                    ARTICLE_DETAIL_TTL_MINUTES, TimeUnit.MINUTES);
-            log.debug("文章详情缓存已回填: articleId={}", id);
-        } catch (Exception e) {
-            log.warn("文章详情缓存回填失败: {}", e.getMessage());
+        // 5.回填Redis缓存（浏览量只缓存数据库基数，Redis 增量在读取时叠加，避免重复计入）
+        // 降级结果不完整，不回填，避免缺失数据被缓存一整个 TTL
+        articleDetailVO.setViewCount(article.getViewCount() == null ? 0L : article.getViewCount());
+        if (degraded) {
+            log.warn("文章详情部分数据加载超时，本次结果不回填缓存: articleId={}", id);
+        } else {
+            try {
+                cacheClient.set(CACHE_NAME_ARTICLE_DETAIL, cacheKey, articleDetailVO,
+                        ARTICLE_DETAIL_TTL_MINUTES, TimeUnit.MINUTES);
+                log.debug("文章详情缓存已回填: articleId={}", id);
+            } catch (Exception e) {
+                log.warn("文章详情缓存回填失败: {}", e.getMessage());
+            }
         }
 
-        // 6.返回文章详情VO类
+        // 6.叠加实时浏览量后返回文章详情VO类
+        articleDetailVO.setViewCount(getViewCountFromRedis(id, article.getViewCount()));
         return articleDetailVO;
     }
 
@@ -740,8 +881,140 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
         return newCount;
     }
 
+    /**
+     * 热门文章（已发布，按浏览量、点赞数降序）
+     * 排序使用数据库中已落库的浏览量，返回值中的浏览量为实时值
+     *
+     * @param limit 条数
+     * @return 热门文章卡片列表
+     */
+    @Override
+    public List<ArticleListVO> listHotArticles(int limit) {
+        List<Long> ids = lambdaQuery()
+                .select(Article::getId)
+                .eq(Article::getStatus, PUBLISHED.getCode())
+                .orderByDesc(Article::getViewCount)
+                .orderByDesc(Article::getLikeCount)
+                .last("LIMIT " + limit)
+                .list()
+                .stream()
+                .map(Article::getId)
+                .toList();
+        return listArticleCards(ids);
+    }
+
+    /**
+     * 批量获取文章卡片
+     * 1. 一次 MGET 读取卡片缓存
+     * 2. 未命中的文章用一次 IN 查询回源，分类、标签同样各一次批量查询
+     * 3. 回源结果通过一次管道回填缓存
+     * 4. 一次 MGET 读取浏览量增量叠加到卡片上，一次 HMGET 读取评论数覆盖卡片中的落库值
+     *
+     * @param ids 文章ID列表
+     * @return 文章卡片列表，按请求顺序返回，忽略不存在或未发布的文章与重复ID
+     */
+    @Override
+    public List<ArticleListVO> listArticleCards(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctIds.size() > ARTICLE_CARD_BATCH_MAX) {
+            throw new BusinessException(PARAM_ERROR, "一次最多获取" + ARTICLE_CARD_BATCH_MAX + "篇文章");
+        }
+
+        // 1.MGET 读取卡片缓存
+        List<ArticleListVO> cachedCards = cacheClient.multiGet(CACHE_NAME_ARTICLE_CARD, distinctIds.stream()
+                .map(id -> ARTICLE_CARD_KEY_PREFIX + id)
+                .toList(), ArticleListVO.class);
+        Map<Long, ArticleListVO> cardMap = new HashMap<>(distinctIds.size() * 2);
+        List<Long> missIds = new ArrayList<>();
+        for (int i = 0; i < distinctIds.size(); i++) {
+            ArticleListVO card = cachedCards.get(i);
+            if (card != null) {
+                cardMap.put(distinctIds.get(i), card);
+            } else {
+                missIds.add(distinctIds.get(i));
+            }
+        }
+
+        // 2.未命中部分批量回源，并通过管道回填
+        if (!missIds.isEmpty()) {
+            Map<Long, ArticleListVO> loaded = loadArticleCards(missIds);
+            cardMap.putAll(loaded);
+            try {
+                Map<String, ArticleListVO> toCache = new HashMap<>(loaded.size() * 2);
+                loaded.forEach((id, card) -> toCache.put(ARTICLE_CARD_KEY_PREFIX + id, card));
+                cacheClient.multiSet(CACHE_NAME_ARTICLE_CARD, toCache, ARTICLE_CARD_TTL_MINUTES, TimeUnit.MINUTES);
+            } catch (Exception e) {
+                log.warn("文章卡片缓存回填失败: {}", e.getMessage());
+            }
+        }
+
+        // 3.按请求顺序组装，并叠加实时浏览量与评论数
+        List<ArticleListVO> cards = distinctIds.stream()
+                .map(cardMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+        List<String> viewValues = redisTemplate.opsForValue().multiGet(cards.stream()
+                .map(card -> ARTICLE_VIEW_KEY_PREFIX + card.getId())
+                .toList());
+        Map<Long, Long> commentCounts = commentCounter.multiGetCached(cards.stream()
+                .map(ArticleListVO::getId)
+                .toList());
+        for (int i = 0; i < cards.size(); i++) {
+            String delta = viewValues == null ? null : viewValues.get(i);
+            ArticleListVO card = cards.get(i);
+            long base = card.getViewCount() == null ? 0 : card.getViewCount();
+            card.setViewCount(base + (delta == null ? 0 : Long.parseLong(delta)));
+            Long commentCount = commentCounts.get(card.getId());
+            if (commentCount != null) {
+                card.setCommentCount(commentCount);
+            }
+        }
+        return cards;
+    }
+
+    /**
+     * 预热文章的详情缓存与卡片缓存
+     * 先删除旧缓存（可能是发布前缓存的内容）再按数据库重新构建
+     *
+     * @param id 文章id
+     */
+    @Override
+    public void warmUpBlogArticle(Long id) {
+        redisTemplate.delete(List.of(ARTICLE_DETAIL_KEY_PREFIX + id, ARTICLE_CARD_KEY_PREFIX + id));
+        loadBlogArticleDetail(id);
+        listArticleCards(List.of(id));
+    }
+
+    /**
+     * 获取前台文章详情冷加载耗时统计
+     *
+     * @return 顺序/并行两种模式的耗时统计
+     */
+    @Override
+    public List<LatencyStatsVO> getDetailLatencyStats() {
+        return List.of(toLatencyStatsVO("sequential", sequentialDetailLatency),
+                toLatencyStatsVO("concurrent", concurrentDetailLatency));
+    }
+
     // ==================== 私有辅助方法 ====================
 
+    private LatencyStatsVO toLatencyStatsVO(String name, LatencyRecorder recorder) {
+        LatencyRecorder.Snapshot snapshot = recorder.snapshot();
+        return LatencyStatsVO.builder()
+                .name(name)
+                .count(snapshot.count())
+                .p50Ms(snapshot.p50Ms())
+                .p99Ms(snapshot.p99Ms())
+                .maxMs(snapshot.maxMs())
+                .build();
+    }
+
     /**
      * 保存文章标签关联
      */
@@ -778,41 +1051,9 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
         return redisIncrement + dbBase;
     }
 
-    /**
-     * 清除文章详情缓存
-     */
-    private void clearArticleDetailCache(Long articleId) {
-        String articleDetailKey = ARTICLE_DETAIL_KEY_PREFIX + articleId;
-        redisTemplate.delete(articleDetailKey);
-    }
-
-    /**
-     * 清除分类/标签列表缓存
-     */
-    private void clearCategoryTagCache() {
-        redisTemplate.delete(CATEGORY_LIST_KEY);
-        redisTemplate.delete(TAG_LIST_KEY);
-    }
-
-    /**
-     * 清除所有前台文章列表分页缓存
-     * 使用 SCAN 命令通过前缀匹配删除，避免使用 KEYS 导致的性能问题
-     */
-    private void clearArticlePageCache() {
-        try {
-            Set<String> keys = redisTemplate.keys(ARTICLE_PAGE_KEY_PREFIX + "*");
-            if (keys != null && !keys.isEmpty()) {
-                redisTemplate.delete(keys);
-                log.debug("文章列表缓存已清除，共删除 {} 个 Key", keys.size());
-            }
-        } catch (Exception e) {
-            log.warn("清除文章列表缓存失败: {}", e.getMessage());
-        }
-    }
-
     /**
      * 构建前台文章列表分页缓存Key
-     * 格式: blog:article:page:{current}:{size}:{categoryId}:{tagId}
+     * 格式: blog:article:page:{version}:{current}:{size}:{categoryId}:{tagId}
      *
      * @param current    当前页码
      * @param size       每页条数
@@ -821,7 +1062,9 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
      * @return 缓存Key
      */
     private String buildArticlePageCacheKey(int current, int size, Long categoryId, Long tagId) {
-        return ARTICLE_PAGE_KEY_PREFIX + current + ":" + size
+        String version = redisTemplate.opsForValue().get(ARTICLE_PAGE_VERSION_KEY);
+        return ARTICLE_PAGE_KEY_PREFIX + (version == null ? "0" : version)
+                + ":" + current + ":" + size
                 + ":" + (categoryId == null ? "0" : categoryId)
                 + ":" + (tagId == null ? "0" : tagId);
     }
@@ -847,41 +1090,184 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
     }
 
     /**
-     * 设置上一篇和下一篇
+     * 顺序填充文章详情的关联数据
+     *
+     * @param vo      文章详情VO
+     * @param article 文章
+     */
+    private void fillDetailSequentially(ArticleDetailVO vo, Article article) {
+        Long id = article.getId();
+        vo.setLikeCount(getLikeCountFromRedis(id));
+        vo.setTags(loadTagVOs(id));
+        vo.setCategoryName(loadCategoryName(article.getCategoryId()));
+        vo.setAuthorNickname(loadAuthorNickname(article.getAuthorId()));
+        vo.setPrevArticle(findPrevArticle(id));
+        vo.setNextArticle(findNextArticle(id));
+    }
+
+    /**
+     * 在虚拟线程上并行填充文章详情的关联数据
+     * 每个子任务独立超时，超时的部分使用兜底值（空标签、无分类/作者/上下篇、DB 点赞数）
+     * 注意：每个子任务会各自占用一个数据库连接，连接池需为并发冷加载预留余量
+     *
+     * @param vo      文章详情VO
+     * @param article 文章
+     * @return 是否有子任务超时降级
+     */
+    private boolean fillDetailConcurrently(ArticleDetailVO vo, Article article) {
+        Long id = article.getId();
+        try (StructuredFanOut fanOut = new StructuredFanOut("article-detail-" + id,
+                Duration.ofMillis(detailSubtaskTimeoutMs))) {
+            Supplier<Long> likeCount = fanOut.fork("likeCount", () -> getLikeCountFromRedis(id), article.getLikeCount());
+            Supplier<List<TagVO>> tags = fanOut.fork("tags", () -> loadTagVOs(id), Collections.emptyList());
+            Supplier<String> categoryName = fanOut.fork("category", () -> loadCategoryName(article.getCategoryId()), null);
+            Supplier<String> authorNickname = fanOut.fork("author", () -> loadAuthorNickname(article.getAuthorId()), null);
+            Supplier<ArticleDetailVO.ArticleNavVO> prev = fanOut.fork("prev", () -> findPrevArticle(id), null);
+            Supplier<ArticleDetailVO.ArticleNavVO> next = fanOut.fork("next", () -> findNextArticle(id), null);
+            fanOut.join();
+
+            vo.setLikeCount(likeCount.get());
+            vo.setTags(tags.get());
+            vo.setCategoryName(categoryName.get());
+            vo.setAuthorNickname(authorNickname.get());
+            vo.setPrevArticle(prev.get());
+            vo.setNextArticle(next.get());
+            return fanOut.isDegraded();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("文章详情加载被中断");
+        }
+    }
+
+    /**
+     * 查询文章的标签列表
+     */
+    private List<TagVO> loadTagVOs(Long articleId) {
+        List<Long> tagIds = articleTagMapper.selectTagIdsByArticleId(articleId);
+        if (tagIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return tagMapper.selectBatchIds(tagIds).stream()
+                .map(this::toTagVO)
+                .toList();
+    }
+
+    /**
+     * 查询分类名称
+     */
+    private String loadCategoryName(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        Category category = categoryMapper.selectById(categoryId);
+        return category != null ? category.getName() : null;
+    }
+
+    /**
+     * 查询作者昵称
+     */
+    private String loadAuthorNickname(Long authorId) {
+        if (authorId == null) {
+            return null;
+        }
+        SysUser user = sysUserMapper.selectById(authorId);
+        return user != null ? user.getNickname() : null;
+    }
+
+    /**
+     * 上一篇：已发布且ID小于当前，按ID降序取第一条
      *
-     * @param vo        文章详情VO
-     * @param CurrentId 当前文章ID
+     * @param currentId 当前文章ID
+     * @return 上一篇导航，不存在时返回 null
      */
-    private void setPrevNextArticle(ArticleDetailVO vo, Long CurrentId) {
-        // 上一篇：ID小于当前，按ID降序取第一条
+    private ArticleDetailVO.ArticleNavVO findPrevArticle(Long currentId) {
         Article prev = getOne(
                 new LambdaQueryWrapper<Article>()
-                        .eq(Article::getStatus, PUBLISHED) // 已发布
-                        .lt(Article::getId, CurrentId)// 小于当前ID
+                        .eq(Article::getStatus, PUBLISHED.getCode()) // 已发布
+                        .lt(Article::getId, currentId)// 小于当前ID
                         .select(Article::getId, Article::getTitle)// 只查询ID和标题
                         .orderByDesc(Article::getId)// 按ID降序
                         .last("LIMIT 1"));
-        if (prev != null) {
-            ArticleDetailVO.ArticleNavVO prevNav = new ArticleDetailVO.ArticleNavVO();// 上一篇
-            prevNav.setId(prev.getId());// ID
-            prevNav.setTitle(prev.getTitle());// 标题
-            vo.setPrevArticle(prevNav);// 设置上一篇
-        }
+        return toNavVO(prev);
+    }
 
-        // 下一篇：ID大于当前，按ID升序取第一条
+    /**
+     * 下一篇：已发布且ID大于当前，按ID升序取第一条
+     *
+     * @param currentId 当前文章ID
+     * @return 下一篇导航，不存在时返回 null
+     */
+    private ArticleDetailVO.ArticleNavVO findNextArticle(Long currentId) {
         Article next = getOne(
                 new LambdaQueryWrapper<Article>()
-                        .eq(Article::getStatus, PUBLISHED) // 已发布
-                        .gt(Article::getId, CurrentId)// 大于当前ID
+                        .eq(Article::getStatus, PUBLISHED.getCode()) // 已发布
+                        .gt(Article::getId, currentId)// 大于当前ID
                         .select(Article::getId, Article::getTitle)// 只查询ID和标题
                         .orderByAsc(Article::getId)// 按ID升序
                         .last("LIMIT 1"));
-        if (next != null) {
-            ArticleDetailVO.ArticleNavVO nextNav = new ArticleDetailVO.ArticleNavVO();// 下一篇
-            nextNav.setId(next.getId());// ID
-            nextNav.setTitle(next.getTitle());// 标题
-            vo.setNextArticle(nextNav);// 设置下一篇
+        return toNavVO(next);
+    }
+
+    private ArticleDetailVO.ArticleNavVO toNavVO(Article article) {
+        if (article == null) {
+            return null;
+        }
+        ArticleDetailVO.ArticleNavVO nav = new ArticleDetailVO.ArticleNavVO();
+        nav.setId(article.getId());
+        nav.setTitle(article.getTitle());
+        return nav;
+    }
+
+    /**
+     * 从数据库批量加载文章卡片（仅已发布文章）
+     * 文章、标签关联、标签、分类各一次查询，浏览量为数据库落库值
+     *
+     * @param ids 文章ID列表
+     * @return 文章ID -> 卡片
+     */
+    private Map<Long, ArticleListVO> loadArticleCards(List<Long> ids) {
+        List<Article> articles = lambdaQuery()
+                .select(Article::getId, Article::getTitle, Article::getSummary, Article::getCoverImg,
+                        Article::getCategoryId, Article::getViewCount, Article::getLikeCount, Article::getCommentCount,
+                        Article::getPublishTime)
+                .in(Article::getId, ids)
+                .eq(Article::getStatus, PUBLISHED.getCode())
+                .list();
+        if (articles.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Long> articleIds = articles.stream().map(Article::getId).toList();
+
+        // 1.分类名称
+        Set<Long> categoryIds = articles.stream()
+                .map(Article::getCategoryId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, String> categoryNames = categoryIds.isEmpty() ? Collections.emptyMap()
+                : categoryMapper.selectBatchIds(categoryIds).stream()
+                .collect(Collectors.toMap(Category::getId, Category::getName));
+
+        // 2.标签
+        List<ArticleTag> articleTags = articleTagMapper.selectList(new LambdaQueryWrapper<ArticleTag>()
+                .in(ArticleTag::getArticleId, articleIds));
+        Set<Long> tagIds = articleTags.stream().map(ArticleTag::getTagId).collect(Collectors.toSet());
+        Map<Long, TagVO> tagVOs = tagIds.isEmpty() ? Collections.emptyMap()
+                : tagMapper.selectBatchIds(tagIds).stream()
+                .collect(Collectors.toMap(Tag::getId, this::toTagVO));
+        Map<Long, List<TagVO>> articleTagVOs = articleTags.stream()
+                .filter(articleTag -> tagVOs.containsKey(articleTag.getTagId()))
+                .collect(Collectors.groupingBy(ArticleTag::getArticleId,
+                        Collectors.mapping(articleTag -> tagVOs.get(articleTag.getTagId()), Collectors.toList())));
+
+        // 3.组装卡片
+        Map<Long, ArticleListVO> cards = new HashMap<>(articles.size() * 2);
+        for (Article article : articles) {
+            ArticleListVO card = BeanUtil.copyProperties(article, ArticleListVO.class);
+            card.setCategoryName(categoryNames.get(article.getCategoryId()));
+            card.setTags(articleTagVOs.getOrDefault(article.getId(), Collections.emptyList()));
+            cards.put(article.getId(), card);
         }
+        return cards;
     }
 
     /**
@@ -891,6 +1277,83 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
         return BeanUtil.copyProperties(tag, TagVO.class);
     }
 
+    /**
+     * 过滤掉空slug，用于文章变更事件
+     */
+    private static List<String> slugsOf(String... slugs) {
+        return Arrays.stream(slugs)
+                .filter(StrUtil::isNotBlank)
+                .toList();
+    }
+
+    /**
+     * 本次保存请求的发布时间：未指定且仍为定时发布时沿用原计划时间
+     */
+    private static LocalDateTime requestedPublishTime(Integer status, LocalDateTime publishTime,
+                                                      LocalDateTime originalPublishTime) {
+        if (publishTime != null) {
+            return publishTime;
+        }
+        return SCHEDULED.getCode().equals(status) ? originalPublishTime : null;
+    }
+
+    /**
+     * 计算保存后的状态：发布且发布时间晚于当前时间时改为定时发布；定时发布必须指定晚于当前时间的发布时间
+     */
+    private static Integer resolveStatus(Integer status, LocalDateTime publishTime) {
+        boolean future = publishTime != null && publishTime.isAfter(LocalDateTime.now());
+        if (SCHEDULED.getCode().equals(status) && !future) {
+            throw new BusinessException(ARTICLE_PUBLISH_TIME_INVALID);
+        }
+        return PUBLISHED.getCode().equals(status) && future ? SCHEDULED.getCode() : status;
+    }
+
+    /**
+     * 计算保存后的发布时间
+     * 定时发布：计划发布时间；首次发布或定时发布改为立即发布：指定时间或当前时间；其他情况保持原值
+     */
+    private static LocalDateTime resolvePublishTime(Integer status, LocalDateTime publishTime,
+                                                    LocalDateTime originalPublishTime) {
+        if (SCHEDULED.getCode().equals(status)) {
+            return publishTime;
+        }
+        if (PUBLISHED.getCode().equals(status)
+                && (originalPublishTime == null || originalPublishTime.isAfter(LocalDateTime.now()))) {
+            return publishTime != null ? publishTime : LocalDateTime.now();
+        }
+        return originalPublishTime;
+    }
+
+    /**
+     * 定时发布计划变化时发布事件：进入或调整定时发布时登记新的发布时间，离开定时发布时取消
+     */
+    private void publishScheduleChange(Long id, Integer originalStatus, LocalDateTime originalPublishTime,
+                                       Integer status, LocalDateTime publishTime) {
+        boolean wasScheduled = SCHEDULED.getCode().equals(originalStatus);
+        boolean scheduled = SCHEDULED.getCode().equals(status);
+        if (scheduled && (!wasScheduled || !Objects.equals(originalPublishTime, publishTime))) {
+            eventPublisher.publishEvent(new ArticleScheduleEvent(id, publishTime));
+        } else if (wasScheduled && !scheduled) {
+            eventPublisher.publishEvent(new ArticleScheduleEvent(id, null));
+        }
+    }
+
+    /**
+     * 新值不为空且与旧值不同时，写入变更实体
+     *
+     * @param newValue 请求中的新值（null 表示不修改）
+     * @param oldValue 数据库中的旧值
+     * @param setter   变更实体的 setter
+     * @return 是否有变化
+     */
+    private static <T> boolean setIfChanged(T newValue, T oldValue, Consumer<T> setter) {
+        if (newValue == null || Objects.equals(newValue, oldValue)) {
+            return false;
+        }
+        setter.accept(newValue);
+        return true;
+    }
+
     /**
      * 根据标题生成slug
      * 
@@ -924,34 +1387,19 @@ public class ArticleServiceImpl extends ServiceImpl<ArticleMapper, Article> impl
 
     /**
      * 确保slug的唯一性
-     * 
+     * 一次前缀区间查询在库内求出已占用的最大数字后缀（slug 本身视为后缀 0），返回下一个后缀；
+     * 只返回一行聚合结果，不会像逐个 COUNT 那样多次往返，也不会把所有前缀匹配的 slug 取回内存
+     *
      * @param slug 原始slug
-     * @return 唯一的slug
+     * @return 唯一的slug（已占用时为 slug-(最大后缀+1)）
      */
     private String ensureUniqueSlug(String slug) {
         if (StrUtil.isBlank(slug)) {
             return slug;
         }
 
-        String originalSlug = slug;
-        int suffix = 1;
-
-        // 检查slug是否已存在
-        while (true) {
-            LambdaQueryWrapper<Article> wrapper = new LambdaQueryWrapper<>();
-            wrapper.eq(Article::getSlug, slug);
-            long count = count(wrapper);
-
-            if (count == 0) {
-                // slug不存在，可以使用
-                break;
-            }
-
-            // slug已存在，添加后缀
-            slug = originalSlug + "-" + suffix;
-            suffix++;
-        }
-
-        return slug;
+        String suffixPattern = slug.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "-%";
+        Long maxSuffix = baseMapper.selectMaxSlugSuffix(slug, suffixPattern);
+        return maxSuffix == null ? slug : slug + "-" + (maxSuffix + 1);
     }
 }
@@ -0,0 +1,143 @@
+package com.xuan.service.service.impl;
+
+import cn.hutool.core.util.StrUtil;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.xuan.entity.po.blog.Article;
+import com.xuan.service.mapper.ArticleMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.xuan.common.constant.RedisConstant.ARTICLE_SLUG_INDEX_KEY;
+import static com.xuan.common.constant.RedisConstant.ARTICLE_SLUG_MISS_KEY_PREFIX;
+import static com.xuan.common.constant.RedisConstant.ARTICLE_SLUG_MISS_TTL_SECONDS;
+
+/**
+ * 文章 slug -> id 索引
+ * <p>
+ * 读取顺序：本地内存 -> Redis Hash（{@code article:slug:index}）-> 数据库唯一索引 uk_slug，逐级回填
+ * 不存在的 slug 写入短期标记（{@code article:slug:miss:{slug}}），过期前直接返回不存在，避免随机 slug 反复回源
+ * 维护方式：文章新增、修改 slug、删除的事务提交后，由缓存失效监听器按数据库重新同步；启动时从数据库全量预热
+ * 多实例部署时其他实例的本地索引可能短暂过期，调用方需用文章实际 slug 校验，不一致时调用 {@link #reload}
+ *
+ * @author 玄〤
+ * @since 2026-03-06
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleSlugIndex {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ArticleMapper articleMapper;
+
+    /**
+     * 本地 slug -> id 映射
+     */
+    private final Map<String, Long> localIndex = new ConcurrentHashMap<>();
+
+    /**
+     * 启动预热：一次查询加载全部 slug，写入本地索引和 Redis Hash
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            List<Article> articles = articleMapper.selectList(new LambdaQueryWrapper<Article>()
+                    .select(Article::getId, Article::getSlug)
+                    .isNotNull(Article::getSlug));
+            Map<String, String> entries = new HashMap<>(articles.size() * 2);
+            for (Article article : articles) {
+                if (StrUtil.isNotBlank(article.getSlug())) {
+                    localIndex.put(article.getSlug(), article.getId());
+                    entries.put(article.getSlug(), String.valueOf(article.getId()));
+                }
+            }
+            if (!entries.isEmpty()) {
+                redisTemplate.opsForHash().putAll(ARTICLE_SLUG_INDEX_KEY, entries);
+            }
+            log.info("文章 slug 索引预热完成，共 {} 条", entries.size());
+        } catch (Exception e) {
+            // 预热失败不影响启动，后续查询按需回源
+            log.warn("文章 slug 索引预热失败: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 根据 slug 解析文章ID
+     *
+     * @param slug 文章 slug
+     * @return 文章ID，不存在时返回 null
+     */
+    public Long resolve(String slug) {
+        // 1.本地索引
+        Long id = localIndex.get(slug);
+        if (id != null) {
+            return id;
+        }
+        // 2.Redis Hash
+        Object cached = redisTemplate.opsForHash().get(ARTICLE_SLUG_INDEX_KEY, slug);
+        if (cached != null) {
+            id = Long.valueOf(cached.toString());
+            localIndex.put(slug, id);
+            return id;
+        }
+        // 3.近期确认过不存在
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(ARTICLE_SLUG_MISS_KEY_PREFIX + slug))) {
+            return null;
+        }
+        // 4.数据库
+        return reload(slug);
+    }
+
+    /**
+     * 绕过本地索引和 Redis，从数据库重新解析 slug 并回填（不存在时写入短期标记）
+     *
+     * @param slug 文章 slug
+     * @return 文章ID，不存在时返回 null
+     */
+    public Long reload(String slug) {
+        Article article = articleMapper.selectOne(new LambdaQueryWrapper<Article>()
+                .select(Article::getId)
+                .eq(Article::getSlug, slug));
+        if (article == null) {
+            localIndex.remove(slug);
+            redisTemplate.opsForHash().delete(ARTICLE_SLUG_INDEX_KEY, slug);
+            redisTemplate.opsForValue().set(ARTICLE_SLUG_MISS_KEY_PREFIX + slug, "1",
+                    ARTICLE_SLUG_MISS_TTL_SECONDS, TimeUnit.SECONDS);
+            return null;
+        }
+        put(slug, article.getId());
+        return article.getId();
+    }
+
+    /**
+     * 新增或更新映射
+     */
+    public void put(String slug, Long articleId) {
+        if (StrUtil.isBlank(slug)) {
+            return;
+        }
+        localIndex.put(slug, articleId);
+        redisTemplate.opsForHash().put(ARTICLE_SLUG_INDEX_KEY, slug, String.valueOf(articleId));
+        redisTemplate.delete(ARTICLE_SLUG_MISS_KEY_PREFIX + slug);
+    }
+
+    /**
+     * 删除映射
+     */
+    public void remove(String slug) {
+        if (StrUtil.isBlank(slug)) {
+            return;
+        }
+        localIndex.remove(slug);
+        redisTemplate.opsForHash().delete(ARTICLE_SLUG_INDEX_KEY, slug);
+    }
+}
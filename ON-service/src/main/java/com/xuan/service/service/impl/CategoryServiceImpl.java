@@ -2,11 +2,11 @@ package com.xuan.service.service.impl;
 
 
 import cn.hutool.core.bean.BeanUtil;
-import com.alibaba.fastjson2.JSON;
 import com.alibaba.fastjson2.TypeReference;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.xuan.common.cache.CacheClient;
 import com.xuan.common.enums.ErrorCode;
 import com.xuan.common.exceptions.BusinessException;
 import com.xuan.entity.dto.category.CategoryCreateDTO;
@@ -16,17 +16,19 @@ import com.xuan.entity.po.blog.Article;
 import com.xuan.entity.po.blog.Category;
 import com.xuan.entity.vo.category.CategoryAdminListVO;
 import com.xuan.entity.vo.category.CategoryVO;
+import com.xuan.service.event.TaxonomyChangedEvent;
 import com.xuan.service.mapper.ArticleMapper;
 import com.xuan.service.mapper.CategoryMapper;
 import com.xuan.service.service.ICategoryService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import static com.xuan.common.constant.RedisConstant.CACHE_NAME_CATEGORY_LIST;
 import static com.xuan.common.constant.RedisConstant.CATEGORY_LIST_KEY;
 import static com.xuan.common.constant.RedisConstant.CATEGORY_TAG_TTL_HOURS;
 import static com.xuan.common.enums.ArticleStatusEnum.PUBLISHED;
@@ -49,7 +51,8 @@ import static io.lettuce.core.protocol.CommandType.PUBLISH;
 public class CategoryServiceImpl extends ServiceImpl<CategoryMapper, Category> implements ICategoryService {
 
     private final ArticleMapper articleMapper;
-    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheClient cacheClient;
 
     /**
      * 前台获取所有分类
@@ -59,9 +62,10 @@ public class CategoryServiceImpl extends ServiceImpl<CategoryMapper, Category> i
     @Override
     public List<CategoryVO> listAllCategories() {
         //1.尝试用Redis中读取缓存
-        String cached = redisTemplate.opsForValue().get(CATEGORY_LIST_KEY);
+        List<CategoryVO> cached = cacheClient.get(CACHE_NAME_CATEGORY_LIST, CATEGORY_LIST_KEY,
+                new TypeReference<List<CategoryVO>>() {}.getType());
         if (cached!=null){
-            return JSON.parseObject(cached, new TypeReference<List<CategoryVO>>() {});
+            return cached;
         }
 
         //2.缓存未命中，查询数据库
@@ -82,7 +86,7 @@ public class CategoryServiceImpl extends ServiceImpl<CategoryMapper, Category> i
         }).toList();
 
         //3.回填缓存
-        redisTemplate.opsForValue().set(CATEGORY_LIST_KEY, JSON.toJSONString(voList),CATEGORY_TAG_TTL_HOURS, TimeUnit.HOURS);
+        cacheClient.set(CACHE_NAME_CATEGORY_LIST, CATEGORY_LIST_KEY, voList, CATEGORY_TAG_TTL_HOURS, TimeUnit.HOURS);
 
         //4.返回
         return voList;
@@ -145,8 +149,8 @@ public class CategoryServiceImpl extends ServiceImpl<CategoryMapper, Category> i
         }
         save(category);
 
-        // 3.清除缓存
-        redisTemplate.delete(CATEGORY_LIST_KEY);
+        // 3.发布变更事件（事务提交后清除缓存）
+        eventPublisher.publishEvent(new TaxonomyChangedEvent(TaxonomyChangedEvent.Type.CATEGORY));
     }
 
     /**
@@ -173,8 +177,8 @@ public class CategoryServiceImpl extends ServiceImpl<CategoryMapper, Category> i
         BeanUtil.copyProperties(updateDTO,category);
         updateById(category);
 
-        //4.清除缓存
-        redisTemplate.delete(CATEGORY_LIST_KEY);
+        //4.发布变更事件（事务提交后清除缓存）
+        eventPublisher.publishEvent(new TaxonomyChangedEvent(TaxonomyChangedEvent.Type.CATEGORY));
     }
 
     /**
@@ -196,8 +200,8 @@ public class CategoryServiceImpl extends ServiceImpl<CategoryMapper, Category> i
         }
         //3.删除分类
         removeById(id);
-        //4.清除缓存
-        redisTemplate.delete(CATEGORY_LIST_KEY);
+        //4.发布变更事件（事务提交后清除缓存）
+        eventPublisher.publishEvent(new TaxonomyChangedEvent(TaxonomyChangedEvent.Type.CATEGORY));
     }
 
     /**
@@ -223,7 +227,7 @@ public class CategoryServiceImpl extends ServiceImpl<CategoryMapper, Category> i
         }
         //3.批量删除分类
         removeBatchByIds(ids);
-        //4.清除缓存
-        redisTemplate.delete(CATEGORY_LIST_KEY);
+        //4.发布变更事件（事务提交后清除缓存）
+        eventPublisher.publishEvent(new TaxonomyChangedEvent(TaxonomyChangedEvent.Type.CATEGORY));
     }
 }
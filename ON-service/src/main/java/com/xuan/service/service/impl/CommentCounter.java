@@ -0,0 +1,192 @@
+package com.xuan.service.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.xuan.entity.po.blog.Article;
+import com.xuan.entity.po.interact.Comment;
+import com.xuan.service.event.CommentCountChangedEvent;
+import com.xuan.service.mapper.ArticleMapper;
+import com.xuan.service.mapper.CommentMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.xuan.common.constant.RedisConstant.COMMENT_COUNT_KEY;
+import static com.xuan.common.enums.CommentStatusEnum.APPROVED;
+
+/**
+ * 文章评论数计数器
+ * <p>
+ * 已审核评论数的持久化值保存在 article.comment_count，由评论新增、审核、删除在同一事务内按增量更新；
+ * Redis Hash {@code comment:count} 缓存各文章的计数，事务提交后对已存在的 field 累加同样的增量，
+ * 不存在的 field 在读取时回填，避免在缓存缺失时凭增量写出错误的计数
+ * <p>
+ * 留言板评论（文章ID为 0）没有对应的文章行，计数只保存在 Redis 中，未命中时按评论表统计
+ * <p>
+ * 并发审核等场景下可能产生的偏差由计数对账任务修复
+ *
+ * @author 玄〤
+ * @since 2026-03-21
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCounter {
+
+    /** 留言板的文章ID */
+    static final long GUESTBOOK_ID = 0L;
+
+    private final ArticleMapper articleMapper;
+    private final CommentMapper commentMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 计算一批评论状态变化带来的计数增量
+     *
+     * @param comments  变化前的评论（需包含 articleId、status）
+     * @param newStatus 变化后的状态，删除时传 null
+     * @return 文章ID -> 增量，不含增量为 0 的文章
+     */
+    public static Map<Long, Long> deltasOf(List<Comment> comments, Integer newStatus) {
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        boolean approvedAfter = APPROVED.getCode().equals(newStatus);
+        for (Comment comment : comments) {
+            boolean approvedBefore = APPROVED.getCode().equals(comment.getStatus());
+            if (approvedBefore != approvedAfter && comment.getArticleId() != null) {
+                deltas.merge(comment.getArticleId(), approvedAfter ? 1L : -1L, Long::sum);
+            }
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        return deltas;
+    }
+
+    /**
+     * 计算一批新增评论带来的计数增量
+     *
+     * @param comments 新增的评论（需包含 articleId、status）
+     * @return 文章ID -> 增量，只统计已审核通过的评论
+     */
+    public static Map<Long, Long> deltasOfCreated(List<Comment> comments) {
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        for (Comment comment : comments) {
+            if (APPROVED.getCode().equals(comment.getStatus()) && comment.getArticleId() != null) {
+                deltas.merge(comment.getArticleId(), 1L, Long::sum);
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 按增量更新 article.comment_count，并发布事件在事务提交后同步 Redis 计数
+     * 需在修改评论的同一事务内调用
+     *
+     * @param deltas 文章ID -> 增量
+     */
+    public void apply(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        deltas.forEach((articleId, delta) -> {
+            if (articleId != GUESTBOOK_ID) {
+                articleMapper.update(null, new LambdaUpdateWrapper<Article>()
+                        .setSql("comment_count = GREATEST(comment_count + (" + delta + "), 0)")
+                        .eq(Article::getId, articleId));
+            }
+        });
+        eventPublisher.publishEvent(new CommentCountChangedEvent(deltas));
+    }
+
+    /**
+     * 事务提交后累加 Redis 计数（只累加已存在的 field）
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCountChanged(CommentCountChangedEvent event) {
+        try {
+            event.getDeltas().forEach((articleId, delta) -> {
+                String field = String.valueOf(articleId);
+                if (redisTemplate.opsForHash().hasKey(COMMENT_COUNT_KEY, field)) {
+                    redisTemplate.opsForHash().increment(COMMENT_COUNT_KEY, field, delta);
+                }
+            });
+        } catch (Exception e) {
+            log.warn("评论计数同步失败，删除相关计数等待回填: {}, {}", event, e.getMessage());
+            evict(new ArrayList<>(event.getDeltas().keySet()));
+        }
+    }
+
+    /**
+     * 获取文章的已审核评论数
+     *
+     * @param articleId 文章ID（留言板为 0）
+     * @return 评论数
+     */
+    public long get(Long articleId) {
+        String field = String.valueOf(articleId);
+        Object cached = redisTemplate.opsForHash().get(COMMENT_COUNT_KEY, field);
+        if (cached != null) {
+            return Long.parseLong(cached.toString());
+        }
+        long count = load(articleId);
+        redisTemplate.opsForHash().putIfAbsent(COMMENT_COUNT_KEY, field, String.valueOf(count));
+        return count;
+    }
+
+    /**
+     * 批量读取 Redis 中的评论数（不回源）
+     *
+     * @param articleIds 文章ID列表
+     * @return 文章ID -> 评论数，未缓存的文章不在结果中
+     */
+    public Map<Long, Long> multiGetCached(List<Long> articleIds) {
+        Map<Long, Long> result = new HashMap<>(articleIds.size() * 2);
+        if (articleIds.isEmpty()) {
+            return result;
+        }
+        List<Object> values = redisTemplate.opsForHash().multiGet(COMMENT_COUNT_KEY,
+                articleIds.stream().map(id -> (Object) String.valueOf(id)).toList());
+        for (int i = 0; i < articleIds.size(); i++) {
+            Object value = values == null ? null : values.get(i);
+            if (value != null) {
+                result.put(articleIds.get(i), Long.parseLong(value.toString()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 删除 Redis 计数，下次读取时按数据库回填
+     */
+    public void evict(List<Long> articleIds) {
+        if (!articleIds.isEmpty()) {
+            redisTemplate.opsForHash().delete(COMMENT_COUNT_KEY, articleIds.stream().map(String::valueOf).toArray());
+        }
+    }
+
+    /**
+     * 从数据库读取评论数：文章读 comment_count 列，留言板按评论表统计
+     */
+    private long load(Long articleId) {
+        if (articleId == GUESTBOOK_ID) {
+            Long count = commentMapper.selectCount(new LambdaQueryWrapper<Comment>()
+                    .eq(Comment::getArticleId, GUESTBOOK_ID)
+                    .eq(Comment::getStatus, APPROVED.getCode()));
+            return count == null ? 0 : count;
+        }
+        Article article = articleMapper.selectOne(new LambdaQueryWrapper<Article>()
+                .select(Article::getId, Article::getCommentCount)
+                .eq(Article::getId, articleId));
+        return article == null ? 0 : Objects.requireNonNullElse(article.getCommentCount(), 0L);
+    }
+}
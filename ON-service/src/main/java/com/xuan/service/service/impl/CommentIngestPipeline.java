@@ -0,0 +1,269 @@
+package com.xuan.service.service.impl;
+
+import com.xuan.entity.po.interact.Comment;
+import com.xuan.entity.vo.comment.CommentSubmitVO;
+import com.xuan.service.event.CommentChangedEvent;
+import com.xuan.service.mapper.CommentMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.xuan.common.constant.RedisConstant.COMMENT_PENDING_KEY_PREFIX;
+import static com.xuan.common.constant.RedisConstant.COMMENT_PENDING_TTL_MINUTES;
+
+/**
+ * 评论写入管道
+ * <p>
+ * 发表评论的请求线程只做校验，通过后把评论放入有界队列立即返回；后台写入线程从队列中批量取出评论：
+ * 1. 最多 {@code blog.comment.ingest.batch-size} 条为一批，队列中不足一批时最多再等待 {@code linger-ms} 凑批
+ * 2. 一条多值 INSERT 写入 comment 并回填自增ID，同一事务内按已审核通过的评论数累加 article.comment_count，
+ *    并为回复写入回复通知发件箱（由 {@link CommentReplyNotifier} 异步发信）；
+ *    每批一个事务，整批失败时逐条重试，只有出错的评论标记为失败
+ * 3. 把每条评论的写入结果记录到 {@code comment:pending:{pendingId}}，供前端查询
+ * 4. 发布评论变更事件，由监听器清除评论相关缓存
+ * <p>
+ * 队列已满时 {@link #submit} 返回 false，由调用方拒绝请求，避免热门文章的评论洪峰堆积在内存中；
+ * 应用关闭时写入线程会先写完队列中剩余的评论再退出
+ *
+ * @author 玄〤
+ * @since 2026-03-16
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentIngestPipeline {
+
+    private final CommentMapper commentMapper;
+    private final CommentCounter commentCounter;
+    private final CommentReplyNotifier commentReplyNotifier;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 队列容量
+     */
+    @Value("${blog.comment.ingest.queue-capacity:10000}")
+    private int queueCapacity;
+
+    /**
+     * 写入线程数
+     */
+    @Value("${blog.comment.ingest.workers:2}")
+    private int workerCount;
+
+    /**
+     * 每批最多写入的评论数
+     */
+    @Value("${blog.comment.ingest.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * 凑批等待时间（毫秒）
+     */
+    @Value("${blog.comment.ingest.linger-ms:20}")
+    private long lingerMs;
+
+    /**
+     * 队列已满时请求线程的最长等待时间（毫秒）
+     */
+    @Value("${blog.comment.ingest.offer-timeout-ms:100}")
+    private long offerTimeoutMs;
+
+    private BlockingQueue<PendingComment> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    /**
+     * 启动写入线程
+     */
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::runWorker, "comment-ingest-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("评论写入管道已启动: 队列容量 {}, 写入线程 {}, 批大小 {}", queueCapacity, workerCount, batchSize);
+    }
+
+    /**
+     * 停止接收新评论，等待写入线程写完队列中剩余的评论
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (!queue.isEmpty()) {
+            log.warn("评论写入管道关闭时仍有 {} 条评论未写入", queue.size());
+        }
+    }
+
+    /**
+     * 提交一条已通过校验的评论
+     *
+     * @param pendingId 排队凭证
+     * @param comment   评论（ID 为空，创建/更新时间已设置）
+     * @return 是否已进入队列，队列已满或管道已关闭时返回 false
+     */
+    public boolean submit(String pendingId, Comment comment) {
+        if (!running) {
+            return false;
+        }
+        try {
+            return queue.offer(new PendingComment(pendingId, comment), offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 当前排队中的评论数
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * 写入线程主循环：管道关闭后继续处理，直到队列为空
+     */
+    private void runWorker() {
+        List<PendingComment> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingComment first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("评论批量写入异常: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 凑批：先取走队列中已有的评论，不足一批时在 linger-ms 内继续等待
+     */
+    private void fill(List<PendingComment> batch) throws InterruptedException {
+        queue.drainTo(batch, batchSize - batch.size());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingComment next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    /**
+     * 写入一批评论并处理写入结果
+     */
+    private void flush(List<PendingComment> batch) {
+        // 1.整批写入并累加评论数，失败时逐条重试
+        List<Comment> comments = batch.stream().map(PendingComment::comment).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                commentMapper.batchInsertComments(comments);
+                commentCounter.apply(CommentCounter.deltasOfCreated(comments));
+                commentReplyNotifier.enqueue(comments);
+            });
+        } catch (Exception e) {
+            log.warn("评论批量写入失败，改为逐条写入: size={}, {}", comments.size(), e.getMessage());
+            for (Comment comment : comments) {
+                try {
+                    comment.setId(null);
+                    transactionTemplate.executeWithoutResult(status -> {
+                        commentMapper.insert(comment);
+                        commentCounter.apply(CommentCounter.deltasOfCreated(List.of(comment)));
+                        commentReplyNotifier.enqueue(List.of(comment));
+                    });
+                } catch (Exception ex) {
+                    comment.setId(null);
+                    log.error("评论写入失败: articleId={}, userId={}, {}", comment.getArticleId(), comment.getUserId(), ex.getMessage());
+                }
+            }
+        }
+
+        // 2.记录写入结果
+        Map<String, String> results = new LinkedHashMap<>(batch.size() * 2);
+        List<Long> savedIds = new ArrayList<>(batch.size());
+        for (PendingComment pending : batch) {
+            Comment comment = pending.comment();
+            if (comment.getId() == null) {
+                results.put(COMMENT_PENDING_KEY_PREFIX + pending.pendingId(), CommentSubmitVO.STATE_FAILED);
+                continue;
+            }
+            savedIds.add(comment.getId());
+            results.put(COMMENT_PENDING_KEY_PREFIX + pending.pendingId(), String.valueOf(comment.getId()));
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                results.forEach((key, value) ->
+                        stringConnection.setEx(key, TimeUnit.MINUTES.toSeconds(COMMENT_PENDING_TTL_MINUTES), value));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("评论写入结果记录失败: {}", e.getMessage());
+        }
+
+        // 3.发布评论变更事件
+        if (!savedIds.isEmpty()) {
+            List<Long> articleIds = batch.stream()
+                    .map(PendingComment::comment)
+                    .filter(comment -> comment.getId() != null)
+                    .map(Comment::getArticleId)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+            eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Action.CREATED, savedIds, articleIds));
+        }
+    }
+
+    /**
+     * 排队中的评论
+     */
+    private record PendingComment(String pendingId, Comment comment) {
+    }
+}
@@ -0,0 +1,301 @@
+package com.xuan.service.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.xuan.common.exceptions.BusinessException;
+import com.xuan.common.utils.HotScoreUtils;
+import com.xuan.entity.po.interact.Comment;
+import com.xuan.entity.po.interact.CommentLike;
+import com.xuan.entity.vo.comment.CommentLikeVO;
+import com.xuan.service.event.CommentChangedEvent;
+import com.xuan.service.mapper.CommentLikeMapper;
+import com.xuan.service.mapper.CommentMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.xuan.common.constant.RedisConstant.COMMENT_LIKE_COUNT_KEY;
+import static com.xuan.common.constant.RedisConstant.COMMENT_LIKE_FLUSH_LOCK_KEY;
+import static com.xuan.common.constant.RedisConstant.COMMENT_LIKE_FLUSH_LOCK_TTL_SECONDS;
+import static com.xuan.common.constant.RedisConstant.COMMENT_LIKE_OPS_KEY;
+import static com.xuan.common.constant.RedisConstant.COMMENT_LIKE_USERS_KEY_PREFIX;
+import static com.xuan.common.enums.CommentStatusEnum.APPROVED;
+import static com.xuan.common.enums.ErrorCode.COMMENT_NOT_FOUND;
+
+/**
+ * 评论点赞
+ * <p>
+ * 1. 点赞/取消：同一IP对同一评论切换点赞状态，由一段 Lua 脚本原子地修改点赞IP集合
+ *    {@code comment:like:users:{commentId}}、点赞数 Hash {@code comment:like:count}，
+ *    并把操作追加到待落库 List {@code comment:like:ops}，请求线程不访问数据库（集合第一次使用时除外）
+ * 2. 落库：后台任务每隔 {@code flush-interval-ms} 按顺序批量读取操作，同一 (评论, IP) 只保留最后一次结果，
+ *    在一个事务内写入/删除 comment_like，按记录数重新统计 like_count 并重新计算 hot_score，提交后再从 List 中移除
+ * 3. 热度分：见 {@link HotScoreUtils}，时间项固定，只有赞数变化的评论需要重新计算；评论树按热度排序时走
+ *    idx_article_status_root_hot 索引
+ * <p>
+ * 多实例部署时通过分布式锁保证同一时间只有一个实例在落库，保证操作按顺序应用；落库失败时操作留在 List 中下一轮重试
+ *
+ * @author 玄〤
+ * @since 2026-03-25
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentLikeStore {
+
+    /** 点赞IP集合的占位成员，标记集合已从数据库加载（集合为空时 Key 会被 Redis 删除） */
+    private static final String LOADED_MARK = "#";
+
+    /**
+     * 切换点赞状态
+     * KEYS[1] 点赞IP集合，KEYS[2] 点赞数 Hash，KEYS[3] 待落库操作 List；ARGV[1] IP，ARGV[2] 评论ID
+     * 返回 {是否已点赞(1/0), 最新点赞数}
+     */
+    private static final RedisScript<List<Long>> TOGGLE_SCRIPT = new DefaultRedisScript<>("""
+            local liked = 1
+            if redis.call('SADD', KEYS[1], ARGV[1]) == 0 then
+                redis.call('SREM', KEYS[1], ARGV[1])
+                liked = 0
+            end
+            local count = redis.call('HINCRBY', KEYS[2], ARGV[2], liked == 1 and 1 or -1)
+            if count < 0 then
+                redis.call('HSET', KEYS[2], ARGV[2], 0)
+                count = 0
+            end
+            redis.call('RPUSH', KEYS[3], ARGV[2] .. '|' .. liked .. '|' .. ARGV[1])
+            return {liked, count}
+            """, longListType());
+
+    private final CommentMapper commentMapper;
+    private final CommentLikeMapper commentLikeMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 每轮落库最多处理的操作数
+     */
+    @Value("${blog.comment.like.flush-batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * 点赞/取消点赞
+     *
+     * @param commentId 评论ID
+     * @param ip        点赞人IP
+     * @return 点赞状态与最新点赞数
+     */
+    public CommentLikeVO toggle(Long commentId, String ip) {
+        String usersKey = COMMENT_LIKE_USERS_KEY_PREFIX + commentId;
+        // 1.集合不存在时校验评论并从数据库加载（集合存在说明评论已校验过，删除评论时会清除集合）
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(usersKey))) {
+            load(commentId, usersKey);
+        }
+
+        // 2.原子切换点赞状态并记录待落库操作
+        List<Long> result = redisTemplate.execute(TOGGLE_SCRIPT,
+                List.of(usersKey, COMMENT_LIKE_COUNT_KEY, COMMENT_LIKE_OPS_KEY), ip, String.valueOf(commentId));
+        return CommentLikeVO.builder()
+                .liked(result != null && result.get(0) == 1L)
+                .likeCount(result == null ? 0L : result.get(1))
+                .build();
+    }
+
+    /**
+     * 批量读取点赞数
+     *
+     * @param commentIds 评论ID
+     * @return 评论ID -> 点赞数，Redis 中没有的评论不在其中
+     */
+    public Map<Long, Long> multiGetCounts(List<Long> commentIds) {
+        Map<Long, Long> counts = new HashMap<>(commentIds.size() * 2);
+        if (commentIds.isEmpty()) {
+            return counts;
+        }
+        try {
+            List<Object> values = redisTemplate.opsForHash().multiGet(COMMENT_LIKE_COUNT_KEY,
+                    commentIds.stream().map(id -> (Object) String.valueOf(id)).toList());
+            for (int i = 0; i < commentIds.size(); i++) {
+                if (values.get(i) != null) {
+                    counts.put(commentIds.get(i), Long.parseLong(values.get(i).toString()));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("评论点赞数读取失败: {}", e.getMessage());
+        }
+        return counts;
+    }
+
+    /**
+     * 定时把点赞操作落库
+     */
+    @Scheduled(initialDelayString = "${blog.comment.like.flush-interval-ms:5000}",
+            fixedDelayString = "${blog.comment.like.flush-interval-ms:5000}")
+    public void flush() {
+        // 1.获取分布式锁，其他实例正在落库时跳过本轮
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(COMMENT_LIKE_FLUSH_LOCK_KEY, token,
+                COMMENT_LIKE_FLUSH_LOCK_TTL_SECONDS, TimeUnit.SECONDS);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        // 2.按顺序分批读取操作，落库成功后再从 List 头部移除
+        try {
+            while (true) {
+                List<String> ops = redisTemplate.opsForList().range(COMMENT_LIKE_OPS_KEY, 0, batchSize - 1);
+                if (ops == null || ops.isEmpty()) {
+                    break;
+                }
+                persist(ops);
+                redisTemplate.opsForList().trim(COMMENT_LIKE_OPS_KEY, ops.size(), -1);
+                if (ops.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("评论点赞落库失败: {}", e.getMessage(), e);
+        } finally {
+            // 只释放自己持有的锁
+            if (token.equals(redisTemplate.opsForValue().get(COMMENT_LIKE_FLUSH_LOCK_KEY))) {
+                redisTemplate.delete(COMMENT_LIKE_FLUSH_LOCK_KEY);
+            }
+        }
+    }
+
+    /**
+     * 评论删除后清除点赞记录与缓存；审核状态变化后清除点赞IP集合，下一次点赞时重新校验评论状态
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.getAction() == CommentChangedEvent.Action.CREATED || event.getCommentIds().isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(event.getCommentIds().stream()
+                    .map(id -> COMMENT_LIKE_USERS_KEY_PREFIX + id)
+                    .toList());
+            if (event.getAction() == CommentChangedEvent.Action.DELETED) {
+                commentLikeMapper.delete(new LambdaQueryWrapper<CommentLike>()
+                        .in(CommentLike::getCommentId, event.getCommentIds()));
+                redisTemplate.opsForHash().delete(COMMENT_LIKE_COUNT_KEY,
+                        event.getCommentIds().stream().map(String::valueOf).toArray());
+            }
+        } catch (Exception e) {
+            log.warn("评论点赞缓存清除失败: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 校验评论并加载点赞IP集合与点赞数
+     */
+    private void load(Long commentId, String usersKey) {
+        Comment comment = commentMapper.selectOne(new LambdaQueryWrapper<Comment>()
+                .select(Comment::getId, Comment::getStatus, Comment::getLikeCount)
+                .eq(Comment::getId, commentId));
+        if (comment == null || !APPROVED.getCode().equals(comment.getStatus())) {
+            throw new BusinessException(COMMENT_NOT_FOUND);
+        }
+        List<String> members = new ArrayList<>();
+        members.add(LOADED_MARK);
+        commentLikeMapper.selectList(new LambdaQueryWrapper<CommentLike>()
+                        .select(CommentLike::getIpAddress)
+                        .eq(CommentLike::getCommentId, commentId))
+                .forEach(like -> members.add(like.getIpAddress()));
+        redisTemplate.opsForSet().add(usersKey, members.toArray(new String[0]));
+        redisTemplate.opsForHash().putIfAbsent(COMMENT_LIKE_COUNT_KEY, String.valueOf(commentId),
+                String.valueOf(members.size() - 1));
+    }
+
+    /**
+     * 在一个事务内应用一批操作，并重新统计涉及评论的点赞数与热度分
+     */
+    private void persist(List<String> ops) {
+        // 1.合并：同一 (评论, IP) 只保留最后一次操作
+        Map<String, String[]> latest = new LinkedHashMap<>(ops.size() * 2);
+        for (String op : ops) {
+            String[] parts = op.split("\\|", 3);
+            if (parts.length != 3) {
+                log.warn("忽略格式错误的评论点赞操作: {}", op);
+                continue;
+            }
+            latest.put(parts[0] + "|" + parts[2], parts);
+        }
+        Set<Long> commentIds = latest.values().stream()
+                .map(parts -> Long.parseLong(parts[0]))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (commentIds.isEmpty()) {
+            return;
+        }
+
+        // 2.只处理仍然存在的评论
+        Set<Long> existing = commentMapper.selectList(new LambdaQueryWrapper<Comment>()
+                        .select(Comment::getId)
+                        .in(Comment::getId, commentIds))
+                .stream()
+                .map(Comment::getId)
+                .collect(Collectors.toSet());
+        if (existing.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<CommentLike> likes = new ArrayList<>();
+        List<CommentLike> unlikes = new ArrayList<>();
+        for (String[] parts : latest.values()) {
+            Long commentId = Long.parseLong(parts[0]);
+            if (!existing.contains(commentId)) {
+                continue;
+            }
+            CommentLike like = CommentLike.builder().commentId(commentId).ipAddress(parts[2]).createTime(now).build();
+            ("1".equals(parts[1]) ? likes : unlikes).add(like);
+        }
+        List<Long> ids = new ArrayList<>(existing);
+
+        // 3.写入点赞记录，按记录数重新统计点赞数，再重新计算热度分
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!likes.isEmpty()) {
+                commentLikeMapper.batchInsertIgnore(likes);
+            }
+            if (!unlikes.isEmpty()) {
+                commentLikeMapper.batchDeleteByCommentAndIp(unlikes);
+            }
+            commentMapper.refreshLikeCounts(ids);
+            List<Comment> scored = commentMapper.selectList(new LambdaQueryWrapper<Comment>()
+                    .select(Comment::getId, Comment::getLikeCount, Comment::getCreateTime)
+                    .in(Comment::getId, ids));
+            for (Comment comment : scored) {
+                comment.setHotScore(HotScoreUtils.hot(comment.getLikeCount(), comment.getCreateTime()));
+            }
+            commentMapper.batchUpdateHotScores(scored);
+        });
+        log.debug("评论点赞落库完成: 操作 {}, 评论 {}", ops.size(), ids.size());
+    }
+
+    /**
+     * 脚本返回多值时由 Lettuce 转为 List&lt;Long&gt;，DefaultRedisScript 只接受 Class，这里集中做一次泛型转换
+     */
+    @SuppressWarnings("unchecked")
+    private static Class<List<Long>> longListType() {
+        return (Class<List<Long>>) (Class<?>) List.class;
+    }
+}
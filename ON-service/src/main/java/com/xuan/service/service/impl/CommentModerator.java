@@ -0,0 +1,301 @@
+package com.xuan.service.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.xuan.common.utils.AhoCorasickMatcher;
+import com.xuan.entity.po.interact.SensitiveWord;
+import com.xuan.entity.vo.comment.CommentModerationStatusVO;
+import com.xuan.entity.vo.comment.CommentModerationVO;
+import com.xuan.service.mapper.SensitiveWordMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.xuan.common.constant.RedisConstant.COMMENT_MODERATION_VERSION_KEY;
+
+/**
+ * 评论自动审核
+ * <p>
+ * 对每条新评论给出 PASS / REVIEW / REJECT 三种结论，规则按顺序叠加，取最严重的结论：
+ * 1. 敏感词：sensitive_word 表（按级别分为送审词和拒绝词）与可选的词库文件（{@code blog.comment.moderation.word-file}，
+ *    每行一个拒绝词，# 开头为注释）编译为两个 Aho-Corasick 自动机，一次扫描即可完成万级词库的匹配
+ * 2. 链接数：超过 {@code max-links} 送审，达到 {@code reject-links} 拒绝
+ * 3. 重复内容：同一字符连续出现超过 {@code max-char-run} 次，或较长评论中不同字符占比低于 {@code min-distinct-ratio} 时送审
+ * <p>
+ * 热加载：词库增删后 INCR {@code comment:moderation:version}，各实例每隔 {@code reload-interval-ms} 比较版本号
+ * （以及词库文件的修改时间），有变化时在后台重新编译，编译完成后整体替换规则快照，匹配过程无锁
+ *
+ * @author 玄〤
+ * @since 2026-03-22
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentModerator {
+
+    private static final Pattern LINK_PATTERN = Pattern.compile("(?i)(https?://|www\\.)\\S+");
+
+    private final SensitiveWordMapper sensitiveWordMapper;
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 是否开启自动审核，关闭时按系统设置 comment_audit 全部送审或全部通过
+     */
+    @Value("${blog.comment.moderation.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 额外的词库文件路径（可选）
+     */
+    @Value("${blog.comment.moderation.word-file:}")
+    private String wordFile;
+
+    /**
+     * 超过该链接数时送审
+     */
+    @Value("${blog.comment.moderation.max-links:2}")
+    private int maxLinks;
+
+    /**
+     * 达到该链接数时拒绝
+     */
+    @Value("${blog.comment.moderation.reject-links:5}")
+    private int rejectLinks;
+
+    /**
+     * 同一字符最多连续出现次数
+     */
+    @Value("${blog.comment.moderation.max-char-run:15}")
+    private int maxCharRun;
+
+    /**
+     * 评论长度不少于 20 时，不同字符数占总长度的最低比例
+     */
+    @Value("${blog.comment.moderation.min-distinct-ratio:0.15}")
+    private double minDistinctRatio;
+
+    /**
+     * 当前规则快照，重新加载时整体替换
+     */
+    private volatile Rules rules = new Rules(AhoCorasickMatcher.empty(), AhoCorasickMatcher.empty(), -1, -1, null);
+
+    /**
+     * 启动时加载词库
+     */
+    @PostConstruct
+    public void init() {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    /**
+     * 是否开启自动审核
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 审核一条评论
+     *
+     * @param content 评论内容
+     * @return 审核结论与命中的规则
+     */
+    public CommentModerationVO moderate(String content) {
+        Rules current = rules;
+        List<String> reasons = new ArrayList<>();
+        String action = CommentModerationVO.ACTION_PASS;
+        String text = content == null ? "" : content;
+
+        // 1.敏感词
+        Set<String> rejectHits = new LinkedHashSet<>();
+        current.reject().findAll(text).forEach(match -> rejectHits.add(match.word()));
+        if (!rejectHits.isEmpty()) {
+            reasons.add("敏感词: " + String.join(", ", rejectHits));
+            action = CommentModerationVO.ACTION_REJECT;
+        }
+        Set<String> reviewHits = new LinkedHashSet<>();
+        current.review().findAll(text).forEach(match -> reviewHits.add(match.word()));
+        if (!reviewHits.isEmpty()) {
+            reasons.add("疑似敏感词: " + String.join(", ", reviewHits));
+            action = stricter(action, CommentModerationVO.ACTION_REVIEW);
+        }
+
+        // 2.链接数
+        int links = countLinks(text);
+        if (links >= rejectLinks) {
+            reasons.add("链接数 " + links);
+            action = CommentModerationVO.ACTION_REJECT;
+        } else if (links > maxLinks) {
+            reasons.add("链接数 " + links);
+            action = stricter(action, CommentModerationVO.ACTION_REVIEW);
+        }
+
+        // 3.重复内容
+        int run = longestCharRun(text);
+        if (run > maxCharRun) {
+            reasons.add("同一字符连续出现 " + run + " 次");
+            action = stricter(action, CommentModerationVO.ACTION_REVIEW);
+        }
+        if (text.length() >= 20) {
+            double ratio = (double) text.codePoints().distinct().count() / text.codePointCount(0, text.length());
+            if (ratio < minDistinctRatio) {
+                reasons.add(String.format("重复内容（不同字符占比 %.2f）", ratio));
+                action = stricter(action, CommentModerationVO.ACTION_REVIEW);
+            }
+        }
+        return CommentModerationVO.builder().action(action).reasons(reasons).build();
+    }
+
+    /**
+     * 词库已修改：递增版本号通知所有实例，并立即重新加载本实例
+     *
+     * @return 重新加载后的词库状态
+     */
+    public CommentModerationStatusVO refresh() {
+        redisTemplate.opsForValue().increment(COMMENT_MODERATION_VERSION_KEY);
+        reload();
+        return getStatus();
+    }
+
+    /**
+     * 获取词库状态
+     */
+    public CommentModerationStatusVO getStatus() {
+        Rules current = rules;
+        return CommentModerationStatusVO.builder()
+                .enabled(enabled)
+                .version(current.version())
+                .rejectWords(current.reject().size())
+                .reviewWords(current.review().size())
+                .loadedTime(current.loadedTime())
+                .build();
+    }
+
+    /**
+     * 定时检查词库版本号和词库文件，有变化时重新加载
+     */
+    @Scheduled(initialDelayString = "${blog.comment.moderation.reload-interval-ms:30000}",
+            fixedDelayString = "${blog.comment.moderation.reload-interval-ms:30000}")
+    public void checkReload() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Rules current = rules;
+            if (readVersion() != current.version() || fileModified() != current.fileModified()) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("敏感词库版本检查失败: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 从数据库和词库文件加载敏感词并编译自动机
+     * 先读版本号再读词库：期间有新的修改时版本号已变化，下一次检查会再次加载
+     */
+    private synchronized void reload() {
+        try {
+            long version = readVersion();
+            long fileModified = fileModified();
+            List<String> rejectWords = new ArrayList<>();
+            List<String> reviewWords = new ArrayList<>();
+            for (SensitiveWord word : sensitiveWordMapper.selectList(new LambdaQueryWrapper<SensitiveWord>()
+                    .select(SensitiveWord::getWord, SensitiveWord::getLevel))) {
+                if (Integer.valueOf(SensitiveWord.LEVEL_REVIEW).equals(word.getLevel())) {
+                    reviewWords.add(word.getWord());
+                } else {
+                    rejectWords.add(word.getWord());
+                }
+            }
+            rejectWords.addAll(readWordFile());
+            long start = System.nanoTime();
+            Rules loaded = new Rules(AhoCorasickMatcher.build(rejectWords), AhoCorasickMatcher.build(reviewWords),
+                    version, fileModified, LocalDateTime.now());
+            rules = loaded;
+            log.info("敏感词库已加载: 版本 {}, 拒绝词 {}, 送审词 {}, 编译耗时 {}ms", version, loaded.reject().size(),
+                    loaded.review().size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.error("敏感词库加载失败，继续使用当前词库: {}", e.getMessage(), e);
+        }
+    }
+
+    private long readVersion() {
+        String value = redisTemplate.opsForValue().get(COMMENT_MODERATION_VERSION_KEY);
+        return value == null ? 0 : Long.parseLong(value);
+    }
+
+    private long fileModified() {
+        if (wordFile == null || wordFile.isBlank()) {
+            return -1;
+        }
+        try {
+            return Files.getLastModifiedTime(Path.of(wordFile)).toMillis();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private List<String> readWordFile() throws IOException {
+        if (wordFile == null || wordFile.isBlank() || !Files.exists(Path.of(wordFile))) {
+            return List.of();
+        }
+        return Files.readAllLines(Path.of(wordFile), StandardCharsets.UTF_8).stream()
+                .map(String::strip)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .toList();
+    }
+
+    private static int countLinks(String text) {
+        int count = 0;
+        Matcher matcher = LINK_PATTERN.matcher(text);
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+
+    private static int longestCharRun(String text) {
+        int longest = 0;
+        int run = 0;
+        for (int i = 0; i < text.length(); i++) {
+            run = i > 0 && text.charAt(i) == text.charAt(i - 1) ? run + 1 : 1;
+            longest = Math.max(longest, run);
+        }
+        return longest;
+    }
+
+    private static String stricter(String current, String candidate) {
+        return CommentModerationVO.ACTION_REJECT.equals(current) ? current : candidate;
+    }
+
+    /**
+     * 规则快照
+     *
+     * @param reject       拒绝词自动机
+     * @param review       送审词自动机
+     * @param version      加载时的词库版本号
+     * @param fileModified 加载时词库文件的修改时间，未配置文件时为 -1
+     * @param loadedTime   加载时间
+     */
+    private record Rules(AhoCorasickMatcher reject, AhoCorasickMatcher review, long version, long fileModified,
+                         LocalDateTime loadedTime) {
+    }
+}
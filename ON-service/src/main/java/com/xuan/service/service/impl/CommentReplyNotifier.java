@@ -0,0 +1,460 @@
+package com.xuan.service.service.impl;
+
+import cn.hutool.core.util.StrUtil;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.xuan.entity.po.blog.Article;
+import com.xuan.entity.po.interact.Comment;
+import com.xuan.entity.po.interact.CommentNotifyOutbox;
+import com.xuan.entity.vo.comment.CommentNotifyDispatchVO;
+import com.xuan.service.mapper.ArticleMapper;
+import com.xuan.service.mapper.CommentMapper;
+import com.xuan.service.mapper.CommentNotifyOutboxMapper;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.xuan.common.constant.RedisConstant.COMMENT_NOTIFY_LOCK_KEY;
+import static com.xuan.common.constant.RedisConstant.COMMENT_NOTIFY_LOCK_TTL_SECONDS;
+import static com.xuan.common.constant.RedisConstant.COMMENT_NOTIFY_RATE_KEY_PREFIX;
+import static com.xuan.common.enums.CommentStatusEnum.APPROVED;
+import static com.xuan.common.enums.CommentStatusEnum.PENDING;
+
+/**
+ * 评论回复邮件通知
+ * <p>
+ * 发表回复的请求不直接发邮件，避免 SMTP 延迟拖慢评论写入：
+ * 1. 入队：评论写入管道在写评论的同一事务内调用 {@link #enqueue}，按父评论的邮箱向 comment_notify_outbox 写入通知，
+ *    评论回滚时通知一并回滚，不会出现已通知但评论不存在的情况；最早发送时间为当前时间 + {@code digest-delay-seconds}
+ * 2. 合并：后台任务每隔 {@code interval-ms} 扫描到期的通知，取出这些收件人的全部待发送通知，
+ *    每个收件人合并为一封摘要邮件（最多列出 {@code max-items} 条回复）
+ * 3. 限流：给某个收件人发信后写入 {@code comment:notify:rate:{email}}（过期时间 {@code min-interval-seconds}），
+ *    过期前该收件人的通知推迟到 Key 过期，到期后继续合并为下一封
+ * 4. 审核：回复待审核时推迟，审核通过后随下一轮发送；未通过、已删除或待审核超过 {@code pending-expire-hours} 时取消
+ * 5. 重试：发送失败按 {@code retry-base-seconds} 指数退避（上限 {@code retry-max-seconds}），
+ *    超过 {@code max-attempts} 次或邮箱格式错误时标记为发送失败
+ * <p>
+ * 多实例部署时通过分布式锁保证同一时间只有一个实例在发送。本地调试可把 spring.mail 指向 MailHog 等本地 SMTP 服务，
+ * 再调用 7.11 立即发送接口
+ *
+ * @author 玄〤
+ * @since 2026-03-24
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentReplyNotifier {
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final CommentNotifyOutboxMapper outboxMapper;
+    private final CommentMapper commentMapper;
+    private final ArticleMapper articleMapper;
+    private final JavaMailSender mailSender;
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 是否开启回复邮件通知
+     */
+    @Value("${blog.comment.notify.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 回复写入后至少等待多久再发送（秒），期间同一收件人的回复合并为一封
+     */
+    @Value("${blog.comment.notify.digest-delay-seconds:300}")
+    private long digestDelaySeconds;
+
+    /**
+     * 同一收件人两封邮件的最小间隔（秒）
+     */
+    @Value("${blog.comment.notify.min-interval-seconds:1800}")
+    private long minIntervalSeconds;
+
+    /**
+     * 每轮最多扫描的到期通知数
+     */
+    @Value("${blog.comment.notify.batch-size:200}")
+    private int batchSize;
+
+    /**
+     * 每封邮件最多列出的回复数
+     */
+    @Value("${blog.comment.notify.max-items:20}")
+    private int maxItems;
+
+    /**
+     * 最大发送次数
+     */
+    @Value("${blog.comment.notify.max-attempts:5}")
+    private int maxAttempts;
+
+    /**
+     * 首次重试间隔（秒），之后每次翻倍
+     */
+    @Value("${blog.comment.notify.retry-base-seconds:60}")
+    private long retryBaseSeconds;
+
+    /**
+     * 重试间隔上限（秒）
+     */
+    @Value("${blog.comment.notify.retry-max-seconds:3600}")
+    private long retryMaxSeconds;
+
+    /**
+     * 回复待审核超过该时长（小时）后取消通知
+     */
+    @Value("${blog.comment.notify.pending-expire-hours:72}")
+    private long pendingExpireHours;
+
+    /**
+     * 已发送/已取消的通知保留天数
+     */
+    @Value("${blog.comment.notify.retention-days:7}")
+    private long retentionDays;
+
+    /**
+     * 发件人，默认与 SMTP 账号相同
+     */
+    @Value("${spring.mail.username:}")
+    private String from;
+
+    /**
+     * 前台站点地址
+     */
+    @Value("${blog.seo.site-url:http://localhost:5173}")
+    private String siteUrl;
+
+    /**
+     * 文章页路径
+     */
+    @Value("${blog.seo.article-path:/article/}")
+    private String articlePath;
+
+    /**
+     * 留言板页路径
+     */
+    @Value("${blog.comment.notify.guestbook-path:/guestbook}")
+    private String guestbookPath;
+
+    /**
+     * 为新写入的回复生成通知，须在写入评论的事务内调用
+     *
+     * @param comments 已写入（ID 已回填）的评论
+     */
+    public void enqueue(List<Comment> comments) {
+        if (!enabled) {
+            return;
+        }
+        List<Long> replyIds = comments.stream()
+                .filter(comment -> comment.getId() != null && comment.getParentId() != null)
+                .map(Comment::getId)
+                .toList();
+        if (!replyIds.isEmpty()) {
+            outboxMapper.insertForReplies(replyIds, LocalDateTime.now().plusSeconds(digestDelaySeconds));
+        }
+    }
+
+    /**
+     * 定时发送到期的通知
+     */
+    @Scheduled(initialDelayString = "${blog.comment.notify.interval-ms:60000}",
+            fixedDelayString = "${blog.comment.notify.interval-ms:60000}")
+    public void scheduledDispatch() {
+        if (enabled) {
+            dispatch();
+        }
+    }
+
+    /**
+     * 执行一轮发送
+     *
+     * @return 本轮发送结果
+     */
+    public CommentNotifyDispatchVO dispatch() {
+        // 1.获取分布式锁，其他实例正在发送时跳过本轮
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(COMMENT_NOTIFY_LOCK_KEY, token,
+                COMMENT_NOTIFY_LOCK_TTL_SECONDS, TimeUnit.SECONDS);
+        if (!Boolean.TRUE.equals(locked)) {
+            log.debug("评论回复通知正在其他实例发送，跳过本轮");
+            return buildResult(false, new Round());
+        }
+
+        Round round = new Round();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+
+            // 2.找出有到期通知的收件人，取出他们的全部待发送通知
+            Set<String> recipients = outboxMapper.selectList(new LambdaQueryWrapper<CommentNotifyOutbox>()
+                            .select(CommentNotifyOutbox::getRecipient)
+                            .eq(CommentNotifyOutbox::getStatus, CommentNotifyOutbox.STATUS_PENDING)
+                            .le(CommentNotifyOutbox::getNextAttemptTime, now)
+                            .orderByAsc(CommentNotifyOutbox::getNextAttemptTime)
+                            .last("LIMIT " + batchSize))
+                    .stream()
+                    .map(CommentNotifyOutbox::getRecipient)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            if (!recipients.isEmpty()) {
+                List<CommentNotifyOutbox> outbox = outboxMapper.selectList(new LambdaQueryWrapper<CommentNotifyOutbox>()
+                        .eq(CommentNotifyOutbox::getStatus, CommentNotifyOutbox.STATUS_PENDING)
+                        .in(CommentNotifyOutbox::getRecipient, recipients)
+                        .orderByAsc(CommentNotifyOutbox::getId));
+                Map<String, List<CommentNotifyOutbox>> byRecipient = outbox.stream()
+                        .collect(Collectors.groupingBy(CommentNotifyOutbox::getRecipient, LinkedHashMap::new,
+                                Collectors.toList()));
+
+                // 3.批量加载回复、被回复评论与文章标题
+                Map<Long, Comment> replies = loadComments(outbox.stream().map(CommentNotifyOutbox::getCommentId).toList());
+                Map<Long, Comment> parents = loadComments(replies.values().stream().map(Comment::getParentId).toList());
+                Map<Long, Article> articles = loadArticles(replies.values().stream().map(Comment::getArticleId).toList());
+
+                // 4.逐个收件人发送摘要邮件
+                for (Map.Entry<String, List<CommentNotifyOutbox>> entry : byRecipient.entrySet()) {
+                    dispatchRecipient(entry.getKey(), entry.getValue(), replies, parents, articles, now, round);
+                }
+            }
+
+            // 5.清理过期的已发送/已取消记录
+            outboxMapper.delete(new LambdaQueryWrapper<CommentNotifyOutbox>()
+                    .in(CommentNotifyOutbox::getStatus, CommentNotifyOutbox.STATUS_SENT, CommentNotifyOutbox.STATUS_CANCELLED)
+                    .lt(CommentNotifyOutbox::getUpdateTime, now.minusDays(retentionDays)));
+            if (round.mails > 0 || round.failed > 0) {
+                log.info("评论回复通知发送完成: 邮件 {}, 回复 {}, 推迟 {}, 取消 {}, 失败 {}",
+                        round.mails, round.replies, round.deferred, round.cancelled, round.failed);
+            }
+        } catch (Exception e) {
+            log.error("评论回复通知发送失败: {}", e.getMessage(), e);
+        } finally {
+            // 只释放自己持有的锁
+            if (token.equals(redisTemplate.opsForValue().get(COMMENT_NOTIFY_LOCK_KEY))) {
+                redisTemplate.delete(COMMENT_NOTIFY_LOCK_KEY);
+            }
+        }
+        return buildResult(true, round);
+    }
+
+    /**
+     * 处理一个收件人的全部待发送通知
+     */
+    private void dispatchRecipient(String recipient, List<CommentNotifyOutbox> items, Map<Long, Comment> replies,
+                                   Map<Long, Comment> parents, Map<Long, Article> articles, LocalDateTime now,
+                                   Round round) {
+        // 1.按回复的审核状态分为可发送、推迟、取消
+        //   待审核的回复只推迟已到期的通知，未到期的等到期后再处理
+        List<CommentNotifyOutbox> deliverable = new ArrayList<>();
+        List<Long> waiting = new ArrayList<>();
+        List<Long> cancelled = new ArrayList<>();
+        LocalDateTime pendingDeadline = now.minusHours(pendingExpireHours);
+        for (CommentNotifyOutbox item : items) {
+            Comment reply = replies.get(item.getCommentId());
+            if (reply != null && APPROVED.getCode().equals(reply.getStatus())) {
+                deliverable.add(item);
+            } else if (reply != null && PENDING.getCode().equals(reply.getStatus())
+                    && item.getCreateTime().isAfter(pendingDeadline)) {
+                if (!item.getNextAttemptTime().isAfter(now)) {
+                    waiting.add(item.getId());
+                }
+            } else {
+                cancelled.add(item.getId());
+            }
+        }
+        if (!cancelled.isEmpty()) {
+            updateStatus(cancelled, CommentNotifyOutbox.STATUS_CANCELLED, null);
+            round.cancelled += cancelled.size();
+        }
+        if (!waiting.isEmpty()) {
+            postpone(waiting, now.plusSeconds(digestDelaySeconds));
+            round.deferred += waiting.size();
+        }
+        if (deliverable.isEmpty()) {
+            return;
+        }
+
+        // 2.收件人限流：间隔内已发过信的推迟到限流 Key 过期
+        String rateKey = COMMENT_NOTIFY_RATE_KEY_PREFIX + recipient.toLowerCase();
+        Boolean allowed = redisTemplate.opsForValue().setIfAbsent(rateKey, "1", minIntervalSeconds, TimeUnit.SECONDS);
+        List<Long> ids = deliverable.stream().map(CommentNotifyOutbox::getId).toList();
+        if (!Boolean.TRUE.equals(allowed)) {
+            Long ttl = redisTemplate.getExpire(rateKey, TimeUnit.SECONDS);
+            postpone(ids, now.plusSeconds(ttl == null || ttl <= 0 ? minIntervalSeconds : ttl));
+            round.deferred += ids.size();
+            return;
+        }
+
+        // 3.发送摘要邮件
+        try {
+            sendDigest(recipient, deliverable, replies, parents, articles);
+            outboxMapper.update(null, new LambdaUpdateWrapper<CommentNotifyOutbox>()
+                    .set(CommentNotifyOutbox::getStatus, CommentNotifyOutbox.STATUS_SENT)
+                    .set(CommentNotifyOutbox::getSentTime, LocalDateTime.now())
+                    .setSql("attempts = attempts + 1")
+                    .in(CommentNotifyOutbox::getId, ids));
+            round.mails++;
+            round.replies += ids.size();
+        } catch (Exception e) {
+            // 发送失败时释放限流，按退避时间重试
+            redisTemplate.delete(rateKey);
+            String error = StrUtil.sub(e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage(), 0, 500);
+            if (e instanceof MailParseException) {
+                updateStatus(ids, CommentNotifyOutbox.STATUS_FAILED, error);
+            } else {
+                int attempts = deliverable.stream().mapToInt(CommentNotifyOutbox::getAttempts).max().orElse(0);
+                long backoff = Math.min(retryBaseSeconds << Math.min(attempts, 20), retryMaxSeconds);
+                // 先按自增前的次数判断是否已达上限，再自增（MySQL 按书写顺序计算 SET 子句）
+                outboxMapper.update(null, new LambdaUpdateWrapper<CommentNotifyOutbox>()
+                        .setSql("status = IF(attempts + 1 >= " + maxAttempts + ", "
+                                + CommentNotifyOutbox.STATUS_FAILED + ", status)")
+                        .setSql("attempts = attempts + 1")
+                        .set(CommentNotifyOutbox::getLastError, error)
+                        .set(CommentNotifyOutbox::getNextAttemptTime, now.plusSeconds(backoff))
+                        .in(CommentNotifyOutbox::getId, ids));
+            }
+            round.failed += ids.size();
+            log.warn("评论回复通知邮件发送失败: recipient={}, replies={}, {}", recipient, ids.size(), error);
+        }
+    }
+
+    /**
+     * 组装并发送一封摘要邮件
+     */
+    private void sendDigest(String recipient, List<CommentNotifyOutbox> items, Map<Long, Comment> replies,
+                            Map<Long, Comment> parents, Map<Long, Article> articles) throws MessagingException {
+        List<Comment> list = items.stream()
+                .map(item -> replies.get(item.getCommentId()))
+                .sorted(Comparator.comparing(Comment::getCreateTime))
+                .toList();
+        StringBuilder html = new StringBuilder("<html><body>");
+        html.append("<h3>你的评论有 ").append(list.size()).append(" 条新回复</h3>");
+        for (Comment reply : list.subList(0, Math.min(list.size(), maxItems))) {
+            Comment parent = parents.get(reply.getParentId());
+            html.append("<div style=\"margin-bottom: 16px; padding: 10px; border-left: 3px solid #ddd;\">")
+                    .append("<p><strong>").append(HtmlUtils.htmlEscape(reply.getNickname())).append("</strong> 于 ")
+                    .append(reply.getCreateTime().format(TIME_FORMATTER)).append(" 在 ")
+                    .append(link(reply.getArticleId(), articles.get(reply.getArticleId()))).append(" 回复了你：</p>")
+                    .append("<p>").append(HtmlUtils.htmlEscape(reply.getContent())).append("</p>");
+            if (parent != null) {
+                html.append("<p style=\"color: #999;\">你的评论：")
+                        .append(HtmlUtils.htmlEscape(StrUtil.maxLength(parent.getContent(), 100))).append("</p>");
+            }
+            html.append("</div>");
+        }
+        if (list.size() > maxItems) {
+            html.append("<p>以及另外 ").append(list.size() - maxItems).append(" 条回复，请前往网站查看。</p>");
+        }
+        html.append("<p style=\"color: #999;\">此邮件由系统自动发送，请勿直接回复。</p></body></html>");
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, StandardCharsets.UTF_8.name());
+        if (StrUtil.isNotBlank(from)) {
+            helper.setFrom(from);
+        }
+        helper.setTo(recipient);
+        helper.setSubject("【OpusNocturne】你的评论有 " + list.size() + " 条新回复");
+        helper.setText(html.toString(), true);
+        mailSender.send(message);
+    }
+
+    /**
+     * 文章/留言板链接
+     */
+    private String link(Long articleId, Article article) {
+        String base = siteUrl.endsWith("/") ? siteUrl.substring(0, siteUrl.length() - 1) : siteUrl;
+        if (articleId == null || articleId == CommentCounter.GUESTBOOK_ID || article == null) {
+            return "<a href=\"" + HtmlUtils.htmlEscape(base + guestbookPath) + "\">留言板</a>";
+        }
+        String path = StrUtil.isNotBlank(article.getSlug()) ? article.getSlug() : String.valueOf(article.getId());
+        return "<a href=\"" + HtmlUtils.htmlEscape(base + articlePath + path) + "\">《"
+                + HtmlUtils.htmlEscape(article.getTitle()) + "》</a>";
+    }
+
+    private Map<Long, Comment> loadComments(List<Long> ids) {
+        List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinct.isEmpty()) {
+            return Map.of();
+        }
+        return commentMapper.selectList(new LambdaQueryWrapper<Comment>()
+                        .select(Comment::getId, Comment::getArticleId, Comment::getParentId, Comment::getNickname,
+                                Comment::getContent, Comment::getStatus, Comment::getCreateTime)
+                        .in(Comment::getId, distinct))
+                .stream()
+                .collect(Collectors.toMap(Comment::getId, Function.identity()));
+    }
+
+    private Map<Long, Article> loadArticles(List<Long> ids) {
+        List<Long> distinct = ids.stream().filter(id -> id != null && id != CommentCounter.GUESTBOOK_ID).distinct().toList();
+        if (distinct.isEmpty()) {
+            return Map.of();
+        }
+        return articleMapper.selectList(new LambdaQueryWrapper<Article>()
+                        .select(Article::getId, Article::getTitle, Article::getSlug)
+                        .in(Article::getId, distinct))
+                .stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+    }
+
+    private void updateStatus(List<Long> ids, int status, String error) {
+        outboxMapper.update(null, new LambdaUpdateWrapper<CommentNotifyOutbox>()
+                .set(CommentNotifyOutbox::getStatus, status)
+                .set(error != null, CommentNotifyOutbox::getLastError, error)
+                .in(CommentNotifyOutbox::getId, ids));
+    }
+
+    private void postpone(List<Long> ids, LocalDateTime nextAttemptTime) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        outboxMapper.update(null, new LambdaUpdateWrapper<CommentNotifyOutbox>()
+                .set(CommentNotifyOutbox::getNextAttemptTime, nextAttemptTime)
+                .in(CommentNotifyOutbox::getId, ids));
+    }
+
+    private CommentNotifyDispatchVO buildResult(boolean executed, Round round) {
+        return CommentNotifyDispatchVO.builder()
+                .executed(executed)
+                .mails(round.mails)
+                .replies(round.replies)
+                .deferred(round.deferred)
+                .cancelled(round.cancelled)
+                .failed(round.failed)
+                .pending(outboxMapper.selectCount(new LambdaQueryWrapper<CommentNotifyOutbox>()
+                        .eq(CommentNotifyOutbox::getStatus, CommentNotifyOutbox.STATUS_PENDING)))
+                .build();
+    }
+
+    /**
+     * 一轮发送的统计
+     */
+    private static class Round {
+        int mails;
+        int replies;
+        int deferred;
+        int cancelled;
+        int failed;
+    }
+}
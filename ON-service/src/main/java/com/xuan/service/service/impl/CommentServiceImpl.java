@@ -3,8 +3,10 @@ package com.xuan.service.service.impl;
 import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.util.StrUtil;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.xuan.common.cache.CacheClient;
 import com.xuan.common.exceptions.BusinessException;
 import com.xuan.entity.dto.comment.CommentAuditDTO;
 import com.xuan.entity.dto.comment.CommentCreateDTO;
@@ -12,9 +14,14 @@ import com.xuan.entity.dto.comment.CommentPageQueryDTO;
 import com.xuan.entity.po.blog.Article;
 import com.xuan.entity.po.interact.Comment;
 import com.xuan.entity.vo.comment.CommentAdminVO;
+import com.xuan.entity.vo.comment.CommentLikeVO;
+import com.xuan.entity.vo.comment.CommentModerationVO;
+import com.xuan.entity.vo.comment.CommentNotifyDispatchVO;
 import com.xuan.entity.vo.comment.CommentPageVO;
+import com.xuan.entity.vo.comment.CommentSubmitVO;
 import com.xuan.entity.vo.comment.CommentTreeVO;
 import com.xuan.entity.vo.system.SystemSettingVO;
+import com.xuan.service.event.CommentChangedEvent;
 import com.xuan.service.mapper.ArticleMapper;
 import com.xuan.service.mapper.CommentMapper;
 import com.xuan.common.enums.CaptchaType;
@@ -22,21 +29,43 @@ import com.xuan.common.enums.ErrorCode;
 import com.xuan.service.service.ICommentService;
 import com.xuan.service.service.ICaptchaService;
 import com.xuan.service.service.ISysSettingService;
+import com.xuan.common.utils.HotScoreUtils;
+import com.xuan.common.utils.KeysetCursorUtils;
 import com.xuan.common.utils.SecurityUtils;
+import com.xuan.common.utils.SparseFieldsUtils;
 import com.xuan.entity.po.sys.SysUser;
 import com.xuan.service.service.ISysUserService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import static com.xuan.common.constant.RedisConstant.CACHE_NAME_COMMENT_TREE;
+import static com.xuan.common.constant.RedisConstant.COMMENT_PENDING_KEY_PREFIX;
+import static com.xuan.common.constant.RedisConstant.COMMENT_PENDING_TTL_MINUTES;
+import static com.xuan.common.constant.RedisConstant.COMMENT_TREE_GENERATION_KEY_PREFIX;
+import static com.xuan.common.constant.RedisConstant.COMMENT_TREE_KEY_PREFIX;
+import static com.xuan.common.constant.RedisConstant.COMMENT_TREE_TTL_MINUTES;
+import static com.xuan.common.enums.ArticleStatusEnum.PUBLISHED;
 import static com.xuan.common.enums.CommentStatusEnum.APPROVED;
 import static com.xuan.common.enums.CommentStatusEnum.PENDING;
+import static com.xuan.common.enums.CommentStatusEnum.REJECTED;
 import static com.xuan.common.enums.ErrorCode.COMMENT_AUDIT_EMPTY;
 import static com.xuan.common.enums.ErrorCode.COMMENT_DELETE_EMPTY;
 import static com.xuan.common.enums.ErrorCode.COMMENT_NOT_FOUND;
@@ -47,6 +76,7 @@ import static com.xuan.common.enums.ErrorCode.COMMENT_NOT_FOUND;
  * @author 玄〤
  * @since 2026-02-20
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CommentServiceImpl extends ServiceImpl<CommentMapper, Comment> implements ICommentService {
@@ -55,6 +85,54 @@ public class CommentServiceImpl extends ServiceImpl<CommentMapper, Comment> impl
     private final ISysSettingService SysSettingService;
     private final ISysUserService sysUserService;
     private final ICaptchaService captchaService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StringRedisTemplate redisTemplate;
+    private final CommentIngestPipeline commentIngestPipeline;
+    private final CacheClient cacheClient;
+    private final CommentCounter commentCounter;
+    private final CommentModerator commentModerator;
+    private final CommentStreamHub commentStreamHub;
+    private final CommentReplyNotifier commentReplyNotifier;
+    private final CommentLikeStore commentLikeStore;
+
+    /**
+     * 开启评论审核时，未命中任何自动审核规则的评论是否直接通过（默认关闭，开启审核的站点仍全部送人工审核）
+     */
+    @Value("${blog.comment.moderation.auto-approve:false}")
+    private boolean autoApprove;
+
+    /** 物化路径分隔符，顶级评论的路径即为该分隔符 */
+    private static final String PATH_SEPARATOR = "/";
+
+    /** 物化路径最大长度（与 comment.path 列长度一致） */
+    private static final int MAX_PATH_LENGTH = 760;
+
+    /** 子树查询最多返回的后代评论数 */
+    private static final int MAX_SUBTREE_NODES = 500;
+
+    /** 评论树排序方式：按热度 */
+    private static final String SORT_HOT = "hot";
+
+    /**
+     * 子树/祖先链查询的列
+     */
+    private static final List<SFunction<Comment, ?>> TREE_NODE_COLUMNS = List.of(
+            Comment::getId, Comment::getArticleId, Comment::getNickname, Comment::getContent,
+            Comment::getParentId, Comment::getPath, Comment::getDepth, Comment::getCreateTime);
+
+    /**
+     * 后台评论VO字段 -> 查询列（稀疏字段集使用）
+     */
+    private static final Map<String, List<SFunction<Comment, ?>>> COMMENT_ADMIN_COLUMNS = Map.of(
+            "id", List.of(Comment::getId),
+            "articleId", List.of(Comment::getArticleId),
+            "articleTitle", List.of(Comment::getArticleId),
+            "nickname", List.of(Comment::getNickname),
+            "email", List.of(Comment::getEmail),
+            "content", List.of(Comment::getContent),
+            "status", List.of(Comment::getStatus),
+            "ipAddress", List.of(Comment::getIpAddress),
+            "createTime", List.of(Comment::getCreateTime));
 
     /**
      * 前台：分页获取文章评论树
@@ -63,89 +141,138 @@ public class CommentServiceImpl extends ServiceImpl<CommentMapper, Comment> impl
      * 
      * <pre>
      * Step1 - 外层分页：仅查出当前页的顶级评论（rootParentId IS NULL），数量可控。
-     * Step2 - 内层批量查：用 IN(rootIds) 一次查出这些顶级评论下的全部子评论。
-     *         子评论数量受每页顶级评论数量约束，不会无限膨胀。
-     * Step3 - 内存组装：将子评论挂载到对应顶级节点上，返回树形数据。
-     *         统计每个顶级评论的子评论总数，并只显示部分子评论。
+     * Step2 - 内层聚合：用 IN(rootIds) + GROUP BY root_parent_id 统计这些顶级评论的回复数，
+     *         每个顶级评论只返回一行，回复再多也不会加载回复内容。
+     * Step3 - 内存组装：为顶级节点设置回复总数，子评论由前端通过 getChildComments 分页加载。
      * </pre>
+     * 渲染结果按 (articleId, current, size) 缓存在文章的当前评论代数下；
+     * 评论新增、审核、删除的事务提交后，缓存失效监听器 INCR 涉及文章的评论代数，旧缓存不再被读取
+     * <p>
+     * 传入游标时按 (create_time, id) 键集分页，从游标位置之后取 size 条，忽略 current 且不统计总数；
+     * 第一页仍按页码查询并返回总数，之后用上一页最后一条评论的 cursor 继续加载
+     * <p>
+     * 按热度排序时沿 idx_article_status_root_hot 倒序扫描 hot_score（点赞落库时预先计算），只支持页码分页；
+     * 点赞数在读取后从 Redis 叠加实时值
      *
      * @param articleId 文章ID
      * @param current   当前页码（从 1 开始）
      * @param size      每页顶级评论条数
+     * @param cursor    上一页最后一条顶级评论的游标，为空时按页码分页（按热度排序时忽略）
+     * @param sort      排序方式：new-按时间（默认），hot-按热度
      * @return 分页评论树（含顶级评论总数 + 当前页树形列表）
      */
     @Override
-    public CommentPageVO getCommentTree(Long articleId, int current, int size) {
+    public CommentPageVO getCommentTree(Long articleId, int current, int size, String cursor, String sort) {
+        boolean hot = SORT_HOT.equals(sort);
+        KeysetCursorUtils.Cursor position = hot ? null : parseCursor(cursor);
+
+        // ==================== Step0: 读取当前评论代数下的缓存 ====================
+        String generation = redisTemplate.opsForValue().get(COMMENT_TREE_GENERATION_KEY_PREFIX + articleId);
+        String cacheKey = COMMENT_TREE_KEY_PREFIX + articleId + ":" + (generation == null ? "0" : generation)
+                + ":" + (hot ? "h" + current : position == null ? current : "c" + cursor) + ":" + size;
+        CommentPageVO cached = cacheClient.get(CACHE_NAME_COMMENT_TREE, cacheKey, CommentPageVO.class);
+        if (cached != null) {
+            fillLikeCounts(cached.getList());
+            return cached;
+        }
+
+        CommentPageVO result = loadCommentTree(articleId, current, size, position, hot);
+        try {
+            cacheClient.set(CACHE_NAME_COMMENT_TREE, cacheKey, result, COMMENT_TREE_TTL_MINUTES, TimeUnit.MINUTES);
+        } catch (Exception e) {
+            log.warn("评论树缓存回填失败: {}", e.getMessage());
+        }
+        fillLikeCounts(result.getList());
+        return result;
+    }
+
+    /**
+     * 从数据库加载分页评论树
+     */
+    private CommentPageVO loadCommentTree(Long articleId, int current, int size, KeysetCursorUtils.Cursor position,
+                                          boolean hot) {
         // ==================== Step1: 外层分页 - 只查顶级评论 ====================
         // 顶级评论的特征：rootParentId IS NULL（未挂载到任何根评论下）
-        Page<Comment> rootPage = page(
-                new Page<>(current, size),
-                new LambdaQueryWrapper<Comment>()
-                        .eq(Comment::getArticleId, articleId)
-                        .eq(Comment::getStatus, APPROVED)
-                        .isNull(Comment::getRootParentId)
-                        .orderByAsc(Comment::getCreateTime));
+        LambdaQueryWrapper<Comment> wrapper = approvedCommentQuery(articleId)
+                .isNull(Comment::getRootParentId);
+        if (hot) {
+            // 热度排序：沿 idx_article_status_root_hot 倒序扫描（二级索引隐含主键，id 作为次序无需 filesort）
+            wrapper.orderByDesc(Comment::getHotScore).orderByDesc(Comment::getId);
+        } else {
+            // 游标分页：沿 idx_article_status_root_time 从游标位置继续扫描，不统计总数
+            applyCursor(wrapper, position);
+            wrapper.orderByAsc(Comment::getCreateTime).orderByAsc(Comment::getId);
+        }
+        Page<Comment> rootPage = page(position == null ? new Page<>(current, size) : new Page<>(1, size, false), wrapper);
+        Long total = position == null ? rootPage.getTotal() : null;
 
         List<Comment> rootComments = rootPage.getRecords();
 
         // 短路返回：当前页没有顶级评论，无需继续查子评论
         if (rootComments.isEmpty()) {
-            return new CommentPageVO(rootPage.getTotal(), new ArrayList<>());
+            return new CommentPageVO(total, new ArrayList<>());
         }
 
-        // ==================== Step2: 内层批量查 - IN(rootIds) ====================
-        // 收集本页所有顶级评论的 ID
+        // ==================== Step2: 内层聚合 - 按根评论统计回复数 ====================
+        // 树中只展示回复数，回复内容由 getChildComments 分页加载，因此不再查出全部子评论
         List<Long> rootIds = rootComments.stream().map(Comment::getId).toList();
 
-        // 利用数据库联合索引 idx_article_root(article_id, root_parent_id) 高效查询
-        List<Comment> childComments = list(
-                new LambdaQueryWrapper<Comment>()
-                        .eq(Comment::getArticleId, articleId)
-                        .eq(Comment::getStatus, APPROVED)
-                        .in(Comment::getRootParentId, rootIds)
-                        .orderByAsc(Comment::getCreateTime));
+        // GROUP BY root_parent_id 走联合索引 idx_article_status_root_time，只读索引不回表
+        Map<Long, Integer> replyCounts = new HashMap<>(rootIds.size() * 2);
+        for (Map<String, Object> row : baseMapper.countRepliesByRootIds(articleId, APPROVED.getCode(), rootIds)) {
+            replyCounts.put(((Number) row.get("rootParentId")).longValue(), ((Number) row.get("replyCount")).intValue());
+        }
 
         // ==================== Step3: 内存组装 ====================
-        List<CommentTreeVO> tree = buildCommentTree(rootComments, childComments);
-        return new CommentPageVO(rootPage.getTotal(), tree);
+        List<CommentTreeVO> tree = buildCommentTree(rootComments, replyCounts);
+        return new CommentPageVO(total, tree);
+    }
+
+    /**
+     * 文章下审核通过的评论（评论树与回复分页共用）
+     * status 列为 tinyint，必须按 code 比较：直接传枚举会被绑定为字符串 'APPROVED'，MySQL 将其转换为 0（待审核）
+     */
+    static LambdaQueryWrapper<Comment> approvedCommentQuery(Long articleId) {
+        return new LambdaQueryWrapper<Comment>()
+                .eq(Comment::getArticleId, articleId)
+                .eq(Comment::getStatus, APPROVED.getCode());
     }
 
     /**
      * 获取文章评论统计
+     * <p>
+     * 已审核评论数读取 Redis Hash {@code comment:count}，未命中时从 article.comment_count 回填；
+     * 评论新增、审核、删除时由 {@link CommentCounter} 在同一事务内维护计数
      * 
      * @param articleId 文章ID
      * @return 评论统计
      */
     @Override
     public Map<String, Long> getArticleCommentStats(Long articleId) {
-        LambdaQueryWrapper<Comment> wrapper = new LambdaQueryWrapper<>();
+        long targetId = articleId != null ? articleId : CommentCounter.GUESTBOOK_ID; // 留言板功能
 
-        // 1.构建查询条件
-        if (articleId != null && articleId != 0) {
-            wrapper.eq(Comment::getArticleId, articleId);
-        } else {
-            wrapper.eq(Comment::getArticleId, 0);// 留言板功能
-        }
-        wrapper.eq(Comment::getStatus, APPROVED);
-        // 2.获取评论总数
-        Long total = count(wrapper);
+        // 1.读取计数
+        long total = commentCounter.get(targetId);
 
-        // 3.构建返回结果
+        // 2.构建返回结果
         Map<String, Long> result = new HashMap<>();
-        result.put("total", total != null ? total : 0L);
+        result.put("total", total);
         return result;
     }
 
     /**
-     * 前台：创建评论
-     * 
+     * 前台：发表评论
+     * <p>
+     * 请求线程只做校验（登录用户、验证码、文章、被回复评论），通过后放入评论写入管道立即返回排队凭证，
+     * 由写入线程批量落库、累加评论数缓存并发布评论变更事件
+     *
      * @param dto       创建参数
      * @param ipAddress IP地址
      * @param userAgent 用户代理信息
+     * @return 排队凭证与审核状态
      */
     @Override
-    @Transactional
-    public void createComment(CommentCreateDTO dto, String ipAddress, String userAgent) {
+    public CommentSubmitVO createComment(CommentCreateDTO dto, String ipAddress, String userAgent) {
         // 1.从 Security 上下文获取当前登录用户
         Long currentUserId = SecurityUtils.getUserId();
         SysUser currentUser = sysUserService.getById(currentUserId);
@@ -160,30 +287,131 @@ public class CommentServiceImpl extends ServiceImpl<CommentMapper, Comment> impl
             throw new BusinessException(ErrorCode.CAPTCHA_INVALID);
         }
 
-        // 2.创建评论信息
+        // 3.校验文章（留言板为 0）：只能评论已发布的文章
+        if (dto.getArticleId() != 0) {
+            Article article = articleMapper.selectOne(new LambdaQueryWrapper<Article>()
+                    .select(Article::getId, Article::getStatus)
+                    .eq(Article::getId, dto.getArticleId()));
+            if (article == null || !PUBLISHED.getCode().equals(article.getStatus())) {
+                throw new BusinessException(ErrorCode.ARTICLE_NOT_FOUND);
+            }
+        }
+
+        // 4.创建评论信息
         Comment comment = new Comment();
         comment.setArticleId(dto.getArticleId());
         comment.setContent(dto.getContent());
         comment.setUserId(currentUserId);
         comment.setNickname(currentUser.getNickname());
         comment.setEmail(currentUser.getEmail());
-        comment.setParentId(dto.getParentId());
-        comment.setRootParentId(dto.getRootParentId());
         comment.setIpAddress(ipAddress);
         comment.setUserAgent(userAgent);
+        // 批量写入不经过自动填充，提交时即确定评论时间
+        LocalDateTime now = LocalDateTime.now();
+        comment.setCreateTime(now);
+        comment.setUpdateTime(now);
+        comment.setHotScore(HotScoreUtils.hot(0, now));
+
+        // 5.如果有父级评论，校验其属于同一文章，并以父级评论为准确定根评论、被回复人和物化路径
+        comment.setPath(PATH_SEPARATOR);
+        comment.setDepth(0);
+        if (dto.getParentId() != null) {
+            Comment parent = lambdaQuery()
+                    .select(Comment::getId, Comment::getArticleId, Comment::getUserId, Comment::getRootParentId,
+                            Comment::getPath, Comment::getDepth)
+                    .eq(Comment::getId, dto.getParentId())
+                    .one();
+            if (parent == null || !Objects.equals(parent.getArticleId(), dto.getArticleId())) {
+                throw new BusinessException(ErrorCode.COMMENT_PARENT_INVALID);
+            }
+            comment.setParentId(parent.getId());
+            comment.setRootParentId(parent.getRootParentId() != null ? parent.getRootParentId() : parent.getId());
+            comment.setReplyUserId(parent.getUserId());
+            // 路径 = 父评论路径 + 父评论ID，插入前即可确定，无需回写
+            String path = parent.getPath() + parent.getId() + PATH_SEPARATOR;
+            if (path.length() > MAX_PATH_LENGTH) {
+                throw new BusinessException(ErrorCode.COMMENT_DEPTH_EXCEEDED);
+            }
+            comment.setPath(path);
+            comment.setDepth(parent.getDepth() + 1);
+        }
 
-        // 2.根据系统设置决定是否需要审核
+        // 6.根据系统设置与自动审核结论确定评论状态
         SystemSettingVO settings = SysSettingService.getSettings();
-        boolean needAudit = settings.getCommentAudit();
-        comment.setStatus(needAudit ? PENDING.getCode() : APPROVED.getCode()); // 0-待审核，1-审核通过
+        boolean needAudit = Boolean.TRUE.equals(settings.getCommentAudit());
+        comment.setStatus(resolveStatus(comment.getContent(), needAudit));
+
+        // 7.放入写入管道，队列已满时拒绝
+        String pendingId = UUID.randomUUID().toString().replace("-", "");
+        redisTemplate.opsForValue().set(COMMENT_PENDING_KEY_PREFIX + pendingId, CommentSubmitVO.STATE_QUEUED,
+                COMMENT_PENDING_TTL_MINUTES, TimeUnit.MINUTES);
+        if (!commentIngestPipeline.submit(pendingId, comment)) {
+            redisTemplate.delete(COMMENT_PENDING_KEY_PREFIX + pendingId);
+            throw new BusinessException(ErrorCode.COMMENT_QUEUE_FULL);
+        }
+        return CommentSubmitVO.builder()
+                .pendingId(pendingId)
+                .state(CommentSubmitVO.STATE_QUEUED)
+                .status(comment.getStatus())
+                .build();
+    }
 
-        // 3.如果有父级评论，则获取被回复人信息
-        if (dto.getParentId() != null) {
-            Comment parent = getById(dto.getParentId());
-            if (parent != null) {
-                comment.setReplyUserId(parent.getUserId());
-            }
+    /**
+     * 前台：查询排队中评论的写入结果
+     *
+     * @param pendingId 排队凭证
+     * @return 写入结果
+     */
+    @Override
+    public CommentSubmitVO getPendingComment(String pendingId) {
+        String value = redisTemplate.opsForValue().get(COMMENT_PENDING_KEY_PREFIX + pendingId);
+        if (value == null) {
+            throw new BusinessException(COMMENT_NOT_FOUND);
         }
+        CommentSubmitVO vo = CommentSubmitVO.builder().pendingId(pendingId).build();
+        if (CommentSubmitVO.STATE_QUEUED.equals(value) || CommentSubmitVO.STATE_FAILED.equals(value)) {
+            vo.setState(value);
+        } else {
+            vo.setState(CommentSubmitVO.STATE_SAVED);
+            vo.setCommentId(Long.valueOf(value));
+        }
+        return vo;
+    }
+
+    /**
+     * 前台：订阅文章新审核通过的评论
+     *
+     * @param articleId   文章ID（留言板为 0）
+     * @param lastEventId 断线重连时浏览器带上的最后一个评论ID
+     * @return SSE 连接
+     */
+    @Override
+    public SseEmitter subscribeComments(Long articleId, String lastEventId) {
+        return commentStreamHub.subscribe(articleId != null ? articleId : CommentCounter.GUESTBOOK_ID, lastEventId);
+    }
+
+    /**
+     * 前台：评论点赞/取消点赞
+     * <p>
+     * 同一IP再次调用即取消点赞；点赞状态与计数只写 Redis，由 {@link CommentLikeStore} 定时批量落库并重新计算热度分
+     *
+     * @param id 评论ID
+     * @param ip 点赞人IP
+     * @return 点赞状态与最新点赞数
+     */
+    @Override
+    public CommentLikeVO likeComment(Long id, String ip) {
+        return commentLikeStore.toggle(id, ip);
+    }
+
+    /**
+     * 后台：立即执行一轮评论回复通知发送（不等待定时任务）
+     *
+     * @return 本轮发送结果
+     */
+    @Override
+    public CommentNotifyDispatchVO dispatchReplyNotifications() {
+        return commentReplyNotifier.dispatch();
     }
 
     /**
@@ -206,6 +434,10 @@ public class CommentServiceImpl extends ServiceImpl<CommentMapper, Comment> impl
             wrapper.like(Comment::getNickname, dto.getNickname());
         }
         wrapper.orderByDesc(Comment::getCreateTime);
+        // 1.1 稀疏字段集：只查询需要的列
+        Set<String> fieldSet = SparseFieldsUtils.parse(dto.getFields());
+        List<SFunction<Comment, ?>> columns = SparseFieldsUtils.selectColumns(fieldSet, COMMENT_ADMIN_COLUMNS);
+        wrapper.select(columns != null, columns);
 
         // 2. 分页查询
         // 2.1 确保分页参数不为null，提供默认值
@@ -216,17 +448,29 @@ public class CommentServiceImpl extends ServiceImpl<CommentMapper, Comment> impl
         Page<Comment> page = page(new Page<>(currentPage, pageSize), wrapper);
         Page<CommentAdminVO> voPage = new Page<>(page.getCurrent(), page.getSize(), page.getTotal());
 
-        // 2.3 填充信息
+        // 2.3 批量查询文章标题（未请求 articleTitle 时跳过）
+        Map<Long, String> articleTitles = new HashMap<>();
+        if (SparseFieldsUtils.includes(fieldSet, "articleTitle")) {
+            Set<Long> articleIds = page.getRecords().stream()
+                    .map(Comment::getArticleId)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            if (!articleIds.isEmpty()) {
+                articleMapper.selectList(new LambdaQueryWrapper<Article>()
+                                .select(Article::getId, Article::getTitle)
+                                .in(Article::getId, articleIds))
+                        .forEach(article -> articleTitles.put(article.getId(), article.getTitle()));
+            }
+        }
+
+        // 2.4 填充信息
         voPage.setRecords(page.getRecords()
                 .stream()
                 .map(comment -> {
                     CommentAdminVO vo = BeanUtil.copyProperties(comment, CommentAdminVO.class);
                     // 填充文章标题
                     if (comment.getArticleId() != null) {
-                        Article article = articleMapper.selectById(comment.getArticleId());
-                        if (article != null) {
-                            vo.setArticleTitle(article.getTitle());
-                        }
+                        vo.setArticleTitle(articleTitles.get(comment.getArticleId()));
                     } else {
                         vo.setArticleTitle("留言板");
                     }
@@ -250,9 +494,18 @@ public class CommentServiceImpl extends ServiceImpl<CommentMapper, Comment> impl
         if (comment == null) {
             throw new BusinessException(COMMENT_NOT_FOUND);
         }
-        // 2.更新评论状态
-        comment.setStatus(dto.getStatus());
-        updateById(comment);
+        // 2.按原状态条件更新，并发审核同一条评论时只有一次更新生效并计入评论数
+        boolean updated = lambdaUpdate()
+                .eq(Comment::getId, id)
+                .eq(Comment::getStatus, comment.getStatus())
+                .set(Comment::getStatus, dto.getStatus())
+                .update();
+        if (updated) {
+            commentCounter.apply(CommentCounter.deltasOf(List.of(comment), dto.getStatus()));
+        }
+        // 3.发布评论变更事件
+        eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Action.AUDITED,
+                List.of(id), articleIdsOf(List.of(comment))));
     }
 
     /**
@@ -268,8 +521,13 @@ public class CommentServiceImpl extends ServiceImpl<CommentMapper, Comment> impl
         if (comment == null) {
             throw new BusinessException(COMMENT_NOT_FOUND);
         }
-        // 2.删除评论
-        removeById(id);
+        // 2.删除评论并扣减评论数
+        if (removeById(id)) {
+            commentCounter.apply(CommentCounter.deltasOf(List.of(comment), null));
+        }
+        // 3.发布评论变更事件
+        eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Action.DELETED,
+                List.of(id), articleIdsOf(List.of(comment))));
     }
 
     /**
@@ -279,16 +537,30 @@ public class CommentServiceImpl extends ServiceImpl<CommentMapper, Comment> impl
      * @param status 审核状态
      */
     @Override
+    @Transactional
     public void batchAuditComments(List<Long> ids, Integer status) {
         // 1.判断评论ID列表是否为空
         if (ids == null || ids.isEmpty()) {
             throw new BusinessException(COMMENT_AUDIT_EMPTY);
         }
-        // 2.批量更新评论状态
-        lambdaUpdate()
+        // 2.只更新状态确实发生变化的评论，并按原状态累加评论数增量
+        List<Comment> changed = lambdaQuery()
+                .select(Comment::getId, Comment::getArticleId, Comment::getStatus)
                 .in(Comment::getId, ids)
+                .ne(Comment::getStatus, status)
+                .list();
+        if (changed.isEmpty()) {
+            return;
+        }
+        lambdaUpdate()
+                .in(Comment::getId, changed.stream().map(Comment::getId).toList())
+                .ne(Comment::getStatus, status)
                 .set(Comment::getStatus, status)
                 .update();
+        commentCounter.apply(CommentCounter.deltasOf(changed, status));
+        // 3.发布评论变更事件
+        eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Action.AUDITED,
+                ids, articleIdsOf(changed)));
     }
 
     @Override
@@ -298,124 +570,295 @@ public class CommentServiceImpl extends ServiceImpl<CommentMapper, Comment> impl
         if (ids == null || ids.isEmpty()) {
             throw new BusinessException(COMMENT_DELETE_EMPTY);
         }
-        // 2.批量删除评论
+        // 2.查询涉及的文章和状态后批量删除评论，并扣减评论数
+        List<Comment> comments = listArticleIdsByIds(ids);
         removeByIds(ids);
+        commentCounter.apply(CommentCounter.deltasOf(comments, null));
+        // 3.发布评论变更事件
+        eventPublisher.publishEvent(new CommentChangedEvent(CommentChangedEvent.Action.DELETED,
+                ids, articleIdsOf(comments)));
     }
 
     // <=============私有辅助方法=================>
 
+    /**
+     * 确定新评论的状态
+     * <p>
+     * 自动审核开启时：命中拒绝规则直接标记为审核未通过，命中送审规则进入待审核；
+     * 未命中任何规则时，关闭审核的站点直接通过，开启审核的站点按 {@code blog.comment.moderation.auto-approve} 决定自动通过还是仍送人工审核。
+     * 自动审核关闭时保持原有行为：开启审核全部送审，关闭审核全部通过
+     */
+    private Integer resolveStatus(String content, boolean needAudit) {
+        if (!commentModerator.isEnabled()) {
+            return needAudit ? PENDING.getCode() : APPROVED.getCode(); // 0-待审核，1-审核通过
+        }
+        CommentModerationVO verdict = commentModerator.moderate(content);
+        return switch (verdict.getAction()) {
+            case CommentModerationVO.ACTION_REJECT -> {
+                log.info("评论被自动拒绝: {}", verdict.getReasons());
+                yield REJECTED.getCode();
+            }
+            case CommentModerationVO.ACTION_REVIEW -> PENDING.getCode();
+            default -> needAudit && !autoApprove ? PENDING.getCode() : APPROVED.getCode();
+        };
+    }
+
+    /**
+     * 只查询评论的ID、文章ID和状态
+     */
+    private List<Comment> listArticleIdsByIds(List<Long> ids) {
+        return lambdaQuery()
+                .select(Comment::getId, Comment::getArticleId, Comment::getStatus)
+                .in(Comment::getId, ids)
+                .list();
+    }
+
+    /**
+     * 提取评论涉及的文章ID（去重）
+     * 留言板评论的文章ID为 {@link CommentCounter#GUESTBOOK_ID}，需保留：评论事件的订阅方按该ID失效留言板的评论树缓存
+     */
+    private List<Long> articleIdsOf(List<Comment> comments) {
+        return comments.stream()
+                .map(Comment::getArticleId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
     /**
      * 构建两级评论树形结构（核心内存组装方法）
      * <p>
      * 【职责说明】
-     * 仅负责将已分好页、数量可控的两批数据（顶级评论 + 其下的子评论）组装成树形 VO，纯内存操作。
-     * 所有数据库查询和分页逻辑均由调用方 getCommentTree 完成。
-     * <p>
-     * 接收已分页的顶级评论 + 已用 IN 批量查出的子评论，内存占用可控。
+     * 仅负责将已分好页的顶级评论与其回复数组装成树形 VO，纯内存操作。
+     * 所有数据库查询和分页逻辑均由调用方 getCommentTree 完成；子评论初始不展示，由前端按需分页加载。
      * <p>
-     * 【时间复杂度】O(N)，N = 顶级评论数 + 子评论数之和。
+     * 【时间复杂度】O(N)，N = 当前页顶级评论数。
      *
-     * @param rootComments  当前页的顶级评论（rootParentId IS NULL）
-     * @param childComments 本页顶级评论下的全部子评论（通过 IN(rootIds) 查出）
+     * @param rootComments 当前页的顶级评论（rootParentId IS NULL）
+     * @param replyCounts  顶级评论ID -> 已审核的回复数（没有回复的顶级评论不在其中）
      * @return 树形 VO 列表，顺序与 rootComments 的数据库排序保持一致
      */
-    private List<CommentTreeVO> buildCommentTree(List<Comment> rootComments, List<Comment> childComments) {
-
-        // ===== Step0: 预构建所有评论的实体索引，用于 O(1) 查找被回复人昵称 =====
-        // 子评论的 parentId 可能指向顶级评论，也可能指向另一条子评论，所以两者都要加入 Map
-        Map<Long, Comment> allEntityMap = new HashMap<>(rootComments.size() + childComments.size(), 1.0f);
-        for (Comment c : rootComments)
-            allEntityMap.put(c.getId(), c);
-        for (Comment c : childComments)
-            allEntityMap.put(c.getId(), c);
-
-        // ===== Step1: 将顶级评论转为 VO，同时建立 rootId -> rootVO 的快速索引 =====
-        Map<Long, CommentTreeVO> rootVOMap = rootComments.stream()
-                .collect(Collectors.toMap(
-                        Comment::getId,
-                        c -> toVO(c, null), // 顶级评论没有"被回复人"
-                        (e, r) -> e));
-
-        // ===== Step2: 遍历子评论，填充被回复人昵称，并挂载到对应的根节点下 =====
-        // 统计每个顶级评论的子评论数
-        Map<Long, List<CommentTreeVO>> childMap = new HashMap<>();
-        for (Comment child : childComments) {
-            // parentId 指向当前评论直接回复的那条评论（可能是顶级，也可能是另一条子评论）
-            String replyNickname = null;
-            if (child.getParentId() != null) {
-                Comment parent = allEntityMap.get(child.getParentId());
-                if (parent != null) {
-                    replyNickname = parent.getNickname();
-                }
-            }
-
-            CommentTreeVO childVO = toVO(child, replyNickname);
-
-            // rootParentId 即本条子评论所属顶级评论的 ID
-            Long rootParentId = child.getRootParentId();
-            childMap.computeIfAbsent(rootParentId, k -> new ArrayList<>()).add(childVO);
-        }
-
-        // ===== Step3: 为每个顶级评论设置子评论总数，并初始不显示子评论 =====
-        for (Long rootId : rootVOMap.keySet()) {
-            CommentTreeVO rootVO = rootVOMap.get(rootId);
-            List<CommentTreeVO> children = childMap.getOrDefault(rootId, new ArrayList<>());
-            rootVO.setChildCount(children.size());
+    private List<CommentTreeVO> buildCommentTree(List<Comment> rootComments, Map<Long, Integer> replyCounts) {
+        List<CommentTreeVO> tree = new ArrayList<>(rootComments.size());
+        for (Comment root : rootComments) {
+            CommentTreeVO rootVO = toVO(root, null); // 顶级评论没有"被回复人"
+            rootVO.setChildCount(replyCounts.getOrDefault(root.getId(), 0));
             // 初始不显示子评论
             rootVO.setChildren(new ArrayList<>());
+            tree.add(rootVO);
         }
-
-        // ===== Step4: 按 rootComments 的原始顺序返回根节点列表（保持数据库排序）=====
-        return rootComments.stream()
-                .map(c -> rootVOMap.get(c.getId()))
-                .collect(Collectors.toList());
+        return tree;
     }
 
     /**
      * 分页获取子评论
+     * <p>
+     * 传入游标时按 (create_time, id) 键集分页，忽略 current；被回复评论不在当前页时批量查询其昵称
      *
      * @param rootParentId 顶级评论ID
      * @param articleId    文章ID
      * @param current      当前页码
      * @param size         每页条数（第一次3条，后续10条）
+     * @param cursor       上一页最后一条子评论的游标，为空时按页码分页
      * @return 子评论列表
      */
     @Override
-    public List<CommentTreeVO> getChildComments(Long rootParentId, Long articleId, int current, int size) {
-        // 计算分页参数
-        int offset = (current - 1) * size;
-
-        // 查询子评论
-        List<Comment> childComments = list(
-                new LambdaQueryWrapper<Comment>()
-                        .eq(Comment::getArticleId, articleId)
-                        .eq(Comment::getStatus, APPROVED)
-                        .eq(Comment::getRootParentId, rootParentId)
-                        .orderByAsc(Comment::getCreateTime)
-                        .last("LIMIT " + offset + ", " + size));
-
-        // 构建评论实体索引，用于查找被回复人昵称
-        Map<Long, Comment> commentMap = new HashMap<>();
+    public List<CommentTreeVO> getChildComments(Long rootParentId, Long articleId, int current, int size, String cursor) {
+        KeysetCursorUtils.Cursor position = parseCursor(cursor);
+
+        // 1.查询子评论（LIMIT 由分页插件生成，不统计总数）
+        LambdaQueryWrapper<Comment> wrapper = approvedCommentQuery(articleId)
+                .eq(Comment::getRootParentId, rootParentId);
+        applyCursor(wrapper, position);
+        wrapper.orderByAsc(Comment::getCreateTime).orderByAsc(Comment::getId);
+        List<Comment> childComments = page(new Page<>(position == null ? current : 1, size, false), wrapper)
+                .getRecords();
+
+        // 2.构建被回复人昵称索引：当前页内的直接取，其余（根评论、更早页的评论）批量查询
+        Map<Long, String> nicknames = new HashMap<>();
         for (Comment comment : childComments) {
-            commentMap.put(comment.getId(), comment);
+            nicknames.put(comment.getId(), comment.getNickname());
+        }
+        Set<Long> missingParentIds = childComments.stream()
+                .map(Comment::getParentId)
+                .filter(parentId -> parentId != null && !nicknames.containsKey(parentId))
+                .collect(Collectors.toSet());
+        if (!missingParentIds.isEmpty()) {
+            lambdaQuery()
+                    .select(Comment::getId, Comment::getNickname)
+                    .in(Comment::getId, missingParentIds)
+                    .list()
+                    .forEach(parent -> nicknames.put(parent.getId(), parent.getNickname()));
         }
 
-        // 转换为VO并设置被回复人昵称
-        List<CommentTreeVO> childVOs = new ArrayList<>();
+        // 3.转换为VO并设置被回复人昵称
+        List<CommentTreeVO> childVOs = new ArrayList<>(childComments.size());
         for (Comment child : childComments) {
-            String replyNickname = null;
-            if (child.getParentId() != null) {
-                Comment parent = commentMap.get(child.getParentId());
-                if (parent != null) {
-                    replyNickname = parent.getNickname();
-                }
-            }
+            String replyNickname = child.getParentId() != null ? nicknames.get(child.getParentId()) : null;
             childVOs.add(toVO(child, replyNickname));
         }
+        fillLikeCounts(childVOs);
 
         return childVOs;
     }
 
+    /**
+     * 获取评论子树
+     * <p>
+     * 物化路径以 "该评论路径 + 该评论ID + /" 开头的评论即为其全部后代，一次前缀范围扫描（idx_path）取出；
+     * 结果按 (depth, create_time, id) 排序，父节点总在子节点之前，单次线性遍历即可挂载成树。
+     * 未审核通过的评论不返回，其后代也随之隐藏
+     *
+     * @param id       子树根评论ID
+     * @param maxDepth 相对子树根的最大层数，为 null 时不限
+     * @return 子树（children 按时间顺序嵌套）
+     */
+    @Override
+    public CommentTreeVO getCommentSubtree(Long id, Integer maxDepth) {
+        // 1.查询子树根评论
+        Comment node = getApprovedTreeNode(id);
+        if (maxDepth != null && maxDepth < 0) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR);
+        }
+
+        // 2.一次前缀范围扫描取出全部后代
+        List<Comment> descendants = baseMapper.selectSubtree(node.getPath() + node.getId() + PATH_SEPARATOR,
+                APPROVED.getCode(), maxDepth == null ? null : node.getDepth() + maxDepth, MAX_SUBTREE_NODES);
+
+        // 3.子树根的被回复人昵称
+        String replyNickname = null;
+        if (node.getParentId() != null) {
+            Comment parent = lambdaQuery()
+                    .select(Comment::getNickname)
+                    .eq(Comment::getId, node.getParentId())
+                    .one();
+            replyNickname = parent != null ? parent.getNickname() : null;
+        }
+
+        // 4.线性组装：父节点未出现（未审核通过或超出条数上限）的评论直接跳过
+        CommentTreeVO rootVO = toVO(node, replyNickname);
+        rootVO.setChildCount(0);
+        Map<Long, CommentTreeVO> nodes = new HashMap<>(descendants.size() * 2);
+        nodes.put(node.getId(), rootVO);
+        for (Comment comment : descendants) {
+            CommentTreeVO parentVO = nodes.get(comment.getParentId());
+            if (parentVO == null) {
+                continue;
+            }
+            CommentTreeVO vo = toVO(comment, parentVO.getNickname());
+            vo.setChildCount(0);
+            parentVO.getChildren().add(vo);
+            parentVO.setChildCount(parentVO.getChildren().size());
+            nodes.put(comment.getId(), vo);
+        }
+        return rootVO;
+    }
+
+    /**
+     * 获取评论的祖先链
+     * <p>
+     * 祖先ID直接从物化路径解析，一次主键 IN 查询取回，无需逐级回溯 parent_id
+     *
+     * @param id 评论ID
+     * @return 从顶级评论到直接父评论的祖先列表，顶级评论返回空列表；未审核通过的祖先不返回
+     */
+    @Override
+    public List<CommentTreeVO> getCommentAncestors(Long id) {
+        // 1.查询评论并解析祖先ID
+        Comment node = getApprovedTreeNode(id);
+        List<Long> ancestorIds = Arrays.stream(node.getPath().split(PATH_SEPARATOR))
+                .filter(StrUtil::isNotEmpty)
+                .map(Long::valueOf)
+                .toList();
+        if (ancestorIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 2.批量查询祖先
+        Map<Long, Comment> ancestors = lambdaQuery()
+                .select(TREE_NODE_COLUMNS)
+                .in(Comment::getId, ancestorIds)
+                .eq(Comment::getStatus, APPROVED.getCode())
+                .list()
+                .stream()
+                .collect(Collectors.toMap(Comment::getId, c -> c));
+
+        // 3.按路径顺序组装，被回复人即链上的父评论
+        List<CommentTreeVO> chain = new ArrayList<>(ancestors.size());
+        for (Long ancestorId : ancestorIds) {
+            Comment ancestor = ancestors.get(ancestorId);
+            if (ancestor == null) {
+                continue;
+            }
+            Comment parent = ancestor.getParentId() != null ? ancestors.get(ancestor.getParentId()) : null;
+            chain.add(toVO(ancestor, parent != null ? parent.getNickname() : null));
+        }
+        return chain;
+    }
+
+    /**
+     * 查询审核通过的评论（子树/祖先链查询使用）
+     */
+    private Comment getApprovedTreeNode(Long id) {
+        Comment node = lambdaQuery()
+                .select(TREE_NODE_COLUMNS)
+                .eq(Comment::getId, id)
+                .eq(Comment::getStatus, APPROVED.getCode())
+                .one();
+        if (node == null) {
+            throw new BusinessException(COMMENT_NOT_FOUND);
+        }
+        return node;
+    }
+
+    /**
+     * 解析前端传入的游标
+     *
+     * @return 游标位置，未传游标时返回 null
+     */
+    private KeysetCursorUtils.Cursor parseCursor(String cursor) {
+        if (StrUtil.isBlank(cursor)) {
+            return null;
+        }
+        KeysetCursorUtils.Cursor position = KeysetCursorUtils.decode(cursor);
+        if (position == null) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR);
+        }
+        return position;
+    }
+
+    /**
+     * 追加键集分页条件：create_time > t OR (create_time = t AND id > id)
+     */
+    private void applyCursor(LambdaQueryWrapper<Comment> wrapper, KeysetCursorUtils.Cursor position) {
+        if (position == null) {
+            return;
+        }
+        wrapper.and(w -> w.gt(Comment::getCreateTime, position.createTime())
+                .or(o -> o.eq(Comment::getCreateTime, position.createTime())
+                        .gt(Comment::getId, position.id())));
+    }
+
+    /**
+     * 用 Redis 中的实时点赞数覆盖评论的点赞数（缓存与数据库中的值最多落后一个落库周期）
+     *
+     * @param vos 评论VO，不处理子节点
+     */
+    private void fillLikeCounts(List<CommentTreeVO> vos) {
+        if (vos == null || vos.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> counts = commentLikeStore.multiGetCounts(vos.stream().map(CommentTreeVO::getId).toList());
+        for (CommentTreeVO vo : vos) {
+            Long count = counts.get(vo.getId());
+            if (count != null) {
+                vo.setLikeCount(count);
+            } else if (vo.getLikeCount() == null) {
+                vo.setLikeCount(0L);
+            }
+        }
+    }
+
     /**
      * 将 Comment 实体转为 CommentTreeVO
      *
@@ -430,7 +873,9 @@ public class CommentServiceImpl extends ServiceImpl<CommentMapper, Comment> impl
         vo.setContent(comment.getContent());
         vo.setCreateTime(comment.getCreateTime());
         vo.setReplyNickname(replyNickname);
+        vo.setLikeCount(comment.getLikeCount() == null ? null : comment.getLikeCount().longValue());
         vo.setChildren(new ArrayList<>());
+        vo.setCursor(KeysetCursorUtils.encode(comment.getCreateTime(), comment.getId()));
         return vo;
     }
 }
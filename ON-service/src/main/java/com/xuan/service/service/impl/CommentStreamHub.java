@@ -0,0 +1,361 @@
+package com.xuan.service.service.impl;
+
+import com.alibaba.fastjson2.JSON;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.xuan.common.exceptions.BusinessException;
+import com.xuan.common.utils.KeysetCursorUtils;
+import com.xuan.entity.po.interact.Comment;
+import com.xuan.entity.vo.comment.CommentStreamVO;
+import com.xuan.service.event.CommentChangedEvent;
+import com.xuan.service.mapper.CommentMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static com.xuan.common.constant.RedisConstant.COMMENT_STREAM_CHANNEL;
+import static com.xuan.common.enums.CommentStatusEnum.APPROVED;
+import static com.xuan.common.enums.ErrorCode.COMMENT_STREAM_FULL;
+
+/**
+ * 新评论实时推送（SSE）
+ * <p>
+ * 1. 订阅：每个连接是一个 {@link SseEmitter}（Servlet 异步请求），空闲时不占用任何线程；
+ *    本实例的订阅者按文章ID登记在内存中，超过 {@code blog.comment.stream.max-connections} 时拒绝新连接
+ * 2. 跨实例广播：评论新增或审核提交后，本监听器查询其中已审核通过的评论，发布到 Redis 频道 {@code comment:stream}；
+ *    所有实例（包括发布者自己）收到消息后只推送给本机订阅了该文章的连接
+ * 3. 推送：每个连接有一个容量为 {@code buffer-size} 的待发送队列，由虚拟线程逐条写出，同一连接同一时间只有一个写线程；
+ *    队列已满说明客户端读得太慢，直接断开该连接（EventSource 会自动重连，并通过 Last-Event-ID 补发错过的评论）
+ * 4. 心跳：每隔 {@code heartbeat-ms} 向所有连接写一行 SSE 注释，及时发现已断开的连接，并避免被代理当作空闲连接关闭
+ *
+ * @author 玄〤
+ * @since 2026-03-23
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentStreamHub implements MessageListener {
+
+    private static final String EVENT_COMMENT = "comment";
+
+    private final CommentMapper commentMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    /**
+     * 本实例最大连接数
+     */
+    @Value("${blog.comment.stream.max-connections:10000}")
+    private int maxConnections;
+
+    /**
+     * 每个连接的待发送队列容量
+     */
+    @Value("${blog.comment.stream.buffer-size:32}")
+    private int bufferSize;
+
+    /**
+     * 连接最长保持时间（毫秒），到期后由客户端自动重连
+     */
+    @Value("${blog.comment.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    /**
+     * 重连时按 Last-Event-ID 最多补发的评论数
+     */
+    @Value("${blog.comment.stream.replay-limit:50}")
+    private int replayLimit;
+
+    /**
+     * 文章ID -> 本实例的订阅者
+     */
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicLong evicted = new AtomicLong();
+
+    /**
+     * 写出线程：每次写出一个虚拟线程，阻塞在慢连接上时不占用平台线程
+     */
+    private final SimpleAsyncTaskExecutor sender = new SimpleAsyncTaskExecutor("comment-stream-");
+
+    /**
+     * 订阅 Redis 频道
+     */
+    @PostConstruct
+    public void start() {
+        sender.setVirtualThreads(true);
+        listenerContainer.addMessageListener(this, new ChannelTopic(COMMENT_STREAM_CHANNEL));
+    }
+
+    /**
+     * 应用关闭时结束所有连接
+     */
+    @PreDestroy
+    public void stop() {
+        subscribers.values().forEach(set -> set.forEach(sub -> sub.emitter.complete()));
+        subscribers.clear();
+    }
+
+    /**
+     * 订阅文章的新评论
+     *
+     * @param articleId   文章ID（留言板为 0）
+     * @param lastEventId 断线重连时浏览器带上的最后一个事件ID（评论ID），有值时先补发之后的评论
+     * @return SSE 连接
+     */
+    public SseEmitter subscribe(Long articleId, String lastEventId) {
+        // 1.连接数上限
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new BusinessException(COMMENT_STREAM_FULL);
+        }
+
+        // 2.登记订阅者，连接结束（完成/超时/出错）时注销
+        //   登记时先占住写出权：补发完成前收到的广播只入队，补发结束后再按顺序写出
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber sub = new Subscriber(articleId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        sub.sending.set(true);
+        subscribers.compute(articleId, (id, set) -> {
+            Set<Subscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(sub);
+            return target;
+        });
+        emitter.onCompletion(() -> unregister(sub));
+        emitter.onTimeout(() -> unregister(sub));
+        emitter.onError(e -> unregister(sub));
+
+        // 3.先写一行注释让代理和浏览器立即收到响应头，断线重连时补发错过的评论
+        //   此时请求尚未进入异步状态，send 只会暂存在 emitter 中，不会阻塞请求线程
+        try {
+            emitter.send(SseEmitter.event().comment("connected"));
+            Long lastId = parseLastEventId(lastEventId);
+            if (lastId != null) {
+                for (Comment comment : commentMapper.selectList(new LambdaQueryWrapper<Comment>()
+                        .select(Comment::getId, Comment::getArticleId, Comment::getParentId, Comment::getRootParentId,
+                                Comment::getNickname, Comment::getContent, Comment::getCreateTime)
+                        .eq(Comment::getArticleId, articleId)
+                        .eq(Comment::getStatus, APPROVED.getCode())
+                        .gt(Comment::getId, lastId)
+                        .orderByAsc(Comment::getId)
+                        .last("LIMIT " + replayLimit))) {
+                    emitter.send(commentEvent(toVO(comment)));
+                }
+            }
+        } catch (Exception e) {
+            close(sub);
+            throw e instanceof RuntimeException re ? re : new IllegalStateException(e);
+        } finally {
+            sub.sending.set(false);
+        }
+        flush(sub);
+        return emitter;
+    }
+
+    /**
+     * 本实例当前连接数
+     */
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    /**
+     * 评论新增或审核提交后，把其中已审核通过的评论广播到所有实例
+     * 同一条评论可能因重复审核被推送多次，客户端按评论ID去重
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.getAction() == CommentChangedEvent.Action.DELETED || event.getCommentIds().isEmpty()) {
+            return;
+        }
+        try {
+            List<CommentStreamVO> approved = commentMapper.selectList(new LambdaQueryWrapper<Comment>()
+                            .select(Comment::getId, Comment::getArticleId, Comment::getParentId, Comment::getRootParentId,
+                                    Comment::getNickname, Comment::getContent, Comment::getCreateTime)
+                            .in(Comment::getId, event.getCommentIds())
+                            .eq(Comment::getStatus, APPROVED.getCode())
+                            .orderByAsc(Comment::getId))
+                    .stream()
+                    .map(this::toVO)
+                    .toList();
+            if (!approved.isEmpty()) {
+                redisTemplate.convertAndSend(COMMENT_STREAM_CHANNEL, JSON.toJSONString(approved));
+            }
+        } catch (Exception e) {
+            log.warn("新评论广播失败: {}, {}", event, e.getMessage());
+        }
+    }
+
+    /**
+     * 收到广播：推送给本实例订阅了对应文章的连接
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        List<CommentStreamVO> comments;
+        try {
+            comments = JSON.parseArray(new String(message.getBody(), StandardCharsets.UTF_8), CommentStreamVO.class);
+        } catch (Exception e) {
+            log.warn("新评论广播消息格式错误: {}", e.getMessage());
+            return;
+        }
+        Map<Long, List<CommentStreamVO>> byArticle = comments.stream()
+                .filter(comment -> comment.getArticleId() != null)
+                .collect(Collectors.groupingBy(CommentStreamVO::getArticleId));
+        byArticle.forEach((articleId, list) -> {
+            Set<Subscriber> set = subscribers.get(articleId);
+            if (set == null) {
+                return;
+            }
+            for (CommentStreamVO comment : list) {
+                for (Subscriber sub : set) {
+                    enqueue(sub, commentEvent(comment));
+                }
+            }
+        });
+    }
+
+    /**
+     * 心跳
+     */
+    @Scheduled(fixedDelayString = "${blog.comment.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(set -> set.forEach(sub -> enqueue(sub, SseEmitter.event().comment("ping"))));
+    }
+
+    /**
+     * 放入连接的待发送队列，队列已满时断开慢连接
+     */
+    private void enqueue(Subscriber sub, SseEmitter.SseEventBuilder event) {
+        if (sub.closed.get()) {
+            return;
+        }
+        if (!sub.queue.offer(event)) {
+            evicted.incrementAndGet();
+            log.debug("评论推送连接读取过慢，断开连接: articleId={}, 累计断开 {}", sub.articleId, evicted.get());
+            close(sub);
+            return;
+        }
+        flush(sub);
+    }
+
+    /**
+     * 启动写出任务，同一连接同一时间只有一个写出任务
+     */
+    private void flush(Subscriber sub) {
+        if (!sub.sending.compareAndSet(false, true)) {
+            return;
+        }
+        sender.execute(() -> {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!sub.closed.get() && (event = sub.queue.poll()) != null) {
+                    sub.emitter.send(event);
+                }
+            } catch (Exception e) {
+                close(sub);
+            } finally {
+                sub.sending.set(false);
+                // 释放写出权之后又有新消息入队时，重新启动写出任务
+                if (!sub.closed.get() && !sub.queue.isEmpty()) {
+                    flush(sub);
+                }
+            }
+        });
+    }
+
+    private void close(Subscriber sub) {
+        if (sub.closed.compareAndSet(false, true)) {
+            unregister(sub);
+            sub.queue.clear();
+            try {
+                sub.emitter.complete();
+            } catch (Exception ignored) {
+                // 连接已断开
+            }
+        }
+    }
+
+    private void unregister(Subscriber sub) {
+        sub.closed.set(true);
+        Set<Subscriber> set = subscribers.get(sub.articleId);
+        if (set != null && set.remove(sub)) {
+            connections.decrementAndGet();
+            // 与登记共用 compute 保证原子性，避免移除空集合时丢掉刚登记的订阅者
+            subscribers.computeIfPresent(sub.articleId, (id, current) -> current.isEmpty() ? null : current);
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder commentEvent(CommentStreamVO comment) {
+        return SseEmitter.event()
+                .id(String.valueOf(comment.getId()))
+                .name(EVENT_COMMENT)
+                .data(comment, MediaType.APPLICATION_JSON);
+    }
+
+    private CommentStreamVO toVO(Comment comment) {
+        CommentStreamVO vo = new CommentStreamVO();
+        vo.setId(comment.getId());
+        vo.setArticleId(comment.getArticleId());
+        vo.setParentId(comment.getParentId());
+        vo.setRootParentId(comment.getRootParentId());
+        vo.setNickname(comment.getNickname());
+        vo.setContent(comment.getContent());
+        vo.setCreateTime(comment.getCreateTime());
+        vo.setCursor(KeysetCursorUtils.encode(comment.getCreateTime(), comment.getId()));
+        return vo;
+    }
+
+    private static Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.strip());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 一个 SSE 连接
+     */
+    private static final class Subscriber {
+        private final Long articleId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Long articleId, SseEmitter emitter, BlockingQueue<SseEmitter.SseEventBuilder> queue) {
+            this.articleId = articleId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
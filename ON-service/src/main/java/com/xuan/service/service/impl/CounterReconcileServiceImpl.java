@@ -0,0 +1,348 @@
+package com.xuan.service.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.xuan.entity.po.blog.Article;
+import com.xuan.entity.vo.monitor.CounterReconcileStatsVO;
+import com.xuan.service.event.ArticleChangedEvent;
+import com.xuan.service.mapper.ArticleLikeMapper;
+import com.xuan.service.mapper.ArticleMapper;
+import com.xuan.service.mapper.CommentMapper;
+import com.xuan.service.service.ICounterReconcileService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.xuan.common.constant.RedisConstant.ARTICLE_LIKE_COUNT_KEY_PREFIX;
+import static com.xuan.common.constant.RedisConstant.ARTICLE_VIEW_KEY_PREFIX;
+import static com.xuan.common.constant.RedisConstant.COUNTER_RECONCILE_LOCK_KEY;
+import static com.xuan.common.constant.RedisConstant.COUNTER_RECONCILE_LOCK_TTL_MINUTES;
+import static com.xuan.common.enums.CommentStatusEnum.APPROVED;
+
+/**
+ * 计数对账服务实现
+ * <p>
+ * 按文章ID区间分批扫描（WHERE id > lastId ORDER BY id LIMIT n），每批：
+ * 1. 点赞数：以 article_like 的记录数为准，修复 article.like_count（CAS 更新，期间有并发点赞则留给下一轮），
+ *    Redis 中与之不一致的 article:like:count:{id} 直接删除，由读取方从已修复的数据库回填
+ * 2. 评论数：以 comment 表中已审核评论数为准，修复 article.comment_count（同样 CAS 更新），
+ *    Redis Hash comment:count 中与之不一致的 field 直接删除，由读取方回填
+ * 3. 浏览量：把 Redis 中的 article:view:{id} 增量并入 article.view_count（先 DECRBY 再写库，写库失败则加回），
+ *    避免增量只存在于 Redis 中
+ * 4. 有修复或落库的文章发布变更事件，清除其详情/卡片缓存（缓存中保存的是数据库基数）
+ * <p>
+ * 限流：每批之间暂停 {@code blog.reconcile.batch-pause-ms}，批大小由 {@code blog.reconcile.batch-size} 控制；
+ * 多实例部署时通过 Redis 锁保证同一时间只有一个实例在对账
+ *
+ * @author 玄〤
+ * @since 2026-03-09
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterReconcileServiceImpl implements ICounterReconcileService {
+
+    private final ArticleMapper articleMapper;
+    private final ArticleLikeMapper articleLikeMapper;
+    private final CommentMapper commentMapper;
+    private final CommentCounter commentCounter;
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 是否开启定时对账
+     */
+    @Value("${blog.reconcile.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 每批扫描的文章数
+     */
+    @Value("${blog.reconcile.batch-size:200}")
+    private int batchSize;
+
+    /**
+     * 每批之间的暂停时间（毫秒）
+     */
+    @Value("${blog.reconcile.batch-pause-ms:200}")
+    private long batchPauseMs;
+
+    /**
+     * 最近一次对账结果
+     */
+    private final AtomicReference<RunStats> lastRun = new AtomicReference<>();
+
+    private final AtomicLong totalRuns = new AtomicLong();
+    private final AtomicLong totalLikeDbRepaired = new AtomicLong();
+    private final AtomicLong totalLikeCacheRepaired = new AtomicLong();
+    private final AtomicLong totalCommentDbRepaired = new AtomicLong();
+    private final AtomicLong totalCommentCacheRepaired = new AtomicLong();
+    private final AtomicLong totalViewsFlushed = new AtomicLong();
+
+    /**
+     * 定时对账
+     * 批次之间会暂停，整轮耗时较长，依赖 spring.task.scheduling.pool.size 提供多个线程，不阻塞其他定时任务
+     */
+    @Scheduled(initialDelayString = "${blog.reconcile.initial-delay-ms:60000}",
+            fixedDelayString = "${blog.reconcile.interval-ms:600000}")
+    public void scheduledReconcile() {
+        if (enabled) {
+            reconcile();
+        }
+    }
+
+    /**
+     * 执行一轮计数对账
+     */
+    @Override
+    public void reconcile() {
+        // 1.获取分布式锁，其他实例正在对账时跳过本轮
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(COUNTER_RECONCILE_LOCK_KEY, token,
+                COUNTER_RECONCILE_LOCK_TTL_MINUTES, TimeUnit.MINUTES);
+        if (!Boolean.TRUE.equals(locked)) {
+            log.debug("计数对账正在其他实例执行，跳过本轮");
+            return;
+        }
+
+        // 2.分批对账
+        try {
+            RunStats run = new RunStats(LocalDateTime.now());
+            long start = System.nanoTime();
+            long lastId = 0;
+            while (true) {
+                List<Article> batch = articleMapper.selectList(new LambdaQueryWrapper<Article>()
+                        .select(Article::getId, Article::getLikeCount, Article::getCommentCount)
+                        .gt(Article::getId, lastId)
+                        .orderByAsc(Article::getId)
+                        .last("LIMIT " + batchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                lastId = batch.get(batch.size() - 1).getId();
+                reconcileBatch(batch, run);
+                if (batch.size() < batchSize || !pause()) {
+                    break;
+                }
+            }
+            run.durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // 3.记录统计
+            lastRun.set(run);
+            totalRuns.incrementAndGet();
+            totalLikeDbRepaired.addAndGet(run.likeDbRepaired);
+            totalLikeCacheRepaired.addAndGet(run.likeCacheRepaired);
+            totalCommentDbRepaired.addAndGet(run.commentDbRepaired);
+            totalCommentCacheRepaired.addAndGet(run.commentCacheRepaired);
+            totalViewsFlushed.addAndGet(run.viewsFlushed);
+            if (run.likeDbRepaired > 0 || run.likeCacheRepaired > 0) {
+                log.warn("计数对账发现点赞数偏差: 数据库 {} 篇, Redis {} 篇", run.likeDbRepaired, run.likeCacheRepaired);
+            }
+            if (run.commentDbRepaired > 0 || run.commentCacheRepaired > 0) {
+                log.warn("计数对账发现评论数偏差: 数据库 {} 篇, Redis {} 篇", run.commentDbRepaired, run.commentCacheRepaired);
+            }
+            log.info("计数对账完成: 扫描 {} 篇, 浏览量落库 {}, 耗时 {}ms", run.scanned, run.viewsFlushed, run.durationMs);
+        } catch (Exception e) {
+            log.error("计数对账失败: {}", e.getMessage(), e);
+        } finally {
+            // 只释放自己持有的锁
+            if (token.equals(redisTemplate.opsForValue().get(COUNTER_RECONCILE_LOCK_KEY))) {
+                redisTemplate.delete(COUNTER_RECONCILE_LOCK_KEY);
+            }
+        }
+    }
+
+    /**
+     * 获取计数对账统计
+     *
+     * @return 对账统计
+     */
+    @Override
+    public CounterReconcileStatsVO getStats() {
+        RunStats run = lastRun.get();
+        return CounterReconcileStatsVO.builder()
+                .lastStartTime(run == null ? null : run.startTime)
+                .lastDurationMs(run == null ? null : run.durationMs)
+                .lastScanned(run == null ? null : run.scanned)
+                .lastLikeDbRepaired(run == null ? null : run.likeDbRepaired)
+                .lastLikeCacheRepaired(run == null ? null : run.likeCacheRepaired)
+                .lastCommentDbRepaired(run == null ? null : run.commentDbRepaired)
+                .lastCommentCacheRepaired(run == null ? null : run.commentCacheRepaired)
+                .lastViewsFlushed(run == null ? null : run.viewsFlushed)
+                .totalRuns(totalRuns.get())
+                .totalLikeDbRepaired(totalLikeDbRepaired.get())
+                .totalLikeCacheRepaired(totalLikeCacheRepaired.get())
+                .totalCommentDbRepaired(totalCommentDbRepaired.get())
+                .totalCommentCacheRepaired(totalCommentCacheRepaired.get())
+                .totalViewsFlushed(totalViewsFlushed.get())
+                .build();
+    }
+
+    /**
+     * 对账一批文章
+     */
+    private void reconcileBatch(List<Article> batch, RunStats run) {
+        run.scanned += batch.size();
+        List<Long> ids = batch.stream().map(Article::getId).toList();
+        Set<Long> changedIds = new LinkedHashSet<>();
+
+        // 1.点赞数：以 article_like 记录数为准
+        Map<Long, Long> actualLikes = new HashMap<>(ids.size() * 2);
+        for (Map<String, Object> row : articleLikeMapper.countByArticleIds(ids)) {
+            actualLikes.put(((Number) row.get("articleId")).longValue(), ((Number) row.get("likeCount")).longValue());
+        }
+        List<String> cachedLikes = redisTemplate.opsForValue().multiGet(ids.stream()
+                .map(id -> ARTICLE_LIKE_COUNT_KEY_PREFIX + id)
+                .toList());
+        List<String> staleLikeKeys = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Article article = batch.get(i);
+            long expected = actualLikes.getOrDefault(article.getId(), 0L);
+            if (article.getLikeCount() == null || article.getLikeCount() != expected) {
+                // CAS：like_count 仍为读取时的值才修复，期间有并发点赞则留给下一轮
+                LambdaUpdateWrapper<Article> wrapper = new LambdaUpdateWrapper<Article>()
+                        .set(Article::getLikeCount, expected)
+                        .eq(Article::getId, article.getId());
+                if (article.getLikeCount() == null) {
+                    wrapper.isNull(Article::getLikeCount);
+                } else {
+                    wrapper.eq(Article::getLikeCount, article.getLikeCount());
+                }
+                if (articleMapper.update(null, wrapper) > 0) {
+                    run.likeDbRepaired++;
+                    changedIds.add(article.getId());
+                }
+            }
+            String cached = cachedLikes == null ? null : cachedLikes.get(i);
+            if (cached != null && Long.parseLong(cached) != expected) {
+                staleLikeKeys.add(ARTICLE_LIKE_COUNT_KEY_PREFIX + article.getId());
+                run.likeCacheRepaired++;
+            }
+        }
+        if (!staleLikeKeys.isEmpty()) {
+            redisTemplate.delete(staleLikeKeys);
+        }
+
+        // 2.评论数：以已审核评论数为准
+        reconcileCommentCounts(batch, changedIds, run);
+
+        // 3.浏览量：Redis 增量并入数据库
+        List<String> viewDeltas = redisTemplate.opsForValue().multiGet(ids.stream()
+                .map(id -> ARTICLE_VIEW_KEY_PREFIX + id)
+                .toList());
+        for (int i = 0; i < ids.size(); i++) {
+            String value = viewDeltas == null ? null : viewDeltas.get(i);
+            long delta = value == null ? 0 : Long.parseLong(value);
+            if (delta <= 0) {
+                continue;
+            }
+            Long id = ids.get(i);
+            String viewKey = ARTICLE_VIEW_KEY_PREFIX + id;
+            // 先扣减 Redis 再写库：期间新增的浏览量留在 Redis 中，不会丢失也不会重复计入
+            redisTemplate.opsForValue().decrement(viewKey, delta);
+            try {
+                articleMapper.update(null, new LambdaUpdateWrapper<Article>()
+                        .setSql("view_count = view_count + " + delta)
+                        .eq(Article::getId, id));
+                run.viewsFlushed += delta;
+                changedIds.add(id);
+            } catch (Exception e) {
+                redisTemplate.opsForValue().increment(viewKey, delta);
+                log.warn("浏览量落库失败，已回滚 Redis 扣减: articleId={}, delta={}, {}", id, delta, e.getMessage());
+            }
+        }
+
+        // 4.清除有变化文章的详情/卡片缓存
+        if (!changedIds.isEmpty()) {
+            eventPublisher.publishEvent(ArticleChangedEvent.builder()
+                    .articleIds(new ArrayList<>(changedIds))
+                    .build());
+        }
+    }
+
+    /**
+     * 对账一批文章的评论数
+     */
+    private void reconcileCommentCounts(List<Article> batch, Set<Long> changedIds, RunStats run) {
+        List<Long> ids = batch.stream().map(Article::getId).toList();
+        Map<Long, Long> actualComments = new HashMap<>(ids.size() * 2);
+        for (Map<String, Object> row : commentMapper.countByArticleIds(APPROVED.getCode(), ids)) {
+            actualComments.put(((Number) row.get("articleId")).longValue(), ((Number) row.get("commentCount")).longValue());
+        }
+        Map<Long, Long> cachedComments = commentCounter.multiGetCached(ids);
+        List<Long> staleCommentIds = new ArrayList<>();
+        for (Article article : batch) {
+            long expected = actualComments.getOrDefault(article.getId(), 0L);
+            if (article.getCommentCount() == null || article.getCommentCount() != expected) {
+                // CAS：comment_count 仍为读取时的值才修复，期间有并发评论则留给下一轮
+                LambdaUpdateWrapper<Article> wrapper = new LambdaUpdateWrapper<Article>()
+                        .set(Article::getCommentCount, expected)
+                        .eq(Article::getId, article.getId());
+                if (article.getCommentCount() == null) {
+                    wrapper.isNull(Article::getCommentCount);
+                } else {
+                    wrapper.eq(Article::getCommentCount, article.getCommentCount());
+                }
+                if (articleMapper.update(null, wrapper) > 0) {
+                    run.commentDbRepaired++;
+                    changedIds.add(article.getId());
+                }
+            }
+            Long cached = cachedComments.get(article.getId());
+            if (cached != null && cached != expected) {
+                staleCommentIds.add(article.getId());
+                run.commentCacheRepaired++;
+            }
+        }
+        commentCounter.evict(staleCommentIds);
+    }
+
+    /**
+     * 批次之间暂停，避免与线上流量争抢数据库和 Redis
+     *
+     * @return 是否继续执行（线程被中断时返回 false）
+     */
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 单次对账统计
+     */
+    private static class RunStats {
+        private final LocalDateTime startTime;
+        private long durationMs;
+        private long scanned;
+        private long likeDbRepaired;
+        private long likeCacheRepaired;
+        private long commentDbRepaired;
+        private long commentCacheRepaired;
+        private long viewsFlushed;
+
+        private RunStats(LocalDateTime startTime) {
+            this.startTime = startTime;
+        }
+    }
+}
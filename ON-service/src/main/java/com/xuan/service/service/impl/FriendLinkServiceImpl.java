@@ -14,10 +14,12 @@ import com.xuan.service.mapper.FriendLinkMapper;
 import com.xuan.service.service.IFriendLinkService;
 import com.xuan.common.service.INotificationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
+import static com.xuan.common.constant.RedisConstant.BLOG_HOME_KEY;
 import static com.xuan.common.enums.ErrorCode.FRIEND_LINK_ALREADY_APPLIED;
 import static com.xuan.common.enums.ErrorCode.FRIEND_LINK_NOT_FOUND;
 import static com.xuan.common.enums.FriendLinkStatusEnum.ONLINE;
@@ -33,6 +35,7 @@ import static com.xuan.common.enums.FriendLinkStatusEnum.PENDING;
 public class FriendLinkServiceImpl extends ServiceImpl<FriendLinkMapper, FriendLink> implements IFriendLinkService {
 
     private final INotificationService notificationService;
+    private final StringRedisTemplate redisTemplate;
 
     /**
      * 分页查询友情链接
@@ -71,9 +74,34 @@ public class FriendLinkServiceImpl extends ServiceImpl<FriendLinkMapper, FriendL
         friendLink.setStatus(dto.getStatus());
         //3.保存
         updateById(friendLink);
+        //4.公开友链可能变化，清除首页缓存
+        redisTemplate.delete(BLOG_HOME_KEY);
         // TODO: 如果审核未通过，可发送邮件通知站长 (需集成邮件服务)
     }
 
+    /**
+     * 修改友情链接
+     * @param id 友情链接ID
+     * @param dto 修改参数
+     */
+    @Override
+    public void updateFriendLink(Long id, FriendLinkApplyAndUpdateDTO dto) {
+        FriendLink friendLink = BeanUtil.copyProperties(dto, FriendLink.class);
+        friendLink.setId(id);
+        updateById(friendLink);
+        redisTemplate.delete(BLOG_HOME_KEY);
+    }
+
+    /**
+     * 删除友情链接
+     * @param id 友情链接ID
+     */
+    @Override
+    public void deleteFriendLink(Long id) {
+        removeById(id);
+        redisTemplate.delete(BLOG_HOME_KEY);
+    }
+
     /**
      * 申请友情链接
      * @param dto 申请参数
@@ -0,0 +1,134 @@
+package com.xuan.service.service.impl;
+
+import cn.hutool.core.bean.BeanUtil;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.xuan.common.cache.CacheClient;
+import com.xuan.common.exceptions.BusinessException;
+import com.xuan.common.utils.StructuredFanOut;
+import com.xuan.entity.dto.article.ArticlePageQueryDTO;
+import com.xuan.entity.po.interact.FriendLink;
+import com.xuan.entity.vo.article.ArticleListVO;
+import com.xuan.entity.vo.category.CategoryVO;
+import com.xuan.entity.vo.home.HomeVO;
+import com.xuan.entity.vo.system.SiteInfoVO;
+import com.xuan.entity.vo.tag.TagVO;
+import com.xuan.service.service.IArticleService;
+import com.xuan.service.service.ICategoryService;
+import com.xuan.service.service.IFriendLinkService;
+import com.xuan.service.service.IHomeService;
+import com.xuan.service.service.ISysSettingService;
+import com.xuan.service.service.ITagService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.xuan.common.constant.RedisConstant.BLOG_HOME_KEY;
+import static com.xuan.common.constant.RedisConstant.BLOG_HOME_TTL_MINUTES;
+import static com.xuan.common.constant.RedisConstant.CACHE_NAME_BLOG_HOME;
+
+/**
+ * 前台首页聚合服务实现
+ * <p>
+ * 读取策略：整体缓存为一个 Key（{@code blog:home}），未命中时在虚拟线程上并行调用各业务服务组装
+ * 失效策略：设置、分类、标签、文章列表、友链任一缓存被清除时，同时删除首页缓存
+ * 各业务服务自身仍有独立缓存，因此首页缓存重建通常只是若干次 Redis 读取
+ *
+ * @author 玄〤
+ * @since 2026-03-03
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HomeServiceImpl implements IHomeService {
+
+    /** 首页文章条数 */
+    private static final int HOME_ARTICLE_SIZE = 10;
+    /** 首页热门文章条数 */
+    private static final int HOME_HOT_ARTICLE_LIMIT = 5;
+
+    private final CacheClient cacheClient;
+    private final ISysSettingService sysSettingService;
+    private final ICategoryService categoryService;
+    private final ITagService tagService;
+    private final IArticleService articleService;
+    private final IFriendLinkService friendLinkService;
+
+    /**
+     * 组装首页时单个子任务的超时时间（毫秒）
+     */
+    @Value("${blog.home.subtask-timeout-ms:1000}")
+    private long subtaskTimeoutMs;
+
+    /**
+     * 获取首页聚合数据
+     *
+     * @return 首页聚合数据
+     */
+    @Override
+    public HomeVO getHome() {
+        // 1.尝试从 Redis 读取首页缓存
+        HomeVO cached = cacheClient.get(CACHE_NAME_BLOG_HOME, BLOG_HOME_KEY, HomeVO.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 2.缓存未命中，并行调用各业务服务
+        HomeVO homeVO = new HomeVO();
+        boolean degraded;
+        try (StructuredFanOut fanOut = new StructuredFanOut("blog-home", Duration.ofMillis(subtaskTimeoutMs))) {
+            // 只取前台需要的字段：首页接口无需认证且整体缓存，不能带出管理员邮箱等后台设置
+            Supplier<SiteInfoVO> settings = fanOut.fork("settings",
+                    () -> BeanUtil.copyProperties(sysSettingService.getSettings(), SiteInfoVO.class), null);
+            Supplier<List<CategoryVO>> categories = fanOut.fork("categories",
+                    categoryService::listAllCategories, Collections.emptyList());
+            Supplier<List<TagVO>> tags = fanOut.fork("tags", tagService::listAllTags, Collections.emptyList());
+            Supplier<Page<ArticleListVO>> articles = fanOut.fork("articles",
+                    () -> articleService.pageBlogArticles(firstPageQuery()), new Page<>(1, HOME_ARTICLE_SIZE, 0));
+            Supplier<List<ArticleListVO>> hotArticles = fanOut.fork("hotArticles",
+                    () -> articleService.listHotArticles(HOME_HOT_ARTICLE_LIMIT), Collections.emptyList());
+            Supplier<List<FriendLink>> friendLinks = fanOut.fork("friendLinks",
+                    friendLinkService::listPublicFriendLinks, Collections.emptyList());
+            fanOut.join();
+
+            homeVO.setSettings(settings.get());
+            homeVO.setCategories(categories.get());
+            homeVO.setTags(tags.get());
+            homeVO.setArticles(articles.get());
+            homeVO.setHotArticles(hotArticles.get());
+            homeVO.setFriendLinks(friendLinks.get());
+            degraded = fanOut.isDegraded();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("首页数据加载被中断");
+        }
+
+        // 3.回填缓存（有子任务超时降级时不回填）
+        if (degraded) {
+            log.warn("首页部分数据加载超时，本次结果不回填缓存");
+            return homeVO;
+        }
+        try {
+            cacheClient.set(CACHE_NAME_BLOG_HOME, BLOG_HOME_KEY, homeVO, BLOG_HOME_TTL_MINUTES, TimeUnit.MINUTES);
+        } catch (Exception e) {
+            log.warn("首页缓存回填失败: {}", e.getMessage());
+        }
+        return homeVO;
+    }
+
+    /**
+     * 首页文章查询条件：第 1 页，不按分类/标签筛选（与前台文章列表共用同一份分页缓存）
+     */
+    private ArticlePageQueryDTO firstPageQuery() {
+        ArticlePageQueryDTO query = new ArticlePageQueryDTO();
+        query.setCurrent(1);
+        query.setSize(HOME_ARTICLE_SIZE);
+        return query;
+    }
+}
@@ -3,8 +3,10 @@ package com.xuan.service.service.impl;
 import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.date.DateUtil;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.xuan.common.utils.SparseFieldsUtils;
 import com.xuan.entity.dto.log.OperLogQueryDTO;
 import com.xuan.entity.po.sys.SysOperLog;
 import com.xuan.entity.vo.log.OperLogVO;
@@ -14,6 +16,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 操作日志服务实现类
@@ -27,6 +31,19 @@ public class OperLogServiceImpl extends ServiceImpl<SysOperLogMapper, SysOperLog
 
     private final SysOperLogMapper operLogMapper;
 
+    /**
+     * 操作日志VO字段 -> 查询列（稀疏字段集使用）
+     */
+    private static final Map<String, List<SFunction<SysOperLog, ?>>> OPER_LOG_COLUMNS = Map.of(
+            "id", List.of(SysOperLog::getId),
+            "module", List.of(SysOperLog::getModule),
+            "operation", List.of(SysOperLog::getBusinessType, SysOperLog::getMethod),
+            "operator", List.of(SysOperLog::getOperName),
+            "ip", List.of(SysOperLog::getOperIp),
+            "status", List.of(SysOperLog::getStatus),
+            "costTime", List.of(SysOperLog::getCostTime),
+            "createTime", List.of(SysOperLog::getOperTime));
+
     @Override
     public Page<OperLogVO> pageOperLogs(OperLogQueryDTO queryDTO) {
         // 构建查询条件
@@ -55,6 +72,11 @@ public class OperLogServiceImpl extends ServiceImpl<SysOperLogMapper, SysOperLog
         
         // 按操作时间倒序排序
         wrapper.orderByDesc(SysOperLog::getOperTime);
+
+        // 稀疏字段集：只查询需要的列（operParam、jsonResult 等大字段不会被查出）
+        List<SFunction<SysOperLog, ?>> columns = SparseFieldsUtils.selectColumns(
+                SparseFieldsUtils.parse(queryDTO.getFields()), OPER_LOG_COLUMNS);
+        wrapper.select(columns != null, columns);
         
         // 分页参数
         int current = queryDTO.getCurrent() != null ? queryDTO.getCurrent() : 1;
@@ -95,6 +117,9 @@ public class OperLogServiceImpl extends ServiceImpl<SysOperLogMapper, SysOperLog
      * @return 操作描述
      */
     private String getOperationDescription(String businessType, String method) {
+        if (businessType == null) {
+            return "其他操作";
+        }
         switch (businessType) {
             case "1":
                 return "新增操作";
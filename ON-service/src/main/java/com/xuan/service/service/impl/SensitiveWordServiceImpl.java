@@ -0,0 +1,152 @@
+package com.xuan.service.service.impl;
+
+import cn.hutool.core.util.StrUtil;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.xuan.common.exceptions.BusinessException;
+import com.xuan.entity.dto.comment.SensitiveWordCreateDTO;
+import com.xuan.entity.dto.comment.SensitiveWordPageQueryDTO;
+import com.xuan.entity.po.interact.SensitiveWord;
+import com.xuan.entity.vo.comment.CommentModerationStatusVO;
+import com.xuan.entity.vo.comment.CommentModerationVO;
+import com.xuan.service.mapper.SensitiveWordMapper;
+import com.xuan.service.service.ISensitiveWordService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.xuan.common.enums.ErrorCode.PARAM_ERROR;
+
+/**
+ * 评论敏感词服务实现类
+ * 词库增删在事务提交后通过 {@link CommentModerator#refresh()} 通知所有实例重新编译
+ *
+ * @author 玄〤
+ * @since 2026-03-22
+ */
+@Service
+@RequiredArgsConstructor
+public class SensitiveWordServiceImpl extends ServiceImpl<SensitiveWordMapper, SensitiveWord> implements ISensitiveWordService {
+
+    /** 单个敏感词最大长度，与 sensitive_word.word 列一致 */
+    private static final int MAX_WORD_LENGTH = 100;
+
+    private final CommentModerator commentModerator;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 分页查询敏感词
+     * @param query 查询参数
+     * @return 分页结果
+     */
+    @Override
+    public Page<SensitiveWord> pageWords(SensitiveWordPageQueryDTO query) {
+        int currentPage = query.getCurrent() != null ? query.getCurrent() : 1;
+        int pageSize = query.getSize() != null ? query.getSize() : 10;
+        return page(new Page<>(currentPage, pageSize), new LambdaQueryWrapper<SensitiveWord>()
+                .eq(query.getLevel() != null, SensitiveWord::getLevel, query.getLevel())
+                .like(StrUtil.isNotBlank(query.getWord()), SensitiveWord::getWord, query.getWord())
+                .orderByDesc(SensitiveWord::getId));
+    }
+
+    /**
+     * 批量添加敏感词
+     * @param dto 敏感词与处理级别
+     * @return 新增的敏感词数量
+     */
+    @Override
+    public int addWords(SensitiveWordCreateDTO dto) {
+        // 1.去除空白与重复（不区分大小写，与自动机的匹配规则一致）
+        Map<String, String> words = new LinkedHashMap<>();
+        for (String raw : dto.getWords()) {
+            String word = raw == null ? "" : raw.strip();
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (word.length() > MAX_WORD_LENGTH) {
+                throw new BusinessException(PARAM_ERROR, "敏感词长度不能超过" + MAX_WORD_LENGTH + "个字符");
+            }
+            words.putIfAbsent(word.toLowerCase(Locale.ROOT), word);
+        }
+        if (words.isEmpty()) {
+            throw new BusinessException(PARAM_ERROR, "敏感词不能为空");
+        }
+
+        // 2.已存在的词更新级别，其余新增
+        Integer added = transactionTemplate.execute(status -> {
+            List<SensitiveWord> existing = lambdaQuery()
+                    .in(SensitiveWord::getWord, words.values())
+                    .list();
+            for (SensitiveWord word : existing) {
+                words.remove(word.getWord().toLowerCase(Locale.ROOT));
+                if (!dto.getLevel().equals(word.getLevel())) {
+                    lambdaUpdate()
+                            .eq(SensitiveWord::getId, word.getId())
+                            .set(SensitiveWord::getLevel, dto.getLevel())
+                            .update();
+                }
+            }
+            List<SensitiveWord> toInsert = new ArrayList<>(words.size());
+            for (String word : words.values()) {
+                SensitiveWord entity = new SensitiveWord();
+                entity.setWord(word);
+                entity.setLevel(dto.getLevel());
+                toInsert.add(entity);
+            }
+            saveBatch(toInsert);
+            return toInsert.size();
+        });
+
+        // 3.通知所有实例重新加载
+        commentModerator.refresh();
+        return added == null ? 0 : added;
+    }
+
+    /**
+     * 批量删除敏感词
+     * @param ids 敏感词ID列表
+     */
+    @Override
+    public void batchDeleteWords(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new BusinessException(PARAM_ERROR, "请选择要删除的敏感词");
+        }
+        removeByIds(ids);
+        commentModerator.refresh();
+    }
+
+    /**
+     * 重新加载词库
+     * @return 词库状态
+     */
+    @Override
+    public CommentModerationStatusVO reloadWords() {
+        return commentModerator.refresh();
+    }
+
+    /**
+     * 获取词库状态
+     * @return 词库状态
+     */
+    @Override
+    public CommentModerationStatusVO getModerationStatus() {
+        return commentModerator.getStatus();
+    }
+
+    /**
+     * 试运行自动审核
+     * @param content 评论内容
+     * @return 审核结论
+     */
+    @Override
+    public CommentModerationVO checkContent(String content) {
+        return commentModerator.moderate(content);
+    }
+}
@@ -0,0 +1,445 @@
+package com.xuan.service.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.xuan.entity.po.blog.Article;
+import com.xuan.entity.vo.system.SystemSettingVO;
+import com.xuan.service.event.ArticleChangedEvent;
+import com.xuan.service.mapper.ArticleMapper;
+import com.xuan.service.service.ISeoService;
+import com.xuan.service.service.ISysSettingService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.xuan.common.enums.ArticleStatusEnum.PUBLISHED;
+
+/**
+ * 站点地图与订阅源服务实现
+ * <p>
+ * 爬虫请求只读取内存中预先生成的文档（原文 + gzip + ETag），不访问数据库：
+ * 1. 内存中维护已发布文章的 ID -> (地址, 更新时间) 索引，启动时一次查询加载（只查 id/slug/update_time）
+ * 2. 站点地图按文章ID区间分片（{@code id / sitemap-shard-size}），文章变更只重建其所在分片和索引文件；
+ *    订阅源只包含最新 {@code feed-size} 篇，有变化时一次小查询重建
+ * 3. 增量同步：本实例的文章变更事件立即触发同步；其他实例的变更由定时同步发现——查询 update_time 不早于水位线的文章，
+ *    再用已发布文章总数校验，不一致时（删除、导入历史文章等）全量重建索引
+ *
+ * @author 玄〤
+ * @since 2026-03-15
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeoServiceImpl implements ISeoService {
+
+    private static final String SITEMAP_NS = "http://www.sitemaps.org/schemas/sitemap/0.9";
+    private static final DateTimeFormatter W3C_FORMATTER = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+    private static final DateTimeFormatter RFC_822_FORMATTER = DateTimeFormatter.RFC_1123_DATE_TIME;
+
+    private final ArticleMapper articleMapper;
+    private final ISysSettingService sysSettingService;
+
+    /**
+     * 前台站点地址
+     */
+    @Value("${blog.seo.site-url:http://localhost:5173}")
+    private String siteUrl;
+
+    /**
+     * 文章页路径
+     */
+    @Value("${blog.seo.article-path:/article/}")
+    private String articlePath;
+
+    /**
+     * 每个站点地图分片的文章ID区间大小
+     */
+    @Value("${blog.seo.sitemap-shard-size:10000}")
+    private int shardSize;
+
+    /**
+     * 订阅源包含的最新文章数
+     */
+    @Value("${blog.seo.feed-size:20}")
+    private int feedSize;
+
+    /**
+     * 定时同步间隔（毫秒）
+     */
+    @Value("${blog.seo.sync-interval-ms:60000}")
+    private long syncIntervalMs;
+
+    /**
+     * 已发布文章索引：文章ID -> 站点地图条目
+     */
+    private final NavigableMap<Long, SitemapEntry> entries = new ConcurrentSkipListMap<>();
+
+    /**
+     * 站点地图分片：分片编号 -> 文档
+     */
+    private final Map<Integer, Document> shards = new ConcurrentHashMap<>();
+
+    /**
+     * 本实例变更事件中待同步的文章ID
+     */
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+
+    private volatile Document sitemapIndex;
+    private volatile Document rssFeed;
+    private volatile Document atomFeed;
+    private volatile boolean pending;
+
+    /**
+     * 已同步的最大 update_time，null 表示尚未加载
+     */
+    private LocalDateTime watermark;
+    private long lastSyncNanos;
+
+    /**
+     * 启动时全量生成，失败不影响启动，由定时同步重试
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            sync();
+        } catch (Exception e) {
+            log.warn("站点地图初始化失败: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public Document getSitemapIndex() {
+        return sitemapIndex;
+    }
+
+    @Override
+    public Document getSitemapShard(int shard) {
+        return shards.get(shard);
+    }
+
+    @Override
+    public Document getRssFeed() {
+        return rssFeed;
+    }
+
+    @Override
+    public Document getAtomFeed() {
+        return atomFeed;
+    }
+
+    /**
+     * 文章变更：记录文章ID，由下一次轮询同步（同一轮询周期内的多次变更合并为一次重建）
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        pendingIds.addAll(event.getArticleIds());
+        pending = true;
+    }
+
+    /**
+     * 轮询：有本实例变更或到达同步间隔时同步
+     */
+    @Scheduled(initialDelayString = "${blog.seo.poll-interval-ms:1000}",
+            fixedDelayString = "${blog.seo.poll-interval-ms:1000}")
+    public void poll() {
+        if (!pending && System.nanoTime() - lastSyncNanos < TimeUnit.MILLISECONDS.toNanos(syncIntervalMs)) {
+            return;
+        }
+        try {
+            sync();
+        } catch (Exception e) {
+            log.warn("站点地图同步失败: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 增量同步索引并重建受影响的文档
+     */
+    private synchronized void sync() {
+        pending = false;
+        lastSyncNanos = System.nanoTime();
+        if (watermark == null) {
+            reloadAll();
+            return;
+        }
+
+        // 1.查询水位线之后更新的文章，以及事件中标记的文章（不限状态，用于发现下架）
+        List<Long> ids = new ArrayList<>(pendingIds);
+        pendingIds.removeAll(ids);
+        LocalDateTime since = watermark;
+        List<Article> changed = articleMapper.selectList(new LambdaQueryWrapper<Article>()
+                .select(Article::getId, Article::getSlug, Article::getStatus, Article::getUpdateTime)
+                .and(wrapper -> wrapper.ge(Article::getUpdateTime, since)
+                        .or(!ids.isEmpty(), w -> w.in(Article::getId, ids))));
+
+        // 2.更新索引，记录受影响的分片
+        Set<Integer> touchedShards = new TreeSet<>();
+        Set<Long> foundIds = new TreeSet<>();
+        for (Article article : changed) {
+            foundIds.add(article.getId());
+            advanceWatermark(article.getUpdateTime());
+            boolean modified;
+            if (PUBLISHED.getCode().equals(article.getStatus())) {
+                SitemapEntry entry = toEntry(article);
+                modified = !entry.equals(entries.put(article.getId(), entry));
+            } else {
+                modified = entries.remove(article.getId()) != null;
+            }
+            if (modified) {
+                touchedShards.add(shardOf(article.getId()));
+            }
+        }
+        // 事件中标记但已不存在的文章（已删除）
+        for (Long id : ids) {
+            if (!foundIds.contains(id) && entries.remove(id) != null) {
+                touchedShards.add(shardOf(id));
+            }
+        }
+
+        // 3.已发布文章总数不一致时（删除、导入旧文章等未被水位线发现的变化）全量重建
+        Long publishedCount = articleMapper.selectCount(new LambdaQueryWrapper<Article>()
+                .eq(Article::getStatus, PUBLISHED.getCode()));
+        if (publishedCount == null || publishedCount != entries.size()) {
+            log.info("站点地图索引与数据库不一致（索引 {} 篇，数据库 {} 篇），全量重建", entries.size(), publishedCount);
+            reloadAll();
+            return;
+        }
+        if (!touchedShards.isEmpty()) {
+            rebuild(touchedShards);
+        }
+    }
+
+    /**
+     * 全量加载索引并重建全部文档
+     */
+    private void reloadAll() {
+        List<Article> articles = articleMapper.selectList(new LambdaQueryWrapper<Article>()
+                .select(Article::getId, Article::getSlug, Article::getUpdateTime)
+                .eq(Article::getStatus, PUBLISHED.getCode()));
+        Set<Integer> touchedShards = new TreeSet<>(shards.keySet());
+        entries.clear();
+        for (Article article : articles) {
+            entries.put(article.getId(), toEntry(article));
+            advanceWatermark(article.getUpdateTime());
+            touchedShards.add(shardOf(article.getId()));
+        }
+        if (watermark == null) {
+            watermark = LocalDateTime.now();
+        }
+        rebuild(touchedShards);
+        log.info("站点地图全量生成完成，共 {} 篇文章，{} 个分片", entries.size(), shards.size());
+    }
+
+    /**
+     * 重建指定分片、索引文件与订阅源
+     */
+    private void rebuild(Set<Integer> touchedShards) {
+        long now = System.currentTimeMillis();
+        for (Integer shard : touchedShards) {
+            long from = (long) shard * shardSize;
+            NavigableMap<Long, SitemapEntry> range = entries.subMap(from, true, from + shardSize, false);
+            if (range.isEmpty()) {
+                shards.remove(shard);
+            } else {
+                shards.put(shard, Document.of(renderUrlSet(range.values()), now));
+            }
+        }
+        sitemapIndex = Document.of(renderSitemapIndex(), now);
+        rebuildFeeds(now);
+    }
+
+    private String renderUrlSet(Iterable<SitemapEntry> items) {
+        StringBuilder xml = new StringBuilder(64 * 1024);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<urlset xmlns=\"").append(SITEMAP_NS).append("\">\n");
+        for (SitemapEntry item : items) {
+            xml.append("<url><loc>").append(escape(item.loc())).append("</loc>");
+            if (item.lastModified() != null) {
+                xml.append("<lastmod>").append(w3c(item.lastModified())).append("</lastmod>");
+            }
+            xml.append("</url>\n");
+        }
+        return xml.append("</urlset>\n").toString();
+    }
+
+    private String renderSitemapIndex() {
+        StringBuilder xml = new StringBuilder(1024);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<sitemapindex xmlns=\"").append(SITEMAP_NS).append("\">\n");
+        for (Integer shard : new TreeSet<>(shards.keySet())) {
+            long from = (long) shard * shardSize;
+            LocalDateTime lastModified = entries.subMap(from, true, from + shardSize, false).values().stream()
+                    .map(SitemapEntry::lastModified)
+                    .filter(Objects::nonNull)
+                    .max(LocalDateTime::compareTo)
+                    .orElse(null);
+            xml.append("<sitemap><loc>").append(escape(baseUrl() + "/sitemap-" + shard + ".xml")).append("</loc>");
+            if (lastModified != null) {
+                xml.append("<lastmod>").append(w3c(lastModified)).append("</lastmod>");
+            }
+            xml.append("</sitemap>\n");
+        }
+        return xml.append("</sitemapindex>\n").toString();
+    }
+
+    /**
+     * 订阅源：按发布时间取最新的文章（一次小查询，走 idx_publish_status 索引）
+     */
+    private void rebuildFeeds(long now) {
+        List<Article> latest = articleMapper.selectList(new LambdaQueryWrapper<Article>()
+                .select(Article::getId, Article::getSlug, Article::getTitle, Article::getSummary,
+                        Article::getPublishTime, Article::getUpdateTime)
+                .eq(Article::getStatus, PUBLISHED.getCode())
+                .orderByDesc(Article::getPublishTime)
+                .last("LIMIT " + feedSize));
+        SystemSettingVO settings = sysSettingService.getSettings();
+        String title = escape(settings == null ? null : settings.getSiteName());
+        String description = escape(settings == null ? null : settings.getSiteDescription());
+        String home = escape(baseUrl() + "/");
+        LocalDateTime updated = latest.stream()
+                .map(article -> defaultIfNull(article.getUpdateTime(), article.getPublishTime()))
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(LocalDateTime.now());
+
+        // RSS 2.0
+        StringBuilder rss = new StringBuilder(16 * 1024);
+        rss.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<rss version=\"2.0\" xmlns:atom=\"http://www.w3.org/2005/Atom\">\n<channel>\n")
+                .append("<title>").append(title).append("</title>\n")
+                .append("<link>").append(home).append("</link>\n")
+                .append("<description>").append(description).append("</description>\n")
+                .append("<atom:link href=\"").append(escape(baseUrl() + "/feed.xml"))
+                .append("\" rel=\"self\" type=\"application/rss+xml\"/>\n")
+                .append("<lastBuildDate>").append(rfc822(updated)).append("</lastBuildDate>\n");
+        for (Article article : latest) {
+            String link = escape(articleUrl(article));
+            rss.append("<item><title>").append(escape(article.getTitle())).append("</title>")
+                    .append("<link>").append(link).append("</link>")
+                    .append("<guid isPermaLink=\"true\">").append(link).append("</guid>");
+            if (article.getPublishTime() != null) {
+                rss.append("<pubDate>").append(rfc822(article.getPublishTime())).append("</pubDate>");
+            }
+            rss.append("<description>").append(escape(article.getSummary())).append("</description></item>\n");
+        }
+        rss.append("</channel>\n</rss>\n");
+
+        // Atom
+        StringBuilder atom = new StringBuilder(16 * 1024);
+        atom.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<feed xmlns=\"http://www.w3.org/2005/Atom\">\n")
+                .append("<title>").append(title).append("</title>\n")
+                .append("<subtitle>").append(description).append("</subtitle>\n")
+                .append("<link href=\"").append(home).append("\"/>\n")
+                .append("<link rel=\"self\" href=\"").append(escape(baseUrl() + "/atom.xml")).append("\"/>\n")
+                .append("<id>").append(home).append("</id>\n")
+                .append("<updated>").append(w3c(updated)).append("</updated>\n");
+        for (Article article : latest) {
+            String link = escape(articleUrl(article));
+            atom.append("<entry><title>").append(escape(article.getTitle())).append("</title>")
+                    .append("<link href=\"").append(link).append("\"/>")
+                    .append("<id>").append(link).append("</id>")
+                    .append("<updated>").append(w3c(defaultIfNull(article.getUpdateTime(), updated))).append("</updated>");
+            if (article.getPublishTime() != null) {
+                atom.append("<published>").append(w3c(article.getPublishTime())).append("</published>");
+            }
+            atom.append("<summary>").append(escape(article.getSummary())).append("</summary></entry>\n");
+        }
+        atom.append("</feed>\n");
+
+        rssFeed = Document.of(rss.toString(), now);
+        atomFeed = Document.of(atom.toString(), now);
+    }
+
+    private SitemapEntry toEntry(Article article) {
+        return new SitemapEntry(articleUrl(article), article.getUpdateTime());
+    }
+
+    /**
+     * 文章地址：有 slug 时使用 slug，否则使用文章ID
+     */
+    private String articleUrl(Article article) {
+        String slug = article.getSlug();
+        String path = slug == null || slug.isBlank()
+                ? String.valueOf(article.getId())
+                : UriUtils.encodePathSegment(slug, StandardCharsets.UTF_8);
+        return baseUrl() + articlePath + path;
+    }
+
+    private String baseUrl() {
+        return siteUrl.endsWith("/") ? siteUrl.substring(0, siteUrl.length() - 1) : siteUrl;
+    }
+
+    private int shardOf(Long articleId) {
+        return (int) (articleId / shardSize);
+    }
+
+    private void advanceWatermark(LocalDateTime updateTime) {
+        if (updateTime != null && (watermark == null || updateTime.isAfter(watermark))) {
+            watermark = updateTime;
+        }
+    }
+
+    private static String w3c(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).format(W3C_FORMATTER);
+    }
+
+    private static String rfc822(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).format(RFC_822_FORMATTER);
+    }
+
+    private static <T> T defaultIfNull(T value, T defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * XML 转义，并去掉 XML 1.0 不允许的控制字符
+     */
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder result = new StringBuilder(value.length() + 16);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> result.append("&amp;");
+                case '<' -> result.append("&lt;");
+                case '>' -> result.append("&gt;");
+                case '"' -> result.append("&quot;");
+                case '\'' -> result.append("&apos;");
+                default -> {
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                        result.append(c);
+                    }
+                }
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 站点地图条目
+     *
+     * @param loc          文章地址
+     * @param lastModified 最后修改时间
+     */
+    private record SitemapEntry(String loc, LocalDateTime lastModified) {
+    }
+}
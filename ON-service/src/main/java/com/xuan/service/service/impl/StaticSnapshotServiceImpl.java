@@ -0,0 +1,686 @@
+package com.xuan.service.service.impl;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.xuan.common.domain.Result;
+import com.xuan.common.exceptions.BusinessException;
+import com.xuan.entity.dto.article.ArticlePageQueryDTO;
+import com.xuan.entity.po.blog.Article;
+import com.xuan.entity.vo.article.ArticleDetailVO;
+import com.xuan.entity.vo.article.ArticleListVO;
+import com.xuan.entity.vo.category.CategoryVO;
+import com.xuan.entity.vo.monitor.StaticSnapshotVO;
+import com.xuan.entity.vo.tag.TagVO;
+import com.xuan.service.event.ArticleChangedEvent;
+import com.xuan.service.event.TaxonomyChangedEvent;
+import com.xuan.service.mapper.ArticleMapper;
+import com.xuan.service.service.IArticleService;
+import com.xuan.service.service.ICategoryService;
+import com.xuan.service.service.IStaticSnapshotService;
+import com.xuan.service.service.ITagService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static com.xuan.common.constant.RedisConstant.ARTICLE_DETAIL_KEY_PREFIX;
+import static com.xuan.common.constant.RedisConstant.STATIC_SNAPSHOT_DIRTY_ALL_KEY;
+import static com.xuan.common.constant.RedisConstant.STATIC_SNAPSHOT_DIRTY_ARTICLES_KEY;
+import static com.xuan.common.constant.RedisConstant.STATIC_SNAPSHOT_DIRTY_LISTS_KEY;
+import static com.xuan.common.constant.RedisConstant.STATIC_SNAPSHOT_LOCK_KEY;
+import static com.xuan.common.constant.RedisConstant.STATIC_SNAPSHOT_LOCK_TTL_MINUTES;
+import static com.xuan.common.enums.ArticleStatusEnum.PUBLISHED;
+import static com.xuan.common.enums.ErrorCode.STATIC_SNAPSHOT_RUNNING;
+
+/**
+ * 静态快照服务实现
+ * <p>
+ * 把前台只读接口的响应渲染为静态 JSON 文件，目录结构与接口路径一致，流量高峰时由 Nginx/CDN 直接返回，不经过 JVM：
+ * <pre>
+ * api/blog/article/{id}.json                          文章详情
+ * api/blog/article/slug/{slug}.json                   文章详情（slug）
+ * api/blog/article/page/{current}.json                文章分页
+ * api/blog/article/page/category/{id}/{current}.json  分类下的文章分页
+ * api/blog/article/page/tag/{id}/{current}.json       标签下的文章分页
+ * api/blog/article/archive.json                       归档
+ * api/blog/category/list.json、api/blog/tag/list.json  分类/标签列表
+ * article/{id}.html、article/slug/{slug}.html          文章详情 HTML（blog.snapshot.html 开启时）
+ * </pre>
+ * 生成流程：
+ * 1. 每次生成一个版本目录 {@code {output-dir}/{yyyyMMddHHmmssSSS}}，先写入临时目录，完成后整体 rename 为版本目录，
+ *    再原子替换 {@code current} 软链接；Nginx 始终读到完整的某一个版本
+ * 2. 增量生成：以硬链接复制上一版本（不占额外空间），只重新渲染 update_time 晚于上一版本开始时间、slug 变化、
+ *    新发布或被变更事件标记的文章，以及它们的上/下篇；已下架或删除的文章移除其文件；有任何变化时重新渲染全部列表类页面
+ * 3. 文章详情与列表页分别在 ForkJoinPool（{@code blog.snapshot.parallelism}）中并行渲染
+ * <p>
+ * 多实例部署时通过 Redis 锁保证同一时间只有一个实例生成，{@code output-dir} 应为共享存储或只在一个实例上开启
+ *
+ * @author 玄〤
+ * @since 2026-03-14
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StaticSnapshotServiceImpl implements IStaticSnapshotService {
+
+    static final String MODE_FULL = "FULL";
+    static final String MODE_INCREMENTAL = "INCREMENTAL";
+
+    /** 指向最新版本的软链接 */
+    private static final String CURRENT_LINK = "current";
+    /** 版本目录中记录生成结果与文章 slug 的清单文件 */
+    private static final String MANIFEST_FILE = "snapshot.json";
+
+    private static final String ARTICLE_DIR = "api/blog/article/";
+    private static final String PAGE_DIR = ARTICLE_DIR + "page/";
+    private static final String HTML_DIR = "article/";
+
+    private static final DateTimeFormatter VERSION_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+    private static final Pattern VERSION_PATTERN = Pattern.compile("\\d{17}");
+    private static final Pattern WORK_DIR_PATTERN = Pattern.compile("\\.\\d{17}\\.tmp");
+    /** 可作为文件名的 slug，其他 slug 只生成按ID访问的文件 */
+    private static final Pattern SAFE_SLUG_PATTERN = Pattern.compile("[A-Za-z0-9][A-Za-z0-9_-]*");
+
+    private final IArticleService articleService;
+    private final ICategoryService categoryService;
+    private final ITagService tagService;
+    private final ArticleMapper articleMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 是否开启定时增量生成与变更标记
+     */
+    @Value("${blog.snapshot.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * 输出根目录
+     */
+    @Value("${blog.snapshot.output-dir:./static-snapshot}")
+    private String outputDir;
+
+    /**
+     * 渲染并行度
+     */
+    @Value("${blog.snapshot.parallelism:4}")
+    private int parallelism;
+
+    /**
+     * 列表页每页条数
+     */
+    @Value("${blog.snapshot.page-size:10}")
+    private int pageSize;
+
+    /**
+     * 保留的历史版本数
+     */
+    @Value("${blog.snapshot.keep-versions:3}")
+    private int keepVersions;
+
+    /**
+     * 是否生成文章详情 HTML
+     */
+    @Value("${blog.snapshot.html:false}")
+    private boolean html;
+
+    /**
+     * 定时增量生成
+     */
+    @Scheduled(initialDelayString = "${blog.snapshot.interval-ms:300000}",
+            fixedDelayString = "${blog.snapshot.interval-ms:300000}")
+    public void scheduledGenerate() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (tryGenerate(false) == null) {
+                log.debug("静态快照正在其他实例生成，跳过本轮");
+            }
+        } catch (Exception e) {
+            log.error("静态快照生成失败: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 生成一个静态快照版本
+     *
+     * @param full 是否全量生成
+     * @return 生成结果
+     */
+    @Override
+    public StaticSnapshotVO generate(boolean full) {
+        StaticSnapshotVO result = tryGenerate(full);
+        if (result == null) {
+            throw new BusinessException(STATIC_SNAPSHOT_RUNNING);
+        }
+        return result;
+    }
+
+    /**
+     * 获取当前快照版本的生成结果
+     *
+     * @return 生成结果
+     */
+    @Override
+    public StaticSnapshotVO getStatus() {
+        Path current = resolveCurrent(rootDir());
+        Manifest manifest = current == null ? null : readManifest(current);
+        return manifest == null ? null : manifest.stats();
+    }
+
+    /**
+     * 文章变更：记录需要重新生成的文章与列表页
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (!event.getArticleIds().isEmpty()) {
+                redisTemplate.opsForSet().add(STATIC_SNAPSHOT_DIRTY_ARTICLES_KEY,
+                        event.getArticleIds().stream().map(String::valueOf).toArray(String[]::new));
+            }
+            if (event.isCardChanged() || event.isListChanged() || event.isTaxonomyChanged() || event.isDeleted()) {
+                redisTemplate.opsForValue().set(STATIC_SNAPSHOT_DIRTY_LISTS_KEY, "1");
+            }
+        } catch (Exception e) {
+            log.warn("记录静态快照变更失败: {}, {}", event, e.getMessage());
+        }
+    }
+
+    /**
+     * 分类/标签变更：名称、颜色出现在所有文章详情中，下一次生成时重新渲染全部页面
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTaxonomyChanged(TaxonomyChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(STATIC_SNAPSHOT_DIRTY_ALL_KEY, "1");
+            redisTemplate.opsForValue().set(STATIC_SNAPSHOT_DIRTY_LISTS_KEY, "1");
+        } catch (Exception e) {
+            log.warn("记录静态快照变更失败: {}, {}", event, e.getMessage());
+        }
+    }
+
+    /**
+     * 获取锁并生成
+     *
+     * @return 生成结果，其他实例正在生成时返回 null
+     */
+    private StaticSnapshotVO tryGenerate(boolean full) {
+        // 1.获取分布式锁
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(STATIC_SNAPSHOT_LOCK_KEY, token,
+                STATIC_SNAPSHOT_LOCK_TTL_MINUTES, TimeUnit.MINUTES);
+        if (!Boolean.TRUE.equals(locked)) {
+            return null;
+        }
+
+        // 2.取出变更标记：文章ID在成功后按成员移除，标记位先删除、失败时放回，生成期间的新标记留给下一轮
+        Set<String> dirtyArticles = redisTemplate.opsForSet().members(STATIC_SNAPSHOT_DIRTY_ARTICLES_KEY);
+        boolean listsDirty = Boolean.TRUE.equals(redisTemplate.delete(STATIC_SNAPSHOT_DIRTY_LISTS_KEY));
+        boolean allDirty = Boolean.TRUE.equals(redisTemplate.delete(STATIC_SNAPSHOT_DIRTY_ALL_KEY));
+        try {
+            StaticSnapshotVO result = render(full || allDirty, listsDirty,
+                    dirtyArticles == null ? Set.of() : dirtyArticles);
+            if (dirtyArticles != null && !dirtyArticles.isEmpty()) {
+                redisTemplate.opsForSet().remove(STATIC_SNAPSHOT_DIRTY_ARTICLES_KEY, dirtyArticles.toArray());
+            }
+            return result;
+        } catch (Exception e) {
+            if (listsDirty) {
+                redisTemplate.opsForValue().set(STATIC_SNAPSHOT_DIRTY_LISTS_KEY, "1");
+            }
+            if (allDirty) {
+                redisTemplate.opsForValue().set(STATIC_SNAPSHOT_DIRTY_ALL_KEY, "1");
+            }
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("静态快照生成失败: " + e.getMessage(), e);
+        } finally {
+            // 只释放自己持有的锁
+            if (token.equals(redisTemplate.opsForValue().get(STATIC_SNAPSHOT_LOCK_KEY))) {
+                redisTemplate.delete(STATIC_SNAPSHOT_LOCK_KEY);
+            }
+        }
+    }
+
+    /**
+     * 渲染一个新版本
+     */
+    private StaticSnapshotVO render(boolean full, boolean listsDirty, Set<String> dirtyArticles) throws Exception {
+        LocalDateTime startTime = LocalDateTime.now();
+        long start = System.nanoTime();
+        Path root = rootDir();
+        Files.createDirectories(root);
+        Path current = resolveCurrent(root);
+        Manifest previous = current == null ? null : readManifest(current);
+        full = full || previous == null;
+
+        // 1.已发布文章（只查 id/slug/update_time）
+        Map<Long, String> published = new HashMap<>();
+        TreeSet<Long> publishedIds = new TreeSet<>();
+        Set<Long> updatedIds = new HashSet<>();
+        LocalDateTime since = previous == null ? null : previous.stats().getStartTime();
+        for (Article article : articleMapper.selectList(new LambdaQueryWrapper<Article>()
+                .select(Article::getId, Article::getSlug, Article::getUpdateTime)
+                .eq(Article::getStatus, PUBLISHED.getCode()))) {
+            published.put(article.getId(), article.getSlug() == null ? "" : article.getSlug());
+            publishedIds.add(article.getId());
+            if (since != null && article.getUpdateTime() != null && !article.getUpdateTime().isBefore(since)) {
+                updatedIds.add(article.getId());
+            }
+        }
+
+        // 2.计算需要渲染与移除的文章
+        Map<Long, String> previousArticles = previous == null ? Map.of() : previous.articles();
+        Set<Long> toRender = new TreeSet<>();
+        Set<Long> toRemove = new TreeSet<>();
+        if (full) {
+            toRender.addAll(publishedIds);
+        } else {
+            for (Map.Entry<Long, String> entry : published.entrySet()) {
+                Long id = entry.getKey();
+                if (!entry.getValue().equals(previousArticles.get(id)) || updatedIds.contains(id)
+                        || dirtyArticles.contains(String.valueOf(id))) {
+                    toRender.add(id);
+                }
+            }
+            for (Long id : previousArticles.keySet()) {
+                if (!published.containsKey(id)) {
+                    toRemove.add(id);
+                }
+            }
+            // 上/下篇按ID相邻的已发布文章计算，相邻文章新增、删除或改标题时其详情也要重新渲染
+            Set<Long> neighbours = new TreeSet<>();
+            for (Long id : union(toRender, toRemove)) {
+                Long lower = publishedIds.lower(id);
+                Long higher = publishedIds.higher(id);
+                if (lower != null && !toRender.contains(lower)) {
+                    neighbours.add(lower);
+                }
+                if (higher != null && !toRender.contains(higher)) {
+                    neighbours.add(higher);
+                }
+            }
+            if (!neighbours.isEmpty()) {
+                // 相邻文章的详情缓存中是旧的上/下篇，先清除
+                redisTemplate.delete(neighbours.stream().map(id -> ARTICLE_DETAIL_KEY_PREFIX + id).toList());
+                toRender.addAll(neighbours);
+            }
+        }
+        boolean renderLists = full || listsDirty || !toRender.isEmpty() || !toRemove.isEmpty();
+        if (!renderLists) {
+            log.debug("静态快照没有变化，保留当前版本: {}", previous.stats().getVersion());
+            return previous.stats();
+        }
+
+        // 3.准备工作目录：增量生成时以硬链接复制上一版本
+        String version = startTime.format(VERSION_FORMATTER);
+        Path work = root.resolve("." + version + ".tmp");
+        deleteTree(work);
+        Files.createDirectories(work);
+        if (!full) {
+            linkTree(current, work);
+        }
+
+        // 4.移除已下架或删除的文章
+        Map<Long, String> articles = new ConcurrentHashMap<>(full ? Map.of() : previousArticles);
+        AtomicLong removed = new AtomicLong();
+        for (Long id : toRemove) {
+            removeArticleFiles(work, id, previousArticles.get(id));
+            articles.remove(id);
+            removed.incrementAndGet();
+        }
+
+        // 5.并行渲染文章详情与列表类页面
+        AtomicLong rendered = new AtomicLong();
+        AtomicLong pages = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.submit(() -> toRender.parallelStream().forEach(id ->
+                    renderArticle(work, id, previousArticles.get(id), articles, rendered, removed, failed))).get();
+            deleteTree(work.resolve(PAGE_DIR));
+            pool.submit(() -> renderLists(work, pages)).get();
+        } finally {
+            pool.shutdown();
+        }
+
+        // 6.写入清单，整体切换版本
+        StaticSnapshotVO stats = StaticSnapshotVO.builder()
+                .version(version)
+                .mode(full ? MODE_FULL : MODE_INCREMENTAL)
+                .startTime(startTime)
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                .articleTotal((long) articles.size())
+                .articlesRendered(rendered.get())
+                .articlesRemoved(removed.get())
+                .pagesRendered(pages.get())
+                .failed(failed.get())
+                .build();
+        Path manifestFile = work.resolve(MANIFEST_FILE);
+        Files.deleteIfExists(manifestFile);
+        Files.write(manifestFile, objectMapper.writeValueAsBytes(new Manifest(stats, new TreeMap<>(articles))));
+        Files.move(work, root.resolve(version), StandardCopyOption.ATOMIC_MOVE);
+        switchCurrent(root, version);
+        pruneVersions(root);
+        log.info("静态快照生成完成: version={}, mode={}, 渲染文章 {}, 移除 {}, 列表页 {}, 失败 {}, 耗时 {}ms",
+                version, stats.getMode(), stats.getArticlesRendered(), stats.getArticlesRemoved(),
+                stats.getPagesRendered(), stats.getFailed(), stats.getDurationMs());
+        return stats;
+    }
+
+    /**
+     * 渲染一篇文章的详情页
+     * 渲染失败的文章不写入清单，下一次增量生成时重试
+     */
+    private void renderArticle(Path work, Long id, String previousSlug, Map<Long, String> articles,
+                               AtomicLong rendered, AtomicLong removed, AtomicLong failed) {
+        try {
+            ArticleDetailVO detail = articleService.loadBlogArticleDetail(id);
+            String slug = detail == null || detail.getSlug() == null ? "" : detail.getSlug();
+            if (previousSlug != null && !previousSlug.equals(slug)) {
+                removeArticleFiles(work, null, previousSlug);
+            }
+            if (detail == null) {
+                // 生成期间被下架
+                removeArticleFiles(work, id, null);
+                articles.remove(id);
+                removed.incrementAndGet();
+                return;
+            }
+            write(work, ARTICLE_DIR + id + ".json", Result.success(detail));
+            if (isSafeSlug(slug)) {
+                write(work, ARTICLE_DIR + "slug/" + slug + ".json", Result.success(detail));
+            }
+            if (html) {
+                byte[] page = renderHtml(detail).getBytes(StandardCharsets.UTF_8);
+                writeBytes(work, HTML_DIR + id + ".html", page);
+                if (isSafeSlug(slug)) {
+                    writeBytes(work, HTML_DIR + "slug/" + slug + ".html", page);
+                }
+            }
+            articles.put(id, slug);
+            rendered.incrementAndGet();
+        } catch (Exception e) {
+            articles.remove(id);
+            failed.incrementAndGet();
+            log.warn("静态快照渲染文章失败: articleId={}, {}", id, e.getMessage());
+        }
+    }
+
+    /**
+     * 渲染列表类页面：先并行渲染各列表的第一页得到总页数，再并行渲染其余页
+     */
+    private void renderLists(Path work, AtomicLong pages) {
+        List<CategoryVO> categories = categoryService.listAllCategories();
+        List<TagVO> tags = tagService.listAllTags();
+        writeUnchecked(work, ARTICLE_DIR + "archive.json", Result.success(articleService.getBlogArticleArchive()));
+        writeUnchecked(work, "api/blog/category/list.json", Result.success(categories));
+        writeUnchecked(work, "api/blog/tag/list.json", Result.success(tags));
+        pages.addAndGet(3);
+
+        List<PageScope> scopes = new ArrayList<>();
+        scopes.add(new PageScope(PAGE_DIR, null, null));
+        categories.forEach(category -> scopes.add(
+                new PageScope(PAGE_DIR + "category/" + category.getId() + "/", category.getId(), null)));
+        tags.forEach(tag -> scopes.add(new PageScope(PAGE_DIR + "tag/" + tag.getId() + "/", null, tag.getId())));
+
+        Map<PageScope, Long> totalPages = new ConcurrentHashMap<>();
+        scopes.parallelStream().forEach(scope -> totalPages.put(scope, renderPage(work, scope, 1, pages)));
+        scopes.stream()
+                .flatMap(scope -> Stream.iterate(2L, page -> page <= totalPages.get(scope), page -> page + 1)
+                        .map(page -> Map.entry(scope, page)))
+                .toList()
+                .parallelStream()
+                .forEach(entry -> renderPage(work, entry.getKey(), entry.getValue(), pages));
+    }
+
+    /**
+     * 渲染一页文章列表
+     *
+     * @return 该列表的总页数（至少为 1）
+     */
+    private long renderPage(Path work, PageScope scope, long current, AtomicLong pages) {
+        ArticlePageQueryDTO query = new ArticlePageQueryDTO();
+        query.setCurrent((int) current);
+        query.setSize(pageSize);
+        query.setCategoryId(scope.categoryId());
+        query.setTagId(scope.tagId());
+        Page<ArticleListVO> page = articleService.pageBlogArticles(query);
+        writeUnchecked(work, scope.path() + current + ".json", Result.success(page));
+        pages.incrementAndGet();
+        return Math.max(1, page.getPages());
+    }
+
+    /**
+     * 文章详情 HTML：标题、摘要与封面写入 meta 标签，正文以原始 Markdown 输出，由前端样式或脚本增强
+     */
+    private String renderHtml(ArticleDetailVO detail) {
+        String title = escape(detail.getTitle());
+        String summary = escape(detail.getSummary());
+        StringBuilder html = new StringBuilder(detail.getContent() == null ? 1024 : detail.getContent().length() + 1024);
+        html.append("<!DOCTYPE html>\n<html lang=\"zh-CN\">\n<head>\n<meta charset=\"UTF-8\">\n")
+                .append("<meta name=\"viewport\" content=\"width=device-width, initial-scale=1\">\n")
+                .append("<title>").append(title).append("</title>\n")
+                .append("<meta name=\"description\" content=\"").append(summary).append("\">\n")
+                .append("<meta property=\"og:type\" content=\"article\">\n")
+                .append("<meta property=\"og:title\" content=\"").append(title).append("\">\n")
+                .append("<meta property=\"og:description\" content=\"").append(summary).append("\">\n");
+        if (detail.getCoverImg() != null) {
+            html.append("<meta property=\"og:image\" content=\"").append(escape(detail.getCoverImg())).append("\">\n");
+        }
+        html.append("</head>\n<body>\n<article>\n<h1>").append(title).append("</h1>\n<p>");
+        if (detail.getPublishTime() != null) {
+            html.append("<time>").append(detail.getPublishTime().toLocalDate()).append("</time> ");
+        }
+        html.append(escape(detail.getCategoryName())).append("</p>\n")
+                .append("<div style=\"white-space: pre-wrap\">").append(escape(detail.getContent())).append("</div>\n")
+                .append("</article>\n</body>\n</html>\n");
+        return html.toString();
+    }
+
+    /**
+     * 删除文章的静态文件
+     *
+     * @param id   文章ID，为 null 时只删除 slug 对应的文件
+     * @param slug 文章 slug，为空时只删除ID对应的文件
+     */
+    private void removeArticleFiles(Path work, Long id, String slug) throws IOException {
+        if (id != null) {
+            Files.deleteIfExists(work.resolve(ARTICLE_DIR + id + ".json"));
+            Files.deleteIfExists(work.resolve(HTML_DIR + id + ".html"));
+        }
+        if (isSafeSlug(slug)) {
+            Files.deleteIfExists(work.resolve(ARTICLE_DIR + "slug/" + slug + ".json"));
+            Files.deleteIfExists(work.resolve(HTML_DIR + "slug/" + slug + ".html"));
+        }
+    }
+
+    private void write(Path work, String relativePath, Object body) throws IOException {
+        writeBytes(work, relativePath, objectMapper.writeValueAsBytes(body));
+    }
+
+    private void writeUnchecked(Path work, String relativePath, Object body) {
+        try {
+            write(work, relativePath, body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeBytes(Path work, String relativePath, byte[] bytes) throws IOException {
+        Path file = work.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        // 增量生成时文件可能是指向上一版本的硬链接，先删除再写，避免改动上一版本
+        Files.deleteIfExists(file);
+        Files.write(file, bytes);
+    }
+
+    /**
+     * 以硬链接复制目录树（文件系统不支持硬链接时退化为复制），不复制清单文件
+     */
+    private void linkTree(Path source, Path target) throws IOException {
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                Path destination = target.resolve(source.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(destination);
+                } else if (!path.equals(source.resolve(MANIFEST_FILE))) {
+                    try {
+                        Files.createLink(destination, path);
+                    } catch (UnsupportedOperationException | IOException e) {
+                        Files.copy(path, destination);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 原子替换 current 软链接：先创建临时链接，再 rename 覆盖
+     */
+    private void switchCurrent(Path root, String version) throws IOException {
+        Path link = root.resolve(CURRENT_LINK);
+        Path tmp = root.resolve(CURRENT_LINK + ".tmp");
+        Files.deleteIfExists(tmp);
+        Files.createSymbolicLink(tmp, Paths.get(version));
+        Files.move(tmp, link, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 删除超出保留数量的旧版本，以及异常中断遗留的临时目录
+     */
+    private void pruneVersions(Path root) throws IOException {
+        List<Path> versions = new ArrayList<>();
+        List<Path> leftovers = new ArrayList<>();
+        try (Stream<Path> children = Files.list(root)) {
+            children.forEach(child -> {
+                String name = child.getFileName().toString();
+                if (VERSION_PATTERN.matcher(name).matches()) {
+                    versions.add(child);
+                } else if (WORK_DIR_PATTERN.matcher(name).matches()) {
+                    leftovers.add(child);
+                }
+            });
+        }
+        versions.sort(Comparator.comparing(Path::getFileName).reversed());
+        for (int i = Math.max(1, keepVersions); i < versions.size(); i++) {
+            leftovers.add(versions.get(i));
+        }
+        for (Path path : leftovers) {
+            deleteTree(path);
+        }
+    }
+
+    private void deleteTree(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(path)) {
+            for (Path item : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(item);
+            }
+        }
+    }
+
+    private Path rootDir() {
+        return Paths.get(outputDir).toAbsolutePath().normalize();
+    }
+
+    /**
+     * current 软链接指向的版本目录，不存在时返回 null
+     */
+    private Path resolveCurrent(Path root) {
+        Path link = root.resolve(CURRENT_LINK);
+        try {
+            if (!Files.isSymbolicLink(link)) {
+                return null;
+            }
+            Path target = root.resolve(Files.readSymbolicLink(link));
+            return Files.isDirectory(target) ? target : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 读取版本清单，清单损坏时返回 null（下一次按全量生成）
+     */
+    private Manifest readManifest(Path versionDir) {
+        Path file = versionDir.resolve(MANIFEST_FILE);
+        try {
+            return Files.exists(file) ? objectMapper.readValue(file.toFile(), Manifest.class) : null;
+        } catch (IOException e) {
+            log.warn("静态快照清单读取失败: {}, {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean isSafeSlug(String slug) {
+        return slug != null && SAFE_SLUG_PATTERN.matcher(slug).matches();
+    }
+
+    private static String escape(String value) {
+        return value == null ? "" : HtmlUtils.htmlEscape(value);
+    }
+
+    private static Set<Long> union(Set<Long> a, Set<Long> b) {
+        Set<Long> result = new TreeSet<>(a);
+        result.addAll(b);
+        return result;
+    }
+
+    /**
+     * 一组分页列表（全部文章、某分类、某标签）
+     */
+    private record PageScope(String path, Long categoryId, Long tagId) {
+    }
+
+    /**
+     * 版本清单：生成结果与文章ID -> slug（无 slug 为空字符串），供下一次增量生成比对
+     */
+    record Manifest(StaticSnapshotVO stats, Map<Long, String> articles) {
+    }
+}
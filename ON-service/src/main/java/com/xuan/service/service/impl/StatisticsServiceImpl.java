@@ -2,11 +2,10 @@ package com.xuan.service.service.impl;
 
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
 import com.xuan.entity.po.blog.Article;
-import com.xuan.entity.po.interact.Comment;
 import com.xuan.service.mapper.ArticleMapper;
 import com.xuan.service.mapper.CategoryMapper;
-import com.xuan.service.mapper.CommentMapper;
 import com.xuan.service.mapper.SysUserMapper;
 import com.xuan.service.mapper.TagMapper;
 import com.xuan.service.service.IStatisticsService;
@@ -23,12 +22,12 @@ import java.util.List;
 import java.util.Map;
 
 import static com.xuan.common.enums.ArticleStatusEnum.PUBLISHED;
-import static com.xuan.common.enums.CommentStatusEnum.APPROVED;
 
 /**
  * 站点统计服务实现类
  * 数据来源：
- * - 文章/分类/标签/评论/用户数量：数据库查询
+ * - 文章/分类/标签/用户数量：数据库查询
+ * - 评论数量：article.comment_count 求和加留言板计数（CommentCounter）
  * - 浏览量/UV/PV：Redis 实时统计（通过 IVisitLogService）
  * - 访问趋势：数据库 visit_log 表聚合
  *
@@ -42,7 +41,7 @@ public class StatisticsServiceImpl implements IStatisticsService {
     private final ArticleMapper articleMapper;
     private final CategoryMapper categoryMapper;
     private final TagMapper tagMapper;
-    private final CommentMapper commentMapper;
+    private final CommentCounter commentCounter;
     private final SysUserMapper sysUserMapper;
     private final IVisitLogService VisitLogService;
 
@@ -60,9 +59,7 @@ public class StatisticsServiceImpl implements IStatisticsService {
                         .eq(Article::getStatus,PUBLISHED)));//已发布文章数量
         result.put("categoryCount",categoryMapper.selectCount(null));//分类数量
         result.put("tagCount",tagMapper.selectCount(null));//标签数量
-        result.put("commentCount",commentMapper.selectCount(
-                new LambdaQueryWrapper<Comment>()
-                        .eq(Comment::getStatus,APPROVED)));//已审核的评论数量
+        result.put("commentCount",countApprovedComments());//已审核的评论数量
         result.put("userCount",sysUserMapper.selectCount(null));//用户数量
 
         //2.文章总览量
@@ -79,6 +76,16 @@ public class StatisticsServiceImpl implements IStatisticsService {
         return result;
     }
 
+    /**
+     * 已审核评论总数：各文章的 comment_count 求和，再加上留言板的计数，避免对评论表全表 COUNT
+     */
+    private long countApprovedComments() {
+        List<Object> sums = articleMapper.selectObjs(new QueryWrapper<Article>()
+                .select("IFNULL(SUM(comment_count), 0)"));
+        long articleComments = sums.isEmpty() || sums.get(0) == null ? 0 : ((Number) sums.get(0)).longValue();
+        return articleComments + commentCounter.get(CommentCounter.GUESTBOOK_ID);
+    }
+
     /**
      * 获取文章趋势数据
      * @return 文章趋势数据
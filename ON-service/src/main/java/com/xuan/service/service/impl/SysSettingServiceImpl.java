@@ -1,8 +1,8 @@
 package com.xuan.service.service.impl;
 
 import cn.hutool.core.bean.BeanUtil;
-import com.alibaba.fastjson2.JSON;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.xuan.common.cache.CacheClient;
 import com.xuan.entity.dto.system.SystemSettingDTO;
 import com.xuan.entity.po.sys.SysSetting;
 import com.xuan.entity.vo.system.SystemSettingVO;
@@ -12,8 +12,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import static com.xuan.common.constant.RedisConstant.BLOG_HOME_KEY;
+import static com.xuan.common.constant.RedisConstant.CACHE_NAME_SYS_SETTING;
 import static com.xuan.common.constant.RedisConstant.SYS_SETTING_CACHE_KEY;
 import static com.xuan.common.constant.RedisConstant.SYS_SETTING_TTL_HOURS;
 
@@ -31,6 +34,7 @@ import static com.xuan.common.constant.RedisConstant.SYS_SETTING_TTL_HOURS;
 public class SysSettingServiceImpl extends ServiceImpl<SysSettingMapper, SysSetting> implements ISysSettingService {
 
     private final StringRedisTemplate redisTemplate;
+    private final CacheClient cacheClient;
 
     /**
      * 获取系统设置（优先读Redis，未命中读DB并回填Redis）
@@ -39,9 +43,9 @@ public class SysSettingServiceImpl extends ServiceImpl<SysSettingMapper, SysSett
     @Override
     public SystemSettingVO getSettings() {
         //1.尝试从Redis中获取缓存
-        String cached=redisTemplate.opsForValue().get(SYS_SETTING_CACHE_KEY);
+        SystemSettingVO cached = cacheClient.get(CACHE_NAME_SYS_SETTING, SYS_SETTING_CACHE_KEY, SystemSettingVO.class);
         if (cached != null) {
-            return JSON.parseObject(cached, SystemSettingVO.class);
+            return cached;
         }
         //2.缓存未命中，查询数据库（取第一条记录作为全局设置）
         SysSetting setting = lambdaQuery().last("LIMIT 1").one();
@@ -53,8 +57,8 @@ public class SysSettingServiceImpl extends ServiceImpl<SysSettingMapper, SysSett
         SystemSettingVO systemSettingVO = BeanUtil.copyProperties(setting, SystemSettingVO.class);
 
         //4.回填Redis缓存
-        redisTemplate.opsForValue().set(SYS_SETTING_CACHE_KEY,
-                JSON.toJSONString(systemSettingVO),
+        cacheClient.set(CACHE_NAME_SYS_SETTING, SYS_SETTING_CACHE_KEY,
+                systemSettingVO,
                 SYS_SETTING_TTL_HOURS,
                 TimeUnit.HOURS);
 
@@ -93,8 +97,8 @@ public class SysSettingServiceImpl extends ServiceImpl<SysSettingMapper, SysSett
         //3.保存或更新数据库
         saveOrUpdate(setting);
 
-        //4.删除Redis缓存（下次读取的时候自动重建）
-        redisTemplate.delete(SYS_SETTING_CACHE_KEY);
+        //4.删除Redis缓存及依赖它的首页缓存（下次读取的时候自动重建）
+        redisTemplate.delete(List.of(SYS_SETTING_CACHE_KEY, BLOG_HOME_KEY));
     }
 
     @Override
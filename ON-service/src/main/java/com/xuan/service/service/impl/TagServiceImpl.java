@@ -1,11 +1,11 @@
 package com.xuan.service.service.impl;
 
 import cn.hutool.core.bean.BeanUtil;
-import com.alibaba.fastjson2.JSON;
 import com.alibaba.fastjson2.TypeReference;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.xuan.common.cache.CacheClient;
 import com.xuan.common.exceptions.BusinessException;
 import com.xuan.entity.dto.tag.TagDTO;
 import com.xuan.entity.dto.tag.TagPageQueryDTO;
@@ -13,17 +13,19 @@ import com.xuan.entity.po.blog.ArticleTag;
 import com.xuan.entity.po.blog.Tag;
 import com.xuan.entity.vo.tag.TagAdminVO;
 import com.xuan.entity.vo.tag.TagVO;
+import com.xuan.service.event.TaxonomyChangedEvent;
 import com.xuan.service.mapper.ArticleTagMapper;
 import com.xuan.service.mapper.TagMapper;
 import com.xuan.service.service.ITagService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import static com.xuan.common.constant.RedisConstant.CACHE_NAME_TAG_LIST;
 import static com.xuan.common.constant.RedisConstant.CATEGORY_TAG_TTL_HOURS;
 import static com.xuan.common.constant.RedisConstant.TAG_LIST_KEY;
 import static com.xuan.common.enums.ErrorCode.CATEGORY_HAS_ARTICLES;
@@ -42,7 +44,8 @@ import static com.xuan.common.enums.ErrorCode.TAG_NOT_FOUND;
 @RequiredArgsConstructor
 public class TagServiceImpl extends ServiceImpl<TagMapper, Tag> implements ITagService {
 
-    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheClient cacheClient;
     private final ArticleTagMapper articleTagMapper;
 
     /**
@@ -52,10 +55,11 @@ public class TagServiceImpl extends ServiceImpl<TagMapper, Tag> implements ITagS
     @Override
     public List<TagVO> listAllTags() {
         //1.尝试从Redis中读取缓存
-        String cached=redisTemplate.opsForValue().get(TAG_LIST_KEY);
+        List<TagVO> cached = cacheClient.get(CACHE_NAME_TAG_LIST, TAG_LIST_KEY,
+                new TypeReference<List<TagVO>>() {}.getType());
         if (cached!=null){
             //缓存命中，直接返回转换后的结果
-            return JSON.parseObject(cached, new TypeReference<List<TagVO>>() {});
+            return cached;
         }
 
         //2.缓存未命中，查询数据库
@@ -72,8 +76,8 @@ public class TagServiceImpl extends ServiceImpl<TagMapper, Tag> implements ITagS
         }).toList();
 
         //3.回填缓存
-        redisTemplate.opsForValue().set(TAG_LIST_KEY,
-                JSON.toJSONString(voList),
+        cacheClient.set(CACHE_NAME_TAG_LIST, TAG_LIST_KEY,
+                voList,
                 CATEGORY_TAG_TTL_HOURS,
                 TimeUnit.HOURS);
 
@@ -128,8 +132,8 @@ public class TagServiceImpl extends ServiceImpl<TagMapper, Tag> implements ITagS
         Tag tag = BeanUtil.copyProperties(tagDTO, Tag.class);
         save(tag);
 
-        //3.清除缓存
-        redisTemplate.delete(TAG_LIST_KEY);
+        //3.发布变更事件（事务提交后清除缓存）
+        eventPublisher.publishEvent(new TaxonomyChangedEvent(TaxonomyChangedEvent.Type.TAG));
     }
 
     /**
@@ -155,8 +159,8 @@ public class TagServiceImpl extends ServiceImpl<TagMapper, Tag> implements ITagS
         //2.更新标签
         tag = BeanUtil.copyProperties(tagDTO, Tag.class);
         updateById(tag);
-        //3.清除缓存
-        redisTemplate.delete(TAG_LIST_KEY);
+        //3.发布变更事件（事务提交后清除缓存）
+        eventPublisher.publishEvent(new TaxonomyChangedEvent(TaxonomyChangedEvent.Type.TAG));
     }
 
     /**
@@ -180,8 +184,8 @@ public class TagServiceImpl extends ServiceImpl<TagMapper, Tag> implements ITagS
         }
         //3.删除标签
         removeById(id);
-        //4.清除缓存
-        redisTemplate.delete(TAG_LIST_KEY);
+        //4.发布变更事件（事务提交后清除缓存）
+        eventPublisher.publishEvent(new TaxonomyChangedEvent(TaxonomyChangedEvent.Type.TAG));
     }
 
     /**
@@ -209,7 +213,7 @@ public class TagServiceImpl extends ServiceImpl<TagMapper, Tag> implements ITagS
         }
         //3.批量删除标签
         removeByIds(ids);
-        //4.清除缓存
-        redisTemplate.delete(TAG_LIST_KEY);
+        //4.发布变更事件（事务提交后清除缓存）
+        eventPublisher.publishEvent(new TaxonomyChangedEvent(TaxonomyChangedEvent.Type.TAG));
     }
 }
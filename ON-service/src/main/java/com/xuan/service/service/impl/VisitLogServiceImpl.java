@@ -3,8 +3,10 @@ package com.xuan.service.service.impl;
 import cn.hutool.core.date.DateUtil;
 import cn.hutool.core.util.StrUtil;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import com.xuan.common.utils.SparseFieldsUtils;
 import com.xuan.entity.dto.log.VisitLogQueryDTO;
 import com.xuan.entity.po.sys.VisitLog;
 import com.xuan.entity.vo.log.VisitLogVO;
@@ -47,6 +49,17 @@ public class VisitLogServiceImpl extends ServiceImpl<VisitLogMapper, VisitLog> i
     private final StringRedisTemplate redisTemplate;
     private final VisitLogMapper visitLogMapper;
 
+    /**
+     * 访问日志VO字段 -> 查询列（稀疏字段集使用）
+     */
+    private static final Map<String, List<SFunction<VisitLog, ?>>> VISIT_LOG_COLUMNS = Map.of(
+            "id", List.of(VisitLog::getId),
+            "ipAddress", List.of(VisitLog::getIpAddress),
+            "userAgent", List.of(VisitLog::getUserAgent),
+            "visitTime", List.of(VisitLog::getVisitTime),
+            "pageUrl", List.of(VisitLog::getPageUrl),
+            "referer", List.of(VisitLog::getReferer));
+
     /**
      * 记录访问
      * @param ipAddress IP地址
@@ -178,6 +191,11 @@ public class VisitLogServiceImpl extends ServiceImpl<VisitLogMapper, VisitLog> i
         
         // 按访问时间倒序排序
         wrapper.orderByDesc(VisitLog::getVisitTime);
+
+        // 稀疏字段集：只查询需要的列
+        List<SFunction<VisitLog, ?>> columns = SparseFieldsUtils.selectColumns(
+                SparseFieldsUtils.parse(queryDTO.getFields()), VISIT_LOG_COLUMNS);
+        wrapper.select(columns != null, columns);
         
         // 分页查询
         Page<VisitLog> page = page(new Page<>(queryDTO.getCurrent(), queryDTO.getSize()), wrapper);
@@ -0,0 +1,169 @@
+package com.xuan.service.benchmark;
+
+import com.alibaba.fastjson2.TypeReference;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.xuan.common.cache.CacheCodec;
+import com.xuan.common.cache.CacheCodecType;
+import com.xuan.common.cache.JsonCacheCodec;
+import com.xuan.common.cache.JsonbCacheCodec;
+import com.xuan.entity.vo.article.ArticleDetailVO;
+import com.xuan.entity.vo.article.ArticleListVO;
+import com.xuan.entity.vo.tag.TagVO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存编解码器基准测试
+ * <p>
+ * 对比 JSON 与 JSONB 在文章详情（ArticleDetailVO）和前台文章列表（Page&lt;ArticleListVO&gt;）上的
+ * 编码耗时、解码耗时、内存分配（gc.alloc.rate.norm，单位 B/op）和编码后体积。
+ * <p>
+ * 运行方式（先编译测试代码，再直接运行 main 方法）：
+ *
+ * <pre>
+ * mvn -pl ON-service -am test-compile
+ * 在 IDE 中运行 CacheCodecBenchmark#main
+ * </pre>
+ *
+ * 编码后体积在 Setup 阶段打印到控制台。
+ *
+ * @author 玄〤
+ * @since 2026-03-05
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheCodecBenchmark {
+
+    private static final Type PAGE_TYPE = new TypeReference<Page<ArticleListVO>>() {
+    }.getType();
+
+    @Param({"JSON", "JSONB"})
+    private CacheCodecType codecType;
+
+    private CacheCodec codec;
+    private ArticleDetailVO detail;
+    private Page<ArticleListVO> page;
+    private byte[] detailBytes;
+    private byte[] pageBytes;
+
+    @Setup
+    public void setup() {
+        codec = codecType == CacheCodecType.JSON ? new JsonCacheCodec() : new JsonbCacheCodec();
+        detail = sampleDetail();
+        page = samplePage();
+        detailBytes = codec.encode(detail);
+        pageBytes = codec.encode(page);
+        System.out.printf("%n[%s] ArticleDetailVO = %d bytes, Page<ArticleListVO> = %d bytes%n",
+                codecType, detailBytes.length, pageBytes.length);
+    }
+
+    @Benchmark
+    public byte[] encodeDetail() {
+        return codec.encode(detail);
+    }
+
+    @Benchmark
+    public ArticleDetailVO decodeDetail() {
+        return codec.decode(detailBytes, ArticleDetailVO.class);
+    }
+
+    @Benchmark
+    public byte[] encodePage() {
+        return codec.encode(page);
+    }
+
+    @Benchmark
+    public Page<ArticleListVO> decodePage() {
+        return codec.decode(pageBytes, PAGE_TYPE);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CacheCodecBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    // ==================== 样例数据 ====================
+
+    private static ArticleDetailVO sampleDetail() {
+        ArticleDetailVO vo = new ArticleDetailVO();
+        vo.setId(1024L);
+        vo.setTitle("Spring Boot 3 实战：从零搭建个人博客");
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 60; i++) {
+            content.append("## 第").append(i).append("节\n")
+                    .append("Spring Boot 3 基于 JDK21 构建，本节介绍缓存、事务与虚拟线程的实践经验。\n")
+                    .append("```java\nredisTemplate.opsForValue().get(key);\n```\n");
+        }
+        vo.setContent(content.toString());
+        vo.setCategoryId(3L);
+        vo.setCategoryName("后端技术");
+        vo.setAuthorNickname("玄〤");
+        vo.setSummary("本文介绍 Spring Boot 3 的核心特性以及在个人博客中的落地方式");
+        vo.setCoverImg("https://cdn.jsdelivr.net/gh/xuan-xuan/blog-images/2026-02-16/cover.png");
+        vo.setViewCount(12345L);
+        vo.setLikeCount(321L);
+        vo.setPublishTime(LocalDateTime.of(2026, 2, 16, 10, 0));
+        vo.setTags(sampleTags());
+        ArticleDetailVO.ArticleNavVO prev = new ArticleDetailVO.ArticleNavVO();
+        prev.setId(1023L);
+        prev.setTitle("上一篇：MyBatis-Plus 分页插件原理");
+        vo.setPrevArticle(prev);
+        ArticleDetailVO.ArticleNavVO next = new ArticleDetailVO.ArticleNavVO();
+        next.setId(1025L);
+        next.setTitle("下一篇：Redis 缓存一致性方案");
+        vo.setNextArticle(next);
+        return vo;
+    }
+
+    private static Page<ArticleListVO> samplePage() {
+        Page<ArticleListVO> page = new Page<>(1, 10, 256);
+        List<ArticleListVO> records = new ArrayList<>();
+        for (long i = 0; i < 10; i++) {
+            ArticleListVO vo = new ArticleListVO();
+            vo.setId(1000 + i);
+            vo.setTitle("Spring Boot 3 实战系列（" + i + "）");
+            vo.setSummary("基于JDK21的实战总结，涵盖缓存、事务、虚拟线程与可观测性");
+            vo.setCoverImg("https://cdn.jsdelivr.net/gh/xuan-xuan/blog-images/2026-02-16/cover-" + i + ".png");
+            vo.setViewCount(1000 + i * 37);
+            vo.setLikeCount(50 + i);
+            vo.setPublishTime(LocalDateTime.of(2026, 2, 1, 10, 0).plusDays(i));
+            vo.setCategoryName("后端技术");
+            vo.setTags(sampleTags());
+            records.add(vo);
+        }
+        page.setRecords(records);
+        return page;
+    }
+
+    private static List<TagVO> sampleTags() {
+        return List.of(
+                TagVO.builder().id(1L).name("Java").color("#1890ff").articleCount(12).build(),
+                TagVO.builder().id(2L).name("Spring Boot").color("#52c41a").articleCount(8).build(),
+                TagVO.builder().id(3L).name("Redis").color("#f5222d").articleCount(5).build());
+    }
+}
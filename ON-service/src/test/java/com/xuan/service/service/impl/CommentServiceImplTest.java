@@ -0,0 +1,48 @@
+package com.xuan.service.service.impl;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.xuan.entity.po.interact.Comment;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+
+import static com.xuan.common.enums.CommentStatusEnum.APPROVED;
+import static com.xuan.common.enums.CommentStatusEnum.PENDING;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CommentServiceImpl测试类
+ * 测试评论树与回复分页的查询条件只匹配审核通过的评论
+ */
+public class CommentServiceImplTest {
+
+    @BeforeAll
+    public static void initTableInfo() {
+        // Lambda 条件解析列名依赖实体的表信息，无 Spring 容器时手动初始化
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), Comment.class);
+    }
+
+    @Test
+    public void testApprovedQueryBindsStatusCode() {
+        LambdaQueryWrapper<Comment> wrapper = CommentServiceImpl.approvedCommentQuery(100L);
+        String sql = wrapper.getSqlSegment();
+        assertTrue(sql.contains("article_id ="));
+        assertTrue(sql.contains("status ="));
+
+        // status 按整数 code 绑定，不能是枚举（枚举会被绑定为字符串 'APPROVED'，MySQL 将其转换为 0）
+        Collection<Object> values = wrapper.getParamNameValuePairs().values();
+        assertTrue(values.contains(APPROVED.getCode()));
+        assertTrue(values.stream().noneMatch(value -> value instanceof Enum<?>));
+    }
+
+    @Test
+    public void testApprovedQueryExcludesPending() {
+        LambdaQueryWrapper<Comment> wrapper = CommentServiceImpl.approvedCommentQuery(100L);
+        // 文章ID与待审核状态码不同，绑定值中不应出现待审核状态码
+        assertFalse(wrapper.getParamNameValuePairs().containsValue(PENDING.getCode()));
+    }
+}
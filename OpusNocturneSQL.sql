@@ -135,9 +135,10 @@ create table article (
                          keywords varchar(255) default null comment 'SEO关键词',
                          view_count bigint not null default 0 comment '浏览次数(持久化用)',
                          like_count bigint not null default 0 comment '点赞数',
+                         comment_count bigint not null default 0 comment '已审核评论数（评论新增/审核/删除时同事务维护）',
                          is_top tinyint not null default 0 comment '是否置顶：1-是；0-否',
-                         status tinyint not null default 0 comment '状态：0-草稿，1-发布，2-下架',
-                         publish_time datetime default null comment '发布时间',
+                         status tinyint not null default 0 comment '状态：0-草稿，1-发布，2-下架，3-定时发布',
+                         publish_time datetime default null comment '发布时间（定时发布时为计划发布时间）',
                          create_time datetime not null default current_timestamp comment '创建时间',
                          update_time datetime not null default current_timestamp on update current_timestamp comment '更新时间',
                          primary key (id), -- 主键
@@ -148,6 +149,10 @@ create table article (
                          key idx_status_create_time (status, create_time) comment '归档查询专用索引'
 ) engine = innodb default charset = utf8mb4 comment = '文章表';
 
+-- 已有文章表升级：增加评论数列并按已审核评论回填
+-- alter table article add column comment_count bigint not null default 0 comment '已审核评论数（评论新增/审核/删除时同事务维护）' after like_count;
+-- update article a set a.comment_count = (select count(*) from comment c where c.article_id = a.id and c.status = 1);
+
 -- 4. 文章-标签关联表
 -- 说明：文章与标签的多对多关联关系
 drop table if exists article_tag;
@@ -163,7 +168,7 @@ create table article_tag (
 
 -- ================================================
 -- 模块三：互动与资源
--- 说明：包含友情链接、附件资源、评论等互动功能
+-- 说明：包含友情链接、附件资源、评论、敏感词等互动功能
 -- ================================================
 
 -- 1. 友情链接表
@@ -212,15 +217,91 @@ create table comment (
                          root_parent_id bigint default null comment '根评论id',
                          parent_id bigint default null comment '父评论id',
                          reply_user_id bigint default null comment '被回复人id',
+                         path varchar(760) character set ascii not null default '/' comment '物化路径：祖先评论id链，如 /501/502/（顶级评论为 /）',
+                         depth smallint not null default 0 comment '层级深度（顶级评论为0）',
                          ip_address varchar(50) default null comment 'IP地址',
                          user_agent varchar(500) default null comment '设备信息',
                          status tinyint not null default 0 comment '状态：0-待审核；1-审核通过；2-审核未通过',
+                         like_count int not null default 0 comment '点赞数（由点赞落库任务按 comment_like 记录数维护）',
+                         hot_score double not null default 0 comment '热度分：log10(赞数) + 发表时间偏移，赞数变化时重新计算',
                          create_time datetime not null default current_timestamp comment '创建时间',
                          update_time datetime not null default current_timestamp on update current_timestamp comment '更新时间',
                          primary key (id),
-                         key idx_article_root (article_id, root_parent_id) comment '文章+根评论索引优化(查询文章评论树)'
+                         key idx_article_status_root_time (article_id, status, root_parent_id, create_time) comment '文章评论树索引：顶级/子评论分页、按根评论统计回复数均可走索引',
+                         key idx_article_status_root_hot (article_id, status, root_parent_id, hot_score) comment '评论树按热度排序索引：顶级评论按 hot_score 倒序分页无需 filesort',
+                         key idx_path (path) comment '物化路径索引：子树查询为一次前缀范围扫描'
 ) engine = innodb default charset = utf8mb4 comment = '评论表';
 
+-- 已有评论表升级：评论树索引 idx_article_root 替换为包含状态与创建时间的联合索引
+-- alter table comment
+--     drop index idx_article_root,
+--     add key idx_article_status_root_time (article_id, status, root_parent_id, create_time) comment '文章评论树索引：顶级/子评论分页、按根评论统计回复数均可走索引';
+
+-- 已有评论表升级（MySQL 8.0+）：增加物化路径列，并按 parent_id 递归回填
+-- alter table comment
+--     add column path varchar(760) character set ascii not null default '/' comment '物化路径：祖先评论id链，如 /501/502/（顶级评论为 /）' after reply_user_id,
+--     add column depth smallint not null default 0 comment '层级深度（顶级评论为0）' after path,
+--     add key idx_path (path);
+-- update comment c
+--     join (with recursive t (id, path, depth) as (
+--               select id, cast('/' as char(760)), 0 from comment where parent_id is null
+--               union all
+--               select s.id, concat(t.path, s.parent_id, '/'), t.depth + 1 from comment s join t on s.parent_id = t.id)
+--           select id, path, depth from t) x on c.id = x.id
+-- set c.path = x.path, c.depth = x.depth;
+
+-- 已有评论表升级：增加点赞数与热度分，热度分按无赞评论的时间项回填（起点 2026-01-01 00:00:00，与 HotScoreUtils 一致）
+-- alter table comment
+--     add column like_count int not null default 0 comment '点赞数（由点赞落库任务按 comment_like 记录数维护）' after status,
+--     add column hot_score double not null default 0 comment '热度分：log10(赞数) + 发表时间偏移，赞数变化时重新计算' after like_count,
+--     add key idx_article_status_root_hot (article_id, status, root_parent_id, hot_score);
+-- update comment set hot_score = (unix_timestamp(create_time) - unix_timestamp('2026-01-01 00:00:00')) / 45000;
+
+-- 4. 评论敏感词表
+-- 说明：评论自动审核使用的词库，启动时编译为 Aho-Corasick 自动机，增删后各实例自动重新加载
+drop table if exists sensitive_word;
+create table sensitive_word (
+                                id bigint not null auto_increment comment '主键id',
+                                word varchar(100) not null comment '敏感词（匹配时不区分大小写）',
+                                level tinyint not null default 1 comment '处理级别：0-送人工审核；1-直接拒绝',
+                                create_time datetime not null default current_timestamp comment '创建时间',
+                                update_time datetime not null default current_timestamp on update current_timestamp comment '更新时间',
+                                primary key (id),
+                                unique key uk_word (word)
+) engine = innodb default charset = utf8mb4 comment = '评论敏感词表';
+
+-- 5. 评论回复通知发件箱
+-- 说明：回复评论时与评论在同一事务内写入，由后台任务合并同一收件人的多条回复后发送摘要邮件，失败按退避重试
+drop table if exists comment_notify_outbox;
+create table comment_notify_outbox (
+                                       id bigint not null auto_increment comment '主键id',
+                                       recipient varchar(100) not null comment '收件人邮箱（被回复评论的邮箱）',
+                                       comment_id bigint not null comment '回复评论id',
+                                       article_id bigint not null default 0 comment '文章id(0为留言)',
+                                       status tinyint not null default 0 comment '状态：0-待发送；1-已发送；2-已取消；3-发送失败',
+                                       attempts int not null default 0 comment '已尝试发送次数',
+                                       next_attempt_time datetime not null comment '最早发送时间（合并等待/限流/重试退避）',
+                                       last_error varchar(500) default null comment '最近一次发送失败原因',
+                                       sent_time datetime default null comment '发送时间',
+                                       create_time datetime not null default current_timestamp comment '创建时间',
+                                       update_time datetime not null default current_timestamp on update current_timestamp comment '更新时间',
+                                       primary key (id),
+                                       key idx_status_next (status, next_attempt_time) comment '发送任务按到期时间扫描待发送记录',
+                                       key idx_recipient_status (recipient, status) comment '合并同一收件人的待发送回复'
+) engine = innodb default charset = utf8mb4 comment = '评论回复通知发件箱';
+
+-- 6. 评论点赞记录表
+-- 说明：点赞先写入 Redis（点赞IP集合 + 计数），由后台任务批量落库并重新计算评论的 like_count 与 hot_score
+drop table if exists comment_like;
+create table comment_like (
+                              id bigint not null auto_increment comment '主键id',
+                              comment_id bigint not null comment '评论id',
+                              ip_address varchar(128) not null default '' comment '点赞者IP',
+                              create_time datetime not null default current_timestamp comment '点赞时间',
+                              primary key (id),
+                              unique key uk_comment_ip (comment_id, ip_address) -- 联合唯一索引，确保同一IP对同一评论只能点赞一次
+) engine = innodb default charset = utf8mb4 comment = '评论点赞记录表';
+
 -- ================================================
 -- 模块四：系统设置
 -- 说明：存储站点配置信息
@@ -308,6 +389,36 @@ create table article_like (
                               key idx_article_id (article_id) -- 文章ID索引，优化查询
 ) engine = innodb default charset = utf8mb4 comment = '文章点赞记录表';
 
+-- 文章草稿表
+-- 说明：编辑器自动保存的草稿先写入 Redis，防抖后落库到此表；不修改 article 表，因此不影响已发布内容和前台缓存
+drop table if exists article_draft;
+create table article_draft (
+                               article_id bigint not null comment '文章id',
+                               title varchar(200) default null comment '草稿标题',
+                               summary varchar(500) default null comment '草稿摘要',
+                               content longtext comment '草稿内容(markdown)',
+                               saved_time datetime not null comment '编辑器最后一次自动保存时间',
+                               update_time datetime not null default current_timestamp on update current_timestamp comment '落库时间',
+                               primary key (article_id)
+) engine = innodb default charset = utf8mb4 comment = '文章草稿表';
+
+-- 文章历史版本表
+-- 说明：每隔若干版本保存一次正文全量快照，其余版本只保存相对上一版本的压缩增量，还原任意版本最多读取一个快照间隔的记录
+drop table if exists article_revision;
+create table article_revision (
+                                  id bigint not null auto_increment comment '主键id',
+                                  article_id bigint not null comment '文章id',
+                                  revision_no int not null comment '版本号（从1开始，按文章递增）',
+                                  title varchar(200) not null comment '该版本标题',
+                                  summary varchar(500) default null comment '该版本摘要',
+                                  snapshot tinyint not null comment '正文存储方式：1-全量快照，0-相对上一版本的增量',
+                                  content_data mediumblob not null comment 'GZIP压缩后的正文快照或增量',
+                                  content_length int not null default 0 comment '该版本正文长度（字符数）',
+                                  create_time datetime not null default current_timestamp comment '版本创建时间',
+                                  primary key (id),
+                                  unique key uk_article_revision (article_id, revision_no) -- 同一文章的版本号唯一，并支撑按版本号区间读取
+) engine = innodb default charset = utf8mb4 comment = '文章历史版本表';
+
 -- ================================================
 -- 数据库初始化与更新
 -- ================================================